@@ -0,0 +1,16 @@
+package com.barogo.delivery.admin;
+
+import com.barogo.delivery.Constant;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@EnableJpaRepositories(basePackages = Constant.APPLICATION_JPA_REPOSITORY)
+@EntityScan(basePackages = Constant.APPLICATION_JPA_ENTITY)
+@SpringBootApplication(scanBasePackages = {Constant.APPLICATION_BASE_PACKAGE})
+public class AdminApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(AdminApplication.class, args);
+    }
+}
@@ -0,0 +1,21 @@
+package com.barogo.delivery.admin.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.admin.export")
+public class ExportProperties {
+    // JDBC 커서 fetch size (MySQL 은 url 에 useCursorFetch=true 가 있어야 결과를 나눠 받는다)
+    private int fetchSize = 1_000;
+    // CSV 출력 버퍼 크기(byte)
+    private int csvBufferSize = 64 * 1024;
+    // SXSSF 가 메모리에 유지하는 행 수 (초과분은 임시 파일로 내려간다)
+    private int xlsxWindowSize = 100;
+    // 시트당 최대 행 수 (Excel 한계 1,048,576 - 헤더), 넘으면 다음 시트로 이어 쓴다
+    private int xlsxMaxRowsPerSheet = 1_048_575;
+}
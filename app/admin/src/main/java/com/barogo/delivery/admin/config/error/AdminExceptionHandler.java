@@ -0,0 +1,32 @@
+package com.barogo.delivery.admin.config.error;
+
+import com.barogo.delivery.response.ApiResponse;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 응답을 쓰기 전에 발생한 오류만 JSON 으로 응답한다
+ * - 내보내기 도중 오류는 이미 헤더가 나갔으므로 연결을 끊는 것으로 끝난다
+ */
+@RestControllerAdvice
+public class AdminExceptionHandler {
+
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBind(BindException ex) {
+        String message = ex.getBindingResult().hasErrors()
+                ? ex.getBindingResult().getAllErrors().getFirst().getDefaultMessage()
+                : "요청 값이 올바르지 않습니다.";
+        return ResponseEntity.badRequest().body(ApiResponse.error(ErrorCode.BAD_REQUEST.getCode(), message));
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBusiness(BusinessException ex) {
+        ErrorCode code = ex.getError();
+        return ResponseEntity.status(code.getHttpStatus())
+                .body(ApiResponse.error(code.getCode(), ex.getMessage()));
+    }
+}
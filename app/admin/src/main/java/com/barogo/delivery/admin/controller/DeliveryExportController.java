@@ -0,0 +1,49 @@
+package com.barogo.delivery.admin.controller;
+
+import com.barogo.delivery.admin.config.ExportProperties;
+import com.barogo.delivery.admin.controller.model.DeliveryExportRequest;
+import com.barogo.delivery.admin.service.export.DeliveryExportFilter;
+import com.barogo.delivery.admin.service.export.DeliveryExportService;
+import com.barogo.delivery.admin.service.export.DeliveryExportWriter;
+import com.barogo.delivery.admin.service.export.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/deliveries")
+@PreAuthorize("hasRole('ADMIN')")
+public class DeliveryExportController {
+
+    private final DeliveryExportService deliveryExportService;
+    private final ExportProperties exportProperties;
+
+    // 배달 내보내기 (운영 데이터 추출)
+    // - path: GET /api/admin/deliveries/export?format=CSV|XLSX&from=&to=&status=&memberId=&riderId=
+    // - 조건에 맞는 배달(보관 배달 포함)을 읽는 즉시 응답 본문으로 흘려보내며, 건수/기간 제한이 없다
+    // - 조건 오류는 본문을 쓰기 전에 400 으로 응답하고, 전송 도중 오류는 연결 종료로 끝난다
+    @GetMapping("/export")
+    public void export(@ModelAttribute DeliveryExportRequest request, HttpServletResponse response) throws IOException {
+        DeliveryExportFilter filter = request.toFilter();
+        deliveryExportService.validate(filter);
+
+        ExportFormat format = request.format();
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(format.fileName("deliveries"))
+                .build()
+                .toString());
+        try (DeliveryExportWriter writer = format.open(response.getOutputStream(), exportProperties)) {
+            deliveryExportService.export(filter, writer);
+        }
+    }
+}
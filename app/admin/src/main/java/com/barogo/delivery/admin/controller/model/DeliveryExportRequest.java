@@ -0,0 +1,36 @@
+package com.barogo.delivery.admin.controller.model;
+
+import com.barogo.delivery.admin.service.export.DeliveryExportFilter;
+import com.barogo.delivery.admin.service.export.ExportFormat;
+import com.barogo.delivery.enums.DeliveryStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record DeliveryExportRequest(
+        // 생략 시 CSV
+        ExportFormat format,
+
+        // 기간 (requested_at, 둘 다 포함), 생략 시 제한 없음
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime from,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime to,
+
+        // 생략 시 전체 상태
+        Set<DeliveryStatus> status,
+
+        Long memberId,
+
+        Long riderId
+) {
+    public DeliveryExportRequest {
+        if (format == null) format = ExportFormat.CSV;
+    }
+
+    public DeliveryExportFilter toFilter() {
+        return new DeliveryExportFilter(from, to, status, memberId, riderId);
+    }
+}
@@ -0,0 +1,85 @@
+package com.barogo.delivery.admin.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV (UTF-8 BOM, CRLF)
+ * - Excel 에서 수식으로 해석되는 문자(=, +, -, @)로 시작하는 문자열은 앞에 ' 를 붙인다
+ */
+final class CsvDeliveryExportWriter implements DeliveryExportWriter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+
+    CsvDeliveryExportWriter(OutputStream out, int bufferSize) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+        // Excel 이 UTF-8 로 열도록 BOM
+        writer.write('\uFEFF');
+    }
+
+    @Override
+    public void header(List<String> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(columns.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void row(Object[] values, boolean archived) throws IOException {
+        for (Object value : values) {
+            write(value);
+            writer.write(',');
+        }
+        writer.write(archived ? 'Y' : 'N');
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void write(Object value) throws IOException {
+        switch (value) {
+            case null -> { }
+            case String s -> writeText(s);
+            case LocalDateTime dateTime -> writer.write(DATE_TIME.format(dateTime));
+            case BigDecimal decimal -> writer.write(decimal.toPlainString());
+            case Enum<?> e -> writer.write(e.name());
+            default -> writer.write(value.toString());
+        }
+    }
+
+    private void writeText(String s) throws IOException {
+        boolean formula = !s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0;
+        boolean quote = formula;
+        for (int i = 0; i < s.length() && !quote; i++) {
+            char c = s.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(s);
+            return;
+        }
+        writer.write('"');
+        if (formula) writer.write('\'');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"') writer.write('"');
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,22 @@
+package com.barogo.delivery.admin.service.export;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 내보내기 조건 (모두 선택, null 이면 조건 없음)
+ *
+ * @param from     requested_at 시작(포함)
+ * @param to       requested_at 끝(포함)
+ * @param statuses 상태 목록
+ */
+public record DeliveryExportFilter(
+        LocalDateTime from,
+        LocalDateTime to,
+        Set<DeliveryStatus> statuses,
+        Long memberId,
+        Long riderId
+) {
+}
@@ -0,0 +1,169 @@
+package com.barogo.delivery.admin.service.export;
+
+import com.barogo.delivery.admin.config.ExportProperties;
+import com.barogo.delivery.domain.DeliveryArchiveWatermark;
+import com.barogo.delivery.jpa.DeliveryArchiveWatermarkRepository;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배달 내보내기
+ * - 조건에 맞는 delivery, delivery_archive 행을 id 순으로 읽어 읽는 즉시 writer 로 넘긴다
+ * - 엔티티 대신 컬럼 배열을 StatelessSession 의 forward-only 커서로 읽으므로 영속성 컨텍스트/1차 캐시에 쌓이지 않고,
+ *   힙 사용량은 건수와 관계없이 fetchSize 행과 출력 버퍼로 제한된다
+ * - 두 테이블을 하나의 REPEATABLE READ 읽기 전용 트랜잭션(같은 스냅샷)에서 읽어 도중 보관 작업이 옮긴 행이 중복/누락되지 않는다
+ *   (서버 기본 격리 수준이 READ COMMITTED 여도 스냅샷이 유지되도록 격리 수준을 직접 지정한다)
+ * - 조회 시작이 보관 경계(archivedBefore) 이후이면 delivery_archive 는 읽지 않는다
+ */
+@Slf4j
+@Service
+public class DeliveryExportService {
+
+    public static final List<String> COLUMNS = List.of(
+            "id", "order_number", "tracking_number", "member_id", "status", "rider_id",
+            "pickup_address", "delivery_address",
+            "requested_at", "assigned_at", "picked_up_at", "delivered_at", "canceled_at",
+            "distance_meters", "cost_amount", "archived");
+
+    // %s: 회원 id 경로 (Delivery 는 연관관계 FK, DeliveryArchive 는 컬럼)
+    private static final String SELECT = """
+            select d.id, d.orderNumber, d.trackingNumber, %s, d.status, d.riderId,
+                   d.pickupAddress, d.deliveryAddress,
+                   d.requestedAt, d.assignedAt, d.pickedUpAt, d.deliveredAt, d.canceledAt,
+                   d.distanceMeters, d.costAmount
+            from %s d
+            where 1 = 1""";
+
+    private final EntityManager entityManager;
+    private final DeliveryArchiveWatermarkRepository watermarkRepository;
+    private final ExportProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public DeliveryExportService(EntityManager entityManager,
+                                 DeliveryArchiveWatermarkRepository watermarkRepository,
+                                 ExportProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.watermarkRepository = watermarkRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        // replica 라우팅이 켜져 있으면 replica 에서 읽는다
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public void validate(DeliveryExportFilter filter) {
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "조회 시작 일시는 종료 일시보다 이전이어야 합니다.");
+        }
+    }
+
+    /**
+     * @return 내보낸 행 수
+     */
+    public long export(DeliveryExportFilter filter, DeliveryExportWriter writer) throws IOException {
+        validate(filter);
+        long started = System.nanoTime();
+        writer.header(COLUMNS);
+        Long rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> {
+                boolean archive = includesArchive(filter);
+                // 트랜잭션의 커넥션을 그대로 쓰는 StatelessSession
+                Session session = entityManager.unwrap(Session.class);
+                return session.doReturningWork(connection -> {
+                    try (StatelessSession stateless = session.getSessionFactory().withStatelessOptions()
+                            .connection(connection)
+                            .openStatelessSession()) {
+                        long count = stream(stateless, "Delivery", "d.member.id", filter, false, writer);
+                        if (archive) {
+                            count += stream(stateless, "DeliveryArchive", "d.memberId", filter, true, writer);
+                        }
+                        return count;
+                    }
+                });
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 오류
+            throw e.getCause();
+        }
+        log.info("exported {} deliveries in {}ms", rows, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return Objects.requireNonNull(rows);
+    }
+
+    private boolean includesArchive(DeliveryExportFilter filter) {
+        LocalDateTime archivedBefore = watermarkRepository.findById(DeliveryArchiveWatermark.SINGLETON_ID)
+                .map(DeliveryArchiveWatermark::getArchivedBefore)
+                .orElse(null);
+        return archivedBefore != null && (filter.from() == null || filter.from().isBefore(archivedBefore));
+    }
+
+    private long stream(StatelessSession session,
+                        String entity,
+                        String memberPath,
+                        DeliveryExportFilter filter,
+                        boolean archived,
+                        DeliveryExportWriter writer) {
+        StringBuilder hql = new StringBuilder(SELECT.formatted(memberPath, entity));
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (filter.from() != null) {
+            hql.append(" and d.requestedAt >= :from");
+            parameters.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            hql.append(" and d.requestedAt <= :to");
+            parameters.put("to", filter.to());
+        }
+        boolean statuses = filter.statuses() != null && !filter.statuses().isEmpty();
+        if (statuses) {
+            hql.append(" and d.status in :statuses");
+        }
+        if (filter.memberId() != null) {
+            hql.append(" and ").append(memberPath).append(" = :memberId");
+            parameters.put("memberId", filter.memberId());
+        }
+        if (filter.riderId() != null) {
+            hql.append(" and d.riderId = :riderId");
+            parameters.put("riderId", filter.riderId());
+        }
+        hql.append(" order by d.id");
+
+        SelectionQuery<Object[]> query = session.createSelectionQuery(hql.toString(), Object[].class);
+        parameters.forEach(query::setParameter);
+        if (statuses) {
+            query.setParameterList("statuses", filter.statuses());
+        }
+        query.setFetchSize(properties.getFetchSize());
+
+        long count = 0;
+        try (ScrollableResults<Object[]> rows = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                writer.row(rows.get(), archived);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,20 @@
+package com.barogo.delivery.admin.service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 내보내기 행을 받는 즉시 출력 형식으로 내보낸다 (행을 모아 두지 않는다)
+ * - close 에서 남은 버퍼를 내보내고 임시 자원을 정리한다
+ */
+public interface DeliveryExportWriter extends Closeable {
+
+    void header(List<String> columns) throws IOException;
+
+    /**
+     * @param values   DeliveryExportService.COLUMNS 순서의 값 (null 가능)
+     * @param archived delivery_archive 에서 읽은 행 여부
+     */
+    void row(Object[] values, boolean archived) throws IOException;
+}
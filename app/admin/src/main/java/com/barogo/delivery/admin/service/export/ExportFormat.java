@@ -0,0 +1,34 @@
+package com.barogo.delivery.admin.service.export;
+
+import com.barogo.delivery.admin.config.ExportProperties;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String fileName(String baseName) {
+        return baseName + "." + extension;
+    }
+
+    public DeliveryExportWriter open(OutputStream out, ExportProperties properties) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvDeliveryExportWriter(out, properties.getCsvBufferSize());
+            case XLSX -> new XlsxDeliveryExportWriter(out, properties.getXlsxWindowSize(), properties.getXlsxMaxRowsPerSheet());
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.barogo.delivery.admin.service.export;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SXSSF 스트리밍 XLSX
+ * - 메모리에는 windowSize 행만 두고 나머지는 (압축된) 임시 파일로 내려보낸 뒤 close 에서 한 번에 쓴다
+ * - 시트 행 한계를 넘으면 다음 시트에 헤더부터 이어 쓴다
+ * - id 계열(64비트 TSID)은 double 로 표현하면 자릿수가 깨지므로 문자열로 쓴다
+ */
+final class XlsxDeliveryExportWriter implements DeliveryExportWriter {
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle dateTimeStyle;
+    private final int maxRowsPerSheet;
+
+    private List<String> columns;
+    private SXSSFSheet sheet;
+    private int rowIndex;
+
+    XlsxDeliveryExportWriter(OutputStream out, int windowSize, int maxRowsPerSheet) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(null, windowSize, true);
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        this.dateTimeStyle = workbook.createCellStyle();
+        dateTimeStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+    }
+
+    @Override
+    public void header(List<String> columns) {
+        this.columns = columns;
+        nextSheet();
+    }
+
+    @Override
+    public void row(Object[] values, boolean archived) {
+        if (rowIndex > maxRowsPerSheet) {
+            nextSheet();
+        }
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            write(row, i, values[i]);
+        }
+        row.createCell(values.length).setCellValue(archived ? "Y" : "N");
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            // 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void nextSheet() {
+        sheet = workbook.createSheet("deliveries-" + (workbook.getNumberOfSheets() + 1));
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < columns.size(); i++) {
+            header.createCell(i).setCellValue(columns.get(i));
+        }
+        rowIndex = 1;
+    }
+
+    private void write(Row row, int column, Object value) {
+        if (value == null) {
+            return;
+        }
+        Cell cell = row.createCell(column);
+        switch (value) {
+            case LocalDateTime dateTime -> {
+                cell.setCellValue(dateTime);
+                cell.setCellStyle(dateTimeStyle);
+            }
+            case Integer i -> cell.setCellValue(i);
+            case BigDecimal decimal -> cell.setCellValue(decimal.doubleValue());
+            case Enum<?> e -> cell.setCellValue(e.name());
+            default -> cell.setCellValue(value.toString());
+        }
+    }
+}
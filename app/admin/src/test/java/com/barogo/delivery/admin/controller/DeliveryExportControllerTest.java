@@ -0,0 +1,170 @@
+package com.barogo.delivery.admin.controller;
+
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.DeliveryArchiveWatermark;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryArchiveWatermarkRepository;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.MemberRepository;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+class DeliveryExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private DeliveryArchiveWatermarkRepository watermarkRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+    private List<Delivery> deliveries;
+    private long archivedId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        member = memberRepository.save(new Member("export-" + System.nanoTime(), "password", "export"));
+        deliveries = transactionTemplate.execute(status -> deliveryRepository.saveAll(List.of(
+                new Delivery(member, "EXPORT-A-" + System.nanoTime(), "픽업지, 1층", "도착지 \"정문\"",
+                        DeliveryStatus.REQUESTED, now.minusHours(2)),
+                new Delivery(member, "EXPORT-B-" + System.nanoTime(), "=SUM(A1)", "도착지",
+                        DeliveryStatus.DELIVERED, now.minusHours(1))
+        )));
+
+        // 보관된 배달 1건 + 보관 경계
+        archivedId = System.nanoTime();
+        jdbcTemplate.update("""
+                INSERT INTO delivery_archive (id, member_id, order_number, pickup_address, delivery_address,
+                                              requested_at, status, version,
+                                              created_at, updated_at, created_by, updated_by, archived_at)
+                VALUES (?, ?, ?, '픽업지', '도착지', ?, 'CANCELED', 0, ?, ?, 'test', 'test', ?)
+                """, archivedId, member.getId(), "EXPORT-ARCHIVED-" + archivedId,
+                Timestamp.valueOf(now.minusDays(40)), Timestamp.valueOf(now), Timestamp.valueOf(now), Timestamp.valueOf(now));
+        transactionTemplate.executeWithoutResult(status -> {
+            DeliveryArchiveWatermark watermark = watermarkRepository.findById(DeliveryArchiveWatermark.SINGLETON_ID)
+                    .orElseGet(() -> new DeliveryArchiveWatermark(now));
+            watermark.advanceArchivedBefore(now.minusDays(30), now);
+            watermarkRepository.save(watermark);
+        });
+    }
+
+    /**
+     * 회원 조건으로 delivery 와 delivery_archive 를 id 순으로 이어 쓰고, CSV 특수문자/수식 문자를 처리한다
+     */
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportCsv_shouldStreamHotAndArchivedRows() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/admin/deliveries/export")
+                        .param("memberId", member.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"deliveries.csv\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String csv = new String(body, StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFF");
+        String[] lines = csv.substring(1).split("\r\n");
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("id,order_number,tracking_number,member_id,status");
+        assertThat(lines[1]).startsWith(deliveries.get(0).getId() + ",")
+                .contains(",REQUESTED,")
+                .contains(",\"픽업지, 1층\",\"도착지 \"\"정문\"\"\",")
+                .endsWith(",N");
+        assertThat(lines[2]).contains(",\"'=SUM(A1)\",");
+        assertThat(lines[3]).startsWith(archivedId + ",").contains(",CANCELED,").endsWith(",Y");
+    }
+
+    /**
+     * 상태/기간 조건, 보관 경계 이후 기간은 delivery 만 읽는다
+     */
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportCsv_shouldApplyStatusAndPeriod() throws Exception {
+        LocalDateTime from = LocalDateTime.now().minusDays(1).withNano(0);
+        String csv = mockMvc.perform(get("/api/admin/deliveries/export")
+                        .param("memberId", member.getId().toString())
+                        .param("status", "DELIVERED", "CANCELED")
+                        .param("from", from.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = csv.substring(1).split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).startsWith(deliveries.get(1).getId() + ",");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportXlsx_shouldWriteWorkbook() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/admin/deliveries/export")
+                        .param("format", "XLSX")
+                        .param("memberId", member.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type",
+                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(body))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getLastRowNum()).isEqualTo(3);
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("id");
+            // 64비트 id 는 문자열로 보존
+            assertThat(sheet.getRow(1).getCell(0).getStringCellValue()).isEqualTo(deliveries.get(0).getId().toString());
+            assertThat(sheet.getRow(3).getCell(15).getStringCellValue()).isEqualTo("Y");
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void export_shouldRejectInvertedPeriod() throws Exception {
+        mockMvc.perform(get("/api/admin/deliveries/export")
+                        .param("from", "2025-01-02T00:00:00")
+                        .param("to", "2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void export_shouldRequireAdminRole() throws Exception {
+        mockMvc.perform(get("/api/admin/deliveries/export"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,68 @@
+package com.barogo.delivery.admin.service.export;
+
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class DeliveryExportServiceTest {
+
+    @Autowired
+    private DeliveryExportService deliveryExportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * delivery / delivery_archive 를 읽는 커넥션은 서버 기본값과 관계없이 REPEATABLE READ 로 열린다
+     */
+    @Test
+    void export_shouldReadBothTablesInRepeatableReadTransaction() throws Exception {
+        Member member = memberRepository.save(new Member("export-rr-" + System.nanoTime(), "password", "export"));
+        deliveryRepository.save(new Delivery(member, "EXPORT-RR-" + System.nanoTime(), "픽업지", "도착지",
+                DeliveryStatus.REQUESTED, LocalDateTime.now()));
+
+        List<Integer> isolationLevels = new ArrayList<>();
+        long rows = deliveryExportService.export(new DeliveryExportFilter(null, null, null, member.getId(), null),
+                new DeliveryExportWriter() {
+                    @Override
+                    public void header(List<String> columns) {
+                    }
+
+                    @Override
+                    public void row(Object[] values, boolean archived) {
+                        isolationLevels.add(entityManager.unwrap(Session.class)
+                                .doReturningWork(Connection::getTransactionIsolation));
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                });
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(isolationLevels).containsExactly(Connection.TRANSACTION_REPEATABLE_READ);
+    }
+}
@@ -0,0 +1,29 @@
+package com.barogo.delivery.api.config.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.archive")
+public class ArchiveProperties {
+    // 보관 작업 실행 여부 (조회 라우팅은 항상 동작, 단일 노드에서만 켠다)
+    private boolean enabled = false;
+    // requested_at 이 이 기간보다 오래된 종료 배달을 옮긴다
+    private Duration archiveAfter = Duration.ofDays(30);
+    // 실행 주기
+    private Duration interval = Duration.ofHours(6);
+    // 한 트랜잭션에서 훑는 행 수 (PK 범위)
+    private int chunkSize = 1_000;
+    // chunk 사이 대기 시간 (운영 DB 부하/복제 지연 조절)
+    private Duration chunkPause = Duration.ofMillis(100);
+    // 노드별 보관 경계 캐시 갱신 주기 (보관 작업은 경계를 올린 뒤 이 시간의 2배를 기다렸다가 옮긴다)
+    private Duration watermarkRefresh = Duration.ofSeconds(30);
+    // offset 페이징으로 읽을 수 있는 최대 위치 (offset + size, 둘 다 조회할 때 테이블마다 이만큼 읽어 합친다)
+    private int maxPageWindow = 2_000;
+}
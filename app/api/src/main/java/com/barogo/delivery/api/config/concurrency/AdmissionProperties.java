@@ -0,0 +1,23 @@
+package com.barogo.delivery.api.config.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    // 커넥션 1개당 동시에 받아들일 요청 수 (요청 시간 중 커넥션 점유 구간은 일부이므로 1보다 크게 둔다)
+    private int requestsPerConnection = 4;
+    // 0 이하이면 커넥션 풀 크기 x requestsPerConnection 으로 계산
+    private int maxConcurrentRequests = 0;
+    // 허용량 초과 시 대기 시간, 지나면 503
+    private Duration waitTimeout = Duration.ofMillis(200);
+    private String[] urlPatterns = {"/api/*"};
+}
@@ -0,0 +1,84 @@
+package com.barogo.delivery.api.config.concurrency;
+
+import com.barogo.delivery.response.ApiResponse;
+import com.barogo.delivery.response.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 모드의 요청 수용 제한
+ * - 가상 스레드는 사실상 무제한으로 생성되므로, 제한이 없으면 요청이 전부 Hikari 커넥션 대기열에 쌓였다가 타임아웃으로 실패한다
+ * - 커넥션 풀 크기에 맞춘 세마포어로 동시 처리 요청 수를 제한하고, 대기 시간을 넘기면 503 으로 빠르게 거절한다
+ */
+public class JdbcAdmissionFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrentRequests;
+    private final long waitTimeoutNanos;
+    private final ObjectMapper objectMapper;
+    private final LongAdder rejected = new LongAdder();
+
+    public JdbcAdmissionFilter(int maxConcurrentRequests, Duration waitTimeout, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int maxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int inFlight() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorCode code = ErrorCode.SERVICE_UNAVAILABLE;
+        response.setStatus(code.getHttpStatus().value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), ApiResponse.error(code.getCode(), "요청이 많아 잠시 후 다시 시도해 주세요."));
+    }
+}
@@ -0,0 +1,79 @@
+package com.barogo.delivery.api.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, virtual 프로파일)
+ * - Tomcat 요청 처리, @Transactional 서비스 호출, applicationTaskExecutor(@Async) 가 모두 가상 스레드에서 실행된다
+ * - 스레드 수 대신 커넥션 풀 크기가 실제 동시성 한계이므로 수용 제한 필터를 함께 등록한다
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Hikari 기본 풀 크기
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+    JdbcAdmissionFilter jdbcAdmissionFilter(AdmissionProperties properties, DataSource dataSource, ObjectMapper objectMapper) {
+        int maxConcurrentRequests = properties.getMaxConcurrentRequests() > 0
+                ? properties.getMaxConcurrentRequests()
+                : poolSize(dataSource) * properties.getRequestsPerConnection();
+        log.info("virtual thread admission limit: maxConcurrentRequests={}, waitTimeout={}",
+                maxConcurrentRequests, properties.getWaitTimeout());
+        return new JdbcAdmissionFilter(maxConcurrentRequests, properties.getWaitTimeout(), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+    FilterRegistrationBean<JdbcAdmissionFilter> jdbcAdmissionFilterRegistration(JdbcAdmissionFilter filter,
+                                                                               AdmissionProperties properties) {
+        var registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(properties.getUrlPatterns());
+        // 인증 필터보다 먼저 거절해 서명 검증 비용도 아낀다
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+    MeterBinder jdbcAdmissionMetrics(JdbcAdmissionFilter filter) {
+        return registry -> {
+            Gauge.builder("delivery.admission.in.flight", filter, JdbcAdmissionFilter::inFlight)
+                    .register(registry);
+            Gauge.builder("delivery.admission.limit", filter, JdbcAdmissionFilter::maxConcurrentRequests)
+                    .register(registry);
+            FunctionCounter.builder("delivery.admission.rejected", filter, JdbcAdmissionFilter::rejectedCount)
+                    .register(registry);
+        };
+    }
+
+    // replica 라우팅 사용 시 트랜잭션 밖에서는 primary 풀로 unwrap 된다
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("failed to resolve connection pool size, using default {}", DEFAULT_POOL_SIZE, e);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
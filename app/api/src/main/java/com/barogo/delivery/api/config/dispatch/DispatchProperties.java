@@ -0,0 +1,27 @@
+package com.barogo.delivery.api.config.dispatch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.dispatch")
+public class DispatchProperties {
+    // 자동 배차 사용 여부 (단일 노드에서만 켠다)
+    private boolean enabled = false;
+    // 배차 주기
+    private Duration tickInterval = Duration.ofSeconds(1);
+    // 라이더 위치에서 픽업지까지 후보 탐색 반경(m)
+    private int searchRadiusMeters = 3_000;
+    // 라이더별로 비교할 가까운 배달 후보 수
+    private int candidatesPerRider = 8;
+    // 이 시간 동안 위치 보고가 없는 라이더는 배차 대상에서 뺀다
+    private Duration riderStaleAfter = Duration.ofSeconds(30);
+    // 한 주기에 적용할 최대 배차 수 (한 트랜잭션의 batch 크기)
+    private int maxAssignmentsPerTick = 2_000;
+}
@@ -1,20 +1,30 @@
 package com.barogo.delivery.api.config.error;
 
+import com.barogo.delivery.api.service.metrics.DeliveryMetrics;
 import com.barogo.delivery.response.ApiResponse;
 import com.barogo.delivery.response.exception.BusinessException;
 import com.barogo.delivery.response.exception.ErrorCode;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+
+    // 응답한 ErrorCode 별 카운터 (delivery.api.errors)
+    private final DeliveryMetrics metrics;
+
     @ExceptionHandler({ MethodArgumentNotValidException.class, BindException.class, ConstraintViolationException.class })
     public ResponseEntity<ApiResponse<Void>> handleValidation(Exception ex) {
+        metrics.error(ErrorCode.BAD_REQUEST);
         return ResponseEntity.badRequest()
                 .body(ApiResponse.error("BadRequest", extractMessage(ex)));
     }
@@ -22,13 +32,33 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusiness(BusinessException ex) {
         ErrorCode code = ex.getError();
+        metrics.error(code);
         HttpStatus status = code.getHttpStatus();
         return ResponseEntity.status(status)
                 .body(ApiResponse.error(code.getCode(), ex.getMessage()));
     }
 
+    // @Version 충돌(동시 수정)은 재시도 가능한 409 로 응답
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        ErrorCode code = ErrorCode.CONFLICT;
+        metrics.error(code);
+        return ResponseEntity.status(code.getHttpStatus())
+                .body(ApiResponse.error(code.getCode(), "다른 요청에 의해 배달 정보가 변경되었습니다. 다시 시도해 주세요."));
+    }
+
+    // @PreAuthorize 권한 부족 (아래 Exception 처리기가 500 으로 삼키지 않도록 먼저 처리)
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAccessDenied(AccessDeniedException ex) {
+        ErrorCode code = ErrorCode.FORBIDDEN;
+        metrics.error(code);
+        return ResponseEntity.status(code.getHttpStatus())
+                .body(ApiResponse.error(code.getCode(), "접근 권한이 없습니다."));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleEtc(Exception ex) {
+        metrics.error(ErrorCode.ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("InternalServerError", ex.getLocalizedMessage()));
     }
@@ -0,0 +1,21 @@
+package com.barogo.delivery.api.config.geo;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.geo-index")
+public class GeoIndexProperties {
+    // 격자 한 변의 길이(m), 주 조회 반경과 비슷하게 둔다
+    private double cellSizeMeters = 1_000;
+    // 예상 진행 중 배달 수 (배열 초기 크기)
+    private int initialCapacity = 100_000;
+    // 기동 시 DB 에서 진행 중 배달을 적재하는 페이지 크기
+    private int warmupBatchSize = 5_000;
+    // 조회 반경 상한(m)
+    private int maxRadiusMeters = 10_000;
+}
@@ -0,0 +1,199 @@
+package com.barogo.delivery.api.config.metrics;
+
+import com.barogo.delivery.alarm.outbox.OutboxRelay;
+import com.barogo.delivery.api.service.archive.ArchiveTier;
+import com.barogo.delivery.api.service.archive.DeliveryArchiveRouter;
+import com.barogo.delivery.api.service.archive.DeliveryArchiver;
+import com.barogo.delivery.api.service.dispatch.DispatchEngine;
+import com.barogo.delivery.api.service.dispatch.RiderPool;
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex;
+import com.barogo.delivery.api.service.stream.DeliveryStreamHub;
+import com.barogo.delivery.auth.VerifiedTokenCache;
+import com.barogo.delivery.cache.lock.LockManager;
+import com.barogo.delivery.cache.near.NearCache;
+import com.barogo.delivery.cache.near.NearCacheManager;
+import com.barogo.delivery.jpa.routing.ReplicaRoutingDataSource;
+import com.barogo.delivery.jpa.routing.RoutingDecision;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모듈별 통계(stats 스냅샷)를 Micrometer 로 노출
+ * - 요청 경로에 계측 코드를 추가하지 않고, 스크레이프 시점에 누적값을 읽는다
+ */
+@Configuration
+public class InfrastructureMetricsConfig {
+
+    @Bean
+    MeterBinder nearCacheMetrics(NearCacheManager nearCacheManager) {
+        return registry -> {
+            for (NearCache<?, ?> cache : nearCacheManager.caches()) {
+                String name = cache.name();
+                FunctionCounter.builder("delivery.near.cache.requests", cache, c -> c.stats().hitCount())
+                        .tags("cache", name, "result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("delivery.near.cache.requests", cache, c -> c.stats().missCount())
+                        .tags("cache", name, "result", "miss")
+                        .register(registry);
+                FunctionCounter.builder("delivery.near.cache.evictions", cache, c -> c.stats().evictionCount())
+                        .tag("cache", name)
+                        .register(registry);
+                Gauge.builder("delivery.near.cache.size", cache, c -> c.stats().size())
+                        .tag("cache", name)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder verifiedTokenCacheMetrics(VerifiedTokenCache tokenCache) {
+        return registry -> {
+            FunctionCounter.builder("jwt.token.cache.requests", tokenCache, c -> c.stats().hitCount())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("jwt.token.cache.requests", tokenCache, c -> c.stats().missCount())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("jwt.token.cache.evictions", tokenCache, c -> c.stats().evictionCount())
+                    .register(registry);
+            Gauge.builder("jwt.token.cache.size", tokenCache, c -> c.stats().size())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder lockMetrics(LockManager lockManager) {
+        return registry -> {
+            FunctionCounter.builder("delivery.lock.acquired", lockManager, m -> m.stats().acquired())
+                    .register(registry);
+            FunctionCounter.builder("delivery.lock.contended", lockManager, m -> m.stats().contended())
+                    .register(registry);
+            FunctionCounter.builder("delivery.lock.timed.out", lockManager, m -> m.stats().timedOut())
+                    .register(registry);
+            FunctionCounter.builder("delivery.lock.expired.takeovers", lockManager, m -> m.stats().expiredTakeovers())
+                    .register(registry);
+            FunctionCounter.builder("delivery.lock.wait.time", lockManager,
+                            m -> TimeUnit.NANOSECONDS.toMillis(m.stats().totalWaitNanos()))
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.outbox.relay", name = "enabled", havingValue = "true")
+    MeterBinder outboxRelayMetrics(OutboxRelay outboxRelay) {
+        return registry -> {
+            FunctionCounter.builder("delivery.outbox.claimed", outboxRelay, r -> r.stats().claimed())
+                    .register(registry);
+            FunctionCounter.builder("delivery.outbox.published", outboxRelay, r -> r.stats().published())
+                    .register(registry);
+            FunctionCounter.builder("delivery.outbox.failed", outboxRelay, r -> r.stats().failed())
+                    .register(registry);
+            FunctionCounter.builder("delivery.outbox.purged", outboxRelay, r -> r.stats().purged())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder deliveryStreamMetrics(DeliveryStreamHub hub) {
+        return registry -> {
+            Gauge.builder("delivery.stream.connections", hub, h -> h.stats().connections())
+                    .register(registry);
+            FunctionCounter.builder("delivery.stream.events.sent", hub, h -> h.stats().sent())
+                    .register(registry);
+            FunctionCounter.builder("delivery.stream.events.dropped", hub, h -> h.stats().dropped())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder activeDeliveryIndexMetrics(ActiveDeliveryIndex index) {
+        return registry -> {
+            for (ActiveDeliveryIndex.Point point : ActiveDeliveryIndex.Point.values()) {
+                Gauge.builder("delivery.geo.index.size", index, i -> i.size(point))
+                        .tag("point", point.name().toLowerCase())
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.dispatch", name = "enabled", havingValue = "true")
+    MeterBinder dispatchMetrics(DispatchEngine engine, RiderPool riderPool) {
+        return registry -> {
+            FunctionCounter.builder("delivery.dispatch.ticks", engine, e -> e.stats().ticks())
+                    .register(registry);
+            FunctionCounter.builder("delivery.dispatch.assigned", engine, e -> e.stats().assigned())
+                    .register(registry);
+            FunctionCounter.builder("delivery.dispatch.conflicts", engine, e -> e.stats().conflicts())
+                    .register(registry);
+            Gauge.builder("delivery.dispatch.tick.duration", engine, e -> e.stats().lastTickMillis())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("delivery.dispatch.riders.available", riderPool, RiderPool::size)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.datasource.replica", name = "enabled", havingValue = "true")
+    MeterBinder replicaRoutingMetrics(ReplicaRoutingDataSource routing) {
+        return registry -> {
+            for (RoutingDecision decision : RoutingDecision.values()) {
+                FunctionCounter.builder("delivery.datasource.routing", routing, r -> decisionCount(r, decision))
+                        .tags("route", decision.route().name().toLowerCase(), "decision", decision.name().toLowerCase())
+                        .register(registry);
+            }
+            FunctionCounter.builder("delivery.datasource.replica.failover", routing, r -> r.stats().failover())
+                    .register(registry);
+            Gauge.builder("delivery.datasource.replica.lag", routing, r -> r.stats().lagMillis())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("delivery.datasource.replica.available", routing, r -> r.stats().available() ? 1 : 0)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder archiveRoutingMetrics(DeliveryArchiveRouter router) {
+        return registry -> {
+            for (ArchiveTier tier : ArchiveTier.values()) {
+                FunctionCounter.builder("delivery.archive.reads", router, r -> r.routedCount(tier))
+                        .tag("tier", tier.name().toLowerCase())
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.archive", name = "enabled", havingValue = "true")
+    MeterBinder archiverMetrics(DeliveryArchiver archiver) {
+        return registry -> {
+            FunctionCounter.builder("delivery.archive.runs", archiver, a -> a.stats().runs())
+                    .register(registry);
+            FunctionCounter.builder("delivery.archive.archived", archiver, a -> a.stats().archived())
+                    .register(registry);
+            Gauge.builder("delivery.archive.run.duration", archiver, a -> a.stats().lastRunMillis())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("delivery.archive.scanned", archiver, a -> a.stats().lastScanned())
+                    .register(registry);
+        };
+    }
+
+    private static long decisionCount(ReplicaRoutingDataSource routing, RoutingDecision decision) {
+        var stats = routing.stats();
+        return switch (decision) {
+            case REPLICA -> stats.replica();
+            case WRITE -> stats.write();
+            case STICKY -> stats.sticky();
+            case REPLICA_UNAVAILABLE -> stats.unavailable();
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.barogo.delivery.api.config.pricing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.pricing")
+public class PricingProperties {
+    // 기본 요금(원), baseDistanceMeters 까지 적용
+    private long baseFare = 3_000;
+    private int baseDistanceMeters = 1_500;
+    // 기본 거리를 넘는 stepMeters 마다 stepFare(원) 추가 (올림)
+    private int stepMeters = 500;
+    private long stepFare = 500;
+    // 요금 상한(원), 0 이면 상한 없음
+    private long maxFare = 0;
+    // 직선거리 -> 도로거리 보정 계수 구간, 비어 있으면 직선거리를 그대로 사용
+    private List<RoadFactor> roadFactors = new ArrayList<>();
+    // 일괄 재계산 시 한 트랜잭션에서 읽고 쓰는 행 수
+    private int recomputeChunkSize = 5_000;
+    // 일괄 재계산 chunk 사이 대기 시간 (운영 DB 부하 조절)
+    private Duration recomputePause = Duration.ZERO;
+
+    /**
+     * 직선거리 upToMeters 이하에 factor 를 곱한다 (마지막 구간을 넘으면 마지막 factor)
+     */
+    @Getter
+    @Setter
+    public static class RoadFactor {
+        private int upToMeters;
+        private double factor = 1.0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.barogo.delivery.api.config.stream;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.stream")
+public class DeliveryStreamProperties {
+    // 연결별 미전송 이벤트 버퍼 크기, 가득 차면 가장 오래된 이벤트를 버린다
+    private int bufferSize = 32;
+    // 유휴 연결 유지(프록시/로드밸런서 idle timeout 방지)용 주석 이벤트 간격
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    // 연결 최대 유지 시간, 지나면 서버가 닫고 클라이언트가 재연결한다
+    private Duration timeout = Duration.ofMinutes(30);
+    // 클라이언트 재연결 대기 시간 (SSE retry 필드)
+    private Duration reconnectTime = Duration.ofSeconds(3);
+    // 회원당 동시 연결 수, 초과 시 가장 오래된 연결을 닫는다
+    private int maxConnectionsPerMember = 5;
+}
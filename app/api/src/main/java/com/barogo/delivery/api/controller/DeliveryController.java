@@ -1,18 +1,30 @@
 package com.barogo.delivery.api.controller;
 
+import com.barogo.delivery.api.controller.model.DeliveryBulkCreateRequest;
+import com.barogo.delivery.api.controller.model.DeliveryBulkCreateResponse;
 import com.barogo.delivery.api.controller.model.DeliveryCreateRequest;
+import com.barogo.delivery.api.controller.model.DeliveryCursorSearchRequest;
+import com.barogo.delivery.api.controller.model.DeliveryNearbySearchRequest;
 import com.barogo.delivery.api.controller.model.DeliverySearchRequest;
 import com.barogo.delivery.api.controller.model.DeliverySummary;
 import com.barogo.delivery.api.controller.model.DeliveryUpdateDestinationRequest;
 import com.barogo.delivery.api.controller.model.DeliveryUpdateStatusRequest;
+import com.barogo.delivery.api.controller.model.NearbyDelivery;
 import com.barogo.delivery.api.service.DeliveryService;
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex;
+import com.barogo.delivery.api.service.stream.DeliveryStreamHub;
 import com.barogo.delivery.auth.CurrentMember;
 import com.barogo.delivery.auth.MemberPrincipal;
 import com.barogo.delivery.response.ApiResponse;
 import com.barogo.delivery.response.PageResponse;
+import com.barogo.delivery.response.SliceResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -22,8 +34,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
+import java.util.List;
 
 @Validated
 @RestController
@@ -31,25 +46,81 @@ import java.net.URI;
 @RequestMapping("/api/deliveries")
 public class DeliveryController {
 
+    // 캐시는 하되 매번 ETag 로 재검증 (Spring Security 기본 no-store 헤더 대신 사용)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final DeliveryService deliveryService;
+    private final DeliveryStreamHub deliveryStreamHub;
+    private final ActiveDeliveryIndex activeDeliveryIndex;
 
     // 기간 필수 + 최대 3일 제한
+    // - If-None-Match 가 기간 내 집계 ETag 와 같으면 목록을 조회하지 않고 304 응답 (ETag 헤더는 200 응답에도 포함)
     @GetMapping
     public ResponseEntity<PageResponse<DeliverySummary>> getDeliveries(
             @CurrentMember MemberPrincipal member,
-            @Valid @ModelAttribute DeliverySearchRequest request
+            @Valid @ModelAttribute DeliverySearchRequest request,
+            WebRequest webRequest
+    ) {
+        String eTag = DeliveryETags.list(deliveryService.findListVersion(member.id(), request));
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified();
+        }
+        var results = deliveryService.findByMemberAndPeriod(member.id(), request);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(results);
+    }
+
+    // 커서(keyset) 방식 목록 조회
+    // - path: GET /api/deliveries/cursor?from=&to=&size=&cursor=
+    // - 응답의 nextCursor 를 다음 요청의 cursor 로 전달, 전체 건수는 제공하지 않음
+    @GetMapping("/cursor")
+    public ResponseEntity<SliceResponse<DeliverySummary>> getDeliveriesByCursor(
+            @CurrentMember MemberPrincipal member,
+            @Valid @ModelAttribute DeliveryCursorSearchRequest request
     ) {
-       var results = deliveryService.findByMemberAndPeriod(member.id(), request);
+        var results = deliveryService.findByMemberAndPeriodWithCursor(member.id(), request);
         return ResponseEntity.ok(results);
     }
 
+    // 배달 변경 실시간 수신(SSE)
+    // - path: GET /api/deliveries/stream (Accept: text/event-stream)
+    // - 본인 배달의 상태/도착지 변경이 커밋되면 event: STATUS_CHANGED | DESTINATION_CHANGED, data: DeliverySummary 로 전송
+    // - 연결 종료 시 클라이언트가 retry 간격 후 재연결하며, 재연결 직후 목록/단건 조회로 누락분을 맞춘다
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDeliveries(@CurrentMember MemberPrincipal member) {
+        return deliveryStreamHub.subscribe(member.id());
+    }
+
+    // 주변 배달 검색 (배차 담당자용)
+    // - path: GET /api/deliveries/nearby?lat=&lng=&radius=&status=&point=&limit=
+    // - 회원 구분 없이 진행 중 배달을 메모리 공간 인덱스에서 조회하며 DB 를 거치지 않는다
+    // - 기본값: radius=2000(m), status=REQUESTED, point=PICKUP, limit=50
+    @GetMapping("/nearby")
+    @PreAuthorize("hasRole('DISPATCHER')")
+    public ResponseEntity<ApiResponse<List<NearbyDelivery>>> getNearbyDeliveries(
+            @Valid @ModelAttribute DeliveryNearbySearchRequest request
+    ) {
+        var results = activeDeliveryIndex.nearby(request.point(), request.lat(), request.lng(),
+                request.radius(), request.status(), request.limit());
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
+    // 배달 단건 조회
+    // - If-None-Match 가 버전 ETag 와 같으면 version 컬럼만 조회하고 304 응답
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<DeliverySummary>> getDeliveryById(
             @PathVariable Long id,
-            @CurrentMember MemberPrincipal member
+            @CurrentMember MemberPrincipal member,
+            WebRequest webRequest
     ) {
+        // 없거나 타인 소유이면 ETag 없이 findById 에서 오류 응답
+        String eTag = deliveryService.findVersion(member.id(), id)
+                .map(version -> DeliveryETags.detail(id, version))
+                .orElse(null);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return notModified();
+        }
         var results = deliveryService.findById(member.id(), id);
-        return ResponseEntity.ok(ApiResponse.success(results));
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(ApiResponse.success(results));
     }
 
     @PostMapping
@@ -62,6 +133,18 @@ public class DeliveryController {
         return ResponseEntity.created(uri).body(ApiResponse.success(created));
     }
 
+    // 배달 일괄 등록 API (POS 연동)
+    // - path: POST /api/deliveries/bulk
+    // - 항목별 성공/실패(검증 오류, 주문번호 중복)를 반환하며 일부 항목 실패가 전체 요청을 실패시키지 않음
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<DeliveryBulkCreateResponse>> createDeliveries(
+            @CurrentMember MemberPrincipal member,
+            @Valid @RequestBody DeliveryBulkCreateRequest request
+    ) {
+        var results = deliveryService.createDeliveries(member.id(), request);
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
     // 도착지 주소 변경 API
     // - path: PATCH /api/deliveries/{deliveryId}/destination
     // - 규칙: 사용자(memberId)의 배달이며, 변경 가능한 상태(예: REQUESTED/ASSIGNED)일 때만 변경
@@ -88,4 +171,8 @@ public class DeliveryController {
         return ResponseEntity.noContent().build();
     }
 
+    // ETag 응답 헤더와 304 상태는 WebRequest.checkNotModified 가 설정한다
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
 }
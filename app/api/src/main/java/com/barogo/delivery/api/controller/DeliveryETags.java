@@ -0,0 +1,30 @@
+package com.barogo.delivery.api.controller;
+
+import com.barogo.delivery.jpa.projection.DeliveryListVersionView;
+
+import java.time.ZoneOffset;
+
+/**
+ * 배달 조회 응답의 강한 ETag
+ * - 단건: 배달 ID + @Version (상태/주소 변경 시 증가)
+ * - 목록: 기간 내 집계(건수, 버전 합, 최대 ID, 마지막 수정 시각). 기간 내 어떤 배달이 바뀌어도 모든 페이지가 갱신된다
+ */
+final class DeliveryETags {
+
+    private DeliveryETags() {
+    }
+
+    static String detail(Long deliveryId, long version) {
+        return "\"d" + Long.toHexString(deliveryId) + "-" + Long.toHexString(version) + "\"";
+    }
+
+    static String list(DeliveryListVersionView view) {
+        long versionSum = view.getVersionSum() == null ? 0 : view.getVersionSum();
+        long maxId = view.getMaxId() == null ? 0 : view.getMaxId();
+        long lastUpdated = view.getLastUpdatedAt() == null ? 0 : view.getLastUpdatedAt().toEpochSecond(ZoneOffset.UTC);
+        return "\"l" + Long.toHexString(view.getCount())
+                + "-" + Long.toHexString(versionSum)
+                + "-" + Long.toHexString(maxId)
+                + "-" + Long.toHexString(lastUpdated) + "\"";
+    }
+}
@@ -0,0 +1,84 @@
+package com.barogo.delivery.api.controller;
+
+import com.barogo.delivery.api.controller.model.DeliveryImportStatus;
+import com.barogo.delivery.api.service.imports.DeliveryImportService;
+import com.barogo.delivery.auth.CurrentMember;
+import com.barogo.delivery.auth.MemberPrincipal;
+import com.barogo.delivery.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/deliveries/imports")
+public class DeliveryImportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final DeliveryImportService deliveryImportService;
+
+    // 배달 파일(CSV) 가져오기 (대형 가맹점 일일 예약 주문)
+    // - path: POST /api/deliveries/imports (multipart, file)
+    // - 열: order_number, pickup_address, delivery_address (필수), pickup_lat, pickup_lng, delivery_lat, delivery_lng,
+    //       requested_at(yyyy-MM-dd HH:mm:ss, 없으면 업로드 시각), memo
+    // - 헤더/파일 형식 오류는 400, 그 외에는 202 후 백그라운드에서 적재 (Location 으로 진행 상태 조회)
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<DeliveryImportStatus>> startImport(
+            @CurrentMember MemberPrincipal member,
+            @RequestParam("file") MultipartFile file
+    ) {
+        var status = deliveryImportService.start(member.id(), file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/deliveries/imports/" + status.importId()))
+                .body(ApiResponse.success(status));
+    }
+
+    // 가져오기 진행 상태 (구간 수, 적재/거부 행 수)
+    @GetMapping("/{importId}")
+    public ResponseEntity<ApiResponse<DeliveryImportStatus>> getImport(
+            @PathVariable Long importId,
+            @CurrentMember MemberPrincipal member
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(deliveryImportService.status(member.id(), importId)));
+    }
+
+    // 실패/중단된 가져오기를 남은 구간부터 재개
+    @PostMapping("/{importId}/resume")
+    public ResponseEntity<ApiResponse<DeliveryImportStatus>> resumeImport(
+            @PathVariable Long importId,
+            @CurrentMember MemberPrincipal member
+    ) {
+        return ResponseEntity.accepted().body(ApiResponse.success(deliveryImportService.resume(member.id(), importId)));
+    }
+
+    // 거부된 행 보고서 (CSV: row_number, order_number, reason), 진행 중에도 지금까지의 거부 행을 받을 수 있다
+    @GetMapping("/{importId}/rejections")
+    public ResponseEntity<Resource> getRejections(
+            @PathVariable Long importId,
+            @CurrentMember MemberPrincipal member
+    ) {
+        var report = deliveryImportService.rejections(member.id(), importId);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("rejections-" + importId + ".csv")
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(report));
+    }
+}
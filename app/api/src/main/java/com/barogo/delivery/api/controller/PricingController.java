@@ -0,0 +1,36 @@
+package com.barogo.delivery.api.controller;
+
+import com.barogo.delivery.api.service.pricing.DeliveryRepricer;
+import com.barogo.delivery.api.service.pricing.RepricingStatus;
+import com.barogo.delivery.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/pricing")
+@PreAuthorize("hasRole('ADMIN')")
+public class PricingController {
+
+    private final DeliveryRepricer deliveryRepricer;
+
+    // 요금표 변경 후 기존 배달 거리/요금 일괄 재계산 시작
+    // - path: POST /api/pricing/recompute
+    // - 백그라운드로 실행하고 202 응답, 이미 실행 중이면 409
+    @PostMapping("/recompute")
+    public ResponseEntity<ApiResponse<RepricingStatus>> recompute() {
+        return ResponseEntity.accepted().body(ApiResponse.success(deliveryRepricer.start()));
+    }
+
+    // 일괄 재계산 진행 상황
+    // - path: GET /api/pricing/recompute
+    @GetMapping("/recompute")
+    public ResponseEntity<ApiResponse<RepricingStatus>> recomputeStatus() {
+        return ResponseEntity.ok(ApiResponse.success(deliveryRepricer.status()));
+    }
+}
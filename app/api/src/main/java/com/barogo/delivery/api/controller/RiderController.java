@@ -0,0 +1,36 @@
+package com.barogo.delivery.api.controller;
+
+import com.barogo.delivery.api.controller.model.RiderLocationRequest;
+import com.barogo.delivery.api.service.dispatch.RiderPool;
+import com.barogo.delivery.auth.CurrentMember;
+import com.barogo.delivery.auth.MemberPrincipal;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/riders")
+public class RiderController {
+
+    private final RiderPool riderPool;
+
+    // 라이더 위치/대기 상태 보고 (라이더 앱이 주기적으로 호출)
+    // - path: PUT /api/riders/me/location
+    // - available=true 로 보고한 라이더만 자동 배차 대상이 되며, 배차되면 다시 대기로 보고할 때까지 제외된다
+    // - riderId 는 로그인한 회원 id
+    @PutMapping("/me/location")
+    @PreAuthorize("hasRole('RIDER')")
+    public ResponseEntity<Void> reportLocation(
+            @CurrentMember MemberPrincipal member,
+            @Valid @RequestBody RiderLocationRequest request
+    ) {
+        riderPool.report(member.id(), request.lat(), request.lng(), request.available());
+        return ResponseEntity.noContent().build();
+    }
+}
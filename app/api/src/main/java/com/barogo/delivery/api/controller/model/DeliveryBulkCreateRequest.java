@@ -0,0 +1,13 @@
+package com.barogo.delivery.api.controller.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// 항목별 검증은 서비스에서 수행 (한 항목의 오류로 전체 요청이 거절되지 않도록 @Valid 전파하지 않음)
+public record DeliveryBulkCreateRequest(
+        @NotEmpty
+        @Size(max = 500)
+        List<DeliveryCreateRequest> items
+) { }
@@ -0,0 +1,16 @@
+package com.barogo.delivery.api.controller.model;
+
+import java.util.List;
+
+public record DeliveryBulkCreateResponse(
+        int requested,
+        int created,
+        int failed,
+        List<DeliveryBulkItemResult> results
+) {
+
+    public static DeliveryBulkCreateResponse of(List<DeliveryBulkItemResult> results) {
+        int created = (int) results.stream().filter(DeliveryBulkItemResult::isCreated).count();
+        return new DeliveryBulkCreateResponse(results.size(), created, results.size() - created, results);
+    }
+}
@@ -0,0 +1,32 @@
+package com.barogo.delivery.api.controller.model;
+
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.response.exception.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 일괄 등록 항목별 결과
+ * - index: 요청 items 내 위치
+ * - 성공 시 deliveryId, 실패 시 code/message
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DeliveryBulkItemResult(
+        int index,
+        String orderNumber,
+        Long deliveryId,
+        String code,
+        String message
+) {
+
+    public static DeliveryBulkItemResult created(int index, Delivery delivery) {
+        return new DeliveryBulkItemResult(index, delivery.getOrderNumber(), delivery.getId(), null, null);
+    }
+
+    public static DeliveryBulkItemResult failed(int index, String orderNumber, ErrorCode code, String message) {
+        return new DeliveryBulkItemResult(index, orderNumber, null, code.getCode(), message);
+    }
+
+    public boolean isCreated() {
+        return code == null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.barogo.delivery.api.controller.model;
+
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 배달 목록 커서
+ * - 정렬 키 (requestedAt DESC, id DESC) 의 마지막 값을 담는다
+ * - 외부에는 Base64(URL-safe) 문자열로만 노출한다
+ */
+public record DeliveryCursor(
+        LocalDateTime requestedAt,
+        Long id
+) {
+    private static final char DELIMITER = '|';
+
+    public DeliveryCursor {
+        // 식별자가 없는 행(저장 전 엔티티 등)으로 만든 커서는 "|null" 로 인코딩되어 다시 읽을 수 없다
+        Objects.requireNonNull(requestedAt, "requestedAt");
+        Objects.requireNonNull(id, "id");
+    }
+
+    public static DeliveryCursor of(DeliverySummary last) {
+        return new DeliveryCursor(last.requestedAt(), last.id());
+    }
+
+    public String encode() {
+        String raw = requestedAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DeliveryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0) {
+                throw invalid();
+            }
+            return new DeliveryCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException 은 IllegalArgumentException 의 하위 타입
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ErrorCode.INVALID_PARAMETER, "유효하지 않은 커서입니다.");
+    }
+}
@@ -0,0 +1,33 @@
+package com.barogo.delivery.api.controller.model;
+
+import com.barogo.delivery.api.controller.model.validation.PeriodWithin3Days;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@PeriodWithin3Days
+public record DeliveryCursorSearchRequest(
+        @NotNull
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime from,
+
+        @NotNull
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime to,
+
+        // 첫 페이지는 생략, 이후에는 직전 응답의 nextCursor
+        String cursor,
+
+        @Min(1) @Max(200)
+        Integer size
+) {
+    private static final int DEFAULT_SIZE = 20;
+
+    public DeliveryCursorSearchRequest {
+        if (size == null) size = DEFAULT_SIZE;
+        if (cursor != null && cursor.isBlank()) cursor = null;
+    }
+}
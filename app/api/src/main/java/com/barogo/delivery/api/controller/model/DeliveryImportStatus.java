@@ -0,0 +1,30 @@
+package com.barogo.delivery.api.controller.model;
+
+import com.barogo.delivery.file.bulk.DeliveryImportProgress;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 배달 파일 가져오기 상태
+ * - FAILED 는 완료된 구간까지 적재된 상태로, 재개(resume)하면 남은 구간부터 이어서 적재한다
+ * - message: 실패 사유
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DeliveryImportStatus(
+        Long importId,
+        String fileName,
+        State state,
+        int totalChunks,
+        int completedChunks,
+        long inserted,
+        long rejected,
+        String message
+) {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    public static DeliveryImportStatus of(Long importId, String fileName, State state,
+                                          DeliveryImportProgress progress, String message) {
+        return new DeliveryImportStatus(importId, fileName, state, progress.totalChunks(), progress.completedChunks(),
+                progress.inserted(), progress.rejected(), message);
+    }
+}
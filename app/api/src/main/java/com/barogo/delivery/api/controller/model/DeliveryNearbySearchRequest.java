@@ -0,0 +1,45 @@
+package com.barogo.delivery.api.controller.model;
+
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex.Point;
+import com.barogo.delivery.enums.DeliveryStatus;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public record DeliveryNearbySearchRequest(
+        @NotNull
+        @DecimalMin("-90.0") @DecimalMax("90.0")
+        Double lat,
+
+        @NotNull
+        @DecimalMin("-180.0") @DecimalMax("180.0")
+        Double lng,
+
+        // 검색 반경(m), 상한은 delivery.geo-index.max-radius-meters
+        @Min(1)
+        Integer radius,
+
+        // 생략 시 REQUESTED (배차 대기)
+        Set<DeliveryStatus> status,
+
+        // 기준 좌표, 생략 시 PICKUP
+        Point point,
+
+        @Min(1) @Max(200)
+        Integer limit
+) {
+    private static final int DEFAULT_RADIUS = 2_000;
+    private static final int DEFAULT_LIMIT = 50;
+
+    public DeliveryNearbySearchRequest {
+        if (radius == null) radius = DEFAULT_RADIUS;
+        if (status == null || status.isEmpty()) status = EnumSet.of(DeliveryStatus.REQUESTED);
+        if (point == null) point = Point.PICKUP;
+        if (limit == null) limit = DEFAULT_LIMIT;
+    }
+}
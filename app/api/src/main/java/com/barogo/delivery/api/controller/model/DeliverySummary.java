@@ -2,6 +2,7 @@ package com.barogo.delivery.api.controller.model;
 
 import com.barogo.delivery.domain.Delivery;
 import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.projection.DeliverySummaryView;
 
 import java.time.LocalDateTime;
 
@@ -25,5 +26,16 @@ public record DeliverySummary(
                 d.getDeliveryAddress()
         );
     }
-}
 
+    public static DeliverySummary of(DeliverySummaryView v) {
+        return new DeliverySummary(
+                v.getId(),
+                v.getOrderNumber(),
+                v.getStatus(),
+                v.getRequestedAt(),
+                v.getDeliveredAt(),
+                v.getPickupAddress(),
+                v.getDeliveryAddress()
+        );
+    }
+}
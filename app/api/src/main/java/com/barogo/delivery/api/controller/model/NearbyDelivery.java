@@ -0,0 +1,9 @@
+package com.barogo.delivery.api.controller.model;
+
+/**
+ * 주변 배달 검색 결과 (가까운 순)
+ */
+public record NearbyDelivery(
+        Long id,
+        int distanceMeters
+) { }
@@ -0,0 +1,19 @@
+package com.barogo.delivery.api.controller.model;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+public record RiderLocationRequest(
+        @NotNull
+        @DecimalMin("-90.0") @DecimalMax("90.0")
+        Double lat,
+
+        @NotNull
+        @DecimalMin("-180.0") @DecimalMax("180.0")
+        Double lng,
+
+        // 배차를 받을 수 있는 대기 상태인지
+        boolean available
+) {
+}
@@ -1,23 +1,50 @@
 package com.barogo.delivery.api.service;
 
+import com.barogo.delivery.api.controller.model.DeliveryBulkCreateRequest;
+import com.barogo.delivery.api.controller.model.DeliveryBulkCreateResponse;
+import com.barogo.delivery.api.controller.model.DeliveryBulkItemResult;
 import com.barogo.delivery.api.controller.model.DeliveryCreateRequest;
+import com.barogo.delivery.api.controller.model.DeliveryCursor;
+import com.barogo.delivery.api.controller.model.DeliveryCursorSearchRequest;
 import com.barogo.delivery.api.controller.model.DeliverySearchRequest;
 import com.barogo.delivery.api.controller.model.DeliverySummary;
+import com.barogo.delivery.api.service.archive.DeliveryArchiveReader;
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex;
+import com.barogo.delivery.api.service.lock.DeliveryLocks;
+import com.barogo.delivery.api.service.metrics.DeliveryMetrics;
+import com.barogo.delivery.api.service.metrics.DeliveryMetrics.TransitionResult;
+import com.barogo.delivery.api.service.outbox.DeliveryOutbox;
+import com.barogo.delivery.api.service.pricing.DeliveryPricing;
+import com.barogo.delivery.api.service.stream.DeliveryChangedEvent;
+import com.barogo.delivery.api.service.stream.DeliveryStreamHub;
 import com.barogo.delivery.api.service.validation.DeliveryRequestValidator;
 import com.barogo.delivery.api.service.validation.DeliveryStatusTransitionValidator;
 import com.barogo.delivery.domain.Delivery;
 import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryEventType;
 import com.barogo.delivery.enums.DeliveryStatus;
 import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.projection.DeliveryListVersionView;
+import com.barogo.delivery.jpa.projection.DeliverySummaryView;
 import com.barogo.delivery.response.PageResponse;
+import com.barogo.delivery.response.SliceResponse;
 import com.barogo.delivery.response.exception.BusinessException;
 import com.barogo.delivery.response.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Transactional
@@ -28,55 +55,104 @@ public class DeliveryService {
     private final MemberService memberService;
     private final DeliveryRequestValidator deliveryRequestValidator;
     private final DeliveryStatusTransitionValidator statusValidator;
+    private final AuditorAware<String> auditorAware;
+    private final DeliveryLocks deliveryLocks;
+    private final DeliveryMetrics deliveryMetrics;
+    private final DeliveryOutbox deliveryOutbox;
+    private final DeliveryStreamHub deliveryStreamHub;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActiveDeliveryIndex activeDeliveryIndex;
+    private final DeliveryPricing deliveryPricing;
+    private final DeliveryArchiveReader deliveryArchiveReader;
 
     /**
      * 기간 내 회원의 배달 목록 조회
      * - requestedAt 기준 내림차순
+     * - 기간에 따라 delivery / delivery_archive / 둘 다에서 조회한다 (DeliveryArchiveRouter)
      */
-    // todo: 더 디테일한 페이지네이션 필요 or 필요하면 커서 방식 페이징도 고려
     @Transactional(readOnly = true)
     public PageResponse<DeliverySummary> findByMemberAndPeriod(Long memberId, DeliverySearchRequest request) {
-        var pageResult = deliveryRepository.findByMemberIdAndRequestedAtBetween(memberId, request.from(), request.to(), request.pageable());
+        var pageResult = deliveryArchiveReader.findSummaryPage(memberId, request.from(), request.to(), request.pageable());
         return PageResponse.of(pageResult.map(DeliverySummary::of));
     }
 
+    /**
+     * 기간 내 회원의 배달 목록 커서 조회
+     * - (requestedAt DESC, id DESC) keyset 페이징, offset 스캔과 count 쿼리 없이 조회한다
+     * - size + 1 건을 조회해 다음 페이지 존재 여부를 판단한다
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<DeliverySummary> findByMemberAndPeriodWithCursor(Long memberId, DeliveryCursorSearchRequest request) {
+        int size = request.size();
+        Limit limit = Limit.of(size + 1);
+
+        DeliveryCursor cursor = request.cursor() == null ? null : DeliveryCursor.decode(request.cursor());
+        List<DeliverySummaryView> rows = deliveryArchiveReader.findSlice(memberId, request.from(), request.to(),
+                cursor == null ? null : cursor.requestedAt(), cursor == null ? null : cursor.id(), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<DeliverySummary> content = rows.stream()
+                .limit(size)
+                .map(DeliverySummary::of)
+                .toList();
+        String nextCursor = hasNext ? DeliveryCursor.of(content.getLast()).encode() : null;
+        return SliceResponse.of(content, size, nextCursor);
+    }
+
+    /**
+     * 배달 단건 조회
+     * - 소유자 조건을 포함한 프로젝션 조회 1회로 처리하고, 실패한 경우에만 보관 테이블과 존재 여부를 추가 확인한다
+     */
     @Transactional(readOnly = true)
     public DeliverySummary findById(Long memberId, Long deliveryId) {
-        Delivery delivery = deliveryRepository.findById(deliveryId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "findById: 배달을 찾을 수 없습니다."));
+        return deliveryArchiveReader.findSummary(deliveryId, memberId)
+                .map(DeliverySummary::of)
+                .orElseThrow(() -> deliveryArchiveReader.existsById(deliveryId)
+                        ? new BusinessException(ErrorCode.FORBIDDEN, "본인의 배달만 조회할 수 있습니다.")
+                        : new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "findById: 배달을 찾을 수 없습니다."));
+    }
 
-        if (!delivery.isOwnedBy(memberId)) {
-            throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 배달만 조회할 수 있습니다.");
-        }
+    /**
+     * 배달 단건 버전 (조건부 GET 용)
+     * - 없거나 타인 소유이면 empty 를 반환하고, 오류 응답은 findById 에서 만든다
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long memberId, Long deliveryId) {
+        return deliveryArchiveReader.findVersion(deliveryId, memberId);
+    }
 
-        return DeliverySummary.of(delivery);
+    /**
+     * 기간 내 배달 목록 집계 (조건부 GET 용)
+     */
+    @Transactional(readOnly = true)
+    public DeliveryListVersionView findListVersion(Long memberId, DeliverySearchRequest request) {
+        return deliveryArchiveReader.findListVersion(memberId, request.from(), request.to());
     }
 
-    // todo: 분산락 or 동시성 제어 처리
     public DeliverySummary createDelivery(Long memberId, DeliveryCreateRequest request) {
         // 형식/범위/필수값 검증
         deliveryRequestValidator.validateCreate(request);
 
-        // 회원 존재 검증
-        Member member = memberService.findById(memberId);
+        // 같은 주문번호의 동시 등록 직렬화 (최종 중복 방어는 order_number 유니크 제약)
+        deliveryLocks.lockUntilTransactionEnds(DeliveryLocks.orderKey(request.orderNumber()));
+
+        // 회원 참조 (존재가 캐시된 회원은 SELECT 없이 프록시만 사용)
+        Member member = memberService.getReference(memberId);
+
+        // 보관된 주문번호는 유니크 제약에 걸리지 않으므로 먼저 확인한다
+        if (!deliveryRepository.findExistingOrderNumbers(List.of(request.orderNumber())).isEmpty()) {
+            throw new BusinessException(ErrorCode.DUPLICATE_EXCEPTION, "이미 존재하는 주문번호입니다.");
+        }
 
         // 엔티티 생성
-        LocalDateTime now = LocalDateTime.now();
-        Delivery delivery = new Delivery(
-                member,
-                request.orderNumber(),
-                request.pickupAddress(),
-                request.deliveryAddress(),
-                DeliveryStatus.REQUESTED,
-                now
-        );
-        delivery.changeDestination(request.deliveryAddress(), request.deliveryLat(), request.deliveryLng());
-        // 좌표는 픽업/도착 각각 필드 세터가 없으므로 직접 할당 필요 시 엔티티에 세터/편의 메서드 추가를 고려
-        // 여기서는 생성자 필드 외 나머지에 직접 접근이 불가하므로 pickup 좌표는 Repository 저장 전 필드 접근이 필요합니다.
-        // 엔티티에 편의 메서드가 없다면, 생성자/메서드를 추가하는 것이 이상적입니다.
+        Delivery delivery = newDelivery(member, request, LocalDateTime.now());
 
         try {
-            var saved = deliveryRepository.save(delivery);
+            // 식별자(TSID)를 미리 발급하므로 save 만으로는 INSERT 가 커밋 시점까지 미뤄진다
+            // 유니크 제약 위반을 여기서 받도록 바로 flush 한다
+            var saved = deliveryRepository.saveAndFlush(delivery);
+            // 커밋 후 공간 인덱스 반영
+            activeDeliveryIndex.added(List.of(saved));
             return DeliverySummary.of(saved);
         } catch (DataIntegrityViolationException e) {
             // order_number 유니크 제약 위반 등
@@ -84,7 +160,72 @@ public class DeliveryService {
         }
     }
 
-    // todo: 분산락 or 동시성 제어 처리
+    /**
+     * 배달 일괄 등록
+     * - 항목별 검증/중복(요청 내, 기존 데이터) 판정 후 실패 항목은 사유만 결과에 담고 나머지를 등록한다
+     * - 등록 대상은 한 번의 flush 로 JDBC batch insert 된다 (애플리케이션에서 발급하는 TSID 식별자 + hibernate.jdbc.batch_size)
+     */
+    public DeliveryBulkCreateResponse createDeliveries(Long memberId, DeliveryBulkCreateRequest request) {
+        List<DeliveryCreateRequest> items = request.items();
+        DeliveryBulkItemResult[] results = new DeliveryBulkItemResult[items.size()];
+        // 등록 대상 주문번호 -> 요청 내 위치
+        Map<String, Integer> accepted = new LinkedHashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            DeliveryCreateRequest item = items.get(i);
+            if (item == null) {
+                results[i] = DeliveryBulkItemResult.failed(i, null, ErrorCode.INVALID_PARAMETER, "배달 정보가 비어 있습니다.");
+                continue;
+            }
+            try {
+                deliveryRequestValidator.validateCreate(item);
+            } catch (BusinessException e) {
+                results[i] = DeliveryBulkItemResult.failed(i, item.orderNumber(), e.getError(), e.getMessage());
+                continue;
+            }
+            if (accepted.putIfAbsent(item.orderNumber(), i) != null) {
+                results[i] = DeliveryBulkItemResult.failed(i, item.orderNumber(), ErrorCode.DUPLICATE_EXCEPTION, "요청 내 중복된 주문번호입니다.");
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            // 항목별 주문번호 락은 잡지 않는다 (스트라이프 락은 재진입이 안 돼 같은 스트라이프의 키끼리 대기하고,
+            // 키 정렬이 스트라이프 순서가 아니라 일괄 등록 간 교착도 생긴다)
+            // 기존 주문번호를 먼저 거르고, 그 사이 동시 등록된 경우는 order_number 유니크 제약으로 막는다
+            for (String existing : deliveryRepository.findExistingOrderNumbers(accepted.keySet())) {
+                Integer index = accepted.remove(existing);
+                if (index != null) {
+                    results[index] = DeliveryBulkItemResult.failed(index, existing, ErrorCode.DUPLICATE_EXCEPTION, "이미 존재하는 주문번호입니다.");
+                }
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            Member member = memberService.getReference(memberId);
+            LocalDateTime now = LocalDateTime.now();
+            List<Delivery> deliveries = new ArrayList<>(accepted.size());
+            for (int index : accepted.values()) {
+                deliveries.add(newDelivery(member, items.get(index), now));
+            }
+
+            try {
+                deliveryRepository.saveAll(deliveries);
+                deliveryRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                // 기존 주문번호 확인 이후 다른 요청에서 같은 주문번호가 먼저 등록된 경우
+                throw new BusinessException(ErrorCode.DUPLICATE_EXCEPTION, "동시에 등록된 주문번호가 있습니다. 다시 시도해 주세요.");
+            }
+            activeDeliveryIndex.added(deliveries);
+
+            int k = 0;
+            for (int index : accepted.values()) {
+                results[index] = DeliveryBulkItemResult.created(index, deliveries.get(k++));
+            }
+        }
+
+        return DeliveryBulkCreateResponse.of(Arrays.asList(results));
+    }
+
     public void changeDestination(Long memberId, Long deliveryId, String deliveryAddress, Double deliveryLat, Double deliveryLng) {
         // - 서비스 내부에서 다음을 검증:
         //   1) 해당 배달이 memberId 소유인지
@@ -93,6 +234,9 @@ public class DeliveryService {
         // 파라미터 기본 검증(주소/좌표)
         deliveryRequestValidator.validateDestination(deliveryAddress, deliveryLat, deliveryLng);
 
+        // 조회-검증-변경 구간을 배달 단위로 직렬화 (상태 변경과의 경합은 @Version 으로 감지)
+        deliveryLocks.lockUntilTransactionEnds(DeliveryLocks.deliveryKey(deliveryId));
+
         // 배달 조회
         Delivery delivery = deliveryRepository.findById(deliveryId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "changeDestination: 배달을 찾을 수 없습니다."));
@@ -105,45 +249,78 @@ public class DeliveryService {
 
         // 상태 검증 및 변경 수행(엔티티 내부에서 상태 허용 여부 확인)
         delivery.changeDestination(deliveryAddress, deliveryLat, deliveryLng);
+        // 바뀐 도착지로 거리/요금 재계산
+        deliveryPricing.price(delivery);
         // JPA Dirty Checking 으로 flush 시 업데이트 반영
+
+        // 같은 트랜잭션에서 변경 이벤트 적재
+        deliveryOutbox.destinationChanged(delivery, memberId, LocalDateTime.now());
+        activeDeliveryIndex.destinationChanged(delivery);
+        // 커밋 후 SSE 구독 연결로 전송
+        if (deliveryStreamHub.hasSubscribers(memberId)) {
+            eventPublisher.publishEvent(new DeliveryChangedEvent(
+                    DeliveryEventType.DESTINATION_CHANGED, memberId, DeliverySummary.of(delivery)));
+        }
     }
 
-    // todo: 분산락 or 동시성 제어 처리
+    /**
+     * 배달 상태 변경
+     * - 전이 테이블(DeliveryStatus 비트마스크)로 만든 조건부 UPDATE 한 번으로 검증과 변경을 원자적으로 수행한다
+     * - 갱신 건수가 0 인 경우에만 실패 원인(미존재/타인 소유/전이 불가/동시 변경)을 판별하기 위해 조회한다
+     */
     public void changeStatus(Long memberId, Long deliveryId, DeliveryStatus targetStatus) {
         if (targetStatus == null) {
             throw new BusinessException(ErrorCode.INVALID_PARAMETER, "변경할 상태는 필수입니다.");
         }
 
-        Delivery delivery = deliveryRepository.findById(deliveryId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "changeStatus: 배달을 찾을 수 없습니다."));
-
-        // 소유자 검증을 도메인에 위임
-        if (!delivery.isOwnedBy(memberId)) {
-            throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 배달만 수정할 수 있습니다.");
+        // riderId 는 자동 배차(DispatchEngine)가 설정하므로 상태 전환 시에는 변경하지 않는다
+        LocalDateTime now = LocalDateTime.now();
+        String changedBy = auditorAware.getCurrentAuditor().orElse("system");
+        int updated = deliveryRepository.compareAndSetStatus(deliveryId, memberId, targetStatus, now, changedBy);
+        if (updated == 1) {
+            // 같은 트랜잭션에서 변경 이벤트 적재
+            deliveryOutbox.statusChanged(deliveryId, memberId, targetStatus, now);
+            activeDeliveryIndex.statusChanged(deliveryId, targetStatus);
+            deliveryMetrics.transition(targetStatus, TransitionResult.APPLIED);
+            // 커밋 후 SSE 구독 연결로 전송 (구독 중인 회원일 때만 변경 후 요약을 조회)
+            if (deliveryStreamHub.hasSubscribers(memberId)) {
+                deliveryRepository.findSummaryByIdAndMemberId(deliveryId, memberId)
+                        .ifPresent(view -> eventPublisher.publishEvent(new DeliveryChangedEvent(
+                                DeliveryEventType.STATUS_CHANGED, memberId, DeliverySummary.of(view))));
+            }
+            return;
         }
 
-        // 전이 규칙 검증(예외 발생 시 전이 차단)
-        DeliveryStatus current = delivery.getStatus();
-        statusValidator.validateTransition(current, targetStatus);
-
-        LocalDateTime now = LocalDateTime.now();
+        DeliverySummaryView current = deliveryRepository.findSummaryByIdAndMemberId(deliveryId, memberId)
+                .orElseThrow(() -> deliveryRepository.existsById(deliveryId)
+                        ? new BusinessException(ErrorCode.FORBIDDEN, "본인의 배달만 수정할 수 있습니다.")
+                        : new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "changeStatus: 배달을 찾을 수 없습니다."));
 
-        switch (targetStatus) {
-            case ASSIGNED -> // REQUESTED -> ASSIGNED만 허용
-                // riderId는 별도의 배차 로직으로 설정되어 있을 수 있음(없어도 상태 전환은 가능)
-                    delivery.assignTo(delivery.getRiderId(), now);
-            case PICKED_UP -> // ASSIGNED -> PICKED_UP만 허용
-                    delivery.markPickedUp(now);
-            case DELIVERED -> // PICKED_UP -> DELIVERED만 허용
-                    delivery.markDelivered(now);
-            case CANCELED -> // REQUESTED, ASSIGNED -> CANCELED 허용
-                    delivery.cancel(now);
-            case REQUESTED -> // 회귀 금지
-                    throw new BusinessException(ErrorCode.ILLEGAL_STATUS, "REQUESTED 상태로 되돌릴 수 없습니다.");
-            default -> throw new BusinessException(ErrorCode.INVALID_PARAMETER, "알 수 없는 상태입니다: " + targetStatus);
+        // 전이 규칙 위반이면 여기서 예외 발생
+        try {
+            statusValidator.validateTransition(current.getStatus(), targetStatus);
+        } catch (BusinessException e) {
+            deliveryMetrics.transition(targetStatus, TransitionResult.REJECTED);
+            throw e;
         }
-        // JPA Dirty Checking 으로 flush 시점에 업데이트 반영
-    }
 
+        // 규칙상 허용되는데 갱신되지 않았다면 그 사이 다른 요청이 상태를 먼저 변경한 경우
+        deliveryMetrics.transition(targetStatus, TransitionResult.CONFLICT);
+        throw new BusinessException(ErrorCode.CONFLICT, "다른 요청에 의해 배달 상태가 변경되었습니다. 다시 시도해 주세요.");
+    }
 
+    private Delivery newDelivery(Member member, DeliveryCreateRequest request, LocalDateTime now) {
+        Delivery delivery = new Delivery(
+                member,
+                request.orderNumber(),
+                request.pickupAddress(),
+                request.deliveryAddress(),
+                DeliveryStatus.REQUESTED,
+                now
+        );
+        delivery.locatePickup(request.pickupLat(), request.pickupLng());
+        delivery.changeDestination(request.deliveryAddress(), request.deliveryLat(), request.deliveryLng());
+        deliveryPricing.price(delivery);
+        return delivery;
+    }
 }
@@ -1,21 +1,32 @@
 package com.barogo.delivery.api.service;
 
+import com.barogo.delivery.cache.near.NearCache;
+import com.barogo.delivery.cache.near.NearCacheManager;
 import com.barogo.delivery.domain.Member;
 import com.barogo.delivery.jpa.MemberRepository;
 import com.barogo.delivery.response.exception.BusinessException;
 import com.barogo.delivery.response.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class MemberService {
 
+    public static final String MEMBER_CACHE = "member";
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    // 존재가 확인된 회원 ID (회원은 거의 변하지 않으므로 TTL 동안 재조회하지 않는다)
+    // 회원 탈퇴/삭제 경로가 없어 명시적 무효화는 하지 않는다, 그런 경로를 추가하면 그 트랜잭션 커밋 후 invalidate 해야 한다
+    private final NearCache<Long, Boolean> knownMembers;
+
+    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder, NearCacheManager nearCacheManager) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.knownMembers = nearCacheManager.getCache(MEMBER_CACHE);
+    }
 
     public void signUp(String loginId, String rawPassword, String name) {
         if (memberRepository.existsByLoginId(loginId)) {
@@ -40,4 +51,20 @@ public class MemberService {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
+
+    /**
+     * 연관관계 설정용 회원 참조
+     * - 존재가 캐시되어 있으면 SELECT 없이 getReferenceById 프록시를 반환
+     * - 캐시 미스일 때만 존재 여부를 조회하고 결과를 캐시한다
+     */
+    @Transactional(readOnly = true)
+    public Member getReference(Long memberId) {
+        if (knownMembers.get(memberId) == null) {
+            if (!memberRepository.existsById(memberId)) {
+                throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "회원을 찾을 수 없습니다.");
+            }
+            knownMembers.put(memberId, Boolean.TRUE);
+        }
+        return memberRepository.getReferenceById(memberId);
+    }
 }
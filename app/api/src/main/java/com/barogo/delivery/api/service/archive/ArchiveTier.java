@@ -0,0 +1,13 @@
+package com.barogo.delivery.api.service.archive;
+
+/**
+ * 기간 조회 대상 테이블
+ */
+public enum ArchiveTier {
+    // delivery 만
+    HOT,
+    // delivery_archive 만
+    ARCHIVE,
+    // 둘 다 조회해 합친다
+    BOTH
+}
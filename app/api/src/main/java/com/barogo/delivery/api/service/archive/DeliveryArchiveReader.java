@@ -0,0 +1,223 @@
+package com.barogo.delivery.api.service.archive;
+
+import com.barogo.delivery.api.config.archive.ArchiveProperties;
+import com.barogo.delivery.jpa.DeliveryArchiveRepository;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.projection.DeliveryListVersionView;
+import com.barogo.delivery.jpa.projection.DeliverySummaryView;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * delivery / delivery_archive 를 하나의 배달 목록처럼 조회
+ * - 기간 조회는 DeliveryArchiveRouter 가 고른 테이블만 조회하고, 둘 다인 경우 같은 정렬로 읽어 합친다
+ * - 단건 조회는 delivery 에 없을 때만 delivery_archive 를 확인한다
+ */
+@Component
+@RequiredArgsConstructor
+public class DeliveryArchiveReader {
+
+    // 둘 다 조회할 때 정렬이 없으면 최신순
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("requestedAt"), Sort.Order.desc("id"));
+
+    // 합칠 때 비교할 요약 필드 (DB 정렬과 맞추기 위해 status 는 문자열(EnumType.STRING)로 비교)
+    private static final Map<String, Function<DeliverySummaryView, Comparable<?>>> SORT_KEYS = Map.of(
+            "id", DeliverySummaryView::getId,
+            "orderNumber", DeliverySummaryView::getOrderNumber,
+            "status", v -> v.getStatus() == null ? null : v.getStatus().name(),
+            "requestedAt", DeliverySummaryView::getRequestedAt,
+            "deliveredAt", DeliverySummaryView::getDeliveredAt,
+            "pickupAddress", DeliverySummaryView::getPickupAddress,
+            "deliveryAddress", DeliverySummaryView::getDeliveryAddress
+    );
+
+    // 커서 페이징 정렬 (requestedAt DESC, id DESC)
+    private static final Comparator<DeliverySummaryView> CURSOR_ORDER = Comparator
+            .comparing(DeliverySummaryView::getRequestedAt)
+            .thenComparing(DeliverySummaryView::getId)
+            .reversed();
+
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryArchiveRepository deliveryArchiveRepository;
+    private final DeliveryArchiveRouter router;
+    private final ArchiveProperties properties;
+
+    /**
+     * 기간 내 회원의 배달 요약 목록 (offset 페이징)
+     * - 둘 다 조회하는 경우 각 테이블에서 offset + size 건을 읽어 합친 뒤 잘라낸다
+     * - offset + size 가 maxPageWindow 를 넘으면 거부한다 (더 깊은 페이지는 커서 조회로 읽는다)
+     */
+    public Page<DeliverySummaryView> findSummaryPage(Long memberId, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (pageable.isPaged() && pageable.getOffset() + pageable.getPageSize() > properties.getMaxPageWindow()) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER,
+                    "offset 페이징은 " + properties.getMaxPageWindow() + "건까지만 조회할 수 있습니다. 커서 조회를 사용해 주세요.");
+        }
+        return switch (router.tierOf(from, to)) {
+            case HOT -> deliveryRepository.findSummaryPageByMemberIdAndPeriod(memberId, from, to, pageable);
+            case ARCHIVE -> deliveryArchiveRepository.findSummaryPageByMemberIdAndPeriod(memberId, from, to, pageable);
+            case BOTH -> mergedPage(memberId, from, to, pageable);
+        };
+    }
+
+    /**
+     * 기간 내 회원의 배달 요약 (requestedAt DESC, id DESC) keyset 조회
+     * - cursorRequestedAt 이 null 이면 첫 페이지
+     */
+    public List<DeliverySummaryView> findSlice(Long memberId, LocalDateTime from, LocalDateTime to,
+                                               LocalDateTime cursorRequestedAt, Long cursorId, Limit limit) {
+        ArchiveTier tier = router.tierOf(from, to);
+        List<DeliverySummaryView> hot = tier == ArchiveTier.ARCHIVE ? List.of() : cursorRequestedAt == null
+                ? deliveryRepository.findSliceByMemberIdAndPeriod(memberId, from, to, limit)
+                : deliveryRepository.findSliceByMemberIdAndPeriodAfter(memberId, from, to, cursorRequestedAt, cursorId, limit);
+        if (tier == ArchiveTier.HOT) {
+            return hot;
+        }
+        List<DeliverySummaryView> archived = cursorRequestedAt == null
+                ? deliveryArchiveRepository.findSliceByMemberIdAndPeriod(memberId, from, to, limit)
+                : deliveryArchiveRepository.findSliceByMemberIdAndPeriodAfter(memberId, from, to, cursorRequestedAt, cursorId, limit);
+        if (tier == ArchiveTier.ARCHIVE) {
+            return archived;
+        }
+        List<DeliverySummaryView> merged = merge(hot, archived, CURSOR_ORDER);
+        return merged.size() > limit.max() ? merged.subList(0, limit.max()) : merged;
+    }
+
+    /**
+     * 기간 내 배달 목록 집계 (목록 ETag)
+     */
+    public DeliveryListVersionView findListVersion(Long memberId, LocalDateTime from, LocalDateTime to) {
+        return switch (router.tierOf(from, to)) {
+            case HOT -> deliveryRepository.findListVersionByMemberIdAndPeriod(memberId, from, to);
+            case ARCHIVE -> deliveryArchiveRepository.findListVersionByMemberIdAndPeriod(memberId, from, to);
+            case BOTH -> ListVersion.combine(
+                    deliveryRepository.findListVersionByMemberIdAndPeriod(memberId, from, to),
+                    deliveryArchiveRepository.findListVersionByMemberIdAndPeriod(memberId, from, to));
+        };
+    }
+
+    public Optional<DeliverySummaryView> findSummary(Long deliveryId, Long memberId) {
+        return deliveryRepository.findSummaryByIdAndMemberId(deliveryId, memberId)
+                .or(() -> deliveryArchiveRepository.findSummaryByIdAndMemberId(deliveryId, memberId));
+    }
+
+    public Optional<Long> findVersion(Long deliveryId, Long memberId) {
+        return deliveryRepository.findVersionByIdAndMemberId(deliveryId, memberId)
+                .or(() -> deliveryArchiveRepository.findVersionByIdAndMemberId(deliveryId, memberId));
+    }
+
+    public boolean existsById(Long deliveryId) {
+        return deliveryRepository.existsById(deliveryId) || deliveryArchiveRepository.existsById(deliveryId);
+    }
+
+    private Page<DeliverySummaryView> mergedPage(Long memberId, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_SORT;
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by(Sort.Order.desc("id")));
+        }
+        Comparator<DeliverySummaryView> order = comparatorOf(sort);
+
+        // findSummaryPage 에서 maxPageWindow 이하로 제한했다
+        int window = (int) (pageable.getOffset() + pageable.getPageSize());
+        PageRequest head = PageRequest.of(0, window, sort);
+        Page<DeliverySummaryView> hot = deliveryRepository.findSummaryPageByMemberIdAndPeriod(memberId, from, to, head);
+        Page<DeliverySummaryView> archived = deliveryArchiveRepository.findSummaryPageByMemberIdAndPeriod(memberId, from, to, head);
+
+        List<DeliverySummaryView> merged = merge(hot.getContent(), archived.getContent(), order);
+        int start = (int) Math.min(pageable.getOffset(), merged.size());
+        int end = Math.min(start + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(merged.subList(start, end), pageable, hot.getTotalElements() + archived.getTotalElements());
+    }
+
+    private static List<DeliverySummaryView> merge(List<DeliverySummaryView> left,
+                                                   List<DeliverySummaryView> right,
+                                                   Comparator<DeliverySummaryView> order) {
+        List<DeliverySummaryView> merged = new ArrayList<>(left.size() + right.size());
+        int i = 0;
+        int j = 0;
+        while (i < left.size() && j < right.size()) {
+            merged.add(order.compare(left.get(i), right.get(j)) <= 0 ? left.get(i++) : right.get(j++));
+        }
+        merged.addAll(left.subList(i, left.size()));
+        merged.addAll(right.subList(j, right.size()));
+        return merged;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<DeliverySummaryView> comparatorOf(Sort sort) {
+        Comparator<DeliverySummaryView> comparator = null;
+        for (Sort.Order order : sort) {
+            Function<DeliverySummaryView, Comparable<?>> key = SORT_KEYS.get(order.getProperty());
+            if (key == null) {
+                throw new BusinessException(ErrorCode.INVALID_PARAMETER, "정렬할 수 없는 항목입니다: " + order.getProperty());
+            }
+            // DB 와 같이 오름차순에서 null 이 먼저 온다
+            Comparator<DeliverySummaryView> next = Comparator.comparing(
+                    (Function) key, Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private record ListVersion(long count, Long versionSum, LocalDateTime lastUpdatedAt, Long maxId)
+            implements DeliveryListVersionView {
+
+        static ListVersion combine(DeliveryListVersionView hot, DeliveryListVersionView archived) {
+            return new ListVersion(
+                    hot.getCount() + archived.getCount(),
+                    sum(hot.getVersionSum(), archived.getVersionSum()),
+                    max(hot.getLastUpdatedAt(), archived.getLastUpdatedAt()),
+                    max(hot.getMaxId(), archived.getMaxId()));
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public Long getVersionSum() {
+            return versionSum;
+        }
+
+        @Override
+        public LocalDateTime getLastUpdatedAt() {
+            return lastUpdatedAt;
+        }
+
+        @Override
+        public Long getMaxId() {
+            return maxId;
+        }
+
+        private static Long sum(Long a, Long b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return a + b;
+        }
+
+        private static <T extends Comparable<T>> T max(T a, T b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return a.compareTo(b) >= 0 ? a : b;
+        }
+    }
+}
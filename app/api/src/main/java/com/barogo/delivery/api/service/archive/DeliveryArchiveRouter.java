@@ -0,0 +1,91 @@
+package com.barogo.delivery.api.service.archive;
+
+import com.barogo.delivery.api.config.archive.ArchiveProperties;
+import com.barogo.delivery.domain.DeliveryArchiveWatermark;
+import com.barogo.delivery.jpa.DeliveryArchiveWatermarkRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회 기간(from, to)으로 delivery / delivery_archive 중 조회할 테이블을 고른다
+ * - from >= archivedBefore: 보관 테이블에는 해당 기간 행이 없으므로 delivery 만
+ * - to < hotFloor: delivery 에 남은 가장 이른 행보다 앞선 기간이므로 delivery_archive 만
+ * - 그 외(경계에 걸친 기간, 오래된 미종료 배달이 남아 있는 경우 등)는 둘 다
+ * - 경계는 DB(delivery_archive_watermark)에서 읽어 watermarkRefresh 동안 캐시한다. 보관 작업은 경계를 올린 뒤 캐시가 갱신될 때까지 기다렸다가 행을 옮긴다
+ */
+@Component
+public class DeliveryArchiveRouter {
+
+    private final DeliveryArchiveWatermarkRepository watermarkRepository;
+    private final long refreshNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Map<ArchiveTier, LongAdder> routed = new EnumMap<>(ArchiveTier.class);
+
+    private volatile Boundary boundary;
+
+    public DeliveryArchiveRouter(DeliveryArchiveWatermarkRepository watermarkRepository, ArchiveProperties properties) {
+        this.watermarkRepository = watermarkRepository;
+        this.refreshNanos = properties.getWatermarkRefresh().toNanos();
+        for (ArchiveTier tier : ArchiveTier.values()) {
+            routed.put(tier, new LongAdder());
+        }
+    }
+
+    public ArchiveTier tierOf(LocalDateTime from, LocalDateTime to) {
+        ArchiveTier tier = currentBoundary().tierOf(from, to);
+        routed.get(tier).increment();
+        return tier;
+    }
+
+    public long routedCount(ArchiveTier tier) {
+        return routed.get(tier).sum();
+    }
+
+    /**
+     * 캐시를 버리고 다음 조회 때 다시 읽는다
+     */
+    public void invalidate() {
+        boundary = null;
+    }
+
+    private Boundary currentBoundary() {
+        Boundary current = boundary;
+        if (current != null && System.nanoTime() - current.loadedAtNanos() < refreshNanos) {
+            return current;
+        }
+        // 한 스레드만 다시 읽고, 나머지는 (있으면) 이전 값을 사용한다
+        if (current != null && !refreshLock.tryLock()) {
+            return current;
+        }
+        if (current == null) {
+            refreshLock.lock();
+        }
+        try {
+            Boundary loaded = watermarkRepository.findById(DeliveryArchiveWatermark.SINGLETON_ID)
+                    .map(w -> new Boundary(w.getArchivedBefore(), w.getHotFloor(), System.nanoTime()))
+                    .orElseGet(() -> new Boundary(null, null, System.nanoTime()));
+            boundary = loaded;
+            return loaded;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private record Boundary(LocalDateTime archivedBefore, LocalDateTime hotFloor, long loadedAtNanos) {
+
+        ArchiveTier tierOf(LocalDateTime from, LocalDateTime to) {
+            if (archivedBefore == null || !from.isBefore(archivedBefore)) {
+                return ArchiveTier.HOT;
+            }
+            if (hotFloor != null && to.isBefore(hotFloor)) {
+                return ArchiveTier.ARCHIVE;
+            }
+            return ArchiveTier.BOTH;
+        }
+    }
+}
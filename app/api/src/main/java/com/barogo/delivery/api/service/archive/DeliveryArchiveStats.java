@@ -0,0 +1,17 @@
+package com.barogo.delivery.api.service.archive;
+
+/**
+ * 배달 보관 작업 지표 스냅샷
+ *
+ * @param runs           실행 횟수
+ * @param archived       delivery_archive 로 옮긴 누적 행 수
+ * @param lastRunMillis  마지막 실행 소요 시간(ms)
+ * @param lastScanned    마지막 실행에서 훑은 delivery 행 수
+ */
+public record DeliveryArchiveStats(
+        long runs,
+        long archived,
+        long lastRunMillis,
+        long lastScanned
+) {
+}
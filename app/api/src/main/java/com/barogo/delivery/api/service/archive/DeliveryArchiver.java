@@ -0,0 +1,191 @@
+package com.barogo.delivery.api.service.archive;
+
+import com.barogo.delivery.api.config.archive.ArchiveProperties;
+import com.barogo.delivery.domain.DeliveryArchiveWatermark;
+import com.barogo.delivery.jpa.DeliveryArchiveCommandRepository.ArchiveScan;
+import com.barogo.delivery.jpa.DeliveryArchiveWatermarkRepository;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * requested_at 이 archiveAfter 보다 오래된 종료(DELIVERED/CANCELED) 배달을 delivery_archive 로 옮긴다
+ * - 1) 보관 경계(archivedBefore)를 먼저 올리고, 노드별 경계 캐시가 갱신될 때까지 기다린다 (그 사이 옮긴 행이 조회에서 빠지지 않도록)
+ * - 2) delivery 를 PK keyset chunk 로 끝까지 훑으며 chunk 마다 한 트랜잭션에서 INSERT ... SELECT + DELETE 하고, chunk 사이에 쉰다
+ * - 3) 남은 행의 가장 이른 requested_at(hotFloor)을 기록한다. 그 사이 다른 경로가 경계를 바꿨으면(@Version) 기록하지 않는다
+ * - 단일 노드에서만 켠다 (delivery.archive.enabled)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "delivery.archive", name = "enabled", havingValue = "true")
+public class DeliveryArchiver implements SmartLifecycle {
+
+    private final ArchiveProperties properties;
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryArchiveWatermarkRepository watermarkRepository;
+    private final DeliveryArchiveRouter router;
+    private final TransactionTemplate transactionTemplate;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder archived = new LongAdder();
+    private volatile long lastRunNanos;
+    private volatile long lastScanned;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public DeliveryArchiver(ArchiveProperties properties,
+                            DeliveryRepository deliveryRepository,
+                            DeliveryArchiveWatermarkRepository watermarkRepository,
+                            DeliveryArchiveRouter router,
+                            PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.deliveryRepository = deliveryRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.router = router;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 보관 작업 1회 실행
+     *
+     * @return 옮긴 행 수
+     */
+    public synchronized int archiveOnce() throws InterruptedException {
+        long started = System.nanoTime();
+        // DATETIME(0) 컬럼에 맞춘다
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        LocalDateTime cutoff = now.minus(properties.getArchiveAfter());
+        try {
+            Long version = publishArchivedBefore(cutoff, now);
+
+            int chunkSize = properties.getChunkSize();
+            long pauseMillis = properties.getChunkPause().toMillis();
+            long afterId = 0;
+            int moved = 0;
+            long scanned = 0;
+            LocalDateTime hotFloor = now;
+            while (true) {
+                long from = afterId;
+                int[] count = new int[1];
+                ArchiveScan scan = transactionTemplate.execute(status -> {
+                    ArchiveScan result = deliveryRepository.scanArchiveCandidates(from, chunkSize, cutoff);
+                    count[0] = deliveryRepository.moveToArchive(result.candidateIds(), result.candidateCount(), now);
+                    return result;
+                });
+                Objects.requireNonNull(scan);
+                moved += count[0];
+                archived.add(count[0]);
+                scanned += scan.scanned();
+                if (scan.minRemainingRequestedAt() != null && scan.minRemainingRequestedAt().isBefore(hotFloor)) {
+                    hotFloor = scan.minRemainingRequestedAt();
+                }
+                if (scan.scanned() < chunkSize) {
+                    break;
+                }
+                afterId = scan.lastId();
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+
+            publishHotFloor(hotFloor, version, now);
+            lastScanned = scanned;
+            return moved;
+        } finally {
+            runs.increment();
+            lastRunNanos = System.nanoTime() - started;
+        }
+    }
+
+    public DeliveryArchiveStats stats() {
+        return new DeliveryArchiveStats(runs.sum(), archived.sum(),
+                TimeUnit.NANOSECONDS.toMillis(lastRunNanos), lastScanned);
+    }
+
+    @Override
+    public void start() {
+        long interval = properties.getInterval().toMillis();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("delivery-archiver").daemon().factory());
+        executor.scheduleWithFixedDelay(this::run, interval, interval, TimeUnit.MILLISECONDS);
+        this.scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = this.scheduler;
+        if (executor != null) {
+            // chunk 사이 대기 중이면 깨워서 종료 (처리한 chunk 는 커밋되어 있다)
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    // 예외가 나면 ScheduledExecutorService 가 이후 실행을 취소하므로 주기 안에서 처리한다
+    private void run() {
+        try {
+            int count = archiveOnce();
+            log.info("archived {} deliveries", count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("delivery archive run failed", e);
+        }
+    }
+
+    /**
+     * 보관 경계를 올리고 다른 노드의 캐시가 바뀔 때까지 기다린다
+     *
+     * @return 갱신 후 경계 행 버전
+     */
+    private Long publishArchivedBefore(LocalDateTime cutoff, LocalDateTime now) throws InterruptedException {
+        LocalDateTime[] previous = new LocalDateTime[1];
+        DeliveryArchiveWatermark watermark = transactionTemplate.execute(status -> {
+            DeliveryArchiveWatermark current = watermarkRepository.findById(DeliveryArchiveWatermark.SINGLETON_ID)
+                    .orElseGet(() -> new DeliveryArchiveWatermark(now));
+            previous[0] = current.getArchivedBefore();
+            current.advanceArchivedBefore(cutoff, now);
+            return watermarkRepository.saveAndFlush(current);
+        });
+        Objects.requireNonNull(watermark);
+        router.invalidate();
+        if (!Objects.equals(previous[0], watermark.getArchivedBefore())) {
+            Thread.sleep(properties.getWatermarkRefresh().multipliedBy(2).toMillis());
+        }
+        return watermark.getVersion();
+    }
+
+    private void publishHotFloor(LocalDateTime hotFloor, Long version, LocalDateTime now) {
+        transactionTemplate.executeWithoutResult(status -> {
+            DeliveryArchiveWatermark watermark = watermarkRepository.findById(DeliveryArchiveWatermark.SINGLETON_ID)
+                    .orElseThrow();
+            if (!Objects.equals(watermark.getVersion(), version)) {
+                log.info("archive watermark changed during the run, keeping hot floor {}", watermark.getHotFloor());
+                return;
+            }
+            watermark.updateHotFloor(hotFloor, now);
+        });
+        router.invalidate();
+    }
+}
@@ -0,0 +1,214 @@
+package com.barogo.delivery.api.service.dispatch;
+
+import com.barogo.delivery.api.config.dispatch.DispatchProperties;
+import com.barogo.delivery.api.controller.model.DeliverySummary;
+import com.barogo.delivery.api.service.dispatch.RiderPool.RiderPosition;
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex;
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex.Point;
+import com.barogo.delivery.api.service.outbox.DeliveryOutbox;
+import com.barogo.delivery.api.service.stream.DeliveryChangedEvent;
+import com.barogo.delivery.api.service.stream.DeliveryStreamHub;
+import com.barogo.delivery.enums.DeliveryEventType;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.DeliveryStatusCommandRepository.RiderAssignment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주기적으로 대기 라이더와 배차 대기(REQUESTED) 배달을 묶어 배차
+ * - 라이더마다 픽업지 공간 인덱스에서 반경 내 가까운 배달 후보 N 건을 뽑고, 전체 후보를 거리 순 greedy 로 짝짓는다
+ * - 인덱스와 라이더 목록은 변경 시점에 갱신되어 있으므로 주기마다 DB 를 훑지 않고, 대기 라이더 수에 비례한 비용만 든다
+ * - 매칭 결과는 한 트랜잭션에서 조건부 UPDATE(status = REQUESTED) JDBC batch 로 적용하고, 같은 트랜잭션에 outbox 이벤트를 적재한다
+ * - 그 사이 취소되거나 수동 배차된 배달은 조건에 걸려 건너뛰고, 해당 라이더는 다음 주기에 다시 매칭된다
+ *   건너뛴 배달은 인덱스를 DB 상태로 다시 맞춰, 같은 라이더가 매 주기 없는 배달에 묶이지 않게 한다
+ * - 라이더 목록(RiderPool)이 노드 메모리에 있으므로 한 노드에서만 켠다 (delivery.dispatch.enabled)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "delivery.dispatch", name = "enabled", havingValue = "true")
+public class DispatchEngine implements SmartLifecycle {
+
+    private static final String CHANGED_BY = "dispatch";
+    private static final int REQUESTED_MASK = DeliveryStatus.REQUESTED.bit();
+
+    private final DispatchProperties properties;
+    private final RiderPool riderPool;
+    private final ActiveDeliveryIndex activeDeliveryIndex;
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryOutbox deliveryOutbox;
+    private final DeliveryStreamHub deliveryStreamHub;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 배차 스레드 하나에서만 사용하는 재사용 버퍼
+    private final GreedyMatcher matcher;
+    private final long[] candidateIds;
+    private final double[] candidateDistances;
+
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder assigned = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private volatile long lastTickNanos;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public DispatchEngine(DispatchProperties properties,
+                          RiderPool riderPool,
+                          ActiveDeliveryIndex activeDeliveryIndex,
+                          DeliveryRepository deliveryRepository,
+                          DeliveryOutbox deliveryOutbox,
+                          DeliveryStreamHub deliveryStreamHub,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.riderPool = riderPool;
+        this.activeDeliveryIndex = activeDeliveryIndex;
+        this.deliveryRepository = deliveryRepository;
+        this.deliveryOutbox = deliveryOutbox;
+        this.deliveryStreamHub = deliveryStreamHub;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.matcher = new GreedyMatcher(1_024 * properties.getCandidatesPerRider());
+        this.candidateIds = new long[properties.getCandidatesPerRider()];
+        this.candidateDistances = new double[properties.getCandidatesPerRider()];
+    }
+
+    /**
+     * 배차 한 주기 실행
+     *
+     * @return 배차 완료 건수
+     */
+    public synchronized int dispatchOnce() {
+        long started = System.nanoTime();
+        try {
+            List<RiderPosition> riders = riderPool.snapshot(properties.getRiderStaleAfter());
+            if (riders.isEmpty()) {
+                return 0;
+            }
+
+            matcher.reset();
+            for (int r = 0; r < riders.size(); r++) {
+                RiderPosition rider = riders.get(r);
+                int count = activeDeliveryIndex.nearest(Point.PICKUP, rider.lat(), rider.lng(),
+                        properties.getSearchRadiusMeters(), REQUESTED_MASK, candidateIds, candidateDistances);
+                for (int i = 0; i < count; i++) {
+                    matcher.addEdge(r, candidateIds[i], candidateDistances[i]);
+                }
+            }
+            if (matcher.edgeCount() == 0) {
+                return 0;
+            }
+
+            int limit = Math.min(riders.size(), properties.getMaxAssignmentsPerTick());
+            int[] matchedRiders = new int[limit];
+            long[] deliveryIds = new long[limit];
+            int matched = matcher.match(riders.size(), matchedRiders, deliveryIds);
+            if (matched == 0) {
+                return 0;
+            }
+
+            long[] riderIds = new long[matched];
+            for (int i = 0; i < matched; i++) {
+                riderIds[i] = riders.get(matchedRiders[i]).riderId();
+            }
+            return apply(deliveryIds, riderIds, matched);
+        } finally {
+            ticks.increment();
+            lastTickNanos = System.nanoTime() - started;
+        }
+    }
+
+    public DispatchStats stats() {
+        return new DispatchStats(ticks.sum(), assigned.sum(), conflicts.sum(),
+                TimeUnit.NANOSECONDS.toMillis(lastTickNanos));
+    }
+
+    @Override
+    public void start() {
+        long interval = properties.getTickInterval().toMillis();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("dispatch-engine").daemon().factory());
+        executor.scheduleWithFixedDelay(this::tick, interval, interval, TimeUnit.MILLISECONDS);
+        this.scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = this.scheduler;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(properties.getTickInterval().toMillis() + 5_000, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    // 예외가 나면 ScheduledExecutorService 가 이후 실행을 취소하므로 주기 안에서 처리한다
+    private void tick() {
+        try {
+            int count = dispatchOnce();
+            if (count > 0) {
+                log.debug("dispatched {} deliveries", count);
+            }
+        } catch (RuntimeException e) {
+            log.error("dispatch tick failed", e);
+        }
+    }
+
+    private int apply(long[] deliveryIds, long[] riderIds, int count) {
+        // DATETIME(0) 컬럼과 outbox 이벤트 시각을 맞춘다
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<RiderAssignment> rows = transactionTemplate.execute(status -> {
+            List<RiderAssignment> result = deliveryRepository.assignRiders(deliveryIds, riderIds, count, now, CHANGED_BY);
+            for (RiderAssignment row : result) {
+                deliveryOutbox.statusChanged(row.deliveryId(), row.memberId(), DeliveryStatus.ASSIGNED, now);
+                activeDeliveryIndex.statusChanged(row.deliveryId(), DeliveryStatus.ASSIGNED);
+                // 커밋 후 SSE 구독 연결로 전송 (구독 중인 회원일 때만 요약을 조회)
+                if (deliveryStreamHub.hasSubscribers(row.memberId())) {
+                    deliveryRepository.findSummaryByIdAndMemberId(row.deliveryId(), row.memberId())
+                            .ifPresent(view -> eventPublisher.publishEvent(new DeliveryChangedEvent(
+                                    DeliveryEventType.STATUS_CHANGED, row.memberId(), DeliverySummary.of(view))));
+                }
+            }
+            return result;
+        });
+
+        Set<Long> skipped = new HashSet<>(count);
+        for (int i = 0; i < count; i++) {
+            skipped.add(deliveryIds[i]);
+        }
+        for (RiderAssignment row : rows) {
+            riderPool.assigned(row.riderId());
+            skipped.remove(row.deliveryId());
+        }
+        if (!skipped.isEmpty()) {
+            activeDeliveryIndex.refresh(skipped);
+        }
+        assigned.add(rows.size());
+        conflicts.add(count - rows.size());
+        return rows.size();
+    }
+}
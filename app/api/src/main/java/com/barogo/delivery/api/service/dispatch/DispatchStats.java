@@ -0,0 +1,17 @@
+package com.barogo.delivery.api.service.dispatch;
+
+/**
+ * 자동 배차 지표 스냅샷
+ *
+ * @param ticks          실행한 배차 주기 수
+ * @param assigned       배차 완료 건수
+ * @param conflicts      매칭했지만 그 사이 취소/배차되어 적용되지 않은 건수
+ * @param lastTickMillis 마지막 주기 소요 시간(ms)
+ */
+public record DispatchStats(
+        long ticks,
+        long assigned,
+        long conflicts,
+        long lastTickMillis
+) {
+}
@@ -0,0 +1,87 @@
+package com.barogo.delivery.api.service.dispatch;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 라이더-배달 후보 간선(거리)에 대한 greedy 매칭
+ * - 전체 간선을 거리 오름차순으로 한 번 정렬한 뒤, 라이더와 배달이 모두 비어 있는 간선부터 확정한다
+ * - 간선은 (거리 float 비트 << 32 | 간선 번호) long 키로 만들어 원시 배열 정렬 한 번으로 처리한다
+ * - 최적 할당(헝가리안)의 O(n^3) 대신 O(E log E) 로 근사하며, 짝을 못 찾은 라이더는 다음 주기에 새 후보로 다시 매칭된다
+ * - 버퍼를 재사용하므로 스레드 안전하지 않다 (배차 스레드 하나에서만 사용)
+ */
+final class GreedyMatcher {
+
+    private long[] keys;
+    private long[] edgeDeliveries;
+    private int[] edgeRiders;
+    private int edges;
+
+    GreedyMatcher(int initialEdges) {
+        int capacity = Math.max(16, initialEdges);
+        this.keys = new long[capacity];
+        this.edgeDeliveries = new long[capacity];
+        this.edgeRiders = new int[capacity];
+    }
+
+    void reset() {
+        edges = 0;
+    }
+
+    int edgeCount() {
+        return edges;
+    }
+
+    /**
+     * @param riderIndex     호출자가 관리하는 라이더 번호 (0 부터)
+     * @param distanceMeters 0 이상
+     */
+    void addEdge(int riderIndex, long deliveryId, double distanceMeters) {
+        if (edges == keys.length) {
+            int capacity = keys.length << 1;
+            keys = Arrays.copyOf(keys, capacity);
+            edgeDeliveries = Arrays.copyOf(edgeDeliveries, capacity);
+            edgeRiders = Arrays.copyOf(edgeRiders, capacity);
+        }
+        // 음이 아닌 float 의 비트 패턴은 값 순서와 같다
+        long distanceBits = Float.floatToIntBits((float) distanceMeters);
+        keys[edges] = (distanceBits << 32) | edges;
+        edgeDeliveries[edges] = deliveryId;
+        edgeRiders[edges] = riderIndex;
+        edges++;
+    }
+
+    /**
+     * 가까운 간선부터 라이더 1명당 배달 1건을 짝짓는다
+     *
+     * @param riderCount     addEdge 에 사용한 라이더 번호 상한
+     * @param outRiders      짝지은 라이더 번호
+     * @param outDeliveryIds 짝지은 배달 id
+     * @return 짝 수 (최대 outRiders.length)
+     */
+    int match(int riderCount, int[] outRiders, long[] outDeliveryIds) {
+        int limit = Math.min(outRiders.length, outDeliveryIds.length);
+        Arrays.sort(keys, 0, edges);
+
+        boolean[] riderTaken = new boolean[riderCount];
+        Set<Long> deliveryTaken = new HashSet<>(Math.min(edges, limit) * 2);
+        int matched = 0;
+        for (int i = 0; i < edges && matched < limit; i++) {
+            int edge = (int) keys[i];
+            int rider = edgeRiders[edge];
+            if (riderTaken[rider]) {
+                continue;
+            }
+            long deliveryId = edgeDeliveries[edge];
+            if (!deliveryTaken.add(deliveryId)) {
+                continue;
+            }
+            riderTaken[rider] = true;
+            outRiders[matched] = rider;
+            outDeliveryIds[matched] = deliveryId;
+            matched++;
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,62 @@
+package com.barogo.delivery.api.service.dispatch;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배차 가능한(대기 중) 라이더와 마지막 보고 위치
+ * - 라이더 앱이 주기적으로 위치와 대기 여부를 보고하고, 배차되면 목록에서 빠진다
+ * - 배차 후 다시 대기 상태로 보고해야 다음 배차 대상이 된다
+ * - 단일 노드 메모리 상태이므로 자동 배차는 한 노드에서만 켠다
+ */
+@Component
+public class RiderPool {
+
+    private final ConcurrentHashMap<Long, RiderPosition> available = new ConcurrentHashMap<>();
+
+    /**
+     * 라이더 위치/대기 여부 보고
+     */
+    public void report(long riderId, double lat, double lng, boolean idle) {
+        if (idle) {
+            available.put(riderId, new RiderPosition(riderId, lat, lng, System.nanoTime()));
+        } else {
+            available.remove(riderId);
+        }
+    }
+
+    /**
+     * 배차된 라이더를 대기 목록에서 뺀다
+     * - 배차 후보를 고른 뒤 새 위치를 보고한 경우에도 함께 빠진다
+     */
+    public void assigned(long riderId) {
+        available.remove(riderId);
+    }
+
+    /**
+     * 최근 staleAfter 안에 보고한 대기 라이더 (오래된 항목은 정리한다)
+     */
+    public List<RiderPosition> snapshot(Duration staleAfter) {
+        long deadline = System.nanoTime() - staleAfter.toNanos();
+        List<RiderPosition> riders = new ArrayList<>(available.size());
+        for (RiderPosition rider : available.values()) {
+            if (rider.reportedAtNanos() - deadline < 0) {
+                available.remove(rider.riderId(), rider);
+            } else {
+                riders.add(rider);
+            }
+        }
+        return riders;
+    }
+
+    public int size() {
+        return available.size();
+    }
+
+    public record RiderPosition(long riderId, double lat, double lng, long reportedAtNanos) {
+    }
+}
@@ -0,0 +1,306 @@
+package com.barogo.delivery.api.service.geo;
+
+import com.barogo.delivery.api.config.geo.GeoIndexProperties;
+import com.barogo.delivery.api.controller.model.NearbyDelivery;
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryInsertBatch;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.projection.DeliveryLocationView;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import com.barogo.delivery.util.geo.GridIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 진행 중(비종료 상태) 배달의 픽업지/도착지 공간 인덱스
+ * - 픽업지와 도착지를 각각 GridIndex 에 두고, tag 에 상태 ordinal 을 넣어 상태 조건을 비트마스크로 거른다
+ * - 등록/상태 변경/도착지 변경이 커밋된 뒤(afterCommit)에만 반영하므로 롤백된 변경은 보이지 않는다
+ * - 기동 시 웹 서버가 요청을 받기 전에 DB 의 진행 중 배달을 id keyset 페이징으로 적재한다
+ * - 단일 노드 기준이며, 다중 노드에서는 outbox 발행(OutboxSink)을 각 노드의 인덱스로 연결해야 한다
+ */
+@Slf4j
+@Component
+public class ActiveDeliveryIndex implements SmartLifecycle {
+
+    public enum Point { PICKUP, DESTINATION }
+
+    private static final Set<DeliveryStatus> ACTIVE_STATUSES = activeStatuses();
+
+    private final DeliveryRepository deliveryRepository;
+    private final GeoIndexProperties properties;
+    private final GridIndex pickups;
+    private final GridIndex destinations;
+    private volatile boolean running;
+
+    public ActiveDeliveryIndex(DeliveryRepository deliveryRepository, GeoIndexProperties properties) {
+        this.deliveryRepository = deliveryRepository;
+        this.properties = properties;
+        this.pickups = new GridIndex(properties.getCellSizeMeters(), properties.getInitialCapacity());
+        this.destinations = new GridIndex(properties.getCellSizeMeters(), properties.getInitialCapacity());
+    }
+
+    /**
+     * 등록된 배달 반영 (식별자가 할당된 뒤 호출)
+     */
+    public void added(Collection<Delivery> deliveries) {
+        long[] ids = new long[deliveries.size()];
+        int[] tags = new int[ids.length];
+        double[] coordinates = new double[ids.length * 4];
+        int k = 0;
+        for (Delivery delivery : deliveries) {
+            if (delivery.getId() == null) {
+                continue;
+            }
+            ids[k] = delivery.getId();
+            tags[k] = delivery.getStatus().ordinal();
+            coordinates[k * 4] = orNaN(delivery.getPickupLat());
+            coordinates[k * 4 + 1] = orNaN(delivery.getPickupLng());
+            coordinates[k * 4 + 2] = orNaN(delivery.getDeliveryLat());
+            coordinates[k * 4 + 3] = orNaN(delivery.getDeliveryLng());
+            k++;
+        }
+        int n = k;
+        afterCommit(() -> {
+            for (int i = 0; i < n; i++) {
+                put(pickups, ids[i], coordinates[i * 4], coordinates[i * 4 + 1], tags[i]);
+                put(destinations, ids[i], coordinates[i * 4 + 2], coordinates[i * 4 + 3], tags[i]);
+            }
+        });
+    }
+
+    /**
+     * 파일 가져오기로 적재한 배달 반영 (거부되지 않은 행, REQUESTED 상태)
+     * - batch 는 구간마다 재사용되므로 커밋 전에 값을 복사해 둔다
+     */
+    public void imported(DeliveryInsertBatch batch) {
+        int accepted = batch.acceptedCount();
+        long[] ids = new long[accepted];
+        double[] coordinates = new double[accepted * 4];
+        int k = 0;
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (batch.isRejected(i)) {
+                continue;
+            }
+            ids[k] = batch.getIds()[i];
+            coordinates[k * 4] = batch.getPickupLats()[i];
+            coordinates[k * 4 + 1] = batch.getPickupLngs()[i];
+            coordinates[k * 4 + 2] = batch.getDeliveryLats()[i];
+            coordinates[k * 4 + 3] = batch.getDeliveryLngs()[i];
+            k++;
+        }
+        int tag = DeliveryStatus.REQUESTED.ordinal();
+        afterCommit(() -> {
+            for (int i = 0; i < accepted; i++) {
+                put(pickups, ids[i], coordinates[i * 4], coordinates[i * 4 + 1], tag);
+                put(destinations, ids[i], coordinates[i * 4 + 2], coordinates[i * 4 + 3], tag);
+            }
+        });
+    }
+
+    /**
+     * 상태 변경 반영
+     * - 종료 상태면 인덱스에서 제거하고, 아니면 전이 테이블상 이전 상태일 때만 tag 를 바꾼다
+     */
+    public void statusChanged(Long deliveryId, DeliveryStatus status) {
+        long id = deliveryId;
+        afterCommit(() -> {
+            if (status.isTerminal()) {
+                pickups.remove(id);
+                destinations.remove(id);
+            } else {
+                pickups.retag(id, status.predecessorMask(), status.ordinal());
+                destinations.retag(id, status.predecessorMask(), status.ordinal());
+            }
+        });
+    }
+
+    /**
+     * 인덱스를 거치지 않은 변경(다른 노드, 조건부 UPDATE 직접 호출 등)으로 어긋난 배달을 DB 의 현재 상태로 다시 맞춘다
+     * - 커밋된 상태를 읽으므로 트랜잭션 밖에서 호출하고, 바로 반영한다
+     * - 없거나(보관됨) 종료 상태면 제거하고, 아니면 현재 상태와 좌표로 다시 넣는다
+     */
+    public void refresh(Collection<Long> deliveryIds) {
+        if (deliveryIds.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(deliveryIds);
+        for (DeliveryLocationView view : deliveryRepository.findLocationsByIdIn(deliveryIds)) {
+            missing.remove(view.getId());
+            if (view.getStatus().isTerminal()) {
+                pickups.remove(view.getId());
+                destinations.remove(view.getId());
+            } else {
+                int tag = view.getStatus().ordinal();
+                put(pickups, view.getId(), orNaN(view.getPickupLat()), orNaN(view.getPickupLng()), tag);
+                put(destinations, view.getId(), orNaN(view.getDeliveryLat()), orNaN(view.getDeliveryLng()), tag);
+            }
+        }
+        for (long id : missing) {
+            pickups.remove(id);
+            destinations.remove(id);
+        }
+    }
+
+    /**
+     * 도착지 변경 반영 (좌표가 없어지면 도착지 인덱스에서 제거)
+     * - 커밋 시점의 상태는 변경 시점과 다를 수 있으므로(그 사이 취소 등) 인덱스에 남아 있는 배달의 위치만 옮기고 tag 는 그대로 둔다
+     * - 도착지 좌표가 없던 배달은 픽업지 인덱스에 남아 있을 때만 그 tag 로 넣는다
+     */
+    public void destinationChanged(Delivery delivery) {
+        if (delivery.getId() == null) {
+            return;
+        }
+        long id = delivery.getId();
+        double lat = orNaN(delivery.getDeliveryLat());
+        double lng = orNaN(delivery.getDeliveryLng());
+        afterCommit(() -> {
+            if (Double.isNaN(lat) || Double.isNaN(lng)) {
+                destinations.remove(id);
+            } else if (!destinations.moveIfPresent(id, lat, lng)) {
+                int tag = pickups.tagOf(id);
+                if (tag >= 0) {
+                    destinations.upsert(id, lat, lng, tag);
+                    // 종료 처리는 픽업지를 먼저 지우므로, 그 사이 지워졌으면 방금 넣은 점도 거둔다
+                    if (pickups.tagOf(id) < 0) {
+                        destinations.remove(id);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 기준 좌표 반경 내 배달을 가까운 순으로 조회
+     */
+    public List<NearbyDelivery> nearby(Point point, double lat, double lng, int radiusMeters,
+                                       Set<DeliveryStatus> statuses, int limit) {
+        if (radiusMeters > properties.getMaxRadiusMeters()) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER,
+                    "검색 반경은 " + properties.getMaxRadiusMeters() + "m 이하여야 합니다.");
+        }
+        int tagMask = 0;
+        for (DeliveryStatus status : statuses) {
+            tagMask |= status.bit();
+        }
+
+        long[] ids = new long[limit];
+        double[] distances = new double[limit];
+        int count = nearest(point, lat, lng, radiusMeters, tagMask, ids, distances);
+
+        List<NearbyDelivery> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(new NearbyDelivery(ids[i], (int) Math.round(distances[i])));
+        }
+        return results;
+    }
+
+    /**
+     * 결과 배열을 재사용하는 조회 (배차처럼 짧은 시간에 많이 조회하는 경로용)
+     *
+     * @param statusMask DeliveryStatus.bit() 조합
+     * @return 결과 수 (outIds/outDistances 에 가까운 순으로 채운다)
+     */
+    public int nearest(Point point, double lat, double lng, double radiusMeters, int statusMask,
+                       long[] outIds, double[] outDistances) {
+        return indexOf(point).nearest(lat, lng, radiusMeters, statusMask, outIds, outDistances);
+    }
+
+    public int size(Point point) {
+        return indexOf(point).size();
+    }
+
+    // 웹 서버(WebServerStartStopLifecycle)보다 먼저 시작해 적재 전 조회가 들어오지 않게 한다
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    @Override
+    public void start() {
+        long started = System.nanoTime();
+        int batchSize = properties.getWarmupBatchSize();
+        long afterId = 0;
+        int loaded = 0;
+        List<DeliveryLocationView> page;
+        do {
+            page = deliveryRepository.findLocationsByStatusAfter(ACTIVE_STATUSES, afterId, Limit.of(batchSize));
+            for (DeliveryLocationView view : page) {
+                int tag = view.getStatus().ordinal();
+                put(pickups, view.getId(), orNaN(view.getPickupLat()), orNaN(view.getPickupLng()), tag);
+                put(destinations, view.getId(), orNaN(view.getDeliveryLat()), orNaN(view.getDeliveryLng()), tag);
+            }
+            loaded += page.size();
+            if (!page.isEmpty()) {
+                afterId = page.getLast().getId();
+            }
+        } while (page.size() == batchSize);
+
+        running = true;
+        log.info("active delivery index loaded: {} deliveries in {} ms",
+                loaded, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        pickups.clear();
+        destinations.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private GridIndex indexOf(Point point) {
+        return point == Point.PICKUP ? pickups : destinations;
+    }
+
+    // 좌표가 없는 점은 인덱스에 두지 않는다
+    private static void put(GridIndex index, long id, double lat, double lng, int tag) {
+        if (Double.isNaN(lat) || Double.isNaN(lng)) {
+            index.remove(id);
+        } else {
+            index.upsert(id, lat, lng, tag);
+        }
+    }
+
+    private static double orNaN(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Set<DeliveryStatus> activeStatuses() {
+        EnumSet<DeliveryStatus> statuses = EnumSet.noneOf(DeliveryStatus.class);
+        Arrays.stream(DeliveryStatus.values())
+                .filter(status -> !status.isTerminal())
+                .forEach(statuses::add);
+        return statuses;
+    }
+}
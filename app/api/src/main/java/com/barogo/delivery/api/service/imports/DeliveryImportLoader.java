@@ -0,0 +1,201 @@
+package com.barogo.delivery.api.service.imports;
+
+import com.barogo.delivery.api.controller.model.DeliveryCreateRequest;
+import com.barogo.delivery.api.service.archive.DeliveryArchiveRouter;
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex;
+import com.barogo.delivery.api.service.pricing.DeliveryPricing;
+import com.barogo.delivery.api.service.validation.DeliveryRequestValidator;
+import com.barogo.delivery.domain.DeliveryArchiveWatermark;
+import com.barogo.delivery.domain.DeliveryImportChunk;
+import com.barogo.delivery.file.bulk.DeliveryImportWriter;
+import com.barogo.delivery.file.config.DeliveryImportProperties;
+import com.barogo.delivery.jpa.DeliveryArchiveWatermarkRepository;
+import com.barogo.delivery.jpa.DeliveryImportChunkRepository;
+import com.barogo.delivery.jpa.DeliveryInsertBatch;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.util.id.Tsid;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파일 가져오기 구간 적재 (DeliveryImportWriter 구현)
+ * - 1) 단건/일괄 등록과 같은 DeliveryRequestValidator 로 행별 검증, 구간 내 주문번호 중복 제거
+ * - 2) 거리/요금 계산(DeliveryPricing), 식별자(TSID) 할당
+ * - 3) 한 트랜잭션에서 기존 주문번호 거부 -> INSERT JDBC batch -> 구간 완료 기록(delivery_import_chunk)
+ *      -> 과거 요청 시각이 있으면 보관 경계(hotFloor) 갱신
+ * - 다른 구간/요청이 같은 주문번호를 먼저 커밋했거나 락 경합으로 실패하면 롤백 후 3) 을 다시 판정한다
+ *   (이미 들어간 주문번호는 다시 판정할 때 거부된다)
+ */
+@Component
+public class DeliveryImportLoader {
+
+    private static final int MAX_ATTEMPTS = 3;
+    // 기존 주문번호 조회 IN 절 크기
+    private static final int LOOKUP_SIZE = 1_000;
+
+    private final DeliveryImportProperties properties;
+    private final DeliveryRequestValidator deliveryRequestValidator;
+    private final DeliveryPricing deliveryPricing;
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryArchiveWatermarkRepository watermarkRepository;
+    private final DeliveryImportChunkRepository importChunkRepository;
+    private final DeliveryArchiveRouter archiveRouter;
+    private final ActiveDeliveryIndex activeDeliveryIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    public DeliveryImportLoader(DeliveryImportProperties properties,
+                                DeliveryRequestValidator deliveryRequestValidator,
+                                DeliveryPricing deliveryPricing,
+                                DeliveryRepository deliveryRepository,
+                                DeliveryArchiveWatermarkRepository watermarkRepository,
+                                DeliveryImportChunkRepository importChunkRepository,
+                                DeliveryArchiveRouter archiveRouter,
+                                ActiveDeliveryIndex activeDeliveryIndex,
+                                PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.deliveryRequestValidator = deliveryRequestValidator;
+        this.deliveryPricing = deliveryPricing;
+        this.deliveryRepository = deliveryRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.importChunkRepository = importChunkRepository;
+        this.archiveRouter = archiveRouter;
+        this.activeDeliveryIndex = activeDeliveryIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 회원 소유로 적재하는 writer (createdBy: 업로드한 사용자, 작업 스레드에는 인증 정보가 없다)
+     * - 구간 완료는 가져오기 식별자와 구간 번호로 적재와 같은 트랜잭션에 기록하고, 재개 시 committed 로 돌려준다
+     */
+    public DeliveryImportWriter writerFor(long importId, long memberId, String createdBy) {
+        return new DeliveryImportWriter() {
+            @Override
+            public void write(int chunk, DeliveryInsertBatch batch) {
+                load(batch, importId, chunk, memberId, createdBy);
+            }
+
+            @Override
+            public List<CommittedChunk> committed() {
+                return importChunkRepository.findByImportId(importId).stream()
+                        .map(c -> new CommittedChunk(c.getChunkIndex(), c.getInserted(), c.getRejected()))
+                        .toList();
+            }
+        };
+    }
+
+    void load(DeliveryInsertBatch batch, long importId, int chunk, long memberId, String createdBy) {
+        validate(batch);
+        rejectDuplicatesInBatch(batch);
+        deliveryPricing.price(batch);
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (!batch.isRejected(i)) {
+                batch.getIds()[i] = Tsid.nextId();
+            }
+        }
+
+        // DATETIME(0) 컬럼에 맞춘다
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Boolean touched = transactionTemplate.execute(status -> insert(batch, importId, chunk, memberId, createdBy, now));
+                if (Boolean.TRUE.equals(touched)) {
+                    archiveRouter.invalidate();
+                }
+                return;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 보관 경계를 갱신했는지 여부
+     */
+    private boolean insert(DeliveryInsertBatch batch, long importId, int chunk, long memberId, String createdBy,
+                           LocalDateTime now) {
+        rejectExisting(batch);
+        LocalDateTime earliest = null;
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (!batch.isRejected(i) && (earliest == null || batch.getRequestedAts()[i].isBefore(earliest))) {
+                earliest = batch.getRequestedAts()[i];
+            }
+        }
+        int inserted = earliest == null ? 0
+                : deliveryRepository.insertAccepted(batch, memberId, createdBy, now, properties.getJdbcBatchSize());
+        importChunkRepository.save(new DeliveryImportChunk(importId, chunk, inserted, batch.rejectedCount(), now));
+        if (earliest == null) {
+            return false;
+        }
+        activeDeliveryIndex.imported(batch);
+        if (!earliest.isBefore(now)) {
+            // 미래 요청 시각(예약 주문)만 있으면 보관 경계와 무관하다
+            return false;
+        }
+        // 경계 행 락은 커밋 직전에 잡아 구간 트랜잭션끼리 오래 기다리지 않게 한다
+        return watermarkRepository.touchHotFloor(DeliveryArchiveWatermark.SINGLETON_ID, earliest, now) > 0;
+    }
+
+    private void validate(DeliveryInsertBatch batch) {
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (batch.isRejected(i)) {
+                continue;
+            }
+            try {
+                deliveryRequestValidator.validateCreate(new DeliveryCreateRequest(
+                        batch.getOrderNumbers()[i],
+                        batch.getPickupAddresses()[i],
+                        boxed(batch.getPickupLats()[i]),
+                        boxed(batch.getPickupLngs()[i]),
+                        batch.getDeliveryAddresses()[i],
+                        boxed(batch.getDeliveryLats()[i]),
+                        boxed(batch.getDeliveryLngs()[i]),
+                        batch.getMemos()[i]));
+            } catch (BusinessException e) {
+                batch.reject(i, e.getMessage());
+            }
+        }
+    }
+
+    private static void rejectDuplicatesInBatch(DeliveryInsertBatch batch) {
+        Set<String> seen = new HashSet<>(batch.getSize() * 2);
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (!batch.isRejected(i) && !seen.add(batch.getOrderNumbers()[i])) {
+                batch.reject(i, "파일 내 중복된 주문번호입니다.");
+            }
+        }
+    }
+
+    private void rejectExisting(DeliveryInsertBatch batch) {
+        Map<String, Integer> accepted = new HashMap<>(batch.getSize() * 2);
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (!batch.isRejected(i)) {
+                accepted.put(batch.getOrderNumbers()[i], i);
+            }
+        }
+        List<String> orderNumbers = new ArrayList<>(accepted.keySet());
+        for (int from = 0; from < orderNumbers.size(); from += LOOKUP_SIZE) {
+            List<String> lookup = orderNumbers.subList(from, Math.min(from + LOOKUP_SIZE, orderNumbers.size()));
+            for (String existing : deliveryRepository.findExistingOrderNumbers(lookup)) {
+                batch.reject(accepted.get(existing), "이미 존재하는 주문번호입니다.");
+            }
+        }
+    }
+
+    private static Double boxed(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,261 @@
+package com.barogo.delivery.api.service.imports;
+
+import com.barogo.delivery.api.controller.model.DeliveryImportStatus;
+import com.barogo.delivery.api.controller.model.DeliveryImportStatus.State;
+import com.barogo.delivery.file.bulk.DeliveryCsvImport;
+import com.barogo.delivery.file.bulk.ImportCheckpoint;
+import com.barogo.delivery.file.bulk.RejectionReport;
+import com.barogo.delivery.file.config.DeliveryImportProperties;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import com.barogo.delivery.util.id.Tsid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배달 파일(CSV) 가져오기 작업 관리
+ * - 업로드 요청 안에서 파일을 저장하고 헤더/행 분할까지 확인한 뒤(잘못된 파일은 바로 400), 적재는 백그라운드에서 한다
+ * - 가져오기마다 directory/{importId}/ 에 원본, 체크포인트, 거부 보고서를 둔다. 상태 조회/재개는 체크포인트를 기준으로 한다
+ * - 동시에 실행하는 가져오기 수는 maxConcurrentImports 로 제한하고, 가져오기 하나는 parallelism 개 스레드로 구간을 나눠 적재한다
+ * - 종료(또는 재시작) 시 진행 중이던 가져오기는 FAILED 로 남고, resume 으로 남은 구간부터 이어서 적재한다
+ */
+@Slf4j
+@Service
+public class DeliveryImportService implements SmartLifecycle {
+
+    static final String SOURCE_FILE = "source.csv";
+    static final String CHECKPOINT_FILE = "checkpoint.properties";
+    static final String REJECTIONS_FILE = "rejections.csv";
+
+    // 체크포인트에 함께 보관하는 작업 정보
+    private static final String MEMBER_ID = "memberId";
+    private static final String CREATED_BY = "createdBy";
+    private static final String FILE_NAME = "fileName";
+    private static final String REQUESTED_AT = "requestedAt";
+    private static final String STATE = "state";
+    private static final String MESSAGE = "message";
+
+    private final DeliveryImportProperties properties;
+    private final DeliveryImportLoader deliveryImportLoader;
+    private final AuditorAware<String> auditorAware;
+
+    // 대기/실행 중인 가져오기
+    private final Map<Long, ImportCheckpoint> active = new ConcurrentHashMap<>();
+    private volatile ExecutorService executor;
+
+    public DeliveryImportService(DeliveryImportProperties properties,
+                                 DeliveryImportLoader deliveryImportLoader,
+                                 AuditorAware<String> auditorAware) {
+        this.properties = properties;
+        this.deliveryImportLoader = deliveryImportLoader;
+        this.auditorAware = auditorAware;
+    }
+
+    /**
+     * 업로드 파일 저장 후 가져오기 시작
+     */
+    public DeliveryImportStatus start(Long memberId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "업로드할 파일이 비어 있습니다.");
+        }
+        long importId = Tsid.nextId();
+        Path directory = directoryOf(importId);
+        DeliveryCsvImport csv;
+        try {
+            Files.createDirectories(directory);
+            file.transferTo(directory.resolve(SOURCE_FILE));
+            csv = DeliveryCsvImport.open(directory.resolve(SOURCE_FILE), properties.getChunkBytes());
+        } catch (IllegalArgumentException e) {
+            delete(directory);
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, e.getMessage());
+        } catch (IOException e) {
+            delete(directory);
+            throw new UncheckedIOException(e);
+        }
+
+        String fileName = file.getOriginalFilename() == null ? SOURCE_FILE : file.getOriginalFilename();
+        ImportCheckpoint checkpoint = ImportCheckpoint.create(directory.resolve(CHECKPOINT_FILE), Map.of(
+                MEMBER_ID, Long.toString(memberId),
+                // 작업 스레드에는 인증 정보가 없으므로 업로드한 사용자를 기록해 둔다
+                CREATED_BY, auditorAware.getCurrentAuditor().orElse("system"),
+                FILE_NAME, fileName,
+                // requested_at 열이 없거나 빈 행은 업로드 시각으로 등록한다 (재개해도 같은 값)
+                REQUESTED_AT, LocalDateTime.now().withNano(0).toString(),
+                STATE, State.QUEUED.name()));
+        active.put(importId, checkpoint);
+        submit(importId, csv, checkpoint);
+        log.info("delivery import {} queued: member={}, file={}, rows={}, chunks={}",
+                importId, memberId, fileName, csv.rowCount(), csv.chunkCount());
+        return statusOf(importId, checkpoint);
+    }
+
+    public DeliveryImportStatus status(Long memberId, Long importId) {
+        return statusOf(importId, checkpointOf(memberId, importId));
+    }
+
+    /**
+     * 실패/중단된 가져오기를 남은 구간부터 이어서 적재
+     */
+    public DeliveryImportStatus resume(Long memberId, Long importId) {
+        ImportCheckpoint checkpoint = checkpointOf(memberId, importId);
+        if (checkpoint.isFinished()) {
+            throw new BusinessException(ErrorCode.CONFLICT, "이미 완료된 가져오기입니다.");
+        }
+        if (active.putIfAbsent(importId, checkpoint) != null) {
+            throw new BusinessException(ErrorCode.CONFLICT, "이미 진행 중인 가져오기입니다.");
+        }
+        DeliveryCsvImport csv;
+        try {
+            csv = DeliveryCsvImport.open(directoryOf(importId).resolve(SOURCE_FILE), properties.getChunkBytes());
+        } catch (IOException | RuntimeException e) {
+            active.remove(importId);
+            throw new BusinessException(ErrorCode.ERROR, "가져오기 원본 파일을 열 수 없습니다.");
+        }
+        checkpoint.attribute(MESSAGE, null);
+        checkpoint.attribute(STATE, State.QUEUED.name());
+        submit(importId, csv, checkpoint);
+        log.info("delivery import {} resumed: {}", importId, checkpoint.progress());
+        return statusOf(importId, checkpoint);
+    }
+
+    /**
+     * 거부된 행 보고서 (아직 거부된 행이 없으면 헤더만 있다)
+     */
+    public Path rejections(Long memberId, Long importId) {
+        checkpointOf(memberId, importId);
+        Path report = directoryOf(importId).resolve(REJECTIONS_FILE);
+        if (!Files.exists(report)) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "거부 보고서가 아직 없습니다.");
+        }
+        return report;
+    }
+
+    @Override
+    public void start() {
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getMaxConcurrentImports()),
+                Thread.ofPlatform().name("delivery-import-runner-", 0).factory());
+    }
+
+    @Override
+    public void stop() {
+        ExecutorService current = this.executor;
+        if (current != null) {
+            // 진행 중인 구간은 커밋 또는 롤백된 뒤 멈추고, 체크포인트에 남은 구간부터 재개할 수 있다
+            current.shutdownNow();
+            try {
+                current.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    private void submit(long importId, DeliveryCsvImport csv, ImportCheckpoint checkpoint) {
+        ExecutorService current = this.executor;
+        if (current == null) {
+            active.remove(importId);
+            closeQuietly(csv);
+            checkpoint.attribute(STATE, State.FAILED.name());
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "가져오기를 시작할 수 없습니다. 잠시 후 재개해 주세요.");
+        }
+        current.execute(() -> run(importId, csv, checkpoint));
+    }
+
+    private void run(long importId, DeliveryCsvImport csv, ImportCheckpoint checkpoint) {
+        long started = System.nanoTime();
+        long memberId = Long.parseLong(checkpoint.attribute(MEMBER_ID));
+        LocalDateTime requestedAt = LocalDateTime.parse(checkpoint.attribute(REQUESTED_AT));
+        try (csv; RejectionReport report = RejectionReport.open(directoryOf(importId).resolve(REJECTIONS_FILE))) {
+            checkpoint.attribute(STATE, State.RUNNING.name());
+            var progress = csv.run(checkpoint, report,
+                    deliveryImportLoader.writerFor(importId, memberId, checkpoint.attribute(CREATED_BY)),
+                    properties.getParallelism(), requestedAt);
+            checkpoint.attribute(STATE, State.COMPLETED.name());
+            log.info("delivery import {} completed in {} ms: {}", importId, (System.nanoTime() - started) / 1_000_000, progress);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed(checkpoint, "가져오기가 중단되었습니다. 재개할 수 있습니다.");
+            log.warn("delivery import {} interrupted: {}", importId, checkpoint.progress());
+        } catch (IllegalStateException e) {
+            failed(checkpoint, e.getMessage());
+            log.warn("delivery import {} failed: {}", importId, checkpoint.progress(), e);
+        } catch (Exception e) {
+            failed(checkpoint, "적재 중 오류가 발생했습니다. 재개할 수 있습니다.");
+            log.error("delivery import {} failed: {}", importId, checkpoint.progress(), e);
+        } finally {
+            active.remove(importId);
+        }
+    }
+
+    private static void failed(ImportCheckpoint checkpoint, String message) {
+        checkpoint.attribute(MESSAGE, message);
+        checkpoint.attribute(STATE, State.FAILED.name());
+    }
+
+    private ImportCheckpoint checkpointOf(Long memberId, Long importId) {
+        ImportCheckpoint checkpoint = active.get(importId);
+        if (checkpoint == null) {
+            Path path = directoryOf(importId).resolve(CHECKPOINT_FILE);
+            if (!Files.exists(path)) {
+                throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "가져오기를 찾을 수 없습니다.");
+            }
+            checkpoint = ImportCheckpoint.load(path);
+        }
+        if (!Long.toString(memberId).equals(checkpoint.attribute(MEMBER_ID))) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "본인의 가져오기만 조회할 수 있습니다.");
+        }
+        return checkpoint;
+    }
+
+    private DeliveryImportStatus statusOf(Long importId, ImportCheckpoint checkpoint) {
+        State state = State.valueOf(checkpoint.attribute(STATE));
+        String message = checkpoint.attribute(MESSAGE);
+        if ((state == State.QUEUED || state == State.RUNNING) && !active.containsKey(importId)) {
+            // 실행 중 서버가 내려간 경우
+            state = State.FAILED;
+            message = "가져오기가 중단되었습니다. 재개할 수 있습니다.";
+        }
+        return DeliveryImportStatus.of(importId, checkpoint.attribute(FILE_NAME), state, checkpoint.progress(), message);
+    }
+
+    private Path directoryOf(long importId) {
+        return properties.getDirectory().resolve(Long.toString(importId));
+    }
+
+    private static void delete(Path directory) {
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            log.warn("failed to delete import directory {}", directory, e);
+        }
+    }
+
+    private static void closeQuietly(DeliveryCsvImport csv) {
+        try {
+            csv.close();
+        } catch (IOException e) {
+            log.debug("failed to close import source", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.barogo.delivery.api.service.lock;
+
+import com.barogo.delivery.cache.lock.LockHandle;
+import com.barogo.delivery.cache.lock.LockManager;
+import com.barogo.delivery.cache.lock.config.LockProperties;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class DeliveryLocks {
+
+    private final LockManager lockManager;
+    private final LockProperties properties;
+
+    public static String orderKey(String orderNumber) {
+        return "delivery:order:" + orderNumber;
+    }
+
+    public static String deliveryKey(Long deliveryId) {
+        return "delivery:" + deliveryId;
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 key 잠금을 보유한다
+     * - 커밋/롤백 이후(afterCompletion)에 해제하므로, 커밋 전에 다음 요청이 변경 전 데이터를 읽고 진행하지 않는다
+     * - 트랜잭션이 lease 보다 길어지면 다른 요청이 잠금을 가져갔을 수 있으므로, 커밋 직전(beforeCommit)에 보유 여부를 확인해 롤백한다
+     */
+    public void lockUntilTransactionEnds(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("트랜잭션 안에서만 잠금을 획득할 수 있습니다: " + key);
+        }
+
+        LockHandle handle = lockManager.tryAcquire(key, properties.getWaitTimeout(), properties.getLeaseTime())
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONFLICT, "다른 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요."));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!handle.isHeld()) {
+                    throw new BusinessException(ErrorCode.CONFLICT, "처리 시간이 길어져 잠금이 만료되었습니다. 다시 시도해 주세요.");
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                handle.close();
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.barogo.delivery.api.service.metrics;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.response.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 배달 API 업무 지표
+ * - delivery.api.errors{code,status}: GlobalExceptionHandler 가 응답한 ErrorCode 별 건수
+ * - delivery.status.transitions{target,result}: 상태 변경 요청 결과 (applied/rejected/conflict)
+ * - 카운터는 생성 시 모두 등록해 두고 요청 경로에서는 조회만 한다
+ */
+@Component
+public class DeliveryMetrics {
+
+    public enum TransitionResult {
+        APPLIED, REJECTED, CONFLICT
+    }
+
+    private final Map<ErrorCode, Counter> errors = new EnumMap<>(ErrorCode.class);
+    private final Map<DeliveryStatus, Map<TransitionResult, Counter>> transitions = new EnumMap<>(DeliveryStatus.class);
+
+    public DeliveryMetrics(MeterRegistry registry) {
+        for (ErrorCode code : ErrorCode.values()) {
+            errors.put(code, Counter.builder("delivery.api.errors")
+                    .description("errors returned by the api, by error code")
+                    .tag("code", code.getCode())
+                    .tag("status", String.valueOf(code.getHttpStatus().value()))
+                    .register(registry));
+        }
+        for (DeliveryStatus target : DeliveryStatus.values()) {
+            Map<TransitionResult, Counter> byResult = new EnumMap<>(TransitionResult.class);
+            for (TransitionResult result : TransitionResult.values()) {
+                byResult.put(result, Counter.builder("delivery.status.transitions")
+                        .description("delivery status change requests, by target status and result")
+                        .tag("target", target.name())
+                        .tag("result", result.name().toLowerCase())
+                        .register(registry));
+            }
+            transitions.put(target, byResult);
+        }
+    }
+
+    public void error(ErrorCode code) {
+        errors.get(code).increment();
+    }
+
+    public void transition(DeliveryStatus target, TransitionResult result) {
+        transitions.get(target).get(result).increment();
+    }
+}
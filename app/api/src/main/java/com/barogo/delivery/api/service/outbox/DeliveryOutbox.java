@@ -0,0 +1,71 @@
+package com.barogo.delivery.api.service.outbox;
+
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.DeliveryEvent;
+import com.barogo.delivery.enums.DeliveryEventType;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryEventRepository;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 변경 이벤트를 outbox(delivery_outbox)에 적재
+ * - 호출한 서비스의 트랜잭션에 참여하므로 변경이 롤백되면 이벤트도 함께 롤백된다
+ * - 실제 발행은 support:alarm 의 OutboxRelay 가 커밋된 행을 읽어 비동기로 수행한다
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class DeliveryOutbox {
+
+    private final DeliveryEventRepository deliveryEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void statusChanged(Long deliveryId, Long memberId, DeliveryStatus status, LocalDateTime changedAt) {
+        var payload = new StatusChangedPayload(deliveryId, status, changedAt);
+        append(DeliveryEventType.STATUS_CHANGED, deliveryId, memberId, payload, changedAt);
+    }
+
+    public void destinationChanged(Delivery delivery, Long memberId, LocalDateTime changedAt) {
+        var payload = new DestinationChangedPayload(
+                delivery.getId(),
+                delivery.getDeliveryAddress(),
+                delivery.getDeliveryLat(),
+                delivery.getDeliveryLng(),
+                changedAt
+        );
+        append(DeliveryEventType.DESTINATION_CHANGED, delivery.getId(), memberId, payload, changedAt);
+    }
+
+    private void append(DeliveryEventType type, Long deliveryId, Long memberId, Object payload, LocalDateTime occurredAt) {
+        deliveryEventRepository.save(new DeliveryEvent(type, deliveryId, memberId, toJson(payload), occurredAt));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.ERROR, "배달 이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    record StatusChangedPayload(Long deliveryId, DeliveryStatus status, LocalDateTime changedAt) {
+    }
+
+    record DestinationChangedPayload(
+            Long deliveryId,
+            String deliveryAddress,
+            Double deliveryLat,
+            Double deliveryLng,
+            LocalDateTime changedAt
+    ) {
+    }
+}
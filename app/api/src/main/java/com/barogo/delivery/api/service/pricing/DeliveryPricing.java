@@ -0,0 +1,141 @@
+package com.barogo.delivery.api.service.pricing;
+
+import com.barogo.delivery.api.config.pricing.PricingProperties;
+import com.barogo.delivery.api.config.pricing.PricingProperties.RoadFactor;
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.jpa.DeliveryCostChunk;
+import com.barogo.delivery.jpa.DeliveryInsertBatch;
+import com.barogo.delivery.util.geo.GeoDistance;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 배달 거리/요금 계산
+ * - 거리: 픽업지 -> 도착지 haversine 직선거리에 구간별 도로 보정 계수를 곱해 m 단위로 올림
+ * - 요금: 기본 요금 + 기본 거리 초과분 stepMeters 단위 올림 x stepFare, maxFare 로 상한 (원 단위 정수)
+ * - 설정은 생성 시 원시 배열로 풀어 두고, 단건(등록/도착지 변경)과 일괄 재계산이 같은 계산식을 쓴다
+ */
+@Component
+public class DeliveryPricing {
+
+    private final long baseFare;
+    private final int baseDistanceMeters;
+    private final int stepMeters;
+    private final long stepFare;
+    private final long maxFare;
+    // 오름차순 구간 상한(m)과 계수
+    private final double[] bandUpTo;
+    private final double[] bandFactors;
+
+    public DeliveryPricing(PricingProperties properties) {
+        if (properties.getStepMeters() <= 0) {
+            throw new IllegalArgumentException("delivery.pricing.step-meters must be positive");
+        }
+        this.baseFare = properties.getBaseFare();
+        this.baseDistanceMeters = properties.getBaseDistanceMeters();
+        this.stepMeters = properties.getStepMeters();
+        this.stepFare = properties.getStepFare();
+        this.maxFare = properties.getMaxFare();
+
+        List<RoadFactor> bands = properties.getRoadFactors().stream()
+                .sorted(Comparator.comparingInt(RoadFactor::getUpToMeters))
+                .toList();
+        this.bandUpTo = new double[bands.size()];
+        this.bandFactors = new double[bands.size()];
+        for (int i = 0; i < bands.size(); i++) {
+            if (bands.get(i).getFactor() < 1.0) {
+                throw new IllegalArgumentException("road factor must be >= 1.0: " + bands.get(i).getFactor());
+            }
+            bandUpTo[i] = bands.get(i).getUpToMeters();
+            bandFactors[i] = bands.get(i).getFactor();
+        }
+    }
+
+    /**
+     * 도로 보정 거리(m)
+     */
+    public int distanceMeters(double pickupLat, double pickupLng, double deliveryLat, double deliveryLng) {
+        double straight = GeoDistance.haversineMeters(pickupLat, pickupLng, deliveryLat, deliveryLng);
+        return (int) Math.ceil(straight * roadFactor(straight));
+    }
+
+    /**
+     * 거리별 요금(원)
+     */
+    public long fareOf(int distanceMeters) {
+        long extraMeters = Math.max(0, distanceMeters - baseDistanceMeters);
+        long steps = (extraMeters + stepMeters - 1) / stepMeters;
+        long fare = baseFare + steps * stepFare;
+        return maxFare > 0 ? Math.min(fare, maxFare) : fare;
+    }
+
+    /**
+     * 배달 엔티티의 거리/요금 갱신 (좌표가 하나라도 없으면 비운다)
+     */
+    public void price(Delivery delivery) {
+        if (delivery.getPickupLat() == null || delivery.getPickupLng() == null
+                || delivery.getDeliveryLat() == null || delivery.getDeliveryLng() == null) {
+            delivery.updateCost(null, null);
+            return;
+        }
+        int distance = distanceMeters(delivery.getPickupLat(), delivery.getPickupLng(),
+                delivery.getDeliveryLat(), delivery.getDeliveryLng());
+        delivery.updateCost(distance, BigDecimal.valueOf(fareOf(distance)));
+    }
+
+    /**
+     * 일괄 재계산: chunk 의 좌표 배열로 distances/costs 배열을 채운다
+     */
+    public void price(DeliveryCostChunk chunk) {
+        double[] pickupLats = chunk.getPickupLats();
+        double[] pickupLngs = chunk.getPickupLngs();
+        double[] deliveryLats = chunk.getDeliveryLats();
+        double[] deliveryLngs = chunk.getDeliveryLngs();
+        int[] distances = chunk.getDistances();
+        long[] costs = chunk.getCosts();
+        for (int i = 0; i < chunk.getSize(); i++) {
+            int distance = distanceMeters(pickupLats[i], pickupLngs[i], deliveryLats[i], deliveryLngs[i]);
+            distances[i] = distance;
+            costs[i] = fareOf(distance);
+        }
+    }
+
+    /**
+     * 파일 가져오기: 거부되지 않고 좌표가 모두 있는 행의 distances/costs 를 채운다 (나머지는 NONE)
+     */
+    public void price(DeliveryInsertBatch batch) {
+        double[] pickupLats = batch.getPickupLats();
+        double[] pickupLngs = batch.getPickupLngs();
+        double[] deliveryLats = batch.getDeliveryLats();
+        double[] deliveryLngs = batch.getDeliveryLngs();
+        int[] distances = batch.getDistances();
+        long[] costs = batch.getCosts();
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (batch.isRejected(i) || Double.isNaN(pickupLats[i]) || Double.isNaN(pickupLngs[i])
+                    || Double.isNaN(deliveryLats[i]) || Double.isNaN(deliveryLngs[i])) {
+                distances[i] = DeliveryInsertBatch.NONE;
+                costs[i] = DeliveryInsertBatch.NONE;
+                continue;
+            }
+            int distance = distanceMeters(pickupLats[i], pickupLngs[i], deliveryLats[i], deliveryLngs[i]);
+            distances[i] = distance;
+            costs[i] = fareOf(distance);
+        }
+    }
+
+    private double roadFactor(double straightMeters) {
+        int n = bandUpTo.length;
+        if (n == 0) {
+            return 1.0;
+        }
+        for (int i = 0; i < n; i++) {
+            if (straightMeters <= bandUpTo[i]) {
+                return bandFactors[i];
+            }
+        }
+        return bandFactors[n - 1];
+    }
+}
@@ -0,0 +1,129 @@
+package com.barogo.delivery.api.service.pricing;
+
+import com.barogo.delivery.api.config.pricing.PricingProperties;
+import com.barogo.delivery.jpa.DeliveryCostChunk;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요금표 변경 후 기존 배달의 거리/요금 일괄 재계산
+ * - PK keyset 으로 chunk 단위(열별 원시 배열)로 읽고 계산해, 값이 바뀐 행만 JDBC batch UPDATE 한다
+ * - 종료(DELIVERED/CANCELED)된 배달은 요금이 확정되었으므로 다시 계산하지 않는다
+ * - chunk 마다 별도 트랜잭션으로 커밋하므로 중간에 실패해도 처리한 구간은 남고, 잠금은 chunk 범위로 짧게 유지된다
+ * - 노드당 한 번에 하나만 실행한다 (재실행해도 바뀐 행만 쓰므로 결과는 같다)
+ */
+@Slf4j
+@Component
+public class DeliveryRepricer {
+
+    private final PricingProperties properties;
+    private final DeliveryPricing deliveryPricing;
+    private final DeliveryRepository deliveryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile long scanned;
+    private volatile long updated;
+    private volatile long lastId;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public DeliveryRepricer(PricingProperties properties,
+                            DeliveryPricing deliveryPricing,
+                            DeliveryRepository deliveryRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.deliveryPricing = deliveryPricing;
+        this.deliveryRepository = deliveryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 백그라운드 스레드에서 재계산 시작
+     * - 이미 실행 중이면 CONFLICT
+     */
+    public RepricingStatus start() {
+        acquire();
+        try {
+            Thread.ofPlatform().name("delivery-repricer").daemon().start(this::runAcquired);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return status();
+    }
+
+    /**
+     * 호출 스레드에서 끝까지 재계산 (테스트/운영 스크립트용)
+     */
+    public RepricingStatus runOnce() {
+        acquire();
+        runAcquired();
+        return status();
+    }
+
+    public RepricingStatus status() {
+        return new RepricingStatus(running.get(), scanned, updated, lastId, startedAt, finishedAt, error);
+    }
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.CONFLICT, "요금 재계산이 이미 실행 중입니다.");
+        }
+        scanned = 0;
+        updated = 0;
+        lastId = 0;
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        error = null;
+    }
+
+    private void runAcquired() {
+        DeliveryCostChunk chunk = new DeliveryCostChunk(properties.getRecomputeChunkSize());
+        long pauseMillis = properties.getRecomputePause().toMillis();
+        try {
+            while (true) {
+                long afterId = lastId;
+                Integer written = transactionTemplate.execute(status -> {
+                    if (deliveryRepository.loadCostChunk(afterId, chunk) == 0) {
+                        return 0;
+                    }
+                    deliveryPricing.price(chunk);
+                    return deliveryRepository.updateChangedCosts(chunk);
+                });
+                int size = chunk.getSize();
+                if (size == 0) {
+                    break;
+                }
+                scanned += size;
+                updated += written;
+                lastId = chunk.lastId();
+                if (size < chunk.capacity()) {
+                    break;
+                }
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+            log.info("delivery repricing finished: scanned={}, updated={}", scanned, updated);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "interrupted";
+        } catch (RuntimeException e) {
+            log.error("delivery repricing failed after id {}", lastId, e);
+            error = e.getMessage();
+        } finally {
+            finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+}
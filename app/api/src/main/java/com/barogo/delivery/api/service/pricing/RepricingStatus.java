@@ -0,0 +1,25 @@
+package com.barogo.delivery.api.service.pricing;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거리/요금 일괄 재계산 진행 상황
+ *
+ * @param running    실행 중 여부
+ * @param scanned    읽은 행 수 (이번 또는 마지막 실행)
+ * @param updated    값이 바뀌어 갱신된 행 수 (읽은 뒤 다른 요청이 변경한 행은 빠진다)
+ * @param lastId     마지막으로 처리한 배달 id (keyset 위치)
+ * @param startedAt  시작 시각
+ * @param finishedAt 종료 시각 (실행 중이면 null)
+ * @param error      실패했다면 원인 메시지
+ */
+public record RepricingStatus(
+        boolean running,
+        long scanned,
+        long updated,
+        long lastId,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+}
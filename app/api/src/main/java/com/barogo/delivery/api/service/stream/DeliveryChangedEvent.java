@@ -0,0 +1,18 @@
+package com.barogo.delivery.api.service.stream;
+
+import com.barogo.delivery.api.controller.model.DeliverySummary;
+import com.barogo.delivery.enums.DeliveryEventType;
+
+/**
+ * 배달 변경 알림 (트랜잭션 커밋 후 DeliveryStreamHub 가 구독 연결로 전송)
+ *
+ * @param type     변경 종류
+ * @param memberId 배달 소유 회원 ID
+ * @param delivery 변경 후 배달 요약
+ */
+public record DeliveryChangedEvent(
+        DeliveryEventType type,
+        Long memberId,
+        DeliverySummary delivery
+) {
+}
@@ -0,0 +1,263 @@
+package com.barogo.delivery.api.service.stream;
+
+import com.barogo.delivery.api.config.stream.DeliveryStreamProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원별 배달 변경 SSE 연결 관리
+ * - 연결은 비동기 요청(SseEmitter)이므로 유휴 연결이 Tomcat 워커 스레드를 점유하지 않는다
+ * - 커밋된 변경은 요청 스레드에서 연결별 버퍼에 넣기만 하고, 실제 쓰기는 가상 스레드에서 연결 단위로 직렬 수행한다
+ * - 버퍼가 가득 차면(느린 클라이언트) 가장 오래된 이벤트를 버린다. 이벤트는 변경 후 전체 요약이므로 같은 배달의 이전 이벤트는 버려져도 된다
+ * - 단일 노드 기준이며, 다중 노드에서는 outbox 발행(OutboxSink)을 각 노드의 허브로 연결해야 한다
+ */
+@Slf4j
+@Component
+public class DeliveryStreamHub implements SmartLifecycle {
+
+    private final DeliveryStreamProperties properties;
+    private final ConcurrentHashMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile ScheduledExecutorService heartbeat;
+
+    public DeliveryStreamHub(DeliveryStreamProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 회원의 배달 변경 스트림 연결
+     */
+    public SseEmitter subscribe(Long memberId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(memberId, emitter, properties.getBufferSize());
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscriber));
+
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(memberId, (id, current) -> {
+            List<Subscriber> next = current == null ? new ArrayList<>() : new ArrayList<>(current);
+            next.add(subscriber);
+            while (next.size() > properties.getMaxConnectionsPerMember()) {
+                evicted.add(next.removeFirst());
+            }
+            return List.copyOf(next);
+        });
+        connections.incrementAndGet();
+        evicted.forEach(s -> {
+            remove(s);
+            s.emitter.complete();
+        });
+
+        // 응답 헤더를 바로 내보내고 재연결 간격을 알린다
+        subscriber.offer(StreamEvent.OPEN);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long memberId) {
+        return subscribers.containsKey(memberId);
+    }
+
+    /**
+     * 커밋된 변경만 전송 (롤백된 변경은 전송하지 않는다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeliveryChanged(DeliveryChangedEvent event) {
+        List<Subscriber> targets = subscribers.get(event.memberId());
+        if (targets == null) {
+            return;
+        }
+        StreamEvent streamEvent = StreamEvent.of(event);
+        for (Subscriber subscriber : targets) {
+            if (subscriber.offer(streamEvent)) {
+                dropped.increment();
+            }
+            schedule(subscriber);
+        }
+    }
+
+    public DeliveryStreamStats stats() {
+        return new DeliveryStreamStats(connections.get(), sent.sum(), dropped.sum());
+    }
+
+    @Override
+    public void start() {
+        long interval = properties.getHeartbeatInterval().toMillis();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sse-heartbeat").daemon().factory());
+        scheduler.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+        this.heartbeat = scheduler;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = this.heartbeat;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            this.heartbeat = null;
+        }
+        // 연결을 닫아 클라이언트가 다른 노드로 재연결하도록 한다
+        subscribers.values().forEach(list -> list.forEach(s -> s.emitter.complete()));
+        writers.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return heartbeat != null;
+    }
+
+    private void sendHeartbeats() {
+        for (List<Subscriber> list : subscribers.values()) {
+            for (Subscriber subscriber : list) {
+                // 보낼 이벤트가 쌓여 있으면 그 자체가 heartbeat 역할을 한다
+                if (subscriber.offerIfEmpty(StreamEvent.HEARTBEAT)) {
+                    schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    // 연결당 쓰기 작업은 하나만 돌도록 보장 (SseEmitter 는 동시 send 를 직렬화하지만 순서는 보장하지 않는다)
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.writing.compareAndSet(false, true)) {
+            try {
+                writers.execute(() -> drain(subscriber));
+            } catch (RuntimeException e) {
+                // 종료 중
+                subscriber.writing.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            StreamEvent event;
+            while ((event = subscriber.poll()) != null) {
+                subscriber.emitter.send(event.toSse(properties));
+                if (event.data() != null) {
+                    sent.increment();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 (IOException 은 컨테이너가 error dispatch 로 요청을 정리한다)
+            log.debug("sse send failed for member {}: {}", subscriber.memberId, e.toString());
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.writing.set(false);
+        }
+        // 쓰기 종료와 새 이벤트 추가가 엇갈린 경우
+        if (!subscriber.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.memberId, (id, current) -> {
+            List<Subscriber> next = new ArrayList<>(current);
+            next.remove(subscriber);
+            return next.isEmpty() ? null : List.copyOf(next);
+        });
+        connections.decrementAndGet();
+    }
+
+    /**
+     * 연결별 전송 대기 버퍼 (drop-oldest)
+     */
+    static final class Subscriber {
+        private final Long memberId;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final ArrayDeque<StreamEvent> buffer;
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(Long memberId, SseEmitter emitter, int capacity) {
+            this.memberId = memberId;
+            this.emitter = emitter;
+            this.capacity = capacity;
+            this.buffer = new ArrayDeque<>(capacity);
+        }
+
+        /**
+         * @return 버퍼가 가득 차 가장 오래된 이벤트를 버렸으면 true
+         */
+        synchronized boolean offer(StreamEvent event) {
+            boolean dropped = false;
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+                dropped = true;
+            }
+            buffer.addLast(event);
+            return dropped;
+        }
+
+        synchronized boolean offerIfEmpty(StreamEvent event) {
+            if (!buffer.isEmpty()) {
+                return false;
+            }
+            buffer.addLast(event);
+            return true;
+        }
+
+        synchronized StreamEvent poll() {
+            return buffer.pollFirst();
+        }
+
+        synchronized boolean isEmpty() {
+            return buffer.isEmpty();
+        }
+    }
+
+    /**
+     * 버퍼에 담는 전송 단위
+     * - SseEventBuilder 는 스레드 안전하지 않으므로 연결별로 전송 시점에 만든다
+     */
+    record StreamEvent(String name, Object data) {
+        static final StreamEvent OPEN = new StreamEvent("connected", null);
+        static final StreamEvent HEARTBEAT = new StreamEvent("heartbeat", null);
+
+        // 이벤트 이름: STATUS_CHANGED / DESTINATION_CHANGED, 데이터: 변경 후 DeliverySummary
+        static StreamEvent of(DeliveryChangedEvent event) {
+            return new StreamEvent(event.type().name(), event.delivery());
+        }
+
+        SseEmitter.SseEventBuilder toSse(DeliveryStreamProperties properties) {
+            if (data == null) {
+                // 데이터 없는 주석 라인은 클라이언트 EventSource 에 이벤트로 전달되지 않는다
+                SseEmitter.SseEventBuilder builder = SseEmitter.event().comment(name);
+                return this == OPEN ? builder.reconnectTime(properties.getReconnectTime().toMillis()) : builder;
+            }
+            return SseEmitter.event()
+                    .name(name)
+                    .data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.barogo.delivery.api.service.stream;
+
+/**
+ * SSE 스트림 지표 스냅샷
+ *
+ * @param connections 현재 연결 수
+ * @param sent        전송한 이벤트 수 (heartbeat 제외)
+ * @param dropped     버퍼 초과로 버린 이벤트 수
+ */
+public record DeliveryStreamStats(
+        int connections,
+        long sent,
+        long dropped
+) {
+}
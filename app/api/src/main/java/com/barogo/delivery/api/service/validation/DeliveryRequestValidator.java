@@ -9,6 +9,9 @@ import org.springframework.stereotype.Component;
 public class DeliveryRequestValidator {
 
     public void validateCreate(DeliveryCreateRequest request) {
+        ensureNotBlank(request.orderNumber(), "주문번호는 필수입니다.");
+        ensureMaxLength(request.orderNumber(), 50, "주문번호는 50자 이하여야 합니다.");
+
         ensureNotBlank(request.deliveryAddress(), "도착지 주소는 필수입니다.");
         ensureMaxLength(request.deliveryAddress(), 200, "도착지 주소는 200자 이하여야 합니다.");
 
@@ -0,0 +1,43 @@
+package com.barogo.delivery.api.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcAdmissionFilterTest {
+
+    @Test
+    void doFilter_shouldReleasePermitAfterRequest() throws Exception {
+        JdbcAdmissionFilter filter = new JdbcAdmissionFilter(1, Duration.ofMillis(10), new ObjectMapper());
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/deliveries"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/deliveries"), second, new MockFilterChain());
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    @Test
+    void doFilter_shouldRejectWith503WhenLimitReached() throws Exception {
+        JdbcAdmissionFilter filter = new JdbcAdmissionFilter(1, Duration.ofMillis(10), new ObjectMapper());
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        // 첫 요청이 처리 중인 동안 두 번째 요청이 들어온다
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/deliveries"), new MockHttpServletResponse(),
+                (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/deliveries"), rejected, new MockFilterChain()));
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("ServiceUnavailable");
+        assertThat(filter.rejectedCount()).isEqualTo(1);
+    }
+}
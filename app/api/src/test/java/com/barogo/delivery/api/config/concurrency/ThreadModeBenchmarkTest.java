@@ -0,0 +1,184 @@
+package com.barogo.delivery.api.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드(Tomcat threads.max=200) 모드와 가상 스레드 + 수용 제한 모드 비교
+ * - 요청 1건 = (외부 I/O 대기) + (커넥션 점유 구간: 쿼리 + DB 왕복 지연)
+ * - 가상 스레드 모드의 요청은 VirtualThreadConfig 와 같은 방식으로 만든 JdbcAdmissionFilter 를 거친다
+ *   (AdmissionProperties 기본 대기 시간, 수용량 = 풀 크기 x requestsPerConnection, 초과 시 503)
+ * - 동일한 Hikari 풀(20)을 두고 처리량, 지연 분포, 503 건수, 플랫폼 스레드 최대 개수를 TestReporter 로 남긴다
+ * - 실행: ./gradlew :app:api:benchmarkTest
+ */
+@Tag("benchmark")
+class ThreadModeBenchmarkTest {
+
+    private static final int POOL_SIZE = 20;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 10;
+
+    private static HikariDataSource dataSource;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:thread-mode-bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setConnectionTimeout(60_000);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table bench_delivery (id bigint primary key, status varchar(20))");
+            statement.execute("insert into bench_delivery select x, 'REQUESTED' from system_range(1, 1000)");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void dbBoundRequests(TestReporter reporter) throws Exception {
+        compare(new Workload("db-bound", 0, 2), reporter);
+    }
+
+    @Test
+    void ioHeavyRequests(TestReporter reporter) throws Exception {
+        compare(new Workload("io-heavy", 20, 2), reporter);
+    }
+
+    private void compare(Workload workload, TestReporter reporter) throws Exception {
+        // 요청 시간 대비 커넥션 점유 비율만큼 커넥션당 동시 요청을 허용 (delivery.admission.requests-per-connection)
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setRequestsPerConnection(Math.max(1, (workload.ioMillis() + workload.dbMillis()) / workload.dbMillis()));
+        JdbcAdmissionFilter filter = new JdbcAdmissionFilter(POOL_SIZE * properties.getRequestsPerConnection(),
+                properties.getWaitTimeout(), new ObjectMapper());
+
+        Result platform;
+        try (ExecutorService server = Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            platform = run("platform(" + PLATFORM_THREADS + ")", server, null, workload);
+        }
+        Result virtual;
+        try (ExecutorService server = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtual = run("virtual(admission=" + filter.maxConcurrentRequests() + ")", server, filter, workload);
+        }
+
+        reporter.publishEntry(workload.name() + " " + platform.mode(), platform.toString());
+        reporter.publishEntry(workload.name() + " " + virtual.mode(), virtual.toString());
+
+        assertThat(platform.completed()).isEqualTo(CLIENTS * REQUESTS_PER_CLIENT);
+        assertThat(virtual.completed() + virtual.rejected()).isEqualTo(CLIENTS * REQUESTS_PER_CLIENT);
+        assertThat(virtual.rejected()).isEqualTo(filter.rejectedCount());
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    private Result run(String mode, ExecutorService server, JdbcAdmissionFilter filter, Workload workload) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        long started = System.nanoTime();
+
+        // 부하 생성기(클라이언트)는 모드와 관계없이 가상 스레드로 돌린다
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                clients.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long requestStarted = System.nanoTime();
+                        int status = server.submit(() -> handle(filter, workload)).get();
+                        latencies[client * REQUESTS_PER_CLIENT + r] = System.nanoTime() - requestStarted;
+                        (status == 200 ? completed : rejected).incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+        return new Result(mode, completed.get(), rejected.get(), elapsed, latencies, threads.getPeakThreadCount());
+    }
+
+    // 플랫폼 스레드 모드에는 수용 제한 필터가 등록되지 않는다
+    private int handle(JdbcAdmissionFilter filter, Workload workload) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (filter == null) {
+            serve(workload);
+        } else {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/deliveries"), response, (req, res) -> {
+                try {
+                    serve(workload);
+                } catch (InterruptedException | SQLException e) {
+                    throw new ServletException(e);
+                }
+            });
+        }
+        return response.getStatus();
+    }
+
+    private void serve(Workload workload) throws InterruptedException, SQLException {
+        Thread.sleep(workload.ioMillis());
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select status from bench_delivery where id = ?")) {
+            statement.setLong(1, 1 + (System.nanoTime() & 511));
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+            }
+            // DB 왕복 지연
+            Thread.sleep(workload.dbMillis());
+        }
+    }
+
+    private record Workload(String name, int ioMillis, int dbMillis) {
+    }
+
+    private record Result(String mode, int completed, int rejected, long elapsedNanos, long[] sortedLatencies,
+                          int peakPlatformThreads) {
+
+        double throughput() {
+            return completed / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double p) {
+            int index = (int) Math.min(sortedLatencies.length - 1, Math.ceil(p * sortedLatencies.length) - 1);
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("throughput=%8.1f req/s p50=%7.2fms p99=%7.2fms max=%7.2fms rejected(503)=%d peakPlatformThreads=%d",
+                    throughput(), percentileMillis(0.50), percentileMillis(0.99), percentileMillis(1.0), rejected, peakPlatformThreads);
+        }
+    }
+}
@@ -2,25 +2,38 @@ package com.barogo.delivery.api.controller;
 
 import com.barogo.delivery.api.WithMockMember;
 import com.barogo.delivery.api.controller.model.DeliveryCreateRequest;
+import com.barogo.delivery.api.controller.model.DeliverySearchRequest;
 import com.barogo.delivery.api.controller.model.DeliverySummary;
+import com.barogo.delivery.api.controller.model.NearbyDelivery;
 import com.barogo.delivery.api.service.DeliveryService;
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex;
 import com.barogo.delivery.auth.MemberPrincipal;
 import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.projection.DeliveryListVersionView;
+import com.barogo.delivery.response.PageResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -36,6 +49,9 @@ class DeliveryControllerTest {
     @MockitoBean
     private DeliveryService deliveryService;
 
+    @MockitoBean
+    private ActiveDeliveryIndex activeDeliveryIndex;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -141,4 +157,151 @@ class DeliveryControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isInternalServerError());
     }
-}
\ No newline at end of file
+
+    /**
+     * If-None-Match 가 현재 버전 ETag 와 같으면 요약을 조회하지 않고 304 를 반환한다
+     */
+    @Test
+    @WithMockMember(id = 1L, username = "testUser", authorities = {"ROLE_USER"})
+    void getDeliveryById_ShouldReturn304_WhenETagMatches() throws Exception {
+        Mockito.when(deliveryService.findVersion(1L, 10L)).thenReturn(Optional.of(3L));
+
+        mockMvc.perform(get("/api/deliveries/10").header(HttpHeaders.IF_NONE_MATCH, "\"da-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"da-3\""));
+
+        Mockito.verify(deliveryService, Mockito.never()).findById(any(), any());
+    }
+
+    /**
+     * 버전이 바뀌었으면 본문과 새 ETag 를 반환한다
+     */
+    @Test
+    @WithMockMember(id = 1L, username = "testUser", authorities = {"ROLE_USER"})
+    void getDeliveryById_ShouldReturn200WithETag_WhenVersionChanged() throws Exception {
+        Mockito.when(deliveryService.findVersion(1L, 10L)).thenReturn(Optional.of(4L));
+        Mockito.when(deliveryService.findById(1L, 10L)).thenReturn(new DeliverySummary(
+                10L, "ORDER10", DeliveryStatus.ASSIGNED, LocalDateTime.now(), null, "pickup", "delivery"));
+
+        mockMvc.perform(get("/api/deliveries/10").header(HttpHeaders.IF_NONE_MATCH, "\"da-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"da-4\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.data.status").value("ASSIGNED"));
+    }
+
+    /**
+     * 목록 If-None-Match 가 기간 내 집계 ETag 와 같으면 목록을 조회하지 않고 304 를 반환한다
+     */
+    @Test
+    @WithMockMember(id = 1L, username = "testUser", authorities = {"ROLE_USER"})
+    void getDeliveries_ShouldReturn304_WhenListETagMatches() throws Exception {
+        Mockito.when(deliveryService.findListVersion(eq(1L), any(DeliverySearchRequest.class)))
+                .thenReturn(listVersion(2, 5, LocalDateTime.of(2025, 10, 1, 9, 0), 11L));
+        Mockito.when(deliveryService.findByMemberAndPeriod(eq(1L), any(DeliverySearchRequest.class)))
+                .thenReturn(page(DeliveryStatus.REQUESTED));
+
+        String eTag = mockMvc.perform(listRequest())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+
+        mockMvc.perform(listRequest().header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        Mockito.verify(deliveryService, Mockito.times(1)).findByMemberAndPeriod(eq(1L), any(DeliverySearchRequest.class));
+    }
+
+    /**
+     * 기간 내 배달이 바뀌면(버전 합, 마지막 수정 시각 증가) 이전 ETag 로 요청해도 목록과 새 ETag 를 반환한다
+     */
+    @Test
+    @WithMockMember(id = 1L, username = "testUser", authorities = {"ROLE_USER"})
+    void getDeliveries_ShouldReturn200WithNewETag_WhenPeriodChanged() throws Exception {
+        Mockito.when(deliveryService.findListVersion(eq(1L), any(DeliverySearchRequest.class)))
+                .thenReturn(listVersion(2, 5, LocalDateTime.of(2025, 10, 1, 9, 0), 11L));
+        Mockito.when(deliveryService.findByMemberAndPeriod(eq(1L), any(DeliverySearchRequest.class)))
+                .thenReturn(page(DeliveryStatus.REQUESTED));
+        String before = mockMvc.perform(listRequest())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 기간 내 한 건이 배차됨
+        Mockito.when(deliveryService.findListVersion(eq(1L), any(DeliverySearchRequest.class)))
+                .thenReturn(listVersion(2, 6, LocalDateTime.of(2025, 10, 1, 9, 5), 11L));
+        Mockito.when(deliveryService.findByMemberAndPeriod(eq(1L), any(DeliverySearchRequest.class)))
+                .thenReturn(page(DeliveryStatus.ASSIGNED));
+
+        String after = mockMvc.perform(listRequest().header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value("ASSIGNED"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).isNotNull().isNotEqualTo(before);
+    }
+
+    /**
+     * 주변 배달 검색은 배차 담당자(ROLE_DISPATCHER)만 호출할 수 있다
+     */
+    @Test
+    @WithMockMember(id = 1L, username = "testUser", authorities = {"ROLE_USER"})
+    void getNearbyDeliveries_ShouldReturn403_WhenNotDispatcher() throws Exception {
+        mockMvc.perform(get("/api/deliveries/nearby").param("lat", "37.5").param("lng", "127.0"))
+                .andExpect(status().isForbidden());
+
+        Mockito.verifyNoInteractions(activeDeliveryIndex);
+    }
+
+    /**
+     * 생략한 조건은 기본값(반경 2km, REQUESTED, 픽업지 기준, 50건)으로 조회한다
+     */
+    @Test
+    @WithMockMember(id = 1L, username = "dispatcher", authorities = {"ROLE_DISPATCHER"})
+    void getNearbyDeliveries_ShouldApplyDefaults() throws Exception {
+        Mockito.when(activeDeliveryIndex.nearby(ActiveDeliveryIndex.Point.PICKUP, 37.5, 127.0, 2_000,
+                        EnumSet.of(DeliveryStatus.REQUESTED), 50))
+                .thenReturn(List.of(new NearbyDelivery(10L, 120), new NearbyDelivery(11L, 830)));
+
+        mockMvc.perform(get("/api/deliveries/nearby").param("lat", "37.5").param("lng", "127.0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(10))
+                .andExpect(jsonPath("$.data[1].distanceMeters").value(830));
+    }
+
+    private static MockHttpServletRequestBuilder listRequest() {
+        return get("/api/deliveries")
+                .param("from", "2025-10-01T00:00:00")
+                .param("to", "2025-10-02T00:00:00")
+                .param("page", "0")
+                .param("size", "20");
+    }
+
+    private static PageResponse<DeliverySummary> page(DeliveryStatus status) {
+        return PageResponse.of(new PageImpl<>(List.of(new DeliverySummary(
+                10L, "ORDER10", status, LocalDateTime.of(2025, 10, 1, 8, 0), null, "pickup", "delivery"))));
+    }
+
+    private static DeliveryListVersionView listVersion(long count, long versionSum, LocalDateTime lastUpdatedAt, Long maxId) {
+        return new DeliveryListVersionView() {
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public Long getVersionSum() {
+                return versionSum;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdatedAt() {
+                return lastUpdatedAt;
+            }
+
+            @Override
+            public Long getMaxId() {
+                return maxId;
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.barogo.delivery.api.controller.model;
+
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeliveryCursorTest {
+
+    @Test
+    void encodeAndDecode_shouldRoundTrip() {
+        DeliveryCursor cursor = new DeliveryCursor(LocalDateTime.of(2025, 10, 1, 12, 30, 15), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertEquals(cursor, DeliveryCursor.decode(encoded));
+    }
+
+    @Test
+    void decode_shouldThrowInvalidParameter_WhenCursorIsMalformed() {
+        BusinessException exception = assertThrows(BusinessException.class, () -> DeliveryCursor.decode("not-a-cursor"));
+
+        assertEquals(ErrorCode.INVALID_PARAMETER, exception.getError());
+    }
+
+    @Test
+    void create_shouldRejectRowWithoutId() {
+        LocalDateTime requestedAt = LocalDateTime.of(2025, 10, 1, 12, 30, 15);
+
+        assertThrows(NullPointerException.class, () -> new DeliveryCursor(requestedAt, null));
+    }
+}
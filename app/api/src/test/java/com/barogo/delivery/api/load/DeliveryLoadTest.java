@@ -0,0 +1,276 @@
+package com.barogo.delivery.api.load;
+
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.MemberRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * app:api 종단간 부하 테스트 (open model)
+ * - 랜덤 포트로 ApiApplication 을 띄우고 H2(local 프로파일)에 회원/배달을 시딩한다
+ * - 가상 스레드 클라이언트가 고정 도착률(rps)로 요청을 보내며, 응답을 기다리지 않고 다음 요청을 예약한다
+ * - 지연은 "의도한 시작 시각" 기준으로 측정해 서버가 밀릴 때의 대기(coordinated omission)도 포함한다
+ * - 실행: ./gradlew :app:api:loadTest [-Dload.rps=.. -Dload.duration-seconds=.. -Dload.mix=.. -Dload.virtual-threads=true]
+ */
+@Tag("load")
+@ActiveProfiles("local")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "logging.level.org.hibernate.SQL=warn",
+                "logging.level.org.hibernate.orm.jdbc.bind=warn"
+        }
+)
+class DeliveryLoadTest {
+
+    private static final LoadSettings SETTINGS = LoadSettings.fromSystemProperties();
+    private static final String PASSWORD = "load-test-password";
+    private static final int SEED_CHUNK = 1_000;
+
+    @DynamicPropertySource
+    static void threadMode(DynamicPropertyRegistry registry) {
+        registry.add("spring.threads.virtual.enabled", SETTINGS::virtualThreads);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicLong orderSequence = new AtomicLong();
+
+    @Test
+    void mixedWorkload() throws Exception {
+        List<SeededMember> members = seed();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // 시작 전 모든 회원 로그인 (토큰 확보 + 워밍업)
+        for (SeededMember member : members) {
+            member.token = login(client, member).token();
+        }
+
+        LoadRecorder recorder = new LoadRecorder();
+        List<LoadOperation> weighted = weightedOperations(SETTINGS.mix());
+        long intervalNanos = 1_000_000_000L / SETTINGS.rps();
+        long started = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < SETTINGS.totalRequests(); i++) {
+                long intendedStart = started + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                LoadOperation operation = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+                SeededMember member = members.get(ThreadLocalRandom.current().nextInt(members.size()));
+                executor.submit(() -> execute(client, recorder, operation, member, intendedStart));
+            }
+        }
+
+        LoadReport report = recorder.report(SETTINGS, System.nanoTime() - started);
+        writeReport(report);
+
+        assertThat(report.totalRequests()).isEqualTo(SETTINGS.totalRequests());
+        assertThat(report.errorRate()).isLessThanOrEqualTo(SETTINGS.maxErrorRate());
+    }
+
+    private void execute(HttpClient client, LoadRecorder recorder, LoadOperation operation, SeededMember member, long intendedStart) {
+        LoadOperation recorded = operation;
+        try {
+            int status = switch (operation) {
+                case LOGIN -> login(client, member).status();
+                case CREATE -> send(client, member, "POST", "/api/deliveries", """
+                        {"orderNumber":"LOAD-%d","pickupAddress":"서울시 강남구 테헤란로 1","pickupLat":37.4979,"pickupLng":127.0276,
+                         "deliveryAddress":"서울시 서초구 서초대로 2","deliveryLat":37.4837,"deliveryLng":127.0324}
+                        """.formatted(orderSequence.incrementAndGet()));
+                case LIST -> {
+                    LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+                    yield send(client, member, "GET", "/api/deliveries?from=" + to.minusDays(2) + "&to=" + to + "&page=0&size=20", null);
+                }
+                case GET -> send(client, member, "GET", "/api/deliveries/" + member.randomDeliveryId(), null);
+                case STATUS -> {
+                    Long deliveryId = member.requested.poll();
+                    if (deliveryId == null) {
+                        // 배정 가능한 배달이 모두 소진되면 단건 조회로 대체
+                        recorded = LoadOperation.GET;
+                        yield send(client, member, "GET", "/api/deliveries/" + member.randomDeliveryId(), null);
+                    }
+                    yield send(client, member, "PATCH", "/api/deliveries/" + deliveryId + "/status", "{\"status\":\"ASSIGNED\"}");
+                }
+            };
+            recorder.record(recorded, status, System.nanoTime() - intendedStart);
+        } catch (IOException e) {
+            recorder.recordFailure(recorded, System.nanoTime() - intendedStart);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recorder.recordFailure(recorded, System.nanoTime() - intendedStart);
+        }
+    }
+
+    private LoginResult login(HttpClient client, SeededMember member) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request("POST", "/api/auth/login", null, """
+                {"loginId":"%s","password":"%s"}
+                """.formatted(member.loginId, PASSWORD)), HttpResponse.BodyHandlers.ofString());
+        String token = null;
+        if (response.statusCode() == 200) {
+            JsonNode body = objectMapper.readTree(response.body());
+            token = body.path("data").path("accessToken").asText();
+        }
+        return new LoginResult(response.statusCode(), token);
+    }
+
+    private int send(HttpClient client, SeededMember member, String method, String path, String body) throws IOException, InterruptedException {
+        return client.send(request(method, path, member.token, body), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest request(String method, String path, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 회원 N명, 회원당 배달 M건 시딩 (최근 2일 이내 requestedAt, 모두 REQUESTED)
+     */
+    private List<SeededMember> seed() {
+        String hashed = passwordEncoder.encode(PASSWORD);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        List<Member> members = transactionTemplate.execute(status -> {
+            List<Member> created = new ArrayList<>(SETTINGS.members());
+            for (int i = 0; i < SETTINGS.members(); i++) {
+                created.add(new Member("load-" + runId + "-" + i, hashed, "load-" + i));
+            }
+            return memberRepository.saveAll(created);
+        });
+
+        List<SeededMember> seeded = new ArrayList<>(members.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (Member member : members) {
+            List<Long> ids = new ArrayList<>(SETTINGS.deliveriesPerMember());
+            for (int from = 0; from < SETTINGS.deliveriesPerMember(); from += SEED_CHUNK) {
+                int to = Math.min(SETTINGS.deliveriesPerMember(), from + SEED_CHUNK);
+                int chunkStart = from;
+                ids.addAll(transactionTemplate.execute(status -> {
+                    Member reference = memberRepository.getReferenceById(member.getId());
+                    List<Delivery> chunk = new ArrayList<>(to - chunkStart);
+                    for (int i = chunkStart; i < to; i++) {
+                        chunk.add(new Delivery(
+                                reference,
+                                "SEED-" + runId + "-" + member.getId() + "-" + i,
+                                "서울시 강남구 테헤란로 " + i,
+                                "서울시 서초구 서초대로 " + i,
+                                DeliveryStatus.REQUESTED,
+                                now.minusMinutes(ThreadLocalRandom.current().nextInt(60 * 24 * 2))
+                        ));
+                    }
+                    return deliveryRepository.saveAll(chunk).stream().map(Delivery::getId).toList();
+                }));
+            }
+            seeded.add(new SeededMember(member.getLoginId(), ids));
+        }
+        return seeded;
+    }
+
+    private void writeReport(LoadReport report) throws IOException {
+        Path output = Path.of(SETTINGS.output());
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .writeValue(output.toFile(), report);
+        System.out.println("load test report: " + output.toAbsolutePath());
+        System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report.endpoints()));
+    }
+
+    private static List<LoadOperation> weightedOperations(Map<LoadOperation, Integer> mix) {
+        List<LoadOperation> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("load.mix 에 최소 한 개의 작업이 필요합니다.");
+        }
+        return weighted;
+    }
+
+    private record LoginResult(int status, String token) {
+    }
+
+    private static final class SeededMember {
+        private final String loginId;
+        private final long[] deliveryIds;
+        // 상태 변경(REQUESTED -> ASSIGNED) 대상, 한 번씩만 사용
+        private final ConcurrentLinkedQueue<Long> requested;
+        private volatile String token;
+
+        private SeededMember(String loginId, List<Long> deliveryIds) {
+            this.loginId = loginId;
+            this.deliveryIds = deliveryIds.stream().mapToLong(Long::longValue).toArray();
+            this.requested = new ConcurrentLinkedQueue<>(deliveryIds);
+        }
+
+        private long randomDeliveryId() {
+            return deliveryIds[ThreadLocalRandom.current().nextInt(deliveryIds.length)];
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.barogo.delivery.api.load;
+
+import java.util.Arrays;
+
+enum LoadOperation {
+    LOGIN("login"),
+    CREATE("create"),
+    LIST("list"),
+    GET("get"),
+    STATUS("status");
+
+    private final String key;
+
+    LoadOperation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static LoadOperation of(String key) {
+        return Arrays.stream(values())
+                .filter(op -> op.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 작업입니다: " + key));
+    }
+}
@@ -0,0 +1,85 @@
+package com.barogo.delivery.api.load;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업별 지연(의도한 시작 시각 기준)과 오류 집계
+ */
+class LoadRecorder {
+
+    private final Map<LoadOperation, Endpoint> endpoints = new EnumMap<>(LoadOperation.class);
+
+    LoadRecorder() {
+        for (LoadOperation operation : LoadOperation.values()) {
+            endpoints.put(operation, new Endpoint());
+        }
+    }
+
+    void record(LoadOperation operation, int status, long latencyNanos) {
+        Endpoint endpoint = endpoints.get(operation);
+        endpoint.latencies.add(latencyNanos);
+        endpoint.statusCounts.computeIfAbsent(status, k -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            endpoint.errors.increment();
+        }
+    }
+
+    void recordFailure(LoadOperation operation, long latencyNanos) {
+        // 연결 실패/타임아웃 등 응답을 받지 못한 경우 status 0
+        record(operation, 0, latencyNanos);
+    }
+
+    LoadReport report(LoadSettings settings, long elapsedNanos) {
+        Map<String, LoadReport.EndpointReport> reports = new TreeMap<>();
+        long total = 0;
+        long errors = 0;
+        for (var entry : endpoints.entrySet()) {
+            Endpoint endpoint = entry.getValue();
+            long[] sorted = endpoint.latencies.stream().mapToLong(Long::longValue).toArray();
+            if (sorted.length == 0) {
+                continue;
+            }
+            Arrays.sort(sorted);
+
+            Map<String, Long> statusCounts = new TreeMap<>();
+            endpoint.statusCounts.forEach((status, count) -> statusCounts.put(String.valueOf(status), count.sum()));
+
+            long endpointErrors = endpoint.errors.sum();
+            reports.put(entry.getKey().key(), new LoadReport.EndpointReport(
+                    sorted.length,
+                    endpointErrors,
+                    (double) endpointErrors / sorted.length,
+                    millis(percentile(sorted, 0.50)),
+                    millis(percentile(sorted, 0.99)),
+                    millis(percentile(sorted, 0.999)),
+                    millis(sorted[sorted.length - 1]),
+                    statusCounts
+            ));
+            total += sorted.length;
+            errors += endpointErrors;
+        }
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        return new LoadReport(settings, Math.round(elapsedSeconds * 1000), total / elapsedSeconds, total, errors, reports);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static final class Endpoint {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final ConcurrentHashMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,32 @@
+package com.barogo.delivery.api.load;
+
+import java.util.Map;
+
+/**
+ * 커밋 간 diff 가 가능하도록 키 순서가 고정된 결과 (JSON 파일로 저장)
+ */
+record LoadReport(
+        LoadSettings settings,
+        long elapsedMillis,
+        double achievedRps,
+        long totalRequests,
+        long totalErrors,
+        Map<String, EndpointReport> endpoints
+) {
+
+    double errorRate() {
+        return totalRequests == 0 ? 0 : (double) totalErrors / totalRequests;
+    }
+
+    record EndpointReport(
+            long count,
+            long errors,
+            double errorRate,
+            double p50Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            Map<String, Long> statusCounts
+    ) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.barogo.delivery.api.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 load.*)
+ * - ./gradlew :app:api:loadTest -Dload.rps=300 -Dload.duration-seconds=60 -Dload.mix=login=5,create=20,list=30,get=30,status=15
+ */
+record LoadSettings(
+        int members,
+        int deliveriesPerMember,
+        int rps,
+        int durationSeconds,
+        Map<LoadOperation, Integer> mix,
+        boolean virtualThreads,
+        double maxErrorRate,
+        String output
+) {
+
+    static LoadSettings fromSystemProperties() {
+        return new LoadSettings(
+                Integer.getInteger("load.members", 50),
+                Integer.getInteger("load.deliveries-per-member", 200),
+                Integer.getInteger("load.rps", 200),
+                Integer.getInteger("load.duration-seconds", 30),
+                parseMix(System.getProperty("load.mix", "login=5,create=20,list=30,get=30,status=15")),
+                Boolean.parseBoolean(System.getProperty("load.virtual-threads", "false")),
+                Double.parseDouble(System.getProperty("load.max-error-rate", "0.01")),
+                System.getProperty("load.output", "build/reports/load/load-test.json")
+        );
+    }
+
+    long totalRequests() {
+        return (long) rps * durationSeconds;
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(String value) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("load.mix 형식이 올바르지 않습니다: " + entry);
+            }
+            mix.put(LoadOperation.of(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
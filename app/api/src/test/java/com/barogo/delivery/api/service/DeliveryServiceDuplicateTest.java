@@ -0,0 +1,54 @@
+package com.barogo.delivery.api.service;
+
+import com.barogo.delivery.api.controller.model.DeliveryCreateRequest;
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.MemberRepository;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.response.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest
+class DeliveryServiceDuplicateTest {
+
+    @Autowired
+    private DeliveryService deliveryService;
+
+    @MockitoSpyBean
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    /**
+     * 사전 중복 조회를 지나친 요청도 order_number 유니크 제약에서 DUPLICATE 로 끝난다
+     */
+    @Test
+    void createDelivery_UniqueConstraintViolation_ThrowsDuplicate() {
+        Member member = memberRepository.save(new Member("duplicate-" + System.nanoTime(), "password", "duplicate"));
+        String orderNumber = "DUP-" + System.nanoTime();
+        deliveryRepository.save(new Delivery(member, orderNumber, "픽업지", "도착지",
+                DeliveryStatus.REQUESTED, LocalDateTime.now()));
+
+        // 동시에 들어온 요청처럼 사전 조회에서는 보이지 않게 한다
+        doReturn(List.of()).when(deliveryRepository).findExistingOrderNumbers(any());
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> deliveryService.createDelivery(
+                member.getId(), new DeliveryCreateRequest(orderNumber, "픽업지", null, null, "도착지", null, null, null)));
+
+        assertThat(exception.getError()).isEqualTo(ErrorCode.DUPLICATE_EXCEPTION);
+    }
+}
@@ -1,12 +1,21 @@
 package com.barogo.delivery.api.service;
 
+import com.barogo.delivery.api.controller.model.DeliveryBulkCreateRequest;
+import com.barogo.delivery.api.controller.model.DeliveryBulkCreateResponse;
+import com.barogo.delivery.api.controller.model.DeliveryBulkItemResult;
 import com.barogo.delivery.api.controller.model.DeliveryCreateRequest;
+import com.barogo.delivery.api.controller.model.DeliveryCursor;
+import com.barogo.delivery.api.controller.model.DeliveryCursorSearchRequest;
+import com.barogo.delivery.api.controller.model.DeliverySearchRequest;
 import com.barogo.delivery.api.controller.model.DeliverySummary;
+import com.barogo.delivery.api.service.outbox.DeliveryOutbox;
 import com.barogo.delivery.api.service.validation.DeliveryRequestValidator;
 import com.barogo.delivery.domain.Delivery;
 import com.barogo.delivery.domain.Member;
 import com.barogo.delivery.enums.DeliveryStatus;
 import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.projection.DeliverySummaryView;
+import com.barogo.delivery.response.SliceResponse;
 import com.barogo.delivery.response.exception.BusinessException;
 import com.barogo.delivery.response.exception.ErrorCode;
 import jakarta.validation.ConstraintViolationException;
@@ -14,14 +23,32 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -30,6 +57,8 @@ import static org.mockito.Mockito.when;
 @SpringBootTest
 class DeliveryServiceTest {
 
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
     @Autowired
     private DeliveryService deliveryService;
 
@@ -42,6 +71,9 @@ class DeliveryServiceTest {
     @MockitoBean
     private DeliveryRequestValidator deliveryRequestValidator;
 
+    @MockitoBean
+    private DeliveryOutbox deliveryOutbox;
+
     @Test
     void testCreateDelivery_SuccessfulCreation() {
         Long memberId = 1L;
@@ -60,8 +92,8 @@ class DeliveryServiceTest {
         Delivery mockDelivery = new Delivery(mockMember, "ORDER123", "123 Pickup Address", "456 Delivery Address", DeliveryStatus.REQUESTED, LocalDateTime.now());
         mockDelivery.changeDestination("456 Delivery Address", 37.7749, -122.4194);
 
-        when(memberService.findById(memberId)).thenReturn(mockMember);
-        when(deliveryRepository.save(any(Delivery.class))).thenReturn(mockDelivery);
+        when(memberService.getReference(memberId)).thenReturn(mockMember);
+        when(deliveryRepository.saveAndFlush(any(Delivery.class))).thenReturn(mockDelivery);
 
         DeliverySummary result = deliveryService.createDelivery(memberId, request);
 
@@ -69,8 +101,8 @@ class DeliveryServiceTest {
         assertThat(result.orderNumber()).isEqualTo("ORDER123");
 
         verify(deliveryRequestValidator, times(1)).validateCreate(request);
-        verify(deliveryRepository, times(1)).save(any(Delivery.class));
-        verify(memberService, times(1)).findById(memberId);
+        verify(deliveryRepository, times(1)).saveAndFlush(any(Delivery.class));
+        verify(memberService, times(1)).getReference(memberId);
     }
 
     @Test
@@ -112,14 +144,14 @@ class DeliveryServiceTest {
         );
 
         Member mockMember = new Member("loginId", "password", "Test User");
-        when(memberService.findById(memberId)).thenReturn(mockMember);
-        when(deliveryRepository.save(any(Delivery.class))).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(memberService.getReference(memberId)).thenReturn(mockMember);
+        when(deliveryRepository.saveAndFlush(any(Delivery.class))).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
 
         assertThrows(BusinessException.class, () -> deliveryService.createDelivery(memberId, request));
 
         verify(deliveryRequestValidator, times(1)).validateCreate(request);
-        verify(deliveryRepository, times(1)).save(any(Delivery.class));
-        verify(memberService, times(1)).findById(memberId);
+        verify(deliveryRepository, times(1)).saveAndFlush(any(Delivery.class));
+        verify(memberService, times(1)).getReference(memberId);
     }
 
     @Test
@@ -136,12 +168,225 @@ class DeliveryServiceTest {
                 "Please deliver ASAP"
         );
 
-        when(memberService.findById(memberId)).thenThrow(new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Member not found"));
+        when(memberService.getReference(memberId)).thenThrow(new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "Member not found"));
 
         assertThrows(BusinessException.class, () -> deliveryService.createDelivery(memberId, request));
 
         verify(deliveryRequestValidator, times(1)).validateCreate(request);
-        verify(memberService, times(1)).findById(memberId);
+        verify(memberService, times(1)).getReference(memberId);
         verifyNoInteractions(deliveryRepository);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCreateDeliveries_ReportsFailuresPerItem() {
+        Long memberId = 1L;
+        DeliveryCreateRequest valid = createRequest("ORDER-A");
+        DeliveryCreateRequest invalid = createRequest("ORDER-B");
+        DeliveryCreateRequest duplicateInRequest = createRequest("ORDER-A");
+        DeliveryCreateRequest alreadyExists = createRequest("ORDER-C");
+
+        doThrow(new BusinessException(ErrorCode.INVALID_PARAMETER, "픽업 위도는 -90.0 ~ 90.0 범위여야 합니다."))
+                .when(deliveryRequestValidator).validateCreate(invalid);
+        when(deliveryRepository.findExistingOrderNumbers(anyCollection())).thenReturn(List.of("ORDER-C"));
+        when(memberService.getReference(memberId)).thenReturn(new Member("loginId", "password", "Test User"));
+
+        DeliveryBulkCreateResponse response = deliveryService.createDeliveries(memberId,
+                new DeliveryBulkCreateRequest(List.of(valid, invalid, duplicateInRequest, alreadyExists)));
+
+        assertThat(response.requested()).isEqualTo(4);
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(3);
+        assertThat(response.results()).extracting(DeliveryBulkItemResult::code)
+                .containsExactly(null, "InvalidParameter", "DuplicateException", "DuplicateException");
+
+        verify(deliveryRepository, times(1)).saveAll(argThat((Iterable<Delivery> deliveries) -> deliveries.iterator().next().getOrderNumber().equals("ORDER-A")));
+        verify(deliveryRepository, times(1)).flush();
+    }
+
+    @Test
+    void testCreateDeliveries_AllItemsRejectedSkipsInsert() {
+        Long memberId = 1L;
+        DeliveryCreateRequest invalid = createRequest("ORDER-B");
+        doThrow(new BusinessException(ErrorCode.INVALID_PARAMETER, "도착지 주소는 필수입니다."))
+                .when(deliveryRequestValidator).validateCreate(invalid);
+
+        DeliveryBulkCreateResponse response = deliveryService.createDeliveries(memberId,
+                new DeliveryBulkCreateRequest(List.of(invalid)));
+
+        assertThat(response.created()).isZero();
+        verifyNoInteractions(deliveryRepository, memberService);
+    }
+
+    /**
+     * 항목이 많아도(같은 락 스트라이프에 걸리는 주문번호가 있어도) 락 대기 없이 등록되고,
+     * 같은 주문번호를 반대 순서로 담은 일괄 등록이 동시에 와도 서로 막지 않는다
+     */
+    @Test
+    void testCreateDeliveries_ManyItemsWithoutLockWaits() throws Exception {
+        Long memberId = 1L;
+        List<DeliveryCreateRequest> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add(createRequest("ORDER-BULK-" + i));
+        }
+        List<DeliveryCreateRequest> reversed = new ArrayList<>(items);
+        Collections.reverse(reversed);
+        when(memberService.getReference(memberId)).thenReturn(new Member("loginId", "password", "Test User"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<DeliveryBulkCreateResponse> first = executor.submit(() ->
+                    deliveryService.createDeliveries(memberId, new DeliveryBulkCreateRequest(items)));
+            Future<DeliveryBulkCreateResponse> second = executor.submit(() ->
+                    deliveryService.createDeliveries(memberId, new DeliveryBulkCreateRequest(reversed)));
+
+            assertThat(first.get(5, TimeUnit.SECONDS).created()).isEqualTo(200);
+            assertThat(second.get(5, TimeUnit.SECONDS).created()).isEqualTo(200);
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(deliveryRepository, times(2)).saveAll(any());
+    }
+
+    @Test
+    void testFindByMemberAndPeriod_RejectsPageBeyondWindow() {
+        LocalDateTime from = LocalDateTime.of(2025, 10, 1, 0, 0);
+        DeliverySearchRequest request = new DeliverySearchRequest(from, from.plusDays(1), PageRequest.of(500, 200), 500, 200);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> deliveryService.findByMemberAndPeriod(1L, request));
+
+        assertThat(exception.getError()).isEqualTo(ErrorCode.INVALID_PARAMETER);
+        verify(deliveryRepository, never()).findSummaryPageByMemberIdAndPeriod(any(), any(), any(), any());
+    }
+
+    @Test
+    void testFindWithCursor_FirstPageHasNext() {
+        Long memberId = 1L;
+        LocalDateTime from = LocalDateTime.of(2025, 10, 1, 0, 0);
+        LocalDateTime to = from.plusDays(2);
+        DeliveryCursorSearchRequest request = new DeliveryCursorSearchRequest(from, to, null, 2);
+
+        List<DeliverySummaryView> rows = List.of(
+                summaryView(3L, "ORDER3", from.plusHours(3)),
+                summaryView(2L, "ORDER2", from.plusHours(2)),
+                summaryView(1L, "ORDER1", from.plusHours(1))
+        );
+        when(deliveryRepository.findSliceByMemberIdAndPeriod(eq(memberId), eq(from), eq(to), any(Limit.class))).thenReturn(rows);
+
+        SliceResponse<DeliverySummary> result = deliveryService.findByMemberAndPeriodWithCursor(memberId, request);
+
+        assertThat(result.getData()).extracting(DeliverySummary::orderNumber).containsExactly("ORDER3", "ORDER2");
+        assertThat(result.getHasNext()).isTrue();
+        assertThat(DeliveryCursor.decode(result.getNextCursor())).isEqualTo(new DeliveryCursor(from.plusHours(2), 2L));
+        verify(deliveryRepository, never()).findSummaryPageByMemberIdAndPeriod(any(), any(), any(), any());
+    }
+
+    @Test
+    void testFindWithCursor_LastPage() {
+        Long memberId = 1L;
+        LocalDateTime from = LocalDateTime.of(2025, 10, 1, 0, 0);
+        LocalDateTime to = from.plusDays(2);
+        String cursor = new DeliveryCursor(from.plusHours(2), 10L).encode();
+        DeliveryCursorSearchRequest request = new DeliveryCursorSearchRequest(from, to, cursor, 2);
+
+        List<DeliverySummaryView> rows = List.of(
+                summaryView(1L, "ORDER1", from.plusHours(1))
+        );
+        when(deliveryRepository.findSliceByMemberIdAndPeriodAfter(
+                eq(memberId), eq(from), eq(to), eq(from.plusHours(2)), eq(10L), any(Limit.class))).thenReturn(rows);
+
+        SliceResponse<DeliverySummary> result = deliveryService.findByMemberAndPeriodWithCursor(memberId, request);
+
+        assertThat(result.getData()).hasSize(1);
+        assertThat(result.getHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testFindById_ReturnsProjectionOfOwnedDelivery() {
+        when(deliveryRepository.findSummaryByIdAndMemberId(10L, 1L))
+                .thenReturn(Optional.of(summaryView(10L, "ORDER10", LocalDateTime.now())));
+
+        DeliverySummary result = deliveryService.findById(1L, 10L);
+
+        assertThat(result.id()).isEqualTo(10L);
+        assertThat(result.orderNumber()).isEqualTo("ORDER10");
+        verify(deliveryRepository, never()).findById(any());
+    }
+
+    @Test
+    void testFindById_ForbiddenWhenOwnedByOtherMember() {
+        when(deliveryRepository.findSummaryByIdAndMemberId(10L, 1L)).thenReturn(Optional.empty());
+        when(deliveryRepository.existsById(10L)).thenReturn(true);
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> deliveryService.findById(1L, 10L));
+
+        assertThat(exception.getError()).isEqualTo(ErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    void testFindById_NotFound() {
+        when(deliveryRepository.findSummaryByIdAndMemberId(10L, 1L)).thenReturn(Optional.empty());
+        when(deliveryRepository.existsById(10L)).thenReturn(false);
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> deliveryService.findById(1L, 10L));
+
+        assertThat(exception.getError()).isEqualTo(ErrorCode.RESOURCE_NOT_FOUND);
+    }
+
+    @Test
+    void testChangeStatus_CompareAndSetSucceeds() {
+        when(deliveryRepository.compareAndSetStatus(eq(10L), eq(1L), eq(DeliveryStatus.ASSIGNED), any(LocalDateTime.class), any()))
+                .thenReturn(1);
+
+        deliveryService.changeStatus(1L, 10L, DeliveryStatus.ASSIGNED);
+
+        verify(deliveryRepository, never()).findById(any());
+        verify(deliveryRepository, never()).findSummaryByIdAndMemberId(any(), any());
+        verify(deliveryOutbox).statusChanged(eq(10L), eq(1L), eq(DeliveryStatus.ASSIGNED), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testChangeStatus_IllegalTransition() {
+        when(deliveryRepository.compareAndSetStatus(eq(10L), eq(1L), eq(DeliveryStatus.DELIVERED), any(LocalDateTime.class), any()))
+                .thenReturn(0);
+        when(deliveryRepository.findSummaryByIdAndMemberId(10L, 1L))
+                .thenReturn(Optional.of(summaryView(10L, "ORDER10", LocalDateTime.now())));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> deliveryService.changeStatus(1L, 10L, DeliveryStatus.DELIVERED));
+
+        assertThat(exception.getError()).isEqualTo(ErrorCode.ILLEGAL_STATUS);
+    }
+
+    @Test
+    void testChangeStatus_ConcurrentChange() {
+        // 현재 상태(REQUESTED)에서는 허용되는 전이지만 갱신 건수가 0 이면 동시 변경으로 판단
+        when(deliveryRepository.compareAndSetStatus(eq(10L), eq(1L), eq(DeliveryStatus.ASSIGNED), any(LocalDateTime.class), any()))
+                .thenReturn(0);
+        when(deliveryRepository.findSummaryByIdAndMemberId(10L, 1L))
+                .thenReturn(Optional.of(summaryView(10L, "ORDER10", LocalDateTime.now())));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> deliveryService.changeStatus(1L, 10L, DeliveryStatus.ASSIGNED));
+
+        assertThat(exception.getError()).isEqualTo(ErrorCode.CONFLICT);
+        verifyNoInteractions(deliveryOutbox);
+    }
+
+    private static DeliverySummaryView summaryView(Long id, String orderNumber, LocalDateTime requestedAt) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("orderNumber", orderNumber);
+        values.put("status", DeliveryStatus.REQUESTED);
+        values.put("requestedAt", requestedAt);
+        values.put("pickupAddress", "pickup");
+        values.put("deliveryAddress", "delivery");
+        return PROJECTION_FACTORY.createProjection(DeliverySummaryView.class, values);
+    }
+
+    private static DeliveryCreateRequest createRequest(String orderNumber) {
+        return new DeliveryCreateRequest(orderNumber, "123 Pickup Address", 37.7749, -122.4194,
+                "456 Delivery Address", 37.7749, -122.4194, null);
+    }
+}
@@ -15,6 +15,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -85,4 +87,30 @@ class MemberServiceTest {
         assertEquals(ErrorCode.UNAUTHORIZED_ERROR, exception.getError());
         assertEquals("아이디 또는 비밀번호가 올바르지 않습니다.", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getReference_SkipsExistenceQueryWhenCached() {
+        Long memberId = 101L;
+        Member reference = new Member("cached", "password", "Cached User");
+        when(memberRepository.existsById(memberId)).thenReturn(true);
+        when(memberRepository.getReferenceById(memberId)).thenReturn(reference);
+
+        memberService.getReference(memberId);
+        Member second = memberService.getReference(memberId);
+
+        assertEquals(reference, second);
+        verify(memberRepository, times(1)).existsById(memberId);
+        verify(memberRepository, times(2)).getReferenceById(memberId);
+    }
+
+    @Test
+    void getReference_MemberNotFound() {
+        Long memberId = 102L;
+        when(memberRepository.existsById(memberId)).thenReturn(false);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> memberService.getReference(memberId));
+
+        assertEquals(ErrorCode.RESOURCE_NOT_FOUND, exception.getError());
+    }
+}
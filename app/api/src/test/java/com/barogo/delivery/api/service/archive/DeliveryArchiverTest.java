@@ -0,0 +1,151 @@
+package com.barogo.delivery.api.service.archive;
+
+import com.barogo.delivery.api.controller.model.DeliveryCreateRequest;
+import com.barogo.delivery.api.service.DeliveryService;
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.DeliveryArchiveWatermark;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryArchiveRepository;
+import com.barogo.delivery.jpa.DeliveryArchiveWatermarkRepository;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.MemberRepository;
+import com.barogo.delivery.jpa.projection.DeliverySummaryView;
+import com.barogo.delivery.response.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "delivery.archive.enabled=true",
+        "delivery.archive.archive-after=1d",
+        "delivery.archive.chunk-size=2",
+        "delivery.archive.chunk-pause=0s",
+        "delivery.archive.watermark-refresh=0s"
+})
+class DeliveryArchiverTest {
+
+    @Autowired
+    private DeliveryArchiver deliveryArchiver;
+
+    @Autowired
+    private DeliveryArchiveReader deliveryArchiveReader;
+
+    @Autowired
+    private DeliveryArchiveRouter deliveryArchiveRouter;
+
+    @Autowired
+    private DeliveryService deliveryService;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private DeliveryArchiveRepository deliveryArchiveRepository;
+
+    @Autowired
+    private DeliveryArchiveWatermarkRepository watermarkRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 오래된 종료 배달만 옮기고, 기간 조회는 경계에 따라 delivery / delivery_archive / 둘 다에서 읽는다
+     */
+    @Test
+    void archiveOnce_shouldMoveOldTerminalDeliveriesAndRouteReads() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Member member = memberRepository.save(new Member("archiver-" + System.nanoTime(), "password", "archiver"));
+        List<Delivery> deliveries = transactionTemplate.execute(status -> deliveryRepository.saveAll(List.of(
+                newDelivery(member, DeliveryStatus.DELIVERED, now.minusDays(16)),
+                newDelivery(member, DeliveryStatus.DELIVERED, now.minusDays(10)),
+                newDelivery(member, DeliveryStatus.CANCELED, now.minusDays(10).plusHours(1)),
+                newDelivery(member, DeliveryStatus.REQUESTED, now.minusDays(10).plusHours(2)),   // 미종료
+                newDelivery(member, DeliveryStatus.DELIVERED, now.minusHours(1))                 // 최근
+        )));
+        Long oldest = deliveries.get(0).getId();
+        Long delivered = deliveries.get(1).getId();
+        Long canceled = deliveries.get(2).getId();
+        Long requested = deliveries.get(3).getId();
+        Long recent = deliveries.get(4).getId();
+
+        int moved = deliveryArchiver.archiveOnce();
+
+        assertThat(moved).isEqualTo(3);
+        assertThat(deliveryRepository.findAllById(List.of(oldest, delivered, canceled))).isEmpty();
+        assertThat(deliveryArchiveRepository.findAllById(List.of(oldest, delivered, canceled))).hasSize(3);
+        assertThat(deliveryRepository.existsById(requested)).isTrue();
+        assertThat(deliveryRepository.existsById(recent)).isTrue();
+
+        DeliveryArchiveWatermark watermark = watermarkRepository.findById(DeliveryArchiveWatermark.SINGLETON_ID).orElseThrow();
+        assertThat(watermark.getArchivedBefore()).isEqualTo(now.minusDays(1));
+        assertThat(watermark.getHotFloor()).isEqualTo(now.minusDays(10).plusHours(2));
+
+        // 남은 가장 이른 행보다 앞선 기간 -> 보관 테이블만
+        assertThat(deliveryArchiveRouter.tierOf(now.minusDays(17), now.minusDays(15))).isEqualTo(ArchiveTier.ARCHIVE);
+        assertThat(ids(deliveryArchiveReader.findSlice(member.getId(), now.minusDays(17), now.minusDays(15), null, null, Limit.of(10))))
+                .containsExactly(oldest);
+
+        // 미종료 배달이 남은 기간 -> 둘 다 (requestedAt DESC 로 합친다)
+        assertThat(deliveryArchiveRouter.tierOf(now.minusDays(11), now.minusDays(9))).isEqualTo(ArchiveTier.BOTH);
+        assertThat(ids(deliveryArchiveReader.findSummaryPage(member.getId(), now.minusDays(11), now.minusDays(9),
+                PageRequest.of(0, 10)).getContent()))
+                .containsExactly(requested, canceled, delivered);
+        assertThat(ids(deliveryArchiveReader.findSlice(member.getId(), now.minusDays(11), now.minusDays(9), null, null, Limit.of(2))))
+                .containsExactly(requested, canceled);
+        assertThat(deliveryArchiveReader.findListVersion(member.getId(), now.minusDays(11), now.minusDays(9)).getCount())
+                .isEqualTo(3);
+
+        // 보관 경계 이후 기간 -> delivery 만
+        assertThat(deliveryArchiveRouter.tierOf(now.minusHours(2), now)).isEqualTo(ArchiveTier.HOT);
+
+        // 단건 조회는 보관 테이블로 이어진다
+        assertThat(deliveryArchiveReader.findSummary(delivered, member.getId())).isPresent();
+        assertThat(deliveryArchiveReader.existsById(canceled)).isTrue();
+
+        // 옮길 행이 없으면 경계만 유지된다
+        assertThat(deliveryArchiver.archiveOnce()).isZero();
+        assertThat(deliveryArchiver.stats().archived()).isEqualTo(3);
+    }
+
+    /**
+     * 보관된 배달의 주문번호는 delivery 유니크 제약 밖에 있어도 다시 등록할 수 없다
+     */
+    @Test
+    void archivedOrderNumber_shouldNotBeRegisteredAgain() {
+        Member member = memberRepository.save(new Member("archiver-" + System.nanoTime(), "password", "archiver"));
+        Delivery archived = transactionTemplate.execute(status -> deliveryRepository.save(
+                newDelivery(member, DeliveryStatus.DELIVERED, LocalDateTime.now().withNano(0).minusDays(20))));
+        String orderNumber = archived.getOrderNumber();
+
+        deliveryArchiver.archiveOnce();
+
+        assertThat(deliveryArchiveRepository.existsById(archived.getId())).isTrue();
+        assertThat(deliveryRepository.findExistingOrderNumbers(List.of(orderNumber, "NOT-REGISTERED")))
+                .containsExactly(orderNumber);
+        assertThatThrownBy(() -> deliveryService.createDelivery(member.getId(), new DeliveryCreateRequest(
+                orderNumber, "픽업지", null, null, "도착지", null, null, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("이미 존재하는 주문번호입니다.");
+    }
+
+    private static List<Long> ids(List<DeliverySummaryView> views) {
+        return views.stream().map(DeliverySummaryView::getId).toList();
+    }
+
+    private static Delivery newDelivery(Member member, DeliveryStatus status, LocalDateTime requestedAt) {
+        return new Delivery(member, "ARCHIVE-" + System.nanoTime(), "픽업지", "도착지", status, requestedAt);
+    }
+}
@@ -0,0 +1,150 @@
+package com.barogo.delivery.api.service.dispatch;
+
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex;
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "delivery.dispatch.enabled=true",
+        "delivery.dispatch.tick-interval=1h"   // 테스트에서 직접 dispatchOnce 호출
+})
+class DispatchEngineTest {
+
+    @Autowired
+    private DispatchEngine dispatchEngine;
+
+    @Autowired
+    private RiderPool riderPool;
+
+    @Autowired
+    private ActiveDeliveryIndex activeDeliveryIndex;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 가까운 라이더에게 배차하고, 인덱스에는 남아 있지만 그 사이 취소된 배달은 조건부 UPDATE 에서 건너뛴다
+     */
+    @Test
+    void dispatchOnce_shouldAssignNearestRiderAndSkipConcurrentlyCanceled() {
+        List<Delivery> deliveries = transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(new Member("dispatch-" + System.nanoTime(), "password", "dispatch"));
+            return deliveryRepository.saveAll(List.of(
+                    newDelivery(member, "DISPATCH-A", 37.5000),
+                    newDelivery(member, "DISPATCH-B", 37.5100),
+                    newDelivery(member, "DISPATCH-C", 37.5200)
+            ));
+        });
+        activeDeliveryIndex.added(deliveries);
+        Long a = deliveries.get(0).getId();
+        Long b = deliveries.get(1).getId();
+        Long c = deliveries.get(2).getId();
+        Long memberId = deliveries.get(0).getMember().getId();
+
+        // 인덱스 반영 없이 DB 에서만 취소 (배차 직전의 동시 취소)
+        transactionTemplate.executeWithoutResult(status ->
+                deliveryRepository.compareAndSetStatus(c, memberId, DeliveryStatus.CANCELED, LocalDateTime.now(), "test"));
+
+        long conflictsBefore = dispatchEngine.stats().conflicts();
+        riderPool.report(9001L, 37.5101, 127.0, true);
+        riderPool.report(9002L, 37.5001, 127.0, true);
+        riderPool.report(9003L, 37.5201, 127.0, true);
+
+        int assigned = dispatchEngine.dispatchOnce();
+
+        assertThat(assigned).isEqualTo(2);
+        assertThat(deliveryRepository.findById(a)).get()
+                .satisfies(d -> {
+                    assertThat(d.getStatus()).isEqualTo(DeliveryStatus.ASSIGNED);
+                    assertThat(d.getRiderId()).isEqualTo(9002L);
+                    assertThat(d.getAssignedAt()).isNotNull();
+                });
+        assertThat(deliveryRepository.findById(b)).get()
+                .satisfies(d -> assertThat(d.getRiderId()).isEqualTo(9001L));
+        assertThat(deliveryRepository.findById(c)).get()
+                .satisfies(d -> {
+                    assertThat(d.getStatus()).isEqualTo(DeliveryStatus.CANCELED);
+                    assertThat(d.getRiderId()).isNull();
+                });
+        assertThat(dispatchEngine.stats().conflicts() - conflictsBefore).isEqualTo(1);
+
+        // 배차된 라이더는 대기 목록에서 빠지고, 배차된 배달은 REQUESTED 조회에서 빠진다
+        assertThat(riderPool.snapshot(Duration.ofMinutes(1)))
+                .extracting(RiderPool.RiderPosition::riderId)
+                .containsExactly(9003L);
+        long[] ids = new long[10];
+        double[] distances = new double[10];
+        int requested = activeDeliveryIndex.nearest(ActiveDeliveryIndex.Point.PICKUP, 37.5000, 127.0, 1_500,
+                DeliveryStatus.REQUESTED.bit(), ids, distances);
+        assertThat(requested).isZero();
+    }
+
+    /**
+     * 조건부 UPDATE 에서 건너뛴 배달은 인덱스에서 빠져, 반경 안의 라이더가 다음 주기에 다른 배달에 배차된다
+     */
+    @Test
+    void dispatchOnce_shouldRefreshSkippedDeliveryAndMatchRiderElsewhere() {
+        List<Delivery> deliveries = transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(new Member("dispatch-" + System.nanoTime(), "password", "dispatch"));
+            return deliveryRepository.saveAll(List.of(
+                    newDelivery(member, "DISPATCH-D", 37.7000),
+                    newDelivery(member, "DISPATCH-E", 37.7050)
+            ));
+        });
+        activeDeliveryIndex.added(deliveries);
+        Long canceled = deliveries.get(0).getId();
+        Long next = deliveries.get(1).getId();
+        Long memberId = deliveries.get(0).getMember().getId();
+
+        // 인덱스 반영 없이 DB 에서만 취소 (다른 노드에서 취소)
+        transactionTemplate.executeWithoutResult(status ->
+                deliveryRepository.compareAndSetStatus(canceled, memberId, DeliveryStatus.CANCELED, LocalDateTime.now(), "test"));
+
+        // 취소된 배달이 라이더에게 가장 가깝다
+        riderPool.report(9101L, 37.7001, 127.0, true);
+
+        assertThat(dispatchEngine.dispatchOnce()).isZero();
+
+        long[] ids = new long[10];
+        double[] distances = new double[10];
+        int requested = activeDeliveryIndex.nearest(ActiveDeliveryIndex.Point.PICKUP, 37.7001, 127.0, 1_500,
+                DeliveryStatus.REQUESTED.bit(), ids, distances);
+        assertThat(requested).isEqualTo(1);
+        assertThat(ids[0]).isEqualTo(next);
+
+        assertThat(dispatchEngine.dispatchOnce()).isEqualTo(1);
+        assertThat(deliveryRepository.findById(next)).get()
+                .satisfies(d -> {
+                    assertThat(d.getStatus()).isEqualTo(DeliveryStatus.ASSIGNED);
+                    assertThat(d.getRiderId()).isEqualTo(9101L);
+                });
+        assertThat(deliveryRepository.findById(canceled)).get()
+                .satisfies(d -> assertThat(d.getRiderId()).isNull());
+    }
+
+    private static Delivery newDelivery(Member member, String orderNumber, double pickupLat) {
+        Delivery delivery = new Delivery(member, orderNumber + "-" + System.nanoTime(), "픽업지", "도착지",
+                DeliveryStatus.REQUESTED, LocalDateTime.now());
+        delivery.locatePickup(pickupLat, 127.0);
+        return delivery;
+    }
+}
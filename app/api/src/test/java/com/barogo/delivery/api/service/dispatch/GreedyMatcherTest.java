@@ -0,0 +1,58 @@
+package com.barogo.delivery.api.service.dispatch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GreedyMatcherTest {
+
+    @Test
+    void match_shouldTakeClosestEdgesWithoutReusingRiderOrDelivery() {
+        GreedyMatcher matcher = new GreedyMatcher(16);
+        matcher.addEdge(0, 10L, 100);
+        matcher.addEdge(0, 11L, 50);
+        matcher.addEdge(1, 11L, 60);
+        matcher.addEdge(1, 10L, 500);
+        matcher.addEdge(2, 11L, 70);
+
+        int[] riders = new int[3];
+        long[] deliveries = new long[3];
+        int matched = matcher.match(3, riders, deliveries);
+
+        // 0-11(50) 확정 -> 1-11, 2-11 은 배달 중복, 0-10 은 라이더 중복 -> 1-10(500)
+        assertThat(matched).isEqualTo(2);
+        assertThat(riders).startsWith(0, 1);
+        assertThat(deliveries).startsWith(11L, 10L);
+    }
+
+    @Test
+    void match_shouldStopAtOutputLimit() {
+        GreedyMatcher matcher = new GreedyMatcher(16);
+        for (int rider = 0; rider < 10; rider++) {
+            matcher.addEdge(rider, 100L + rider, 10 * (10 - rider));
+        }
+
+        int[] riders = new int[3];
+        long[] deliveries = new long[3];
+        int matched = matcher.match(10, riders, deliveries);
+
+        assertThat(matched).isEqualTo(3);
+        assertThat(deliveries).containsExactly(109L, 108L, 107L);
+    }
+
+    @Test
+    void reset_shouldReuseGrownBuffers() {
+        GreedyMatcher matcher = new GreedyMatcher(16);
+        for (int i = 0; i < 1_000; i++) {
+            matcher.addEdge(i, i, i);
+        }
+        assertThat(matcher.edgeCount()).isEqualTo(1_000);
+
+        matcher.reset();
+        matcher.addEdge(0, 7L, 1.5);
+        int[] riders = new int[1];
+        long[] deliveries = new long[1];
+        assertThat(matcher.match(1, riders, deliveries)).isEqualTo(1);
+        assertThat(deliveries[0]).isEqualTo(7L);
+    }
+}
@@ -0,0 +1,89 @@
+package com.barogo.delivery.api.service.geo;
+
+import com.barogo.delivery.api.config.geo.GeoIndexProperties;
+import com.barogo.delivery.api.controller.model.NearbyDelivery;
+import com.barogo.delivery.api.service.geo.ActiveDeliveryIndex.Point;
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveDeliveryIndexTest {
+
+    private final ActiveDeliveryIndex index = new ActiveDeliveryIndex(
+            Mockito.mock(DeliveryRepository.class), properties());
+
+    /**
+     * 도착지 변경 트랜잭션이 커밋되기 전에 취소가 먼저 반영되면, 늦게 도착한 위치 갱신은 배달을 다시 넣지 않는다
+     */
+    @Test
+    void destinationChanged_shouldNotReinsertDeliveryCanceledBeforeCommit() {
+        Delivery delivery = activeDelivery(1L);
+        index.added(List.of(delivery));
+        delivery.changeDestination("새 도착지", 37.52, 127.03);
+
+        List<TransactionSynchronization> pending = inTransaction(() -> index.destinationChanged(delivery));
+        index.statusChanged(1L, DeliveryStatus.CANCELED);
+        pending.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(index.size(Point.PICKUP)).isZero();
+        assertThat(index.size(Point.DESTINATION)).isZero();
+    }
+
+    /**
+     * 도착지 변경은 위치만 옮기고, 그 사이 바뀐 상태(tag)는 덮어쓰지 않는다
+     */
+    @Test
+    void destinationChanged_shouldMoveOnlyAndKeepCurrentStatus() {
+        Delivery delivery = activeDelivery(2L);
+        index.added(List.of(delivery));
+        delivery.changeDestination("새 도착지", 37.52, 127.03);
+
+        List<TransactionSynchronization> pending = inTransaction(() -> index.destinationChanged(delivery));
+        index.statusChanged(2L, DeliveryStatus.ASSIGNED);
+        pending.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(index.nearby(Point.DESTINATION, 37.52, 127.03, 100, Set.of(DeliveryStatus.ASSIGNED), 10))
+                .extracting(NearbyDelivery::id)
+                .containsExactly(2L);
+        assertThat(index.nearby(Point.DESTINATION, 37.50, 127.00, 100, Set.of(DeliveryStatus.values()), 10))
+                .isEmpty();
+    }
+
+    private static List<TransactionSynchronization> inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Delivery activeDelivery(Long id) {
+        Member member = new Member("index", "password", "index");
+        Delivery delivery = new Delivery(member, "INDEX-" + id, "픽업지", "도착지",
+                DeliveryStatus.REQUESTED, LocalDateTime.now());
+        delivery.locatePickup(37.49, 127.02);
+        delivery.changeDestination("도착지", 37.50, 127.00);
+        ReflectionTestUtils.setField(delivery, "id", id);
+        return delivery;
+    }
+
+    private static GeoIndexProperties properties() {
+        GeoIndexProperties properties = new GeoIndexProperties();
+        properties.setInitialCapacity(16);
+        return properties;
+    }
+}
@@ -0,0 +1,135 @@
+package com.barogo.delivery.api.service.imports;
+
+import com.barogo.delivery.api.controller.model.DeliveryImportStatus;
+import com.barogo.delivery.api.controller.model.DeliveryImportStatus.State;
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.file.bulk.DeliveryImportWriter;
+import com.barogo.delivery.file.bulk.DeliveryImportWriter.CommittedChunk;
+import com.barogo.delivery.jpa.DeliveryInsertBatch;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.MemberRepository;
+import com.barogo.delivery.response.exception.BusinessException;
+import com.barogo.delivery.util.id.Tsid;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DeliveryImportServiceTest {
+
+    @Autowired
+    private DeliveryImportService deliveryImportService;
+
+    @Autowired
+    private DeliveryImportLoader deliveryImportLoader;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    /**
+     * 검증 실패, 파일 내 중복, 이미 등록된 주문번호는 거부 보고서에 남고 나머지 행만 적재된다
+     */
+    @Test
+    void start_shouldImportValidRowsAndReportRejections() throws Exception {
+        String prefix = "IMPORT-" + System.nanoTime() + "-";
+        Member member = memberRepository.save(new Member("importer-" + System.nanoTime(), "password", "importer"));
+        Member other = memberRepository.save(new Member("other-" + System.nanoTime(), "password", "other"));
+        deliveryRepository.save(new Delivery(member, prefix + "EXISTING", "픽업지", "도착지",
+                DeliveryStatus.REQUESTED, LocalDateTime.now()));
+
+        String content = "order_number,pickup_address,delivery_address,pickup_lat,pickup_lng,delivery_lat,delivery_lng\n"
+                + prefix + "1,서울 강남구,서울 서초구,37.4979,127.0276,37.4837,127.0324\n"
+                + prefix + "2,서울 강남구,서울 송파구,,,,\n"
+                + prefix + "3,서울 강남구,서울 서초구,95.0,127.0276,37.4837,127.0324\n"
+                + prefix + "1,서울 강남구,서울 서초구,,,,\n"
+                + prefix + "EXISTING,서울 강남구,서울 서초구,,,,\n";
+        MockMultipartFile file = new MockMultipartFile("file", "deliveries.csv", "text/csv",
+                content.getBytes(StandardCharsets.UTF_8));
+
+        DeliveryImportStatus started = deliveryImportService.start(member.getId(), file);
+        DeliveryImportStatus status = awaitFinished(member.getId(), started.importId());
+
+        assertThat(status.state()).isEqualTo(State.COMPLETED);
+        assertThat(status.fileName()).isEqualTo("deliveries.csv");
+        assertThat(status.completedChunks()).isEqualTo(status.totalChunks());
+        assertThat(status.inserted()).isEqualTo(2);
+        assertThat(status.rejected()).isEqualTo(3);
+        assertThat(deliveryRepository.findExistingOrderNumbers(List.of(prefix + "1", prefix + "2", prefix + "3")))
+                .containsExactlyInAnyOrder(prefix + "1", prefix + "2");
+
+        List<String> report = Files.readAllLines(deliveryImportService.rejections(member.getId(), started.importId()),
+                StandardCharsets.UTF_8);
+        assertThat(report).hasSize(4).contains(
+                "3," + prefix + "3,픽업 위도는 -90.0 ~ 90.0 범위여야 합니다.",
+                "4," + prefix + "1,파일 내 중복된 주문번호입니다.",
+                "5," + prefix + "EXISTING,이미 존재하는 주문번호입니다.");
+
+        // 완료된 가져오기는 재개할 수 없고, 다른 회원은 조회할 수 없다
+        assertThatThrownBy(() -> deliveryImportService.resume(member.getId(), started.importId()))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> deliveryImportService.status(other.getId(), started.importId()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    /**
+     * 구간 완료는 적재와 같은 트랜잭션에 가져오기/구간 번호로 남아, 재개 시 체크포인트에 없는 구간도 건너뛸 수 있다
+     */
+    @Test
+    void writer_shouldRecordCommittedChunkWithInsert() {
+        String prefix = "IMPORT-CHUNK-" + System.nanoTime() + "-";
+        Member member = memberRepository.save(new Member("importer-" + System.nanoTime(), "password", "importer"));
+        deliveryRepository.save(new Delivery(member, prefix + "EXISTING", "픽업지", "도착지",
+                DeliveryStatus.REQUESTED, LocalDateTime.now()));
+        long importId = Tsid.nextId();
+        DeliveryImportWriter writer = deliveryImportLoader.writerFor(importId, member.getId(), "importer");
+
+        DeliveryInsertBatch batch = new DeliveryInsertBatch(2);
+        for (String orderNumber : List.of(prefix + "1", prefix + "EXISTING")) {
+            int i = batch.add(batch.getSize() + 1);
+            batch.getOrderNumbers()[i] = orderNumber;
+            batch.getPickupAddresses()[i] = "서울 강남구";
+            batch.getDeliveryAddresses()[i] = "서울 서초구";
+            batch.getRequestedAts()[i] = LocalDateTime.now().withNano(0);
+        }
+        writer.write(3, batch);
+
+        assertThat(writer.committed()).containsExactly(new CommittedChunk(3, 1, 1));
+        assertThat(deliveryRepository.findExistingOrderNumbers(List.of(prefix + "1"))).containsExactly(prefix + "1");
+        assertThat(deliveryImportLoader.writerFor(Tsid.nextId(), member.getId(), "importer").committed()).isEmpty();
+    }
+
+    @Test
+    void start_shouldRejectFileWithoutRequiredColumns() {
+        Member member = memberRepository.save(new Member("importer-" + System.nanoTime(), "password", "importer"));
+        MockMultipartFile file = new MockMultipartFile("file", "deliveries.csv", "text/csv",
+                "order_number,pickup_address\nORD-1,a\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> deliveryImportService.start(member.getId(), file))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("delivery_address");
+    }
+
+    private DeliveryImportStatus awaitFinished(Long memberId, Long importId) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        DeliveryImportStatus status = deliveryImportService.status(memberId, importId);
+        while ((status.state() == State.QUEUED || status.state() == State.RUNNING) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            status = deliveryImportService.status(memberId, importId);
+        }
+        return status;
+    }
+}
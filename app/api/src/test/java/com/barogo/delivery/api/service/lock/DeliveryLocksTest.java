@@ -0,0 +1,58 @@
+package com.barogo.delivery.api.service.lock;
+
+import com.barogo.delivery.cache.lock.StripedLockManager;
+import com.barogo.delivery.cache.lock.config.LockProperties;
+import com.barogo.delivery.response.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeliveryLocksTest {
+
+    private final StripedLockManager lockManager = new StripedLockManager(16);
+    private final LockProperties properties = new LockProperties();
+    private final DeliveryLocks deliveryLocks = new DeliveryLocks(lockManager, properties);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void lockUntilTransactionEnds_shouldAllowCommitWhileLeaseIsHeld() {
+        deliveryLocks.lockUntilTransactionEnds(DeliveryLocks.deliveryKey(1L));
+
+        assertThatCode(() -> TransactionSynchronizationUtils.triggerBeforeCommit(false)).doesNotThrowAnyException();
+    }
+
+    /**
+     * 트랜잭션이 lease 보다 길어지면 커밋 직전에 실패해 롤백된다
+     */
+    @Test
+    void lockUntilTransactionEnds_shouldFailCommitAfterLeaseExpires() throws InterruptedException {
+        properties.setLeaseTime(Duration.ofMillis(20));
+        deliveryLocks.lockUntilTransactionEnds(DeliveryLocks.deliveryKey(2L));
+
+        Thread.sleep(50);
+
+        assertThatThrownBy(() -> TransactionSynchronizationUtils.triggerBeforeCommit(false))
+                .isInstanceOf(BusinessException.class);
+        // 만료된 잠금은 다른 요청이 바로 가져갈 수 있다
+        assertThat(lockManager.tryAcquire(DeliveryLocks.deliveryKey(2L), Duration.ZERO, Duration.ofSeconds(1))).isPresent();
+    }
+}
@@ -0,0 +1,39 @@
+package com.barogo.delivery.api.service.metrics;
+
+import com.barogo.delivery.api.service.metrics.DeliveryMetrics.TransitionResult;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.response.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeliveryMetricsTest {
+
+    @Test
+    void error_shouldCountByErrorCode() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DeliveryMetrics metrics = new DeliveryMetrics(registry);
+
+        metrics.error(ErrorCode.CONFLICT);
+        metrics.error(ErrorCode.CONFLICT);
+
+        assertThat(registry.get("delivery.api.errors").tag("code", "Conflict").tag("status", "409").counter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("delivery.api.errors").tag("code", "Forbidden").counter().count()).isZero();
+    }
+
+    @Test
+    void transition_shouldCountByTargetAndResult() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DeliveryMetrics metrics = new DeliveryMetrics(registry);
+
+        metrics.transition(DeliveryStatus.ASSIGNED, TransitionResult.APPLIED);
+        metrics.transition(DeliveryStatus.ASSIGNED, TransitionResult.CONFLICT);
+
+        assertThat(registry.get("delivery.status.transitions").tag("target", "ASSIGNED").tag("result", "applied").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("delivery.status.transitions").tag("target", "ASSIGNED").tag("result", "conflict").counter().count())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.barogo.delivery.api.service.pricing;
+
+import com.barogo.delivery.api.config.pricing.PricingProperties;
+import com.barogo.delivery.api.config.pricing.PricingProperties.RoadFactor;
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DeliveryPricingTest {
+
+    @Test
+    void fareOf_shouldAddStepFarePerStartedStepAndApplyCap() {
+        PricingProperties properties = new PricingProperties();
+        properties.setMaxFare(6_000);
+        DeliveryPricing pricing = new DeliveryPricing(properties);
+
+        assertThat(pricing.fareOf(0)).isEqualTo(3_000);
+        assertThat(pricing.fareOf(1_500)).isEqualTo(3_000);
+        assertThat(pricing.fareOf(1_501)).isEqualTo(3_500);   // 초과분은 step 단위 올림
+        assertThat(pricing.fareOf(2_000)).isEqualTo(3_500);
+        assertThat(pricing.fareOf(2_001)).isEqualTo(4_000);
+        assertThat(pricing.fareOf(50_000)).isEqualTo(6_000);
+    }
+
+    @Test
+    void distanceMeters_shouldApplyRoadFactorOfMatchingBand() {
+        PricingProperties properties = new PricingProperties();
+        properties.setRoadFactors(List.of(roadFactor(5_000, 1.5), roadFactor(1_000, 2.0)));
+        DeliveryPricing pricing = new DeliveryPricing(properties);
+        DeliveryPricing straight = new DeliveryPricing(new PricingProperties());
+
+        // 위도 0.005도 ≈ 556m (1km 이하 구간), 0.02도 ≈ 2.2km (5km 이하 구간), 0.1도 ≈ 11km (마지막 구간 계수)
+        int near = straight.distanceMeters(37.500, 127.0, 37.505, 127.0);
+        int mid = straight.distanceMeters(37.500, 127.0, 37.520, 127.0);
+        int far = straight.distanceMeters(37.500, 127.0, 37.600, 127.0);
+        assertThat((double) near).isCloseTo(556, within(2.0));
+
+        assertThat((double) pricing.distanceMeters(37.500, 127.0, 37.505, 127.0)).isCloseTo(near * 2.0, within(2.0));
+        assertThat((double) pricing.distanceMeters(37.500, 127.0, 37.520, 127.0)).isCloseTo(mid * 1.5, within(2.0));
+        assertThat((double) pricing.distanceMeters(37.500, 127.0, 37.600, 127.0)).isCloseTo(far * 1.5, within(2.0));
+    }
+
+    @Test
+    void price_shouldFillDistanceAndCostOrClearWhenCoordinatesMissing() {
+        DeliveryPricing pricing = new DeliveryPricing(new PricingProperties());
+        Delivery delivery = new Delivery(new Member("pricing", "password", "pricing"), "PRICING-1",
+                "픽업지", "도착지", DeliveryStatus.REQUESTED, LocalDateTime.now());
+        delivery.locatePickup(37.500, 127.0);
+        delivery.changeDestination("도착지", 37.520, 127.0);
+
+        pricing.price(delivery);
+
+        assertThat(delivery.getDistanceMeters()).isBetween(2_220, 2_230);
+        assertThat(delivery.getCostAmount()).isEqualByComparingTo(BigDecimal.valueOf(4_000));
+
+        delivery.locatePickup(null, null);
+        pricing.price(delivery);
+
+        assertThat(delivery.getDistanceMeters()).isNull();
+        assertThat(delivery.getCostAmount()).isNull();
+    }
+
+    private static RoadFactor roadFactor(int upToMeters, double factor) {
+        RoadFactor roadFactor = new RoadFactor();
+        roadFactor.setUpToMeters(upToMeters);
+        roadFactor.setFactor(factor);
+        return roadFactor;
+    }
+}
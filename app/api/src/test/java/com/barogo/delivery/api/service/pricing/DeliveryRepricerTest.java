@@ -0,0 +1,137 @@
+package com.barogo.delivery.api.service.pricing;
+
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryCostChunk;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "delivery.pricing.recompute-chunk-size=2")
+class DeliveryRepricerTest {
+
+    @Autowired
+    private DeliveryRepricer deliveryRepricer;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 여러 chunk 에 걸쳐 거리/요금이 없거나 틀린 행만 채우고, version 은 올리지 않는다
+     */
+    @Test
+    void runOnce_shouldFillMissingOrStaleCostsAcrossChunks() {
+        List<Delivery> deliveries = transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(new Member("repricer-" + System.nanoTime(), "password", "repricer"));
+            Delivery stale = newDelivery(member, "REPRICE-A", 37.520);
+            stale.updateCost(1, BigDecimal.ONE);
+            return deliveryRepository.saveAll(List.of(
+                    stale,
+                    newDelivery(member, "REPRICE-B", 37.505),
+                    newDelivery(member, "REPRICE-C", 37.540),
+                    new Delivery(member, "REPRICE-D-" + System.nanoTime(), "픽업지", "도착지",
+                            DeliveryStatus.REQUESTED, LocalDateTime.now())   // 좌표 없음
+            ));
+        });
+
+        RepricingStatus result = deliveryRepricer.runOnce();
+
+        assertThat(result.running()).isFalse();
+        assertThat(result.error()).isNull();
+        assertThat(result.updated()).isGreaterThanOrEqualTo(3);
+        for (Delivery before : deliveries.subList(0, 3)) {
+            Delivery after = deliveryRepository.findById(before.getId()).orElseThrow();
+            assertThat(after.getDistanceMeters()).isPositive();
+            assertThat(after.getCostAmount()).isGreaterThanOrEqualTo(BigDecimal.valueOf(3_000));
+            assertThat(after.getVersion()).isEqualTo(before.getVersion());
+        }
+        assertThat(deliveryRepository.findById(deliveries.get(3).getId())).get()
+                .satisfies(d -> assertThat(d.getCostAmount()).isNull());
+
+        // 바뀐 값이 없으면 쓰지 않는다
+        assertThat(deliveryRepricer.runOnce().updated()).isZero();
+    }
+
+    /**
+     * 종료된 배달은 요금이 확정되었으므로 틀린 값이어도 다시 계산하지 않는다
+     */
+    @Test
+    void runOnce_shouldSkipTerminalDeliveries() {
+        List<Delivery> deliveries = transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(new Member("repricer-" + System.nanoTime(), "password", "repricer"));
+            LocalDateTime now = LocalDateTime.now();
+            Delivery delivered = newDelivery(member, "REPRICE-E", 37.520);
+            delivered.assignTo(9001L, now);
+            delivered.markPickedUp(now);
+            delivered.markDelivered(now);
+            delivered.updateCost(1, BigDecimal.ONE);
+            Delivery canceled = newDelivery(member, "REPRICE-F", 37.520);
+            canceled.cancel(now);
+            canceled.updateCost(1, BigDecimal.ONE);
+            return deliveryRepository.saveAll(List.of(delivered, canceled));
+        });
+
+        assertThat(deliveryRepricer.runOnce().error()).isNull();
+
+        for (Delivery before : deliveries) {
+            assertThat(deliveryRepository.findById(before.getId())).get()
+                    .satisfies(d -> {
+                        assertThat(d.getDistanceMeters()).isEqualTo(1);
+                        assertThat(d.getCostAmount()).isEqualByComparingTo(BigDecimal.ONE);
+                    });
+        }
+    }
+
+    /**
+     * 읽은 뒤 다른 요청이 변경한 행은 version 조건에 걸려 갱신되지 않고, 갱신 건수에도 들어가지 않는다
+     */
+    @Test
+    void updateChangedCosts_shouldCountOnlyRowsActuallyUpdated() {
+        Delivery delivery = transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(new Member("repricer-" + System.nanoTime(), "password", "repricer"));
+            return deliveryRepository.save(newDelivery(member, "REPRICE-G", 37.520));
+        });
+        DeliveryCostChunk chunk = new DeliveryCostChunk(1);
+        transactionTemplate.executeWithoutResult(status -> deliveryRepository.loadCostChunk(delivery.getId() - 1, chunk));
+        assertThat(chunk.getIds()[0]).isEqualTo(delivery.getId());
+        chunk.getDistances()[0] = 1_234;
+        chunk.getCosts()[0] = 4_000;
+
+        // 읽은 뒤 다른 요청이 변경 (version 증가)
+        transactionTemplate.executeWithoutResult(status -> deliveryRepository.findById(delivery.getId()).orElseThrow()
+                .changeDestination("다른 도착지", 37.530, 127.0));
+
+        Integer stale = transactionTemplate.execute(status -> deliveryRepository.updateChangedCosts(chunk));
+        assertThat(stale).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> deliveryRepository.loadCostChunk(delivery.getId() - 1, chunk));
+        chunk.getDistances()[0] = 1_234;
+        chunk.getCosts()[0] = 4_000;
+        Integer fresh = transactionTemplate.execute(status -> deliveryRepository.updateChangedCosts(chunk));
+        assertThat(fresh).isEqualTo(1);
+    }
+
+    private static Delivery newDelivery(Member member, String orderNumber, double deliveryLat) {
+        Delivery delivery = new Delivery(member, orderNumber + "-" + System.nanoTime(), "픽업지", "도착지",
+                DeliveryStatus.REQUESTED, LocalDateTime.now());
+        delivery.locatePickup(37.500, 127.0);
+        delivery.changeDestination("도착지", deliveryLat, 127.0);
+        return delivery;
+    }
+}
@@ -0,0 +1,85 @@
+package com.barogo.delivery.api.service.stream;
+
+import com.barogo.delivery.api.config.stream.DeliveryStreamProperties;
+import com.barogo.delivery.api.controller.model.DeliverySummary;
+import com.barogo.delivery.enums.DeliveryEventType;
+import com.barogo.delivery.enums.DeliveryStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeliveryStreamHubTest {
+
+    private final DeliveryStreamProperties properties = new DeliveryStreamProperties();
+    private final DeliveryStreamHub hub = new DeliveryStreamHub(properties);
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    void subscriber_shouldDropOldestWhenBufferIsFull() {
+        var subscriber = new DeliveryStreamHub.Subscriber(1L, new SseEmitter(), 2);
+        var first = event(1L);
+        var second = event(2L);
+        var third = event(3L);
+
+        assertThat(subscriber.offer(first)).isFalse();
+        assertThat(subscriber.offer(second)).isFalse();
+        assertThat(subscriber.offer(third)).isTrue();
+
+        assertThat(subscriber.poll()).isEqualTo(second);
+        assertThat(subscriber.poll()).isEqualTo(third);
+        assertThat(subscriber.poll()).isNull();
+    }
+
+    @Test
+    void subscriber_shouldAddHeartbeatOnlyWhenIdle() {
+        var subscriber = new DeliveryStreamHub.Subscriber(1L, new SseEmitter(), 2);
+
+        assertThat(subscriber.offerIfEmpty(DeliveryStreamHub.StreamEvent.HEARTBEAT)).isTrue();
+        assertThat(subscriber.offerIfEmpty(DeliveryStreamHub.StreamEvent.HEARTBEAT)).isFalse();
+    }
+
+    @Test
+    void subscribe_shouldCloseOldestConnectionOverLimit() {
+        properties.setMaxConnectionsPerMember(1);
+
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+
+        assertThat(hub.hasSubscribers(1L)).isTrue();
+        assertThat(hub.hasSubscribers(2L)).isFalse();
+        assertThat(hub.stats().connections()).isEqualTo(1);
+    }
+
+    @Test
+    void onDeliveryChanged_shouldSendOnlyToOwnerConnections() throws InterruptedException {
+        hub.subscribe(1L);
+
+        hub.onDeliveryChanged(new DeliveryChangedEvent(DeliveryEventType.STATUS_CHANGED, 2L, summary(20L)));
+        hub.onDeliveryChanged(new DeliveryChangedEvent(DeliveryEventType.STATUS_CHANGED, 1L, summary(10L)));
+
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (hub.stats().sent() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(hub.stats().sent()).isEqualTo(1);
+        assertThat(hub.stats().dropped()).isZero();
+    }
+
+    private static DeliveryStreamHub.StreamEvent event(Long deliveryId) {
+        return DeliveryStreamHub.StreamEvent.of(
+                new DeliveryChangedEvent(DeliveryEventType.STATUS_CHANGED, 1L, summary(deliveryId)));
+    }
+
+    private static DeliverySummary summary(Long deliveryId) {
+        return new DeliverySummary(deliveryId, "ORDER" + deliveryId, DeliveryStatus.ASSIGNED,
+                LocalDateTime.now(), null, "pickup", "delivery");
+    }
+}
@@ -0,0 +1,88 @@
+package com.barogo.delivery.api.controller.model;
+
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.domain.Member;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.response.ApiResponse;
+import com.barogo.delivery.response.PageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 생성 비용
+ * - summaryOf: 엔티티 -> DeliverySummary 변환
+ * - serializePage / serializeApiResponse: 목록/단건 응답 JSON 직렬화 (Boot 기본 설정과 같은 ObjectMapper)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeliveryResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Delivery delivery;
+    private PageResponse<DeliverySummary> page;
+    private ApiResponse<DeliverySummary> single;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Member member = new Member("benchmark", "password", "benchmark");
+        LocalDateTime requestedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        delivery = newDelivery(member, 0, requestedAt);
+
+        List<DeliverySummary> summaries = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            summaries.add(DeliverySummary.of(newDelivery(member, i, requestedAt.minusMinutes(i))));
+        }
+        page = PageResponse.of(new PageImpl<>(summaries, PageRequest.of(0, pageSize), pageSize * 10L));
+        single = ApiResponse.success(summaries.getFirst());
+    }
+
+    @Benchmark
+    public DeliverySummary summaryOf() {
+        return DeliverySummary.of(delivery);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    private static Delivery newDelivery(Member member, int index, LocalDateTime requestedAt) {
+        Delivery delivery = new Delivery(
+                member,
+                "ORDER-" + index,
+                "서울시 강남구 테헤란로 " + index,
+                "서울시 서초구 서초대로 " + index,
+                DeliveryStatus.REQUESTED,
+                requestedAt
+        );
+        delivery.changeDestination("서울시 서초구 서초대로 " + index, 37.4837, 127.0324);
+        return delivery;
+    }
+}
@@ -0,0 +1,66 @@
+package com.barogo.delivery.api.service.validation;
+
+import com.barogo.delivery.api.controller.model.DeliveryCreateRequest;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.response.exception.BusinessException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배달 등록/상태 변경 요청마다 수행되는 검증 비용
+ * - transitionRejected: 거절 경로는 BusinessException 생성(스택 트레이스 포함) 비용이 대부분이다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeliveryValidationBenchmark {
+
+    private DeliveryStatusTransitionValidator statusValidator;
+    private DeliveryRequestValidator requestValidator;
+    private DeliveryCreateRequest createRequest;
+
+    @Setup
+    public void setUp() {
+        statusValidator = new DeliveryStatusTransitionValidator();
+        requestValidator = new DeliveryRequestValidator();
+        createRequest = new DeliveryCreateRequest(
+                "ORDER-20250101-0001",
+                "서울시 강남구 테헤란로 1",
+                37.4979,
+                127.0276,
+                "서울시 서초구 서초대로 2",
+                37.4837,
+                127.0324,
+                "문 앞에 놓아주세요"
+        );
+    }
+
+    @Benchmark
+    public DeliveryStatus transitionAccepted() {
+        statusValidator.validateTransition(DeliveryStatus.REQUESTED, DeliveryStatus.ASSIGNED);
+        return DeliveryStatus.ASSIGNED;
+    }
+
+    @Benchmark
+    public Object transitionRejected() {
+        try {
+            statusValidator.validateTransition(DeliveryStatus.DELIVERED, DeliveryStatus.ASSIGNED);
+            throw new IllegalStateException("transition must be rejected");
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public DeliveryCreateRequest validateCreate() {
+        requestValidator.validateCreate(createRequest);
+        return createRequest;
+    }
+}
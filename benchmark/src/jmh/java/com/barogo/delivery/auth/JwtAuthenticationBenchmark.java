@@ -0,0 +1,75 @@
+package com.barogo.delivery.auth;
+
+import com.barogo.delivery.auth.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터가 요청마다 수행하는 토큰 처리 비용 비교
+ * - fourParses: 기존 필터 경로 (validate + getSubject + getAuthorities + getMemberId, 파싱/서명 검증 4회)
+ * - verifyOnce: 파싱/서명 검증 1회
+ * - parse / createAccessToken: 검증, 로그인 시 발급 단건 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final Map<String, Object> CLAIMS = Map.of(
+            "roles", List.of("ROLE_USER"),
+            "mid", 1L,
+            "name", "benchmark"
+    );
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("barogo-delivery");
+        properties.setSecret("barogo-deliverybarogo-deliverybarogo-delivery");
+        properties.setAccessTokenValiditySec(3600);
+
+        tokenProvider = new JwtTokenProvider(properties);
+        tokenProvider.init();
+        token = tokenProvider.createAccessToken("benchmark-user", CLAIMS);
+    }
+
+    @Benchmark
+    public MemberPrincipal fourParses() {
+        if (!tokenProvider.validate(token)) {
+            throw new IllegalStateException("invalid token");
+        }
+        String subject = tokenProvider.getSubject(token);
+        var authorities = tokenProvider.getAuthorities(token);
+        Long memberId = tokenProvider.getMemberId(token);
+        return new MemberPrincipal(memberId, subject, authorities);
+    }
+
+    @Benchmark
+    public MemberPrincipal verifyOnce() {
+        return tokenProvider.verify(token).principal();
+    }
+
+    @Benchmark
+    public Jws<Claims> parse() {
+        return tokenProvider.parse(token);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return tokenProvider.createAccessToken("benchmark-user", CLAIMS);
+    }
+}
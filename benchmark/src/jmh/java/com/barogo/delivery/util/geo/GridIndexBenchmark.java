@@ -0,0 +1,100 @@
+package com.barogo.delivery.util.geo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중 배달 공간 인덱스 조회/갱신 비용
+ * - 서울 권역(약 33km x 35km)에 균일 분포한 activeDeliveries 건 중 1/5 을 REQUESTED 로 둔다
+ * - nearest2km: 반경 2km 내 REQUESTED 배달 50건 조회 (조회 중 할당 없음, gc.alloc.rate.norm 으로 확인)
+ * - bruteForce2km: 같은 조건의 전체 선형 탐색 (비교 기준)
+ * - moveAndRetag: 위치 갱신 + 상태 변경 1회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GridIndexBenchmark {
+
+    private static final double MIN_LAT = 37.40;
+    private static final double MIN_LNG = 126.80;
+    private static final double SPAN = 0.30;
+    private static final int REQUESTED = 0;
+    private static final int ASSIGNED = 1;
+    private static final int QUERY_POINTS = 1024;
+
+    @Param({"100000"})
+    private int activeDeliveries;
+
+    private GridIndex index;
+    private double[] lats;
+    private double[] lngs;
+    private int[] tags;
+    private double[] queryLats;
+    private double[] queryLngs;
+    private long[] outIds;
+    private double[] outDistances;
+    private int cursor;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(7);
+        index = new GridIndex(1_000, activeDeliveries);
+        lats = new double[activeDeliveries];
+        lngs = new double[activeDeliveries];
+        tags = new int[activeDeliveries];
+        for (int i = 0; i < activeDeliveries; i++) {
+            lats[i] = MIN_LAT + random.nextDouble() * SPAN;
+            lngs[i] = MIN_LNG + random.nextDouble() * SPAN * 1.3;
+            tags[i] = i % 5 == 0 ? REQUESTED : ASSIGNED;
+            index.upsert(i, lats[i], lngs[i], tags[i]);
+        }
+        queryLats = new double[QUERY_POINTS];
+        queryLngs = new double[QUERY_POINTS];
+        for (int i = 0; i < QUERY_POINTS; i++) {
+            queryLats[i] = MIN_LAT + random.nextDouble() * SPAN;
+            queryLngs[i] = MIN_LNG + random.nextDouble() * SPAN * 1.3;
+        }
+        outIds = new long[50];
+        outDistances = new double[50];
+    }
+
+    @Benchmark
+    public int nearest2km() {
+        int q = cursor++ & (QUERY_POINTS - 1);
+        return index.nearest(queryLats[q], queryLngs[q], 2_000, 1 << REQUESTED, outIds, outDistances);
+    }
+
+    @Benchmark
+    public int bruteForce2km() {
+        int q = cursor++ & (QUERY_POINTS - 1);
+        double lat = queryLats[q];
+        double lng = queryLngs[q];
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double metersPerDegree = Math.toRadians(1) * GridIndex.EARTH_RADIUS_METERS;
+        int count = 0;
+        for (int i = 0; i < activeDeliveries; i++) {
+            if (tags[i] != REQUESTED) continue;
+            double dy = lats[i] - lat;
+            double dx = (lngs[i] - lng) * cosLat;
+            if (Math.sqrt(dx * dx + dy * dy) * metersPerDegree <= 2_000) count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public boolean moveAndRetag() {
+        int i = random.nextInt(activeDeliveries);
+        index.upsert(i, MIN_LAT + random.nextDouble() * SPAN, lngs[i], REQUESTED);
+        return index.retag(i, 1 << REQUESTED, ASSIGNED);
+    }
+}
@@ -0,0 +1,33 @@
+package com.barogo.delivery.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이징 응답
+ * - 전체 건수/페이지 수를 계산하지 않으므로 count 쿼리가 필요 없다
+ * - nextCursor 는 다음 페이지 조회 시 그대로 전달하는 불투명(opaque) 값이다
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SliceResponse<T> {
+    private List<T> data;
+    private int pageSize;
+    private Boolean hasNext;
+    private String nextCursor;
+
+    public static <T> SliceResponse<T> of(List<T> data, int pageSize, String nextCursor) {
+        return new SliceResponse<>(
+                data,
+                pageSize,
+                nextCursor != null,
+                nextCursor
+        );
+    }
+}
@@ -18,6 +18,12 @@ public class BusinessException extends RuntimeException {
         this.error = error;
     }
 
+    // 스택 트레이스를 채우지 않는 예외 (자주 발생하는 규칙 위반 응답용, 원인 추적이 필요 없는 경우)
+    public BusinessException(ErrorCode error, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.error = error;
+    }
+
     public BusinessException(ErrorCode error, Throwable cause) {
         super(error.getCode(), cause);
         this.error = error;
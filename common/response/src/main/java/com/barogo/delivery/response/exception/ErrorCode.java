@@ -21,9 +21,13 @@ public enum ErrorCode {
 
     /* 409 CONFLICT */
     DUPLICATE_EXCEPTION(HttpStatus.CONFLICT, "DuplicateException"),
+    CONFLICT(HttpStatus.CONFLICT, "Conflict"),
 
     /* 500 INTERNAL_SERVER_ERROR */
-    ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "InternalServerError");
+    ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "InternalServerError"),
+
+    /* 503 SERVICE_UNAVAILABLE */
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "ServiceUnavailable");
 
     private final HttpStatus httpStatus;
     private final String code;
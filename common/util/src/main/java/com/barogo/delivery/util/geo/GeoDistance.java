@@ -0,0 +1,23 @@
+package com.barogo.delivery.util.geo;
+
+/**
+ * 구면(haversine) 거리 계산
+ * - 반경 조회용 근사(GridIndex)와 달리 요금 산정처럼 거리 자체가 결과인 곳에 사용한다
+ */
+public final class GeoDistance {
+
+    private GeoDistance() {
+    }
+
+    /**
+     * 두 위경도 사이의 대원 거리(m)
+     */
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double sinDLat = Math.sin((phi2 - phi1) * 0.5);
+        double sinDLng = Math.sin(Math.toRadians(lng2 - lng1) * 0.5);
+        double h = sinDLat * sinDLat + Math.cos(phi1) * Math.cos(phi2) * sinDLng * sinDLng;
+        return 2 * GridIndex.EARTH_RADIUS_METERS * Math.asin(Math.sqrt(Math.min(1.0, h)));
+    }
+}
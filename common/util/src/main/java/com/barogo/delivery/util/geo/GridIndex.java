@@ -0,0 +1,373 @@
+package com.barogo.delivery.util.geo;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 위경도 점(id, lat, lng, tag)에 대한 고정 크기 격자 공간 인덱스
+ * - 좌표를 위경도 cellDegrees 단위 격자로 나누고, 격자별로 점을 이중 연결 리스트(next/prev 배열)로 묶는다
+ * - 모든 데이터는 원시 타입 배열에 저장하며 조회 중에는 객체를 할당하지 않는다
+ * - 반경 조회는 반경을 덮는 격자만 훑고, 등거리 원통 근사(수 km 이내 오차 0.1% 미만)로 거리를 계산한다
+ * - tag 는 0~31 정수(예: 상태 ordinal)이며 조회 시 비트마스크로 거른다
+ * - 경도 ±180 경계를 넘는 반경은 고려하지 않는다
+ * - 읽기는 공유 잠금, 쓰기는 배타 잠금(StampedLock)으로 보호한다
+ */
+public final class GridIndex {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_METERS;
+    private static final int NONE = -1;
+
+    private final double cellDegrees;
+    private final StampedLock lock = new StampedLock();
+
+    // slot 별 데이터 (free list 로 재사용)
+    private long[] ids;
+    private double[] lats;
+    private double[] lngs;
+    private int[] tags;
+    private long[] cells;
+    private int[] next;
+    private int[] prev;
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;
+    private int size;
+
+    private final LongIntHashMap slotById;
+    private final LongIntHashMap headByCell;
+
+    /**
+     * @param cellSizeMeters  격자 한 변의 (위도 방향) 길이, 주 조회 반경과 비슷하게 둔다
+     * @param initialCapacity 예상 점 개수
+     */
+    public GridIndex(double cellSizeMeters, int initialCapacity) {
+        if (cellSizeMeters <= 0) {
+            throw new IllegalArgumentException("cellSizeMeters must be positive: " + cellSizeMeters);
+        }
+        int capacity = Math.max(16, initialCapacity);
+        this.cellDegrees = cellSizeMeters / METERS_PER_DEGREE;
+        this.ids = new long[capacity];
+        this.lats = new double[capacity];
+        this.lngs = new double[capacity];
+        this.tags = new int[capacity];
+        this.cells = new long[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.freeSlots = new int[capacity];
+        this.slotById = new LongIntHashMap(capacity);
+        this.headByCell = new LongIntHashMap(Math.max(16, capacity / 8));
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 점 추가 또는 위치/tag 갱신
+     */
+    public void upsert(long id, double lat, double lng, int tag) {
+        checkTag(tag);
+        long cell = cellOf(lat, lng);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotById.get(id);
+            if (slot == NONE) {
+                slot = allocate();
+                ids[slot] = id;
+                slotById.put(id, slot);
+                link(slot, cell);
+                size++;
+            } else if (cells[slot] != cell) {
+                unlink(slot);
+                link(slot, cell);
+            }
+            lats[slot] = lat;
+            lngs[slot] = lng;
+            tags[slot] = tag;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 위치는 그대로 두고, 현재 tag 가 expectedTagMask 에 포함될 때만 tag 를 변경
+     * - 순서가 뒤바뀐 갱신(예: 늦게 도착한 이전 상태)이 최신 tag 를 덮어쓰지 않도록 조건을 둔다
+     *
+     * @return 점이 없거나 현재 tag 가 조건에 맞지 않으면 false
+     */
+    public boolean retag(long id, int expectedTagMask, int tag) {
+        checkTag(tag);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotById.get(id);
+            if (slot == NONE || (expectedTagMask & (1 << tags[slot])) == 0) {
+                return false;
+            }
+            tags[slot] = tag;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * tag 는 그대로 두고, 이미 있는 점의 위치만 변경
+     * - 위치 갱신이 그 사이 제거된 점(예: 종료 상태)을 다시 넣지 않도록 없는 점은 건너뛴다
+     *
+     * @return 점이 없으면 false
+     */
+    public boolean moveIfPresent(long id, double lat, double lng) {
+        long cell = cellOf(lat, lng);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotById.get(id);
+            if (slot == NONE) {
+                return false;
+            }
+            if (cells[slot] != cell) {
+                unlink(slot);
+                link(slot, cell);
+            }
+            lats[slot] = lat;
+            lngs[slot] = lng;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return 현재 tag, 점이 없으면 -1
+     */
+    public int tagOf(long id) {
+        long stamp = lock.readLock();
+        try {
+            int slot = slotById.get(id);
+            return slot == NONE ? NONE : tags[slot];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotById.remove(id);
+            if (slot == NONE) {
+                return false;
+            }
+            unlink(slot);
+            freeSlots[freeCount++] = slot;
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            slotById.clear();
+            headByCell.clear();
+            freeCount = 0;
+            highWater = 0;
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 반경 내 가까운 순 조회
+     *
+     * @param tagMask      포함할 tag 비트마스크 (1 << tag)
+     * @param outIds       결과 id (가까운 순), 배열 길이가 최대 결과 수
+     * @param outDistances 결과 거리(m), outIds 와 같은 길이
+     * @return 결과 수
+     */
+    public int nearest(double lat, double lng, double radiusMeters, int tagMask, long[] outIds, double[] outDistances) {
+        int limit = Math.min(outIds.length, outDistances.length);
+        if (limit == 0 || radiusMeters < 0) {
+            return 0;
+        }
+
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double latSpan = radiusMeters / METERS_PER_DEGREE;
+        // 극 근처에서는 경도 폭이 발산하므로 위경도 범위 안으로 자른다 (±180 경계를 넘는 반경은 고려하지 않는다)
+        double lngSpan = Math.min(180, radiusMeters / (METERS_PER_DEGREE * Math.max(cosLat, 1e-6)));
+        int minLatCell = cellIndex(Math.max(-90, lat - latSpan));
+        int maxLatCell = cellIndex(Math.min(90, lat + latSpan));
+        int minLngCell = cellIndex(Math.max(-180, lng - lngSpan));
+        int maxLngCell = cellIndex(Math.min(180, lng + lngSpan));
+        long cellCount = (long) (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+
+        int count = 0;
+        long stamp = lock.readLock();
+        try {
+            if (cellCount > highWater) {
+                // 훑을 격자가 점보다 많으면(극 근처, 큰 반경) 점을 직접 훑어 점 수만큼만 비용을 쓴다
+                for (int slot = 0; slot < highWater; slot++) {
+                    if (slotById.get(ids[slot]) == slot) {
+                        count = collect(slot, lat, lng, cosLat, radiusMeters, tagMask, outIds, outDistances, count, limit);
+                    }
+                }
+            } else {
+                for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                    for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                        int slot = headByCell.get(cellKey(latCell, lngCell));
+                        while (slot != NONE) {
+                            count = collect(slot, lat, lng, cosLat, radiusMeters, tagMask, outIds, outDistances, count, limit);
+                            slot = next[slot];
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        sortHeap(outIds, outDistances, count);
+        return count;
+    }
+
+    private int collect(int slot, double lat, double lng, double cosLat, double radiusMeters, int tagMask,
+                        long[] outIds, double[] outDistances, int count, int limit) {
+        if ((tagMask & (1 << tags[slot])) == 0) {
+            return count;
+        }
+        double distance = distanceMeters(lat, lng, cosLat, lats[slot], lngs[slot]);
+        return distance <= radiusMeters ? offer(outIds, outDistances, count, limit, ids[slot], distance) : count;
+    }
+
+    // 등거리 원통 근사: 기준점 위도의 cos 로 경도 차를 보정한다
+    private static double distanceMeters(double lat, double lng, double cosLat, double otherLat, double otherLng) {
+        double dy = otherLat - lat;
+        double dx = (otherLng - lng) * cosLat;
+        return Math.sqrt(dx * dx + dy * dy) * METERS_PER_DEGREE;
+    }
+
+    // 결과 배열을 거리 기준 최대 힙으로 사용해 limit 개의 최근접 점만 유지한다
+    private static int offer(long[] ids, double[] distances, int count, int limit, long id, double distance) {
+        if (count < limit) {
+            int i = count;
+            ids[i] = id;
+            distances[i] = distance;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (distances[parent] >= distances[i]) break;
+                swap(ids, distances, i, parent);
+                i = parent;
+            }
+            return count + 1;
+        }
+        if (distance < distances[0]) {
+            ids[0] = id;
+            distances[0] = distance;
+            siftDown(ids, distances, 0, count);
+        }
+        return count;
+    }
+
+    // 최대 힙 -> 오름차순 정렬 (힙 정렬)
+    private static void sortHeap(long[] ids, double[] distances, int count) {
+        for (int end = count - 1; end > 0; end--) {
+            swap(ids, distances, 0, end);
+            siftDown(ids, distances, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] ids, double[] distances, int i, int count) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= count) return;
+            int largest = left;
+            int right = left + 1;
+            if (right < count && distances[right] > distances[left]) largest = right;
+            if (distances[i] >= distances[largest]) return;
+            swap(ids, distances, i, largest);
+            i = largest;
+        }
+    }
+
+    private static void swap(long[] ids, double[] distances, int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double distance = distances[a];
+        distances[a] = distances[b];
+        distances[b] = distance;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == ids.length) {
+            grow();
+        }
+        return highWater++;
+    }
+
+    private void grow() {
+        int capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        lats = Arrays.copyOf(lats, capacity);
+        lngs = Arrays.copyOf(lngs, capacity);
+        tags = Arrays.copyOf(tags, capacity);
+        cells = Arrays.copyOf(cells, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    private void link(int slot, long cell) {
+        int head = headByCell.get(cell);
+        cells[slot] = cell;
+        prev[slot] = NONE;
+        next[slot] = head;
+        if (head != NONE) {
+            prev[head] = slot;
+        }
+        headByCell.put(cell, slot);
+    }
+
+    private void unlink(int slot) {
+        int before = prev[slot];
+        int after = next[slot];
+        if (after != NONE) {
+            prev[after] = before;
+        }
+        if (before != NONE) {
+            next[before] = after;
+        } else if (after != NONE) {
+            headByCell.put(cells[slot], after);
+        } else {
+            headByCell.remove(cells[slot]);
+        }
+    }
+
+    private long cellOf(double lat, double lng) {
+        return cellKey(cellIndex(lat), cellIndex(lng));
+    }
+
+    private int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xFFFFFFFFL);
+    }
+
+    private static void checkTag(int tag) {
+        if (tag < 0 || tag > 31) {
+            throw new IllegalArgumentException("tag must be between 0 and 31: " + tag);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.barogo.delivery.util.id;
+
+import java.time.Clock;
+
+/**
+ * 프로세스 공용 TsidGenerator
+ * - 애플리케이션은 기동 시 설정(delivery.id.node / delivery.id.node-bits)으로 configure 를 호출한다 (domain TsidEnvironmentPostProcessor)
+ * - configure 없이 발급하면(벤치마크, 단위 테스트 등 Spring 밖) 시스템 프로퍼티 delivery.id.node 또는
+ *   환경변수 DELIVERY_ID_NODE (기본 0), delivery.id.node-bits 또는 DELIVERY_ID_NODE_BITS (기본 10) 를 사용한다
+ * - 다중 인스턴스 배포 시 인스턴스마다 서로 다른 노드 번호를 지정해야 한다
+ */
+public final class Tsid {
+
+    private static volatile TsidGenerator generator;
+    private static int configuredNode;
+    private static int configuredNodeBits;
+
+    private Tsid() {}
+
+    public static long nextId() {
+        TsidGenerator current = generator;
+        return (current != null ? current : fallback()).nextId();
+    }
+
+    /**
+     * 공용 생성기의 노드 번호/비트를 정한다 (식별자를 발급하기 전에 호출)
+     * - 같은 값으로 다시 호출하면 기존 생성기를 유지한다 (한 JVM 의 여러 애플리케이션 컨텍스트)
+     * - 다른 값으로 이미 발급을 시작했으면 같은 밀리초에 겹치는 id 가 생길 수 있으므로 거부한다
+     *
+     * @throws IllegalArgumentException 노드 번호/비트가 범위를 벗어난 경우
+     */
+    public static synchronized void configure(int node, int nodeBits) {
+        if (generator != null) {
+            if (node == configuredNode && nodeBits == configuredNodeBits) {
+                return;
+            }
+            throw new IllegalStateException("TSID generator is already initialized with node=" + configuredNode
+                    + ", nodeBits=" + configuredNodeBits + ": node=" + node + ", nodeBits=" + nodeBits);
+        }
+        generator = new TsidGenerator(node, nodeBits, Clock.systemUTC(), TsidGenerator.DEFAULT_MAX_CLOCK_DRIFT_MILLIS);
+        configuredNode = node;
+        configuredNodeBits = nodeBits;
+    }
+
+    private static synchronized TsidGenerator fallback() {
+        if (generator == null) {
+            configure(intSetting("delivery.id.node", "DELIVERY_ID_NODE", 0),
+                    intSetting("delivery.id.node-bits", "DELIVERY_ID_NODE_BITS", TsidGenerator.DEFAULT_NODE_BITS));
+        }
+        return generator;
+    }
+
+    private static int intSetting(String property, String env, int defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(env);
+        }
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
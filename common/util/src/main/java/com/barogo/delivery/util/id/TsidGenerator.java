@@ -0,0 +1,106 @@
+package com.barogo.delivery.util.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순 64비트 ID 생성기 (Snowflake/TSID 방식)
+ * <pre>
+ * | 0 | timestamp(41) | node(nodeBits) | sequence(22 - nodeBits) |
+ * </pre>
+ * - timestamp: EPOCH(2025-01-01T00:00Z) 기준 밀리초, 약 69년 사용 가능
+ * - node: 노드(인스턴스) 번호, nodeBits 로 노드 수와 밀리초당 발급량을 조절 (기본 10비트 = 1024 노드, 4096/ms)
+ * - 마지막 발급 시각과 시퀀스를 AtomicLong 하나에 담아 CAS 로 갱신 (락 없음)
+ * - 시계가 뒤로 가면 마지막 발급 시각을 계속 사용하고, 시퀀스가 소진되면 다음 밀리초를 미리 사용한다
+ *   (벽시계와의 차이가 maxClockDriftMillis 를 넘으면 중복 방지를 위해 발급을 거부)
+ */
+public class TsidGenerator {
+
+    public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    public static final int DEFAULT_NODE_BITS = 10;
+    public static final long DEFAULT_MAX_CLOCK_DRIFT_MILLIS = 1_000;
+
+    private static final int TIME_BITS = 41;
+    private static final int NODE_AND_SEQUENCE_BITS = Long.SIZE - 1 - TIME_BITS;
+    // 시퀀스에 최소 1비트는 남긴다
+    public static final int MAX_NODE_BITS = NODE_AND_SEQUENCE_BITS - 1;
+
+    private final Clock clock;
+    private final long epochMillis;
+    private final long maxClockDriftMillis;
+    private final int sequenceBits;
+    private final long sequenceMask;
+    private final long nodePart;
+
+    // (마지막 발급 시각 << sequenceBits) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public TsidGenerator(int node) {
+        this(node, DEFAULT_NODE_BITS, Clock.systemUTC(), DEFAULT_MAX_CLOCK_DRIFT_MILLIS);
+    }
+
+    public TsidGenerator(int node, int nodeBits, Clock clock, long maxClockDriftMillis) {
+        if (nodeBits < 0 || nodeBits > MAX_NODE_BITS) {
+            throw new IllegalArgumentException("nodeBits must be between 0 and " + MAX_NODE_BITS + ": " + nodeBits);
+        }
+        if (node < 0 || node >= (1 << nodeBits)) {
+            throw new IllegalArgumentException("node must be between 0 and " + ((1 << nodeBits) - 1) + ": " + node);
+        }
+        this.clock = clock;
+        this.epochMillis = EPOCH.toEpochMilli();
+        this.maxClockDriftMillis = maxClockDriftMillis;
+        this.sequenceBits = NODE_AND_SEQUENCE_BITS - nodeBits;
+        this.sequenceMask = (1L << sequenceBits) - 1;
+        this.nodePart = (long) node << sequenceBits;
+    }
+
+    public long nextId() {
+        while (true) {
+            long prev = state.get();
+            long lastTime = prev >>> sequenceBits;
+            long now = currentTime();
+
+            long next;
+            if (now > lastTime) {
+                next = now << sequenceBits;
+            } else {
+                // 같은 밀리초이거나 시계가 뒤로 감: 마지막 발급 시각 기준으로 이어서 발급
+                if (lastTime - now > maxClockDriftMillis) {
+                    throw new IllegalStateException("clock moved backwards or sequence exhausted: drift=" + (lastTime - now) + "ms");
+                }
+                long sequence = (prev & sequenceMask) + 1;
+                next = sequence > sequenceMask
+                        ? (lastTime + 1) << sequenceBits
+                        : (lastTime << sequenceBits) | sequence;
+            }
+
+            if (state.compareAndSet(prev, next)) {
+                long time = next >>> sequenceBits;
+                return (time << NODE_AND_SEQUENCE_BITS) | nodePart | (next & sequenceMask);
+            }
+        }
+    }
+
+    /**
+     * ID 에 담긴 발급 시각
+     */
+    public static Instant timeOf(long id) {
+        return EPOCH.plusMillis(id >>> NODE_AND_SEQUENCE_BITS);
+    }
+
+    /**
+     * 주어진 시각 이전에 발급된 ID 보다 큰 최소 ID (시간 범위 조건을 ID 범위로 바꿀 때 사용)
+     */
+    public static long lowerBoundOf(Instant time) {
+        return Math.max(0, time.toEpochMilli() - EPOCH.toEpochMilli()) << NODE_AND_SEQUENCE_BITS;
+    }
+
+    private long currentTime() {
+        long now = clock.millis() - epochMillis;
+        if (now < 0 || now >= (1L << TIME_BITS)) {
+            throw new IllegalStateException("clock is out of TSID range: " + clock.instant());
+        }
+        return now;
+    }
+}
@@ -0,0 +1,183 @@
+package com.barogo.delivery.util.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+class GridIndexTest {
+
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * GridIndex.EARTH_RADIUS_METERS;
+
+    @Test
+    void nearest_shouldReturnPointsWithinRadiusOrderedByDistance() {
+        GridIndex index = new GridIndex(1_000, 16);
+        index.upsert(1L, 37.5000, 127.0000, 0);
+        index.upsert(2L, 37.5050, 127.0000, 0);   // 약 556m
+        index.upsert(3L, 37.5100, 127.0000, 0);   // 약 1.1km
+        index.upsert(4L, 37.5300, 127.0000, 0);   // 약 3.3km (반경 밖)
+
+        long[] ids = new long[10];
+        double[] distances = new double[10];
+        int count = index.nearest(37.5000, 127.0000, 2_000, 1, ids, distances);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(ids).startsWith(1L, 2L, 3L);
+        assertThat(distances[0]).isZero();
+        assertThat(distances[1]).isBetween(550.0, 560.0);
+        assertThat(distances[2]).isGreaterThan(distances[1]);
+    }
+
+    @Test
+    void nearest_shouldFilterByTagMaskAndLimit() {
+        GridIndex index = new GridIndex(500, 16);
+        for (int i = 0; i < 20; i++) {
+            index.upsert(i, 37.5 + i * 0.0001, 127.0, i % 2);
+        }
+
+        long[] ids = new long[3];
+        double[] distances = new double[3];
+        int count = index.nearest(37.5, 127.0, 5_000, 1 << 1, ids, distances);
+
+        // tag 1(홀수 id) 중 가장 가까운 3개
+        assertThat(count).isEqualTo(3);
+        assertThat(ids).containsExactly(1L, 3L, 5L);
+    }
+
+    @Test
+    void upsertRetagRemove_shouldKeepIndexConsistent() {
+        GridIndex index = new GridIndex(1_000, 16);
+        index.upsert(1L, 37.50, 127.00, 0);
+        index.upsert(2L, 37.50, 127.00, 0);
+
+        // 다른 격자로 이동
+        index.upsert(1L, 37.60, 127.10, 0);
+        assertThat(index.retag(2L, 1, 1)).isTrue();
+        assertThat(index.retag(2L, 1, 2)).isFalse(); // 현재 tag(1)가 기대 마스크에 없음
+        assertThat(index.retag(99L, -1, 1)).isFalse();
+
+        long[] ids = new long[10];
+        double[] distances = new double[10];
+        assertThat(index.nearest(37.50, 127.00, 1_000, 1, ids, distances)).isZero();
+        assertThat(index.nearest(37.50, 127.00, 1_000, 1 << 1, ids, distances)).isEqualTo(1);
+        assertThat(ids[0]).isEqualTo(2L);
+        assertThat(index.nearest(37.60, 127.10, 1_000, 1, ids, distances)).isEqualTo(1);
+        assertThat(ids[0]).isEqualTo(1L);
+
+        assertThat(index.remove(1L)).isTrue();
+        assertThat(index.remove(1L)).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(37.60, 127.10, 1_000, 1, ids, distances)).isZero();
+
+        index.clear();
+        assertThat(index.size()).isZero();
+        assertThat(index.nearest(37.50, 127.00, 1_000, -1, ids, distances)).isZero();
+    }
+
+    @Test
+    void moveIfPresent_shouldKeepTagAndSkipMissingPoint() {
+        GridIndex index = new GridIndex(1_000, 16);
+        index.upsert(1L, 37.50, 127.00, 2);
+
+        assertThat(index.moveIfPresent(1L, 37.60, 127.10)).isTrue();
+        assertThat(index.tagOf(1L)).isEqualTo(2);
+        assertThat(index.moveIfPresent(99L, 37.60, 127.10)).isFalse();
+        assertThat(index.tagOf(99L)).isEqualTo(-1);
+        assertThat(index.size()).isEqualTo(1);
+
+        long[] ids = new long[10];
+        double[] distances = new double[10];
+        assertThat(index.nearest(37.50, 127.00, 1_000, -1, ids, distances)).isZero();
+        assertThat(index.nearest(37.60, 127.10, 1_000, 1 << 2, ids, distances)).isEqualTo(1);
+        assertThat(ids[0]).isEqualTo(1L);
+    }
+
+    @Test
+    void nearest_shouldMatchBruteForceAfterRandomUpdates() {
+        Random random = new Random(42);
+        int n = 20_000;
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        boolean[] alive = new boolean[n];
+        GridIndex index = new GridIndex(1_000, 64); // 확장(grow) 경로 포함
+
+        for (int i = 0; i < n; i++) {
+            lats[i] = 37.40 + random.nextDouble() * 0.3;
+            lngs[i] = 126.80 + random.nextDouble() * 0.4;
+            index.upsert(i, lats[i], lngs[i], 0);
+            alive[i] = true;
+        }
+        for (int i = 0; i < n; i += 3) {
+            index.remove(i);
+            alive[i] = false;
+        }
+        for (int i = 1; i < n; i += 7) {
+            lats[i] = 37.40 + random.nextDouble() * 0.3;
+            index.upsert(i, lats[i], lngs[i], 0);
+        }
+
+        long[] ids = new long[30];
+        double[] distances = new double[30];
+        for (int q = 0; q < 50; q++) {
+            double lat = 37.40 + random.nextDouble() * 0.3;
+            double lng = 126.80 + random.nextDouble() * 0.4;
+            int count = index.nearest(lat, lng, 2_000, 1, ids, distances);
+
+            List<double[]> expected = new ArrayList<>();
+            double cosLat = Math.cos(Math.toRadians(lat));
+            for (int i = 0; i < n; i++) {
+                if (!alive[i]) continue;
+                double dy = lats[i] - lat;
+                double dx = (lngs[i] - lng) * cosLat;
+                double distance = Math.sqrt(dx * dx + dy * dy) * METERS_PER_DEGREE;
+                if (distance <= 2_000) expected.add(new double[]{distance, i});
+            }
+            expected.sort(Comparator.comparingDouble(e -> e[0]));
+
+            assertThat(count).isEqualTo(Math.min(ids.length, expected.size()));
+            for (int k = 0; k < count; k++) {
+                assertThat(distances[k]).isCloseTo(expected.get(k)[0], within(1e-6));
+            }
+        }
+    }
+
+    /**
+     * 극점에서는 경도 폭이 발산하지만 한 바퀴로 잘라 훑으므로 곧바로 끝나고, 반경 안의 점만 돌려준다
+     */
+    @Test
+    void nearest_shouldStayBoundedAtPole() {
+        GridIndex index = new GridIndex(1_000, 16);
+        index.upsert(1L, 89.99, 0.0, 0);       // 약 1.1km
+        index.upsert(2L, 89.95, 120.0, 0);     // 약 5.6km
+        index.upsert(3L, 89.80, -60.0, 0);     // 약 22km (반경 밖)
+        index.upsert(4L, 37.50, 127.0, 0);
+
+        long[] ids = new long[10];
+        double[] distances = new double[10];
+        int count = assertTimeout(Duration.ofSeconds(1),
+                () -> index.nearest(90.0, 0.0, 10_000, 1, ids, distances));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(ids).startsWith(1L, 2L);
+        assertThat(distances[0]).isCloseTo(0.01 * METERS_PER_DEGREE, within(1.0));
+
+        int southPole = assertTimeout(Duration.ofSeconds(1),
+                () -> index.nearest(-90.0, 180.0, 10_000, 1, ids, distances));
+        assertThat(southPole).isZero();
+    }
+
+    @Test
+    void upsert_shouldRejectTagOutOfRange() {
+        GridIndex index = new GridIndex(1_000, 16);
+        assertThrows(IllegalArgumentException.class, () -> index.upsert(1L, 37.5, 127.0, 32));
+        assertThrows(IllegalArgumentException.class, () -> new GridIndex(0, 16));
+    }
+}
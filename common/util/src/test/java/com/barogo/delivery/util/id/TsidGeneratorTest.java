@@ -0,0 +1,124 @@
+package com.barogo.delivery.util.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TsidGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    @Test
+    void nextId_shouldBeMonotonicAndCarryTimestamp() {
+        MutableClock clock = new MutableClock(NOW);
+        TsidGenerator generator = new TsidGenerator(3, 10, clock, 1_000);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+        clock.now = NOW.plusMillis(5);
+        long third = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+        assertThat(TsidGenerator.timeOf(first)).isEqualTo(NOW);
+        assertThat(TsidGenerator.timeOf(third)).isEqualTo(NOW.plusMillis(5));
+        assertThat(first).isGreaterThanOrEqualTo(TsidGenerator.lowerBoundOf(NOW));
+    }
+
+    @Test
+    void nextId_shouldKeepIncreasingWhenClockMovesBackwards() {
+        MutableClock clock = new MutableClock(NOW);
+        TsidGenerator generator = new TsidGenerator(0, 10, clock, 1_000);
+
+        long before = generator.nextId();
+        clock.now = NOW.minusMillis(100);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void nextId_shouldRejectWhenClockDriftExceedsLimit() {
+        MutableClock clock = new MutableClock(NOW);
+        TsidGenerator generator = new TsidGenerator(0, 10, clock, 1_000);
+
+        generator.nextId();
+        clock.now = NOW.minusSeconds(5);
+
+        assertThrows(IllegalStateException.class, generator::nextId);
+    }
+
+    @Test
+    void nextId_shouldBorrowNextMillisecondWhenSequenceExhausted() {
+        MutableClock clock = new MutableClock(NOW);
+        // nodeBits 20 -> 시퀀스 2비트(밀리초당 4개)
+        TsidGenerator generator = new TsidGenerator(1, 20, clock, 1_000);
+
+        long last = 0;
+        for (int i = 0; i < 9; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+        assertThat(TsidGenerator.timeOf(last)).isEqualTo(NOW.plusMillis(2));
+    }
+
+    @Test
+    void nextId_shouldBeUniqueAcrossThreads() throws Exception {
+        TsidGenerator generator = new TsidGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 50_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+            }
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    void constructor_shouldRejectNodeOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(1024, 10, Clock.systemUTC(), 1_000));
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(0, 22, Clock.systemUTC(), 1_000));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.barogo.delivery.domain;
 
+import com.barogo.delivery.domain.id.TsidGenerated;
 import jakarta.persistence.Column;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
@@ -13,10 +12,13 @@ import java.io.Serializable;
 @MappedSuperclass
 public abstract class AuditableEntityId implements Serializable {
 
+    // 시간 순 64비트 ID (common:util TsidGenerator)
+    // - INSERT 전에 애플리케이션에서 발급하므로 JDBC batch 가 가능하고 DB 종류/시퀀스에 의존하지 않는다
+    // - 발급 순서가 생성 순서와 같아 keyset 커서/샤드 키로 사용할 수 있다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(insertable = false, updatable = false, nullable = false)
-    private Long id = -1L;
+    @TsidGenerated
+    @Column(updatable = false, nullable = false)
+    private Long id;
 
     @Override
     public boolean equals(Object other) {
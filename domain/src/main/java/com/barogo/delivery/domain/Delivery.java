@@ -10,12 +10,14 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
 
 @Getter
 @Entity
@@ -29,6 +31,26 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Delivery extends AuditableEntity {
 
+    // 목표 상태(ordinal)별 전이 시각 기록기와 필드명
+    private static final BiConsumer<Delivery, LocalDateTime>[] TIMESTAMP_SETTERS;
+    private static final String[] TIMESTAMP_ATTRIBUTES = new String[DeliveryStatus.values().length];
+
+    static {
+        @SuppressWarnings("unchecked")
+        BiConsumer<Delivery, LocalDateTime>[] setters = new BiConsumer[DeliveryStatus.values().length];
+        setters[DeliveryStatus.REQUESTED.ordinal()] = (d, at) -> d.requestedAt = at;
+        setters[DeliveryStatus.ASSIGNED.ordinal()] = (d, at) -> d.assignedAt = at;
+        setters[DeliveryStatus.PICKED_UP.ordinal()] = (d, at) -> d.pickedUpAt = at;
+        setters[DeliveryStatus.DELIVERED.ordinal()] = (d, at) -> d.deliveredAt = at;
+        setters[DeliveryStatus.CANCELED.ordinal()] = (d, at) -> d.canceledAt = at;
+        TIMESTAMP_SETTERS = setters;
+
+        TIMESTAMP_ATTRIBUTES[DeliveryStatus.ASSIGNED.ordinal()] = "assignedAt";
+        TIMESTAMP_ATTRIBUTES[DeliveryStatus.PICKED_UP.ordinal()] = "pickedUpAt";
+        TIMESTAMP_ATTRIBUTES[DeliveryStatus.DELIVERED.ordinal()] = "deliveredAt";
+        TIMESTAMP_ATTRIBUTES[DeliveryStatus.CANCELED.ordinal()] = "canceledAt";
+    }
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -95,6 +117,11 @@ public class Delivery extends AuditableEntity {
     @Column(name = "memo", length = 500)
     private String memo;
 
+    // 낙관적 락 버전 (상태 조건부 UPDATE 시에도 함께 증가)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Delivery(
             Member member,
             String orderNumber,
@@ -113,29 +140,56 @@ public class Delivery extends AuditableEntity {
 
     // 상태/타임라인 갱신 편의 메서드(세터 대신)
     public void assignTo(Long riderId, LocalDateTime assignedAt) {
+        transitionTo(DeliveryStatus.ASSIGNED, assignedAt);
         this.riderId = riderId;
-        this.assignedAt = assignedAt;
-        this.status = DeliveryStatus.ASSIGNED;
     }
 
     public void markPickedUp(LocalDateTime pickedUpAt) {
-        this.pickedUpAt = pickedUpAt;
-        this.status = DeliveryStatus.PICKED_UP;
+        transitionTo(DeliveryStatus.PICKED_UP, pickedUpAt);
     }
 
     public void markDelivered(LocalDateTime deliveredAt) {
-        this.deliveredAt = deliveredAt;
-        this.status = DeliveryStatus.DELIVERED;
+        transitionTo(DeliveryStatus.DELIVERED, deliveredAt);
     }
 
     public void cancel(LocalDateTime canceledAt) {
-        this.canceledAt = canceledAt;
-        this.status = DeliveryStatus.CANCELED;
+        transitionTo(DeliveryStatus.CANCELED, canceledAt);
+    }
+
+    /**
+     * 전이 테이블(DeliveryStatus)로 허용 여부를 확인한 뒤 상태와 해당 전이 시각을 함께 기록한다
+     */
+    public void transitionTo(DeliveryStatus target, LocalDateTime changedAt) {
+        if (!status.canTransitionTo(target)) {
+            throw new IllegalStateException(status.rejectionMessageTo(target));
+        }
+        TIMESTAMP_SETTERS[target.ordinal()].accept(this, changedAt);
+        this.status = target;
+    }
+
+    /**
+     * 목표 상태로 전이할 때 함께 갱신되는 시각 필드명 (진입 전이가 없는 상태는 null)
+     * - 조건부 UPDATE JPQL 의 set 절에 사용한다
+     */
+    public static String timestampAttributeOf(DeliveryStatus target) {
+        return TIMESTAMP_ATTRIBUTES[target.ordinal()];
+    }
+
+    // 픽업지 좌표 (등록 시 지정)
+    public void locatePickup(Double lat, Double lng) {
+        this.pickupLat = lat;
+        this.pickupLng = lng;
+    }
+
+    // 거리/요금 (좌표가 없으면 null)
+    public void updateCost(Integer distanceMeters, BigDecimal costAmount) {
+        this.distanceMeters = distanceMeters;
+        this.costAmount = costAmount;
     }
 
     // 도착지 주소 변경(허용 상태에서만)
     public void changeDestination(String newAddress, Double newLat, Double newLng) {
-        if (!(status == DeliveryStatus.REQUESTED || status == DeliveryStatus.ASSIGNED)) {
+        if (!status.isDestinationChangeable()) {
             // 상태 전이 규칙 위반 시 예외는 서비스 레이어에서 처리해도 되나,
             // 도메인 일관성 유지를 위해 IllegalStateException으로 방어
             throw new IllegalStateException("현재 상태에서는 도착지 주소를 변경할 수 없습니다: " + status);
@@ -0,0 +1,120 @@
+package com.barogo.delivery.domain;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 종료(DELIVERED/CANCELED) 배달
+ * - delivery 와 같은 컬럼 구성이며, 보관 작업이 INSERT ... SELECT 로 옮긴 뒤 원본을 삭제한다 (id 유지)
+ * - 종료 상태는 더 이상 전이하지 않으므로 읽기 전용이다
+ * - 회원 FK 와 주문번호 유니크 제약은 두지 않는다
+ *   주문번호는 보관 후에도 다시 등록할 수 없으므로, 등록 시 delivery 와 함께 order_number 인덱스로 조회한다
+ *   (DeliveryRepository.findExistingOrderNumbers)
+ */
+@Getter
+@Entity
+@Immutable
+@Table(
+        name = "delivery_archive",
+        indexes = {
+                @Index(name = "idx_delivery_archive_member_requested", columnList = "member_id, requested_at"),
+                @Index(name = "idx_delivery_archive_order_number", columnList = "order_number")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeliveryArchive {
+
+    @Id
+    @Column(updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "order_number", nullable = false, length = 50)
+    private String orderNumber;
+
+    @Column(name = "tracking_number", length = 50)
+    private String trackingNumber;
+
+    @Column(name = "pickup_address", nullable = false, length = 200)
+    private String pickupAddress;
+
+    @Column(name = "pickup_lat")
+    private Double pickupLat;
+
+    @Column(name = "pickup_lng")
+    private Double pickupLng;
+
+    @Column(name = "delivery_address", nullable = false, length = 200)
+    private String deliveryAddress;
+
+    @Column(name = "delivery_lat")
+    private Double deliveryLat;
+
+    @Column(name = "delivery_lng")
+    private Double deliveryLng;
+
+    @Column(name = "requested_at", nullable = false, columnDefinition = "DATETIME(0)")
+    private LocalDateTime requestedAt;
+
+    @Column(name = "assigned_at", columnDefinition = "DATETIME(0)")
+    private LocalDateTime assignedAt;
+
+    @Column(name = "picked_up_at", columnDefinition = "DATETIME(0)")
+    private LocalDateTime pickedUpAt;
+
+    @Column(name = "delivered_at", columnDefinition = "DATETIME(0)")
+    private LocalDateTime deliveredAt;
+
+    @Column(name = "canceled_at", columnDefinition = "DATETIME(0)")
+    private LocalDateTime canceledAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private DeliveryStatus status;
+
+    @Column(name = "cost_amount", precision = 12, scale = 2)
+    private BigDecimal costAmount;
+
+    @Column(name = "distance_meters")
+    private Integer distanceMeters;
+
+    @Column(name = "rider_id")
+    private Long riderId;
+
+    @Column(name = "memo", length = 500)
+    private String memo;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(0)")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(0)")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "created_by", nullable = false, length = 50)
+    private String createdBy;
+
+    @Column(name = "updated_by", nullable = false, length = 50)
+    private String updatedBy;
+
+    // 보관 테이블로 옮긴 시각
+    @Column(name = "archived_at", nullable = false, columnDefinition = "DATETIME(0)")
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,63 @@
+package com.barogo.delivery.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 보관 경계 (단일 행)
+ * - archivedBefore: delivery_archive 에는 requested_at 이 이 시각보다 이른 배달만 있다
+ * - hotFloor: delivery 에 남은 배달의 가장 이른 requested_at (보관 작업이 전체를 훑을 때 갱신, 모르면 null)
+ * - 과거 시각의 배달을 delivery 에 직접 넣는 파일 가져오기는 DeliveryArchiveWatermarkRepository.touchHotFloor 로 경계를 내린다
+ * - 기간 조회는 두 값으로 delivery / delivery_archive / 둘 다 중 조회할 테이블을 고른다
+ */
+@Getter
+@Entity
+@Table(name = "delivery_archive_watermark")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeliveryArchiveWatermark {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "archived_before", columnDefinition = "DATETIME(0)")
+    private LocalDateTime archivedBefore;
+
+    @Column(name = "hot_floor", columnDefinition = "DATETIME(0)")
+    private LocalDateTime hotFloor;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(0)")
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public DeliveryArchiveWatermark(LocalDateTime now) {
+        this.id = SINGLETON_ID;
+        this.updatedAt = now;
+    }
+
+    // 보관 경계는 앞으로만 움직인다
+    public void advanceArchivedBefore(LocalDateTime cutoff, LocalDateTime now) {
+        if (archivedBefore == null || cutoff.isAfter(archivedBefore)) {
+            this.archivedBefore = cutoff;
+        }
+        this.updatedAt = now;
+    }
+
+    public void updateHotFloor(LocalDateTime hotFloor, LocalDateTime now) {
+        this.hotFloor = hotFloor;
+        this.updatedAt = now;
+    }
+}
@@ -0,0 +1,88 @@
+package com.barogo.delivery.domain;
+
+import com.barogo.delivery.enums.DeliveryEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 변경 이벤트 outbox
+ * - 배달 변경과 같은 트랜잭션에서 INSERT 하고, support:alarm 의 OutboxRelay 가 별도로 읽어 발행한다
+ * - 발행 관련 컬럼(attempts, claim_token 등)은 relay 가 JDBC 로 직접 갱신한다
+ * - id 가 시간 순(TSID)이므로 id 순서가 곧 발생 순서다
+ */
+@Getter
+@Entity
+@Table(
+        name = "delivery_outbox",
+        indexes = {
+                @Index(name = "idx_delivery_outbox_pending", columnList = "published_at, next_attempt_at"),
+                @Index(name = "idx_delivery_outbox_claim", columnList = "claim_token"),
+                // 배달별 앞선 미발행 이벤트 확인 (relay 의 배달 내 순서 보장)
+                @Index(name = "idx_delivery_outbox_delivery", columnList = "delivery_id, published_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeliveryEvent extends AuditableEntityId {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private DeliveryEventType eventType;
+
+    @Column(name = "delivery_id", nullable = false)
+    private Long deliveryId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // 이벤트 본문(JSON)
+    @Column(name = "payload", nullable = false, length = 2000)
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false, columnDefinition = "DATETIME(3)")
+    private LocalDateTime occurredAt;
+
+    // 발행 시도 횟수 및 다음 시도 가능 시각(backoff)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(3)")
+    private LocalDateTime nextAttemptAt;
+
+    // relay 인스턴스가 가져간 배치 식별자와 점유 만료 시각
+    @Column(name = "claim_token", length = 64)
+    private String claimToken;
+
+    @Column(name = "claimed_until", columnDefinition = "DATETIME(3)")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "published_at", columnDefinition = "DATETIME(3)")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public DeliveryEvent(
+            DeliveryEventType eventType,
+            Long deliveryId,
+            Long memberId,
+            String payload,
+            LocalDateTime occurredAt
+    ) {
+        this.eventType = eventType;
+        this.deliveryId = deliveryId;
+        this.memberId = memberId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.attempts = 0;
+        this.nextAttemptAt = occurredAt;
+    }
+}
@@ -0,0 +1,49 @@
+package com.barogo.delivery.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 가져오기에서 적재가 커밋된 구간 (가져오기 + 구간 번호당 한 행)
+ * - 구간의 배달 INSERT 와 같은 트랜잭션에서 기록하므로, 이 행이 있으면 그 구간의 배달도 커밋되어 있다
+ * - 체크포인트 파일 기록 전에 멈춘 구간을 재개 시 건너뛰고, 건수를 이 행으로 맞춘다
+ */
+@Getter
+@Entity
+@Table(
+        name = "delivery_import_chunk",
+        uniqueConstraints = @UniqueConstraint(name = "uk_delivery_import_chunk", columnNames = {"import_id", "chunk_index"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeliveryImportChunk extends AuditableEntityId {
+
+    @Column(name = "import_id", nullable = false, updatable = false)
+    private Long importId;
+
+    @Column(name = "chunk_index", nullable = false, updatable = false)
+    private int chunkIndex;
+
+    @Column(name = "inserted", nullable = false, updatable = false)
+    private int inserted;
+
+    @Column(name = "rejected", nullable = false, updatable = false)
+    private int rejected;
+
+    @Column(name = "committed_at", nullable = false, updatable = false, columnDefinition = "DATETIME(0)")
+    private LocalDateTime committedAt;
+
+    public DeliveryImportChunk(Long importId, int chunkIndex, int inserted, int rejected, LocalDateTime committedAt) {
+        this.importId = importId;
+        this.chunkIndex = chunkIndex;
+        this.inserted = inserted;
+        this.rejected = rejected;
+        this.committedAt = committedAt;
+    }
+}
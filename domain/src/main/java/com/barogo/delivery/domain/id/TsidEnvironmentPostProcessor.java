@@ -0,0 +1,48 @@
+package com.barogo.delivery.domain.id;
+
+import com.barogo.delivery.util.id.Tsid;
+import com.barogo.delivery.util.id.TsidGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * 설정(delivery.id.*)으로 공용 TSID 생성기의 노드 번호를 정한다
+ * - 어떤 빈보다 먼저 실행되므로 기동 중 발급되는 식별자도 설정한 노드 번호를 쓴다
+ * - 노드 번호가 없으면 local/test(또는 프로필 없음)에서만 0 을 쓰고, 그 외에는 기동을 멈춘다
+ *   (인스턴스끼리 같은 노드 번호를 쓰면 같은 밀리초에 id 가 겹친다)
+ */
+public class TsidEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final Profiles NODE_OPTIONAL_PROFILES = Profiles.of("default | local | test");
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        TsidProperties properties = resolve(environment);
+        Tsid.configure(properties.getNode(), properties.getNodeBits());
+    }
+
+    static TsidProperties resolve(ConfigurableEnvironment environment) {
+        TsidProperties properties = Binder.get(environment)
+                .bind("delivery.id", TsidProperties.class)
+                .orElseGet(TsidProperties::new);
+        if (properties.getNode() == null) {
+            if (!environment.acceptsProfiles(NODE_OPTIONAL_PROFILES)) {
+                throw new IllegalStateException("delivery.id.node (DELIVERY_ID_NODE) 설정이 필요합니다.");
+            }
+            properties.setNode(0);
+        }
+        int nodeBits = properties.getNodeBits();
+        if (nodeBits < 0 || nodeBits > TsidGenerator.MAX_NODE_BITS) {
+            throw new IllegalStateException("delivery.id.node-bits 는 0 ~ " + TsidGenerator.MAX_NODE_BITS + " 범위여야 합니다: " + nodeBits);
+        }
+        int maxNode = (1 << nodeBits) - 1;
+        if (properties.getNode() < 0 || properties.getNode() > maxNode) {
+            throw new IllegalStateException("delivery.id.node 는 0 ~ " + maxNode + " 범위여야 합니다 (node-bits="
+                    + nodeBits + "): " + properties.getNode());
+        }
+        return properties;
+    }
+}
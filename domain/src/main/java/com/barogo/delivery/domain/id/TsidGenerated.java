@@ -0,0 +1,20 @@
+package com.barogo.delivery.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 애플리케이션에서 TSID(시간 순 64비트)로 식별자를 발급
+ * - INSERT 전에 키가 정해지므로 JDBC batch insert 가 가능하고 DB 왕복이 없다
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TsidGenerated {
+}
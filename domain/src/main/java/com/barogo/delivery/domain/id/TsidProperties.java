@@ -0,0 +1,18 @@
+package com.barogo.delivery.domain.id;
+
+import com.barogo.delivery.util.id.TsidGenerator;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.id")
+public class TsidProperties {
+    // 인스턴스 노드 번호 (0 ~ 2^nodeBits - 1, 인스턴스마다 달라야 한다), local/test 외 프로필에서는 필수
+    private Integer node;
+    // 노드 비트 수 (노드 수와 밀리초당 발급량을 나눈다)
+    private int nodeBits = TsidGenerator.DEFAULT_NODE_BITS;
+}
@@ -0,0 +1,6 @@
+package com.barogo.delivery.enums;
+
+public enum DeliveryEventType {
+    STATUS_CHANGED,        // 배달 상태 변경
+    DESTINATION_CHANGED    // 도착지 주소 변경
+}
@@ -1,10 +1,119 @@
 package com.barogo.delivery.enums;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum DeliveryStatus {
     REQUESTED,   // 주문 생성
     ASSIGNED,    // 배차 완료
     PICKED_UP,   // 픽업 완료
     DELIVERED,   // 배송 완료
-    CANCELED     // 주문 취소
-}
+    CANCELED;    // 주문 취소
+
+    private static final DeliveryStatus[] VALUES = values();
+
+    // 목표 상태(ordinal)별로 진입 가능한 이전 상태 비트마스크 (bit i == VALUES[i])
+    private static final int[] PREDECESSOR_MASKS = new int[VALUES.length];
+
+    // 도착지 주소를 변경할 수 있는 상태
+    private static final int DESTINATION_CHANGEABLE_MASK = REQUESTED.bit() | ASSIGNED.bit();
+
+    // 더 이상 전이할 수 없는 종료 상태 (전이 테이블에서 계산)
+    private static final int TERMINAL_MASK;
+
+    // 비트마스크에서 풀어 둔 조회용 집합 (조건부 UPDATE 의 status IN (...) 에 사용)
+    private static final Set<DeliveryStatus>[] PREDECESSORS;
+
+    // [현재][목표] 전이 거부 메시지 (거부 시 문자열을 새로 만들지 않도록 미리 만들어 둔다)
+    private static final String[][] REJECTION_MESSAGES = new String[VALUES.length][VALUES.length];
+
+    static {
+        allow(REQUESTED, ASSIGNED);
+        allow(ASSIGNED, PICKED_UP);
+        allow(PICKED_UP, DELIVERED);
+        allow(REQUESTED, CANCELED);
+        allow(ASSIGNED, CANCELED);
+
+        @SuppressWarnings("unchecked")
+        Set<DeliveryStatus>[] predecessors = new Set[VALUES.length];
+        for (DeliveryStatus target : VALUES) {
+            EnumSet<DeliveryStatus> set = EnumSet.noneOf(DeliveryStatus.class);
+            for (DeliveryStatus from : VALUES) {
+                if (from.canTransitionTo(target)) set.add(from);
+            }
+            predecessors[target.ordinal()] = Collections.unmodifiableSet(set);
 
+            for (DeliveryStatus from : VALUES) {
+                REJECTION_MESSAGES[from.ordinal()][target.ordinal()] = target == REQUESTED
+                        ? "REQUESTED 상태로 되돌릴 수 없습니다."
+                        : "해당 상태로 변경할 수 없습니다: " + from + " -> " + target;
+            }
+        }
+        PREDECESSORS = predecessors;
+
+        int terminal = 0;
+        for (DeliveryStatus from : VALUES) {
+            boolean hasSuccessor = false;
+            for (int mask : PREDECESSOR_MASKS) {
+                hasSuccessor |= (mask & from.bit()) != 0;
+            }
+            if (!hasSuccessor) terminal |= from.bit();
+        }
+        TERMINAL_MASK = terminal;
+    }
+
+    private static void allow(DeliveryStatus from, DeliveryStatus to) {
+        PREDECESSOR_MASKS[to.ordinal()] |= from.bit();
+    }
+
+    /**
+     * 전이 테이블에서 이 상태를 나타내는 비트
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 이 상태로 전이할 수 있는 이전 상태 비트마스크
+     */
+    public int predecessorMask() {
+        return PREDECESSOR_MASKS[ordinal()];
+    }
+
+    /**
+     * 현재 상태에서 목표 상태로 전이 가능한지 (비트 검사 한 번)
+     */
+    public boolean canTransitionTo(DeliveryStatus target) {
+        return (PREDECESSOR_MASKS[target.ordinal()] & bit()) != 0;
+    }
+
+    /**
+     * 도착지 주소 변경이 허용되는 상태인지
+     */
+    public boolean isDestinationChangeable() {
+        return (DESTINATION_CHANGEABLE_MASK & bit()) != 0;
+    }
+
+    /**
+     * 종료 상태(DELIVERED/CANCELED)인지
+     */
+    public boolean isTerminal() {
+        return (TERMINAL_MASK & bit()) != 0;
+    }
+
+    /**
+     * 현재 상태에서 목표 상태로의 전이를 거부할 때 사용할 메시지 (미리 만들어 둔 상수)
+     */
+    public String rejectionMessageTo(DeliveryStatus target) {
+        return REJECTION_MESSAGES[ordinal()][target.ordinal()];
+    }
+
+    /**
+     * 이 상태로 전이할 수 있는 이전 상태 목록
+     * - 조건부 UPDATE 의 status IN (...) 조건으로 사용한다
+     */
+    public Set<DeliveryStatus> predecessors() {
+        return PREDECESSORS[ordinal()];
+    }
+}
@@ -0,0 +1,48 @@
+package com.barogo.delivery.domain.id;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TsidEnvironmentPostProcessorTest {
+
+    @Test
+    void resolve_shouldBindNodeFromConfiguration() {
+        StandardEnvironment environment = environment(Map.of("delivery.id.node", "7", "delivery.id.node-bits", "4"));
+        environment.setActiveProfiles("prod");
+
+        TsidProperties properties = TsidEnvironmentPostProcessor.resolve(environment);
+
+        assertThat(properties.getNode()).isEqualTo(7);
+        assertThat(properties.getNodeBits()).isEqualTo(4);
+    }
+
+    @Test
+    void resolve_shouldDefaultToNodeZeroOnlyForLocalProfiles() {
+        StandardEnvironment local = environment(Map.of());
+        local.setActiveProfiles("local", "virtual");
+        assertThat(TsidEnvironmentPostProcessor.resolve(local).getNode()).isZero();
+
+        StandardEnvironment prod = environment(Map.of());
+        prod.setActiveProfiles("prod");
+        assertThrows(IllegalStateException.class, () -> TsidEnvironmentPostProcessor.resolve(prod));
+    }
+
+    @Test
+    void resolve_shouldRejectNodeOutOfRange() {
+        StandardEnvironment environment = environment(Map.of("delivery.id.node", "16", "delivery.id.node-bits", "4"));
+
+        assertThrows(IllegalStateException.class, () -> TsidEnvironmentPostProcessor.resolve(environment));
+    }
+
+    private static StandardEnvironment environment(Map<String, Object> properties) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("application", properties));
+        return environment;
+    }
+}
@@ -0,0 +1,96 @@
+package com.barogo.delivery.enums;
+
+import com.barogo.delivery.domain.Delivery;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import static com.barogo.delivery.enums.DeliveryStatus.ASSIGNED;
+import static com.barogo.delivery.enums.DeliveryStatus.CANCELED;
+import static com.barogo.delivery.enums.DeliveryStatus.DELIVERED;
+import static com.barogo.delivery.enums.DeliveryStatus.PICKED_UP;
+import static com.barogo.delivery.enums.DeliveryStatus.REQUESTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeliveryStatusTest {
+
+    @Test
+    void canTransitionTo_shouldFollowTransitionTable() {
+        assertThat(REQUESTED.canTransitionTo(ASSIGNED)).isTrue();
+        assertThat(ASSIGNED.canTransitionTo(PICKED_UP)).isTrue();
+        assertThat(PICKED_UP.canTransitionTo(DELIVERED)).isTrue();
+        assertThat(REQUESTED.canTransitionTo(CANCELED)).isTrue();
+        assertThat(ASSIGNED.canTransitionTo(CANCELED)).isTrue();
+
+        assertThat(REQUESTED.canTransitionTo(PICKED_UP)).isFalse();
+        assertThat(PICKED_UP.canTransitionTo(CANCELED)).isFalse();
+        assertThat(DELIVERED.canTransitionTo(CANCELED)).isFalse();
+        for (DeliveryStatus from : DeliveryStatus.values()) {
+            assertThat(from.canTransitionTo(REQUESTED)).isFalse();
+        }
+    }
+
+    @Test
+    void predecessors_shouldMatchBitmask() {
+        for (DeliveryStatus target : DeliveryStatus.values()) {
+            EnumSet<DeliveryStatus> expected = EnumSet.noneOf(DeliveryStatus.class);
+            for (DeliveryStatus from : DeliveryStatus.values()) {
+                if ((target.predecessorMask() & from.bit()) != 0) expected.add(from);
+            }
+            assertThat(target.predecessors()).isEqualTo(expected);
+        }
+        assertThat(CANCELED.predecessors()).containsExactlyInAnyOrder(REQUESTED, ASSIGNED);
+        assertThat(REQUESTED.predecessors()).isEmpty();
+    }
+
+    @Test
+    void rejectionMessageTo_shouldBePrecomputedConstant() {
+        assertThat(DELIVERED.rejectionMessageTo(ASSIGNED)).isEqualTo("해당 상태로 변경할 수 없습니다: DELIVERED -> ASSIGNED");
+        assertThat(ASSIGNED.rejectionMessageTo(REQUESTED)).isEqualTo("REQUESTED 상태로 되돌릴 수 없습니다.");
+        assertThat(DELIVERED.rejectionMessageTo(ASSIGNED)).isSameAs(DELIVERED.rejectionMessageTo(ASSIGNED));
+    }
+
+    @Test
+    void isTerminal_shouldBeStatesWithoutOutgoingTransition() {
+        assertThat(EnumSet.allOf(DeliveryStatus.class).stream().filter(DeliveryStatus::isTerminal))
+                .containsExactlyInAnyOrder(DELIVERED, CANCELED);
+    }
+
+    @Test
+    void isDestinationChangeable_shouldAllowOnlyBeforePickup() {
+        assertThat(REQUESTED.isDestinationChangeable()).isTrue();
+        assertThat(ASSIGNED.isDestinationChangeable()).isTrue();
+        assertThat(PICKED_UP.isDestinationChangeable()).isFalse();
+        assertThat(DELIVERED.isDestinationChangeable()).isFalse();
+        assertThat(CANCELED.isDestinationChangeable()).isFalse();
+    }
+
+    @Test
+    void transitionTo_shouldSetTimestampOfTargetState() {
+        LocalDateTime requestedAt = LocalDateTime.of(2025, 6, 1, 10, 0);
+        Delivery delivery = new Delivery(null, "ORD-1", "픽업지", "도착지", REQUESTED, requestedAt);
+
+        delivery.assignTo(7L, requestedAt.plusMinutes(1));
+        delivery.markPickedUp(requestedAt.plusMinutes(2));
+
+        assertThat(delivery.getStatus()).isEqualTo(PICKED_UP);
+        assertThat(delivery.getRiderId()).isEqualTo(7L);
+        assertThat(delivery.getAssignedAt()).isEqualTo(requestedAt.plusMinutes(1));
+        assertThat(delivery.getPickedUpAt()).isEqualTo(requestedAt.plusMinutes(2));
+        assertThat(delivery.getCanceledAt()).isNull();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> delivery.cancel(requestedAt.plusMinutes(3)));
+        assertThat(exception.getMessage()).isEqualTo(PICKED_UP.rejectionMessageTo(CANCELED));
+        assertThat(delivery.getStatus()).isEqualTo(PICKED_UP);
+    }
+
+    @Test
+    void timestampAttributeOf_shouldNameTransitionColumn() {
+        assertThat(Delivery.timestampAttributeOf(ASSIGNED)).isEqualTo("assignedAt");
+        assertThat(Delivery.timestampAttributeOf(CANCELED)).isEqualTo("canceledAt");
+        assertThat(Delivery.timestampAttributeOf(REQUESTED)).isNull();
+    }
+}
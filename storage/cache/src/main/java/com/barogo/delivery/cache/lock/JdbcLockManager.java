@@ -0,0 +1,331 @@
+package com.barogo.delivery.cache.lock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다중 노드용 lease 테이블 기반 잠금
+ * - key 당 한 행을 두고, 만료된 행만 조건부 UPDATE 로 가져간다 (넘겨받을 때마다 fencing token 이 증가한다)
+ * - 해제/만료 후 retention 이 지난 행은 주기적으로 지운다 (주문번호/배달마다 생기는 행이 쌓이지 않도록)
+ *   지우기 전에 distributed_lock_sequence 의 하한을 지운 행의 최대 token 보다 크게 올려두고, 새 행은 그 하한에서 시작하므로
+ *   같은 key 의 token 은 행이 지워졌다 다시 생겨도 줄어들지 않는다
+ * - 업무 트랜잭션과 분리하기 위해 Spring 트랜잭션에 참여하지 않는 짧은 auto-commit 커넥션을 사용한다
+ *   (업무 커넥션 풀과 나눠 쓰지 않도록 전용 DataSource 를 넘긴다, LockConfig)
+ * - lease 는 업무 트랜잭션 도중 만료될 수 있으므로, 보호 구간의 쓰기는 커밋 전에 isHeld() 를 확인해야 한다
+ * - lease 만료 판단은 애플리케이션 시계 기준이므로 노드 간 시계는 NTP 로 동기화되어 있어야 한다
+ */
+@Slf4j
+public class JdbcLockManager implements LockManager, AutoCloseable {
+
+    private static final String TABLE = "distributed_lock";
+    private static final String SEQUENCE_TABLE = "distributed_lock_sequence";
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS distributed_lock (
+                lock_key      VARCHAR(200) NOT NULL,
+                owner_id      VARCHAR(200) NOT NULL,
+                fencing_token BIGINT       NOT NULL,
+                expires_at    TIMESTAMP(3) NOT NULL,
+                PRIMARY KEY (lock_key)
+            )
+            """;
+
+    private static final String CREATE_SEQUENCE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS distributed_lock_sequence (
+                id         INT    NOT NULL,
+                next_token BIGINT NOT NULL,
+                PRIMARY KEY (id)
+            )
+            """;
+
+    private static final String INSERT_SEQUENCE_SQL = """
+            INSERT INTO distributed_lock_sequence (id, next_token) VALUES (1, 1)
+            """;
+
+    private static final String TAKEOVER_SQL = """
+            UPDATE distributed_lock
+            SET owner_id = ?, fencing_token = fencing_token + 1, expires_at = ?
+            WHERE lock_key = ? AND expires_at <= ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO distributed_lock (lock_key, owner_id, fencing_token, expires_at)
+            VALUES (?, ?, (SELECT next_token FROM distributed_lock_sequence WHERE id = 1), ?)
+            """;
+
+    private static final String SELECT_TOKEN_SQL = """
+            SELECT fencing_token FROM distributed_lock
+            WHERE lock_key = ? AND owner_id = ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE distributed_lock
+            SET expires_at = ?
+            WHERE lock_key = ? AND owner_id = ? AND fencing_token = ?
+            """;
+
+    // 지울 행의 최대 token 보다 하한을 먼저 올린다 (같은 cutoff 로 지우므로 그 사이 넘겨받은 행은 지워지지 않는다)
+    private static final String RAISE_SEQUENCE_SQL = """
+            UPDATE distributed_lock_sequence
+            SET next_token = GREATEST(next_token,
+                    (SELECT COALESCE(MAX(fencing_token), 0) + 1 FROM distributed_lock WHERE expires_at <= ?))
+            WHERE id = 1
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM distributed_lock
+            WHERE expires_at <= ?
+            """;
+
+    private final DataSource dataSource;
+    private final Clock clock;
+    private final Duration retryInterval;
+    private final String nodeId;
+    private final AtomicLong acquisitionSequence = new AtomicLong();
+    private final LockMetrics metrics = new LockMetrics();
+    private volatile ScheduledExecutorService purgeScheduler;
+
+    public JdbcLockManager(DataSource dataSource, Clock clock, Duration retryInterval) {
+        this.dataSource = dataSource;
+        this.clock = clock;
+        this.retryInterval = retryInterval;
+        this.nodeId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // 운영에서는 마이그레이션으로 생성하고(distributed_lock_sequence 의 id = 1 행 포함), 로컬/테스트에서만 호출한다
+    public void initializeSchema() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE_SQL);
+            statement.execute(CREATE_SEQUENCE_TABLE_SQL);
+        } catch (SQLException e) {
+            throw new LockException(TABLE + " 테이블 생성에 실패했습니다.", e);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            executeUpdate(connection, INSERT_SEQUENCE_SQL);
+        } catch (SQLException e) {
+            if (!isDuplicateKey(e)) {
+                throw new LockException(SEQUENCE_TABLE + " 초기화에 실패했습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 해제/만료된 지 retention 이 지난 행을 interval 마다 지운다
+     * - retention 동안은 행을 남겨 자주 잠그는 key 가 INSERT/DELETE 를 반복하지 않게 한다
+     */
+    public void startPurging(Duration interval, Duration retention) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("lock-purge").daemon().factory());
+        executor.scheduleWithFixedDelay(() -> {
+            // 예외가 나면 이후 실행이 취소되므로 주기 안에서 처리한다 (다음 주기에 다시 지운다)
+            try {
+                purgeExpired(retention);
+            } catch (RuntimeException e) {
+                log.warn("lock purge failed", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        this.purgeScheduler = executor;
+    }
+
+    /**
+     * 해제/만료된 지 retention 이 지난 행을 지운다
+     *
+     * @return 지운 행 수
+     */
+    public int purgeExpired(Duration retention) {
+        Timestamp cutoff = Timestamp.from(clock.instant().minus(retention));
+        try (Connection connection = dataSource.getConnection()) {
+            executeUpdate(connection, RAISE_SEQUENCE_SQL, cutoff);
+            return executeUpdate(connection, PURGE_SQL, cutoff);
+        } catch (SQLException e) {
+            throw new LockException(TABLE + " 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public Optional<LockHandle> tryAcquire(String key, Duration waitTimeout, Duration leaseTime) {
+        // 획득마다 고유한 owner 를 사용해 내가 갱신한 행의 토큰만 읽는다
+        String ownerId = nodeId + ":" + acquisitionSequence.incrementAndGet();
+        long start = System.nanoTime();
+        long deadline = start + waitTimeout.toNanos();
+        boolean contended = false;
+
+        try {
+            while (true) {
+                Instant expiresAt = clock.instant().plus(leaseTime);
+                OptionalLong token = tryAcquireOnce(key, ownerId, expiresAt);
+                if (token.isPresent()) {
+                    metrics.acquired.increment();
+                    return Optional.of(new JdbcLockHandle(key, ownerId, token.getAsLong(), expiresAt));
+                }
+                if (!contended) {
+                    contended = true;
+                    metrics.contended.increment();
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    metrics.timedOut.increment();
+                    return Optional.empty();
+                }
+                // 여러 노드가 같은 주기로 재시도하지 않도록 jitter 를 더한다
+                long sleep = Math.min(remaining, jittered(retryInterval.toNanos()));
+                TimeUnit.NANOSECONDS.sleep(sleep);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            if (contended) {
+                metrics.waitNanos.add(System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    public LockStats stats() {
+        return metrics.snapshot();
+    }
+
+    /**
+     * 정리 작업을 멈추고 전용 풀을 닫는다 (넘겨받은 DataSource 가 닫을 수 있는 풀일 때)
+     */
+    @Override
+    public void close() throws Exception {
+        ScheduledExecutorService executor = this.purgeScheduler;
+        if (executor != null) {
+            executor.shutdownNow();
+            this.purgeScheduler = null;
+        }
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private OptionalLong tryAcquireOnce(String key, String ownerId, Instant expiresAt) {
+        Timestamp now = Timestamp.from(clock.instant());
+        try (Connection connection = dataSource.getConnection()) {
+            int updated = executeUpdate(connection, TAKEOVER_SQL, ownerId, Timestamp.from(expiresAt), key, now);
+            if (updated == 0) {
+                // 행이 없으면 새로 만들고, 이미 있으면(= 유효한 보유자 존재) 이번 시도는 실패
+                try {
+                    executeUpdate(connection, INSERT_SQL, key, ownerId, Timestamp.from(expiresAt));
+                } catch (SQLException e) {
+                    if (isDuplicateKey(e)) {
+                        return OptionalLong.empty();
+                    }
+                    throw e;
+                }
+            } else {
+                metrics.expiredTakeovers.increment();
+            }
+            return selectToken(connection, key, ownerId);
+        } catch (SQLException e) {
+            throw new LockException("잠금 획득 중 오류가 발생했습니다: " + key, e);
+        }
+    }
+
+    private void release(String key, String ownerId, long token) {
+        try (Connection connection = dataSource.getConnection()) {
+            executeUpdate(connection, RELEASE_SQL, Timestamp.from(clock.instant()), key, ownerId, token);
+        } catch (SQLException e) {
+            // 해제 실패 시에도 lease 만료 후에는 다른 요청이 가져갈 수 있다
+            throw new LockException("잠금 해제 중 오류가 발생했습니다: " + key, e);
+        }
+    }
+
+    private OptionalLong selectToken(Connection connection, String key, String ownerId) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(SELECT_TOKEN_SQL)) {
+            ps.setString(1, key);
+            ps.setString(2, ownerId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? OptionalLong.of(rs.getLong(1)) : OptionalLong.empty();
+            }
+        }
+    }
+
+    private static int executeUpdate(Connection connection, String sql, Object... params) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            return ps.executeUpdate();
+        }
+    }
+
+    // SQLState 23xxx: 무결성 제약 위반 (MySQL/H2 공통)
+    private static boolean isDuplicateKey(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("23");
+    }
+
+    private static long jittered(long nanos) {
+        return nanos + ThreadLocalRandom.current().nextLong(Math.max(1, nanos / 2));
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    private final class JdbcLockHandle implements LockHandle {
+        private final String key;
+        private final String ownerId;
+        private final long token;
+        private final Instant expiresAt;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private JdbcLockHandle(String key, String ownerId, long token, Instant expiresAt) {
+            this.key = key;
+            this.ownerId = ownerId;
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public long fencingToken() {
+            return token;
+        }
+
+        @Override
+        public boolean isHeld() {
+            return !closed.get() && clock.instant().isBefore(expiresAt);
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(key, ownerId, token);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.barogo.delivery.cache.lock;
+
+// 잠금 저장소 오류 (획득 실패/타임아웃은 예외가 아닌 Optional.empty 로 표현)
+public class LockException extends RuntimeException {
+    public LockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
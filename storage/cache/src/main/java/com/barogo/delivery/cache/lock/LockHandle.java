@@ -0,0 +1,19 @@
+package com.barogo.delivery.cache.lock;
+
+/**
+ * 획득한 잠금
+ * - fencingToken 은 같은 key 에 대해 획득할 때마다 증가하므로, 만료 후 뒤늦게 쓰는 이전 보유자를 걸러낼 때 사용한다
+ */
+public interface LockHandle extends AutoCloseable {
+
+    String key();
+
+    long fencingToken();
+
+    // lease 가 아직 유효하고 다른 요청에 넘어가지 않았는지 여부
+    boolean isHeld();
+
+    // 잠금 해제 (이미 만료되어 다른 요청이 가져간 경우 아무것도 하지 않는다)
+    @Override
+    void close();
+}
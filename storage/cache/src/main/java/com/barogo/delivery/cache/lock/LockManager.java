@@ -0,0 +1,22 @@
+package com.barogo.delivery.cache.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 키 단위 잠금 관리자
+ * - 단일 노드: {@link StripedLockManager}
+ * - 다중 노드: {@link JdbcLockManager}
+ */
+public interface LockManager {
+
+    /**
+     * key 에 대한 잠금을 최대 waitTimeout 동안 시도한다
+     * - leaseTime 이 지나면 보유자가 해제하지 않아도 잠금은 만료되어 다른 요청이 가져갈 수 있다
+     *
+     * @return 획득한 잠금, 시간 내 획득하지 못하면 empty
+     */
+    Optional<LockHandle> tryAcquire(String key, Duration waitTimeout, Duration leaseTime);
+
+    LockStats stats();
+}
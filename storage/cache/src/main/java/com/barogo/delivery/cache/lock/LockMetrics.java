@@ -0,0 +1,22 @@
+package com.barogo.delivery.cache.lock;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// 구현체 공용 경합 카운터 (경합 시에도 캐시라인 경쟁이 적은 LongAdder 사용)
+class LockMetrics {
+    final LongAdder acquired = new LongAdder();
+    final LongAdder contended = new LongAdder();
+    final LongAdder timedOut = new LongAdder();
+    final LongAdder expiredTakeovers = new LongAdder();
+    final LongAdder waitNanos = new LongAdder();
+
+    LockStats snapshot() {
+        return new LockStats(
+                acquired.sum(),
+                contended.sum(),
+                timedOut.sum(),
+                expiredTakeovers.sum(),
+                waitNanos.sum()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.barogo.delivery.cache.lock;
+
+/**
+ * 잠금 경합 지표 스냅샷
+ *
+ * @param acquired         획득 성공 횟수
+ * @param contended        즉시 획득하지 못하고 대기 경로로 들어간 횟수
+ * @param timedOut         대기 시간 내 획득 실패 횟수
+ * @param expiredTakeovers 만료된 lease 를 넘겨받은 횟수
+ * @param totalWaitNanos   대기 경로에서 소요된 누적 시간
+ */
+public record LockStats(
+        long acquired,
+        long contended,
+        long timedOut,
+        long expiredTakeovers,
+        long totalWaitNanos
+) {
+}
@@ -0,0 +1,197 @@
+package com.barogo.delivery.cache.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 JVM 용 striped 잠금
+ * - key 의 해시로 고정 개수의 stripe 중 하나를 선택한다 (서로 다른 key 가 같은 stripe 를 공유할 수 있다)
+ * - 경합이 없으면 CAS 한 번으로 획득/해제하고, 경합 시에만 stripe 의 Condition 에서 대기한다
+ * - lease 가 만료된 잠금은 대기 중인 요청이 넘겨받는다
+ */
+public class StripedLockManager implements LockManager {
+
+    private static final long MAX_STRIPES = 1 << 16;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final AtomicLong tokenSequence = new AtomicLong();
+    private final LockMetrics metrics = new LockMetrics();
+
+    public StripedLockManager(int stripeCount) {
+        if (stripeCount < 1 || stripeCount > MAX_STRIPES) {
+            throw new IllegalArgumentException("stripeCount 는 1 ~ " + MAX_STRIPES + " 범위여야 합니다: " + stripeCount);
+        }
+        // 비트 마스크로 인덱스를 구하기 위해 2의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) size <<= 1;
+
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public Optional<LockHandle> tryAcquire(String key, Duration waitTimeout, Duration leaseTime) {
+        Stripe stripe = stripeFor(key);
+        long leaseNanos = leaseTime.toNanos();
+
+        // fast path: 경합이 없으면 CAS 한 번
+        Lease lease = tryAcquireOnce(stripe, leaseNanos);
+        if (lease != null) {
+            return Optional.of(acquired(key, stripe, lease));
+        }
+
+        metrics.contended.increment();
+        long start = System.nanoTime();
+        try {
+            lease = awaitLease(stripe, leaseNanos, start + waitTimeout.toNanos());
+        } finally {
+            metrics.waitNanos.add(System.nanoTime() - start);
+        }
+        if (lease == null) {
+            metrics.timedOut.increment();
+            return Optional.empty();
+        }
+        return Optional.of(acquired(key, stripe, lease));
+    }
+
+    @Override
+    public LockStats stats() {
+        return metrics.snapshot();
+    }
+
+    private Lease awaitLease(Stripe stripe, long leaseNanos, long deadline) {
+        // 해제하는 쪽이 waiters 를 보고 신호를 보내므로 시도 전에 먼저 등록한다
+        stripe.waiters.incrementAndGet();
+        stripe.monitor.lock();
+        try {
+            while (true) {
+                Lease lease = tryAcquireOnce(stripe, leaseNanos);
+                if (lease != null) {
+                    return lease;
+                }
+                long now = System.nanoTime();
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    return null;
+                }
+                // 해제 신호가 없더라도 현재 보유자의 lease 가 끝나는 시점에는 다시 시도한다
+                Lease holder = stripe.lease.get();
+                long untilExpiry = holder == null ? 0 : holder.expiresAtNanos - now;
+                long park = Math.min(remaining, untilExpiry);
+                if (park > 0) {
+                    stripe.released.awaitNanos(park);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            stripe.monitor.unlock();
+            stripe.waiters.decrementAndGet();
+        }
+    }
+
+    private Lease tryAcquireOnce(Stripe stripe, long leaseNanos) {
+        Lease current = stripe.lease.get();
+        long now = System.nanoTime();
+        if (current != null && current.expiresAtNanos - now > 0) {
+            return null;
+        }
+        Lease next = new Lease(tokenSequence.incrementAndGet(), now + leaseNanos);
+        if (!stripe.lease.compareAndSet(current, next)) {
+            return null;
+        }
+        if (current != null) {
+            metrics.expiredTakeovers.increment();
+        }
+        return next;
+    }
+
+    private void release(Stripe stripe, Lease lease) {
+        // 만료되어 이미 다른 요청이 가져간 경우 CAS 가 실패하므로 새 보유자의 잠금을 풀지 않는다
+        if (stripe.lease.compareAndSet(lease, null) && stripe.waiters.get() > 0) {
+            stripe.monitor.lock();
+            try {
+                stripe.released.signalAll();
+            } finally {
+                stripe.monitor.unlock();
+            }
+        }
+    }
+
+    private LockHandle acquired(String key, Stripe stripe, Lease lease) {
+        metrics.acquired.increment();
+        return new StripedLockHandle(key, stripe, lease);
+    }
+
+    private Stripe stripeFor(String key) {
+        int h = key.hashCode();
+        // 상위 비트를 섞어 하위 비트만 쓰는 마스크에서도 고르게 분산되도록 한다
+        h ^= (h >>> 16);
+        return stripes[h & mask];
+    }
+
+    private static final class Stripe {
+        private final AtomicReference<Lease> lease = new AtomicReference<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+        private final ReentrantLock monitor = new ReentrantLock();
+        private final Condition released = monitor.newCondition();
+    }
+
+    private record Lease(long token, long expiresAtNanos) {
+    }
+
+    private final class StripedLockHandle implements LockHandle {
+        private final String key;
+        private final Stripe stripe;
+        private final Lease lease;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private StripedLockHandle(String key, Stripe stripe, Lease lease) {
+            this.key = key;
+            this.stripe = stripe;
+            this.lease = lease;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public long fencingToken() {
+            return lease.token();
+        }
+
+        @Override
+        public boolean isHeld() {
+            return !closed.get()
+                    && stripe.lease.get() == lease
+                    && lease.expiresAtNanos() - System.nanoTime() > 0;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(stripe, lease);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "StripedLockHandle[key=" + key + ", token=" + lease.token() + ", remainingMs="
+                    + TimeUnit.NANOSECONDS.toMillis(lease.expiresAtNanos() - System.nanoTime()) + "]";
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.barogo.delivery.cache.lock.config;
+
+import com.barogo.delivery.cache.lock.JdbcLockManager;
+import com.barogo.delivery.cache.lock.LockManager;
+import com.barogo.delivery.cache.lock.StripedLockManager;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class LockConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.lock", name = "type", havingValue = "local", matchIfMissing = true)
+    LockManager stripedLockManager(LockProperties properties) {
+        return new StripedLockManager(properties.getStripes());
+    }
+
+    /**
+     * jdbc 잠금은 spring.datasource 와 같은 DB 에 전용 소형 풀로 연결한다
+     * - 호출자가 업무 트랜잭션 커넥션을 쥔 채 잠금을 잡으므로, 같은 풀을 쓰면 동시 요청이 풀을 다 쓴 상태에서
+     *   잠금용 커넥션을 기다리며 서로 막힐 수 있다
+     * - 풀은 DataSource bean 으로 노출하지 않는다 (기본 DataSource 자동 구성과 주입 대상을 바꾸지 않도록)
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "delivery.lock", name = "type", havingValue = "jdbc")
+    JdbcLockManager jdbcLockManager(DataSourceProperties dataSourceProperties, LockProperties properties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("lock");
+        dataSource.setMaximumPoolSize(properties.getPoolSize());
+        dataSource.setMinimumIdle(Math.min(2, properties.getPoolSize()));
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        dataSource.setAutoCommit(true);
+
+        JdbcLockManager lockManager = new JdbcLockManager(dataSource, Clock.systemUTC(), properties.getRetryInterval());
+        if (properties.isInitializeSchema()) {
+            lockManager.initializeSchema();
+        }
+        if (properties.getPurgeInterval().isPositive()) {
+            lockManager.startPurging(properties.getPurgeInterval(), properties.getPurgeRetention());
+        }
+        return lockManager;
+    }
+}
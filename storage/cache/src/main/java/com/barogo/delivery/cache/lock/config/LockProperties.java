@@ -0,0 +1,36 @@
+package com.barogo.delivery.cache.lock.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.lock")
+public class LockProperties {
+    // local: 단일 노드(in-JVM striped), jdbc: 다중 노드(lease 테이블)
+    private Type type = Type.LOCAL;
+    private int stripes = 1024;
+    private Duration waitTimeout = Duration.ofSeconds(3);
+    private Duration leaseTime = Duration.ofSeconds(10);
+    // jdbc 재시도 간격
+    private Duration retryInterval = Duration.ofMillis(50);
+    // jdbc 사용 시 distributed_lock 테이블 자동 생성 여부 (로컬/테스트용)
+    private boolean initializeSchema = false;
+    // jdbc 잠금 전용 커넥션 풀 (잠금 연산은 짧은 auto-commit 이므로 작게 둔다)
+    private int poolSize = 4;
+    // 전용 풀에서 커넥션을 기다리는 최대 시간 (Hikari 최소값 250ms 이상)
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+    // jdbc 해제/만료된 잠금 행 정리 주기 (0 이면 정리하지 않음)
+    private Duration purgeInterval = Duration.ofMinutes(1);
+    // 해제/만료 후 행을 남겨두는 시간 (자주 잠그는 key 의 INSERT/DELETE 반복 방지)
+    private Duration purgeRetention = Duration.ofMinutes(10);
+
+    public enum Type {
+        LOCAL, JDBC
+    }
+}
@@ -0,0 +1,66 @@
+package com.barogo.delivery.cache.near;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 프로세스 로컬 near-cache
+ * - 거의 변하지 않는 조회 결과를 DB 왕복 없이 재사용하기 위한 용도
+ * - 최대 크기(size) + 쓰기 후 TTL 로 제거되며, 쓰기 경로에서는 invalidate 로 명시적으로 무효화한다
+ * - null 값은 저장하지 않는다 (미존재 결과를 캐시하지 않음)
+ */
+public class NearCache<K, V> {
+
+    private final String name;
+    private final Cache<K, V> cache;
+
+    public NearCache(String name, long maximumSize, Duration timeToLive) {
+        this(name, maximumSize, timeToLive, Ticker.systemTicker());
+    }
+
+    NearCache(String name, long maximumSize, Duration timeToLive, Ticker ticker) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public V get(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 적재한다 (loader 가 null 을 반환하면 저장하지 않음)
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return cache.get(key, loader);
+    }
+
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public NearCacheStats stats() {
+        var stats = cache.stats();
+        return new NearCacheStats(name, stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+}
@@ -0,0 +1,39 @@
+package com.barogo.delivery.cache.near;
+
+import com.barogo.delivery.cache.near.config.NearCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 이름별 NearCache 생성/보관
+ * - 크기/TTL 은 delivery.near-cache.caches.{name} 설정을 따르고, 없으면 기본값을 사용
+ * - 등록된 캐시 목록은 메트릭 바인딩에 사용한다
+ */
+@Component
+public class NearCacheManager {
+
+    private final NearCacheProperties properties;
+    private final ConcurrentMap<String, NearCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public NearCacheManager(NearCacheProperties properties) {
+        this.properties = properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> NearCache<K, V> getCache(String name) {
+        return (NearCache<K, V>) caches.computeIfAbsent(name, this::create);
+    }
+
+    public Collection<NearCache<?, ?>> caches() {
+        return List.copyOf(caches.values());
+    }
+
+    private NearCache<?, ?> create(String name) {
+        NearCacheProperties.Spec spec = properties.specOf(name);
+        return new NearCache<>(name, spec.getMaximumSize(), spec.getTimeToLive());
+    }
+}
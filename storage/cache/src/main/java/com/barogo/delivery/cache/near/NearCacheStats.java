@@ -0,0 +1,15 @@
+package com.barogo.delivery.cache.near;
+
+public record NearCacheStats(
+        String name,
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        long size
+) {
+
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,32 @@
+package com.barogo.delivery.cache.near.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.near-cache")
+public class NearCacheProperties {
+    // 개별 설정이 없는 캐시에 적용되는 기본값
+    private Spec defaults = new Spec();
+    // 캐시 이름별 설정
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec specOf(String name) {
+        return caches.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private long maximumSize = 10_000;
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+}
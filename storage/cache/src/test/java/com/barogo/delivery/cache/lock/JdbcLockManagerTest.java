@@ -0,0 +1,110 @@
+package com.barogo.delivery.cache.lock;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcLockManagerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-10-01T00:00:00Z"));
+    private JdbcLockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        lockManager = new JdbcLockManager(dataSource, clock, Duration.ofMillis(5));
+        lockManager.initializeSchema();
+    }
+
+    @Test
+    void tryAcquire_shouldFailWhileLeaseIsValidAndSucceedAfterRelease() {
+        LockHandle first = lockManager.tryAcquire("delivery:1", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+
+        Optional<LockHandle> second = lockManager.tryAcquire("delivery:1", Duration.ofMillis(20), Duration.ofSeconds(10));
+        assertThat(second).isEmpty();
+
+        first.close();
+        LockHandle third = lockManager.tryAcquire("delivery:1", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+        assertThat(third.fencingToken()).isGreaterThan(first.fencingToken());
+
+        LockStats stats = lockManager.stats();
+        assertThat(stats.acquired()).isEqualTo(2);
+        assertThat(stats.timedOut()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_shouldTakeOverExpiredLease() {
+        LockHandle stale = lockManager.tryAcquire("delivery:2", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+
+        clock.advance(Duration.ofSeconds(11));
+        LockHandle next = lockManager.tryAcquire("delivery:2", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+
+        assertThat(stale.isHeld()).isFalse();
+        assertThat(next.fencingToken()).isGreaterThan(stale.fencingToken());
+
+        // 만료된 이전 보유자의 해제는 토큰이 달라 새 보유자의 행을 바꾸지 않는다
+        stale.close();
+        assertThat(lockManager.tryAcquire("delivery:2", Duration.ZERO, Duration.ofSeconds(10))).isEmpty();
+    }
+
+    @Test
+    void purgeExpired_shouldDeleteReleasedRowsWithoutLoweringFencingToken() {
+        LockHandle first = lockManager.tryAcquire("delivery:order:A-1", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+        first.close();
+        LockHandle second = lockManager.tryAcquire("delivery:order:A-1", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+        second.close();
+        LockHandle held = lockManager.tryAcquire("delivery:order:A-2", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+
+        // retention 이 지나지 않은 행은 남긴다
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(lockManager.purgeExpired(Duration.ofSeconds(5))).isZero();
+
+        // 보유 중인 행은 지우지 않는다
+        clock.advance(Duration.ofSeconds(5));
+        assertThat(lockManager.purgeExpired(Duration.ofSeconds(5))).isEqualTo(1);
+        assertThat(lockManager.tryAcquire("delivery:order:A-2", Duration.ZERO, Duration.ofSeconds(10))).isEmpty();
+
+        // 지워진 key 를 다시 잡아도 token 은 이전 보유자보다 크다
+        LockHandle again = lockManager.tryAcquire("delivery:order:A-1", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+        assertThat(again.fencingToken()).isGreaterThan(second.fencingToken());
+        assertThat(held.isHeld()).isTrue();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.barogo.delivery.cache.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedLockManagerTest {
+
+    private final StripedLockManager lockManager = new StripedLockManager(64);
+
+    @Test
+    void tryAcquire_shouldTimeOutWhileAnotherHolderHoldsTheKey() {
+        LockHandle first = lockManager.tryAcquire("delivery:1", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+
+        Optional<LockHandle> second = lockManager.tryAcquire("delivery:1", Duration.ofMillis(50), Duration.ofSeconds(10));
+
+        assertThat(second).isEmpty();
+        assertThat(lockManager.stats().timedOut()).isEqualTo(1);
+        first.close();
+        assertThat(lockManager.tryAcquire("delivery:1", Duration.ZERO, Duration.ofSeconds(10))).isPresent();
+    }
+
+    @Test
+    void tryAcquire_shouldTakeOverExpiredLeaseWithHigherFencingToken() throws Exception {
+        LockHandle stale = lockManager.tryAcquire("delivery:2", Duration.ZERO, Duration.ofMillis(20)).orElseThrow();
+        Thread.sleep(40);
+
+        LockHandle next = lockManager.tryAcquire("delivery:2", Duration.ZERO, Duration.ofSeconds(10)).orElseThrow();
+
+        assertThat(next.fencingToken()).isGreaterThan(stale.fencingToken());
+        assertThat(stale.isHeld()).isFalse();
+
+        // 만료된 이전 보유자의 해제는 새 보유자에게 영향을 주지 않는다
+        stale.close();
+        assertThat(next.isHeld()).isTrue();
+        assertThat(lockManager.stats().expiredTakeovers()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_shouldProvideMutualExclusionUnderContention() throws Exception {
+        int threads = 16;
+        int iterations = 200;
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        int[] counter = new int[1];
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        try (LockHandle ignored = lockManager.tryAcquire("delivery:3", Duration.ofSeconds(5), Duration.ofSeconds(5)).orElseThrow()) {
+                            if (inside.incrementAndGet() > 1) violations.incrementAndGet();
+                            counter[0]++;
+                            inside.decrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(violations.get()).isZero();
+        assertThat(counter[0]).isEqualTo(threads * iterations);
+        assertThat(lockManager.stats().acquired()).isEqualTo((long) threads * iterations);
+    }
+}
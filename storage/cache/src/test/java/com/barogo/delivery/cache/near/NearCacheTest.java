@@ -0,0 +1,56 @@
+package com.barogo.delivery.cache.near;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCacheTest {
+
+    @Test
+    void get_shouldCountHitsAndMisses() {
+        NearCache<Long, String> cache = new NearCache<>("member", 100, Duration.ofMinutes(1));
+
+        assertThat(cache.get(1L)).isNull();
+        cache.put(1L, "tester");
+        assertThat(cache.get(1L)).isEqualTo("tester");
+
+        NearCacheStats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void get_shouldExpireAfterTimeToLive() {
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        NearCache<Long, String> cache = new NearCache<>("member", 100, Duration.ofSeconds(10), ticker);
+
+        cache.put(1L, "tester");
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void invalidate_shouldRemoveEntry() {
+        NearCache<Long, String> cache = new NearCache<>("member", 100, Duration.ofMinutes(1));
+        cache.put(1L, "tester");
+
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void get_shouldNotStoreNullFromLoader() {
+        NearCache<Long, String> cache = new NearCache<>("member", 100, Duration.ofMinutes(1));
+
+        assertThat(cache.get(1L, id -> null)).isNull();
+        assertThat(cache.get(1L, id -> "loaded")).isEqualTo("loaded");
+    }
+}
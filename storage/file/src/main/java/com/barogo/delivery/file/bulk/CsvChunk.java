@@ -0,0 +1,15 @@
+package com.barogo.delivery.file.bulk;
+
+/**
+ * 행 경계에 맞춘 파일 구간 [start, end)
+ *
+ * @param index     구간 번호 (체크포인트 단위)
+ * @param firstRow  구간 첫 행의 행 번호 (헤더 제외, 1부터)
+ * @param rows      구간의 행 수 (빈 줄 포함)
+ */
+public record CsvChunk(int index, long start, long end, long firstRow, int rows) {
+
+    public long length() {
+        return end - start;
+    }
+}
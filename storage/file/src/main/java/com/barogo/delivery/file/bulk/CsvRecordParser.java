@@ -0,0 +1,311 @@
+package com.barogo.delivery.file.bulk;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * 매핑된 구간에서 RFC 4180 CSV 행을 읽는다 (UTF-8)
+ * - 행마다 필드의 시작/끝 위치만 재사용 배열에 기록하고, 값은 필요한 필드만 꺼낸다
+ * - 숫자/일시는 바이트에서 바로 변환해 문자열을 만들지 않는다. 문자열은 DB 에 넣을 텍스트 필드만 만든다
+ * - 구간 단위로 재사용하며 스레드 간 공유하지 않는다
+ */
+final class CsvRecordParser {
+
+    // 2^53 미만 정수와 10^22 이하 거듭제곱의 나눗셈은 정확히 반올림된다
+    private static final double[] POW10 = new double[23];
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private final int[] starts;
+    private final int[] ends;
+    // "" 이스케이프가 있어 꺼낼 때 풀어야 하는 필드
+    private final boolean[] escaped;
+    private byte[] scratch = new byte[256];
+
+    private ByteBuffer buffer;
+    private int position;
+    private int limit;
+    private int fieldCount;
+    private boolean malformed;
+
+    CsvRecordParser(int maxFields) {
+        this.starts = new int[maxFields];
+        this.ends = new int[maxFields];
+        this.escaped = new boolean[maxFields];
+    }
+
+    void reset(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = 0;
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * 현재 위치 (다음 행의 시작)
+     */
+    int position() {
+        return position;
+    }
+
+    /**
+     * 다음 행을 읽는다
+     *
+     * @return 읽은 행이 없으면 false
+     */
+    boolean next() {
+        if (position >= limit) {
+            return false;
+        }
+        fieldCount = 0;
+        malformed = false;
+        int p = position;
+        while (true) {
+            int start;
+            int end;
+            boolean hasEscape = false;
+            if (buffer.get(p) == '"') {
+                start = ++p;
+                while (true) {
+                    if (p >= limit) {
+                        malformed = true;
+                        end = p;
+                        break;
+                    }
+                    if (buffer.get(p) == '"') {
+                        if (p + 1 < limit && buffer.get(p + 1) == '"') {
+                            hasEscape = true;
+                            p += 2;
+                            continue;
+                        }
+                        end = p++;
+                        break;
+                    }
+                    p++;
+                }
+                // 닫는 따옴표 뒤에는 구분자/줄바꿈만 올 수 있다
+                while (p < limit && buffer.get(p) != ',' && buffer.get(p) != '\n') {
+                    if (buffer.get(p) != '\r') {
+                        malformed = true;
+                    }
+                    p++;
+                }
+            } else {
+                start = p;
+                while (p < limit && buffer.get(p) != ',' && buffer.get(p) != '\n') {
+                    p++;
+                }
+                end = p;
+                if (end > start && buffer.get(end - 1) == '\r') {
+                    end--;
+                }
+            }
+            addField(start, end, hasEscape);
+
+            if (p >= limit) {
+                position = limit;
+                return true;
+            }
+            if (buffer.get(p++) == '\n') {
+                position = p;
+                return true;
+            }
+            if (p >= limit || buffer.get(p) == '\n') {
+                // 행 끝의 구분자 뒤 빈 필드
+                addField(p, p, false);
+                position = p >= limit ? limit : p + 1;
+                return true;
+            }
+        }
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * 닫히지 않은 따옴표, 따옴표 뒤 잘못된 문자, 최대 필드 수 초과
+     */
+    boolean isMalformed() {
+        return malformed;
+    }
+
+    /**
+     * 빈 줄
+     */
+    boolean isBlankLine() {
+        return fieldCount == 1 && starts[0] == ends[0] && !malformed;
+    }
+
+    boolean isEmpty(int field) {
+        return field < 0 || field >= fieldCount || starts[field] == ends[field];
+    }
+
+    /**
+     * 텍스트 필드 (비어 있으면 null)
+     */
+    String text(int field) {
+        if (isEmpty(field)) {
+            return null;
+        }
+        int start = starts[field];
+        int length = ends[field] - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        if (!escaped[field]) {
+            buffer.get(start, scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        int n = 0;
+        for (int p = start; p < start + length; p++) {
+            byte b = buffer.get(p);
+            scratch[n++] = b;
+            if (b == '"') {
+                // "" -> "
+                p++;
+            }
+        }
+        return new String(scratch, 0, n, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 10진 실수 필드 (앞뒤 공백 허용, 비어 있으면 NaN)
+     *
+     * @throws NumberFormatException 형식이 올바르지 않을 때
+     */
+    double decimal(int field) {
+        if (isEmpty(field)) {
+            return Double.NaN;
+        }
+        int p = starts[field];
+        int end = ends[field];
+        while (p < end && buffer.get(p) == ' ') p++;
+        while (end > p && buffer.get(end - 1) == ' ') end--;
+        if (p == end) {
+            return Double.NaN;
+        }
+
+        int from = p;
+        boolean negative = false;
+        byte first = buffer.get(p);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            p++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; p < end; p++) {
+            byte b = buffer.get(p);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (scale >= 0) scale++;
+                if (mantissa >= MAX_EXACT_MANTISSA) {
+                    return slowDecimal(from, end);
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else if ((b == 'e' || b == 'E') && digits > 0) {
+                // 지수 표기는 표준 파서로 넘긴다
+                return slowDecimal(from, end);
+            } else {
+                throw new NumberFormatException("not a number");
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("not a number");
+        }
+        if (scale >= POW10.length) {
+            return slowDecimal(from, end);
+        }
+        double value = scale <= 0 ? mantissa : mantissa / POW10[scale];
+        return negative ? -value : value;
+    }
+
+    /**
+     * 일시 필드 yyyy-MM-dd[( |T)HH:mm[:ss]] (비어 있으면 null)
+     *
+     * @throws DateTimeException 형식이나 값이 올바르지 않을 때
+     */
+    LocalDateTime dateTime(int field) {
+        if (isEmpty(field)) {
+            return null;
+        }
+        int p = starts[field];
+        int end = ends[field];
+        while (p < end && buffer.get(p) == ' ') p++;
+        while (end > p && buffer.get(end - 1) == ' ') end--;
+        int length = end - p;
+        if (length != 10 && length != 16 && length != 19) {
+            throw new DateTimeException("unsupported length: " + length);
+        }
+        int year = digits(p, 4);
+        expect(p + 4, '-');
+        int month = digits(p + 5, 2);
+        expect(p + 7, '-');
+        int day = digits(p + 8, 2);
+        if (length == 10) {
+            return LocalDateTime.of(year, month, day, 0, 0);
+        }
+        byte separator = buffer.get(p + 10);
+        if (separator != ' ' && separator != 'T') {
+            throw new DateTimeException("unexpected separator");
+        }
+        int hour = digits(p + 11, 2);
+        expect(p + 13, ':');
+        int minute = digits(p + 14, 2);
+        if (length == 16) {
+            return LocalDateTime.of(year, month, day, hour, minute);
+        }
+        expect(p + 16, ':');
+        return LocalDateTime.of(year, month, day, hour, minute, digits(p + 17, 2));
+    }
+
+    private void addField(int start, int end, boolean hasEscape) {
+        if (fieldCount == starts.length) {
+            malformed = true;
+            return;
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        escaped[fieldCount] = hasEscape;
+        fieldCount++;
+    }
+
+    private double slowDecimal(int from, int end) {
+        byte[] bytes = new byte[end - from];
+        buffer.get(from, bytes);
+        double value = Double.parseDouble(new String(bytes, StandardCharsets.US_ASCII));
+        if (!Double.isFinite(value)) {
+            throw new NumberFormatException("not a finite number");
+        }
+        return value;
+    }
+
+    private int digits(int p, int count) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            byte b = buffer.get(p + i);
+            if (b < '0' || b > '9') {
+                throw new DateTimeException("not a digit");
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    private void expect(int p, char c) {
+        if (buffer.get(p) != c) {
+            throw new DateTimeException("expected '" + c + "'");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.barogo.delivery.file.bulk;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 헤더 행의 열 이름으로 정한 필드 위치
+ * - 이름은 대소문자, '_', 공백을 무시하고 비교한다 (order_number, orderNumber 모두 허용)
+ * - 알 수 없는 열은 읽지 않는다. 없는 선택 열의 위치는 -1
+ */
+record DeliveryCsvColumns(
+        int count,
+        int orderNumber,
+        int pickupAddress,
+        int pickupLat,
+        int pickupLng,
+        int deliveryAddress,
+        int deliveryLat,
+        int deliveryLng,
+        int requestedAt,
+        int memo
+) {
+
+    static final String[] NAMES = {
+            "order_number", "pickup_address", "pickup_lat", "pickup_lng",
+            "delivery_address", "delivery_lat", "delivery_lng", "requested_at", "memo"
+    };
+    private static final boolean[] REQUIRED = {true, true, false, false, true, false, false, false, false};
+
+    /**
+     * @throws IllegalArgumentException 필수 열이 없거나 같은 열이 두 번 나올 때
+     */
+    static DeliveryCsvColumns of(CsvRecordParser header) {
+        if (header.isMalformed()) {
+            throw new IllegalArgumentException("헤더 행의 형식이 올바르지 않습니다.");
+        }
+        int[] positions = new int[NAMES.length];
+        Arrays.fill(positions, -1);
+        for (int field = 0; field < header.fieldCount(); field++) {
+            String name = header.text(field);
+            int column = indexOf(name);
+            if (column < 0) {
+                continue;
+            }
+            if (positions[column] >= 0) {
+                throw new IllegalArgumentException("헤더에 같은 열이 두 번 있습니다: " + NAMES[column]);
+            }
+            positions[column] = field;
+        }
+        for (int column = 0; column < NAMES.length; column++) {
+            if (REQUIRED[column] && positions[column] < 0) {
+                throw new IllegalArgumentException("헤더에 필수 열이 없습니다: " + NAMES[column]);
+            }
+        }
+        return new DeliveryCsvColumns(header.fieldCount(), positions[0], positions[1], positions[2], positions[3],
+                positions[4], positions[5], positions[6], positions[7], positions[8]);
+    }
+
+    private static int indexOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+        String normalized = name.replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+        for (int column = 0; column < NAMES.length; column++) {
+            if (NAMES[column].replace("_", "").equals(normalized)) {
+                return column;
+            }
+        }
+        return -1;
+    }
+}
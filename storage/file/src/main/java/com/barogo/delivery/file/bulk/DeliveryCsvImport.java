@@ -0,0 +1,248 @@
+package com.barogo.delivery.file.bulk;
+
+import com.barogo.delivery.jpa.DeliveryInsertBatch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 배달 CSV 파일 가져오기 (파일 하나)
+ * <pre>
+ * 1. open: 헤더 행으로 열 위치를 정하고, 파일을 매핑해 행 경계에 맞춘 구간으로 나눈다 (CsvChunker)
+ * 2. run : 완료되지 않은 구간을 parallelism 개 스레드가 나눠
+ *          매핑 -> 행 파싱(CsvRecordParser, 열별 배열에 채움) -> 적재(DeliveryImportWriter, 구간당 한 트랜잭션)
+ *          -> 거부 보고서 -> 체크포인트 순으로 처리한다
+ * </pre>
+ * - 스레드마다 파서와 DeliveryInsertBatch 를 하나씩 두고 구간마다 재사용한다 (구간 크기만큼만 메모리를 쓴다)
+ * - 형식 오류(열 개수, 숫자/일시 형식, 메모 길이)는 파싱 단계에서, 업무 규칙/중복은 적재 단계에서 거부한다
+ * - 적재가 실패하면 남은 구간을 시작하지 않고 멈춘다. 같은 체크포인트로 다시 run 하면 완료되지 않은 구간부터 이어서 한다
+ *   적재는 커밋됐지만 체크포인트에 남기 전에 멈춘 구간은 writer 의 커밋 기록(committed)으로 완료 처리하고 건너뛴다
+ */
+public final class DeliveryCsvImport implements Closeable {
+
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+    private static final int MEMO_MAX_LENGTH = 500;
+
+    private final FileChannel channel;
+    private final DeliveryCsvColumns columns;
+    private final int chunkBytes;
+    private final List<CsvChunk> chunks;
+
+    private DeliveryCsvImport(FileChannel channel, DeliveryCsvColumns columns, int chunkBytes, List<CsvChunk> chunks) {
+        this.channel = channel;
+        this.columns = columns;
+        this.chunkBytes = chunkBytes;
+        this.chunks = chunks;
+    }
+
+    /**
+     * 헤더 확인 및 구간 분할
+     *
+     * @throws IllegalArgumentException 빈 파일, 필수 열 누락, 닫히지 않은 따옴표 등 파일 전체를 읽을 수 없는 경우
+     */
+    public static DeliveryCsvImport open(Path source, int chunkBytes) throws IOException {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("chunkBytes must be positive: " + chunkBytes);
+        }
+        FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size == 0) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            MappedByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, MAX_HEADER_BYTES));
+            // Excel 이 붙이는 UTF-8 BOM
+            int bom = head.limit() >= 3 && (head.get(0) & 0xFF) == 0xEF
+                    && (head.get(1) & 0xFF) == 0xBB && (head.get(2) & 0xFF) == 0xBF ? 3 : 0;
+            CsvRecordParser parser = new CsvRecordParser(DeliveryCsvColumns.NAMES.length * 4);
+            parser.reset(head.slice(bom, head.limit() - bom));
+            parser.next();
+            long dataStart = bom + parser.position();
+            if (dataStart < size && head.get((int) dataStart - 1) != '\n') {
+                throw new IllegalArgumentException("헤더 행이 너무 깁니다.");
+            }
+            DeliveryCsvColumns columns = DeliveryCsvColumns.of(parser);
+            return new DeliveryCsvImport(channel, columns, chunkBytes, CsvChunker.split(channel, dataStart, chunkBytes));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int chunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * 헤더를 뺀 행 수 (빈 줄 포함)
+     */
+    public long rowCount() {
+        return chunks.isEmpty() ? 0 : chunks.getLast().firstRow() + chunks.getLast().rows() - 1;
+    }
+
+    /**
+     * 완료되지 않은 구간을 적재한다 (모든 구간이 끝나거나 실패할 때까지 블록)
+     *
+     * @param defaultRequestedAt requested_at 열이 없거나 비어 있는 행의 요청 시각
+     * @throws InterruptedException 중단된 경우 (진행 중인 구간은 끝까지 처리되거나 롤백된다)
+     */
+    public DeliveryImportProgress run(ImportCheckpoint checkpoint, RejectionReport report, DeliveryImportWriter writer,
+                                      int parallelism, LocalDateTime defaultRequestedAt) throws InterruptedException {
+        checkpoint.begin(sourceSize(), chunkBytes, chunks.size());
+        for (DeliveryImportWriter.CommittedChunk committed : writer.committed()) {
+            checkpoint.complete(committed.index(), committed.inserted(), committed.rejected());
+        }
+        List<CsvChunk> pending = new ArrayList<>();
+        int capacity = 0;
+        for (CsvChunk chunk : chunks) {
+            if (!checkpoint.isCompleted(chunk.index())) {
+                pending.add(chunk);
+                capacity = Math.max(capacity, chunk.rows());
+            }
+        }
+        if (pending.isEmpty()) {
+            return checkpoint.progress();
+        }
+
+        int threads = Math.max(1, Math.min(parallelism, pending.size()));
+        BlockingQueue<Worker> workers = new ArrayBlockingQueue<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Worker(new CsvRecordParser(columns.count() + 1), new DeliveryInsertBatch(capacity)));
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("delivery-import-", 0).factory());
+        try {
+            for (CsvChunk chunk : pending) {
+                executor.execute(() -> {
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    Worker worker = workers.poll();
+                    try {
+                        process(chunk, worker, checkpoint, report, writer, defaultRequestedAt);
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        workers.add(worker);
+                    }
+                });
+            }
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                // 진행 중인 구간이 끝나기를 기다린다
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            throw e;
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (cause instanceof IOException io) {
+            throw new UncheckedIOException(io);
+        }
+        if (cause != null) {
+            throw new IllegalStateException(cause);
+        }
+        return checkpoint.progress();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void process(CsvChunk chunk, Worker worker, ImportCheckpoint checkpoint, RejectionReport report,
+                         DeliveryImportWriter writer, LocalDateTime defaultRequestedAt) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length());
+        CsvRecordParser parser = worker.parser();
+        DeliveryInsertBatch batch = worker.batch();
+        parser.reset(buffer);
+        batch.clear();
+
+        long rowNumber = chunk.firstRow();
+        while (parser.next()) {
+            if (!parser.isBlankLine()) {
+                parseRow(parser, batch, rowNumber, defaultRequestedAt);
+            }
+            rowNumber++;
+        }
+        if (batch.getSize() > 0) {
+            writer.write(chunk.index(), batch);
+        }
+        report.append(batch);
+        checkpoint.complete(chunk.index(), batch.acceptedCount(), batch.rejectedCount());
+    }
+
+    private void parseRow(CsvRecordParser parser, DeliveryInsertBatch batch, long rowNumber, LocalDateTime defaultRequestedAt) {
+        int i = batch.add(rowNumber);
+        // 거부 보고서에 남기도록 주문번호는 먼저 읽는다
+        batch.getOrderNumbers()[i] = parser.text(columns.orderNumber());
+        if (parser.isMalformed()) {
+            batch.reject(i, "CSV 형식이 올바르지 않습니다.");
+            return;
+        }
+        if (parser.fieldCount() != columns.count()) {
+            batch.reject(i, "열 개수가 헤더와 다릅니다.");
+            return;
+        }
+        batch.getPickupAddresses()[i] = parser.text(columns.pickupAddress());
+        batch.getPickupLats()[i] = decimal(parser, columns.pickupLat(), batch, i, "픽업 위도");
+        batch.getPickupLngs()[i] = decimal(parser, columns.pickupLng(), batch, i, "픽업 경도");
+        batch.getDeliveryAddresses()[i] = parser.text(columns.deliveryAddress());
+        batch.getDeliveryLats()[i] = decimal(parser, columns.deliveryLat(), batch, i, "도착지 위도");
+        batch.getDeliveryLngs()[i] = decimal(parser, columns.deliveryLng(), batch, i, "도착지 경도");
+
+        LocalDateTime requestedAt = null;
+        try {
+            requestedAt = parser.dateTime(columns.requestedAt());
+        } catch (DateTimeException e) {
+            batch.reject(i, "요청 시각 형식이 올바르지 않습니다. (yyyy-MM-dd HH:mm:ss)");
+        }
+        batch.getRequestedAts()[i] = requestedAt != null ? requestedAt : defaultRequestedAt;
+
+        String memo = parser.text(columns.memo());
+        if (memo != null && memo.length() > MEMO_MAX_LENGTH) {
+            batch.reject(i, "메모는 " + MEMO_MAX_LENGTH + "자 이하여야 합니다.");
+        }
+        batch.getMemos()[i] = memo;
+    }
+
+    private static double decimal(CsvRecordParser parser, int field, DeliveryInsertBatch batch, int i, String label) {
+        try {
+            return parser.decimal(field);
+        } catch (NumberFormatException e) {
+            batch.reject(i, label + " 형식이 올바르지 않습니다.");
+            return Double.NaN;
+        }
+    }
+
+    private long sourceSize() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Worker(CsvRecordParser parser, DeliveryInsertBatch batch) {
+    }
+}
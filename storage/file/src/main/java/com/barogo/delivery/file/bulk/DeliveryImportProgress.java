@@ -0,0 +1,12 @@
+package com.barogo.delivery.file.bulk;
+
+/**
+ * 가져오기 진행 현황
+ *
+ * @param totalChunks     전체 구간 수 (분할 전이면 0)
+ * @param completedChunks 적재가 끝난 구간 수
+ * @param inserted        적재한 행 수
+ * @param rejected        거부한 행 수
+ */
+public record DeliveryImportProgress(int totalChunks, int completedChunks, long inserted, long rejected) {
+}
@@ -0,0 +1,35 @@
+package com.barogo.delivery.file.bulk;
+
+import com.barogo.delivery.jpa.DeliveryInsertBatch;
+
+import java.util.List;
+
+/**
+ * 파싱한 구간을 적재한다 (구간마다 한 번, 여러 스레드에서 동시에 호출된다)
+ * - 검증에 실패하거나 중복인 행은 batch.reject 로 사유를 남기고 나머지를 한 트랜잭션으로 적재한다
+ * - 반환 시점에 적재가 커밋되어 있어야 한다. 예외를 던지면 가져오기를 멈추고 해당 구간부터 재개할 수 있다
+ * - 구간 완료를 적재와 같은 트랜잭션에 기록해 두면(committed), 체크포인트 기록 전에 멈춘 구간도 재개 시 다시 적재하지 않는다
+ */
+@FunctionalInterface
+public interface DeliveryImportWriter {
+
+    /**
+     * @param chunk 구간 번호
+     */
+    void write(int chunk, DeliveryInsertBatch batch);
+
+    /**
+     * 이전 실행까지 적재가 커밋된 구간 (run 시작 시 체크포인트에 반영한다)
+     */
+    default List<CommittedChunk> committed() {
+        return List.of();
+    }
+
+    /**
+     * @param index    구간 번호
+     * @param inserted 적재한 행 수
+     * @param rejected 거부한 행 수
+     */
+    record CommittedChunk(int index, int inserted, int rejected) {
+    }
+}
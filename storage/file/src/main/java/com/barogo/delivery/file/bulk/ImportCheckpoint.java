@@ -0,0 +1,190 @@
+package com.barogo.delivery.file.bulk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 가져오기 진행 상태 (구간 단위)
+ * - 구간 트랜잭션이 커밋되고 거부 보고서를 쓴 뒤에 완료로 기록한다. 재개 시 완료된 구간은 건너뛴다
+ * - 임시 파일에 쓰고 fsync 후 원자적 이름 변경으로 교체하므로 중간에 죽어도 이전 또는 새 상태 중 하나가 남는다
+ * - 커밋과 기록 사이에 죽은 구간은 재개 시 writer 의 커밋 기록(DeliveryImportWriter.committed)으로 완료 처리한다
+ *   (건수는 커밋 기록의 값을 쓰고, 그 구간의 거부 행이 보고서에 쓰이기 전이었다면 보고서에서는 빠진다)
+ * - 원본 파일 크기/구간 크기가 기록과 다르면 구간 번호가 달라지므로 재개하지 않는다
+ */
+public final class ImportCheckpoint {
+
+    private static final String SOURCE_SIZE = "source.size";
+    private static final String CHUNK_BYTES = "chunk.bytes";
+    private static final String TOTAL_CHUNKS = "chunks.total";
+    private static final String COMPLETED = "chunks.completed";
+    private static final String INSERTED = "rows.inserted";
+    private static final String REJECTED = "rows.rejected";
+    private static final String ATTRIBUTE_PREFIX = "attr.";
+
+    private final Path path;
+    private final Map<String, String> attributes;
+    private final BitSet completed;
+    private long sourceSize;
+    private int chunkBytes;
+    private int totalChunks;
+    private long inserted;
+    private long rejected;
+
+    private ImportCheckpoint(Path path, Map<String, String> attributes, BitSet completed) {
+        this.path = path;
+        this.attributes = attributes;
+        this.completed = completed;
+    }
+
+    /**
+     * 새 체크포인트 (attributes 는 소유자 등 호출 측 정보로, 그대로 보관한다)
+     */
+    public static ImportCheckpoint create(Path path, Map<String, String> attributes) {
+        ImportCheckpoint checkpoint = new ImportCheckpoint(path, new LinkedHashMap<>(attributes), new BitSet());
+        checkpoint.save();
+        return checkpoint;
+    }
+
+    public static ImportCheckpoint load(Path path) {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(ATTRIBUTE_PREFIX)) {
+                attributes.put(name.substring(ATTRIBUTE_PREFIX.length()), properties.getProperty(name));
+            }
+        }
+        ImportCheckpoint checkpoint = new ImportCheckpoint(path, attributes, parseRanges(properties.getProperty(COMPLETED, "")));
+        checkpoint.sourceSize = Long.parseLong(properties.getProperty(SOURCE_SIZE, "0"));
+        checkpoint.chunkBytes = Integer.parseInt(properties.getProperty(CHUNK_BYTES, "0"));
+        checkpoint.totalChunks = Integer.parseInt(properties.getProperty(TOTAL_CHUNKS, "0"));
+        checkpoint.inserted = Long.parseLong(properties.getProperty(INSERTED, "0"));
+        checkpoint.rejected = Long.parseLong(properties.getProperty(REJECTED, "0"));
+        return checkpoint;
+    }
+
+    /**
+     * 구간 분할 결과 기록 (재개 시에는 기록과 같은지 확인)
+     *
+     * @throws IllegalStateException 원본 파일이나 구간 크기가 바뀐 경우
+     */
+    synchronized void begin(long sourceSize, int chunkBytes, int totalChunks) {
+        if (this.totalChunks > 0) {
+            if (this.sourceSize != sourceSize || this.chunkBytes != chunkBytes || this.totalChunks != totalChunks) {
+                throw new IllegalStateException("원본 파일 또는 구간 크기가 체크포인트와 달라 재개할 수 없습니다.");
+            }
+            return;
+        }
+        this.sourceSize = sourceSize;
+        this.chunkBytes = chunkBytes;
+        this.totalChunks = totalChunks;
+        save();
+    }
+
+    synchronized boolean isCompleted(int chunk) {
+        return completed.get(chunk);
+    }
+
+    synchronized void complete(int chunk, int insertedRows, int rejectedRows) {
+        if (completed.get(chunk)) {
+            return;
+        }
+        completed.set(chunk);
+        inserted += insertedRows;
+        rejected += rejectedRows;
+        save();
+    }
+
+    public synchronized String attribute(String name) {
+        return attributes.get(name);
+    }
+
+    public synchronized void attribute(String name, String value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+        save();
+    }
+
+    public synchronized DeliveryImportProgress progress() {
+        return new DeliveryImportProgress(totalChunks, completed.cardinality(), inserted, rejected);
+    }
+
+    public synchronized boolean isFinished() {
+        return totalChunks > 0 && completed.cardinality() == totalChunks;
+    }
+
+    private void save() {
+        Properties properties = new Properties();
+        properties.setProperty(SOURCE_SIZE, Long.toString(sourceSize));
+        properties.setProperty(CHUNK_BYTES, Integer.toString(chunkBytes));
+        properties.setProperty(TOTAL_CHUNKS, Integer.toString(totalChunks));
+        properties.setProperty(COMPLETED, formatRanges(completed));
+        properties.setProperty(INSERTED, Long.toString(inserted));
+        properties.setProperty(REJECTED, Long.toString(rejected));
+        attributes.forEach((name, value) -> properties.setProperty(ATTRIBUTE_PREFIX + name, value));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            properties.store(out, null);
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray());
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 0-3,5,7-9
+    private static String formatRanges(BitSet bits) {
+        StringBuilder sb = new StringBuilder();
+        for (int from = bits.nextSetBit(0); from >= 0; ) {
+            int to = bits.nextClearBit(from) - 1;
+            if (!sb.isEmpty()) sb.append(',');
+            sb.append(from);
+            if (to > from) sb.append('-').append(to);
+            from = bits.nextSetBit(to + 1);
+        }
+        return sb.toString();
+    }
+
+    private static BitSet parseRanges(String value) {
+        BitSet bits = new BitSet();
+        for (String range : value.split(",")) {
+            if (range.isBlank()) {
+                continue;
+            }
+            int dash = range.indexOf('-');
+            int from = Integer.parseInt(range.substring(0, dash < 0 ? range.length() : dash).trim());
+            int to = dash < 0 ? from : Integer.parseInt(range.substring(dash + 1).trim());
+            bits.set(from, to + 1);
+        }
+        return bits;
+    }
+}
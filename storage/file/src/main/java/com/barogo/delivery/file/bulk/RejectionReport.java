@@ -0,0 +1,95 @@
+package com.barogo.delivery.file.bulk;
+
+import com.barogo.delivery.jpa.DeliveryInsertBatch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 거부된 행 보고서 (CSV: row_number, order_number, reason)
+ * - 구간 적재가 끝날 때마다 거부 행을 이어 쓰고 디스크에 반영한 뒤 체크포인트를 기록한다
+ * - 구간이 병렬로 끝나므로 행 번호 순서는 보장하지 않는다. 재개 시에는 기존 보고서에 이어 쓴다
+ * - Excel 에서 수식으로 해석되는 문자(=, +, -, @)로 시작하는 값은 앞에 ' 를 붙인다
+ */
+public final class RejectionReport implements Closeable {
+
+    static final String HEADER = "row_number,order_number,reason\r\n";
+
+    private final FileChannel channel;
+
+    private RejectionReport(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public static RejectionReport open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        RejectionReport report = new RejectionReport(channel);
+        if (channel.size() == 0) {
+            // Excel 이 UTF-8 로 열도록 BOM
+            report.write("\uFEFF" + HEADER);
+        }
+        return report;
+    }
+
+    synchronized void append(DeliveryInsertBatch batch) throws IOException {
+        StringBuilder sb = null;
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (!batch.isRejected(i)) {
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(256);
+            }
+            sb.append(batch.getRowNumbers()[i]).append(',');
+            appendText(sb, batch.getOrderNumbers()[i]);
+            sb.append(',');
+            appendText(sb, batch.getRejections()[i]);
+            sb.append("\r\n");
+        }
+        if (sb != null) {
+            write(sb.toString());
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void write(String text) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private static void appendText(StringBuilder sb, String s) {
+        if (s == null) {
+            return;
+        }
+        boolean formula = !s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0;
+        boolean quote = formula;
+        for (int i = 0; i < s.length() && !quote; i++) {
+            char c = s.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            sb.append(s);
+            return;
+        }
+        sb.append('"');
+        if (formula) sb.append('\'');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"') sb.append('"');
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+}
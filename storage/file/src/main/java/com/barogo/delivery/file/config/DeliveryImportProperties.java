@@ -0,0 +1,25 @@
+package com.barogo.delivery.file.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.import")
+public class DeliveryImportProperties {
+    // 업로드 파일/체크포인트/거부 보고서를 두는 디렉터리 (가져오기마다 하위 디렉터리)
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "delivery-imports");
+    // 한 트랜잭션으로 적재하는 파일 구간 크기 (행 경계에 맞춰 자르며, 체크포인트 단위)
+    private int chunkBytes = 512 * 1024;
+    // 구간을 동시에 파싱/적재하는 스레드 수 (커넥션 풀 크기보다 작게)
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    // INSERT executeBatch 단위
+    private int jdbcBatchSize = 500;
+    // 동시 실행 가능한 가져오기 수 (초과 분은 대기)
+    private int maxConcurrentImports = 1;
+}
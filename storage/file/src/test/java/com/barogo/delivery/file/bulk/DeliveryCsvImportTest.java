@@ -0,0 +1,276 @@
+package com.barogo.delivery.file.bulk;
+
+import com.barogo.delivery.jpa.DeliveryInsertBatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeliveryCsvImportTest {
+
+    private static final LocalDateTime UPLOADED_AT = LocalDateTime.of(2025, 10, 1, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    /**
+     * 인용 필드 안의 줄바꿈/구분자/따옴표, CRLF, BOM, 빈 줄, 열 순서와 이름 표기가 달라도 행 번호와 값이 맞아야 한다
+     */
+    @Test
+    void run_shouldParseRowsAcrossChunksWithRowNumbers() throws Exception {
+        Path source = write("\uFEFFmemo,orderNumber,pickup_address,delivery_address,pickup_lat,pickup_lng,delivery_lat,delivery_lng,requested_at\r\n"
+                + "first,ORD-1,서울 강남구,서울 서초구,37.4979,127.0276,37.4837,127.0324,2025-09-30 10:15:00\r\n"
+                + "\"두 줄\n메모\",ORD-2,\"서울, 강남구\",\"\"\"본사\"\" 3층\",,,,,\r\n"
+                + "\r\n"
+                + ",ORD-3,부산,부산,-35.1,129.0,35.2,129.1,2025-09-30T11:00\r\n"
+                + ",ORD-4,대구,대구,1e1,128.6,35.8,128.6,2025-09-30");
+        List<Row> rows = new ArrayList<>();
+
+        try (DeliveryCsvImport csv = DeliveryCsvImport.open(source, 16);
+             RejectionReport report = RejectionReport.open(dir.resolve("rejections.csv"))) {
+            assertThat(csv.chunkCount()).isEqualTo(4);
+            assertThat(csv.rowCount()).isEqualTo(5);
+
+            ImportCheckpoint checkpoint = ImportCheckpoint.create(dir.resolve("checkpoint"), Map.of());
+            DeliveryImportProgress progress = csv.run(checkpoint, report, (chunk, batch) -> collect(batch, rows), 3, UPLOADED_AT);
+
+            assertThat(progress).isEqualTo(new DeliveryImportProgress(4, 4, 4, 0));
+        }
+
+        rows.sort((a, b) -> Long.compare(a.rowNumber(), b.rowNumber()));
+        assertThat(rows).extracting(Row::rowNumber).containsExactly(1L, 2L, 4L, 5L);
+
+        Row first = rows.get(0);
+        assertThat(first.orderNumber()).isEqualTo("ORD-1");
+        assertThat(first.pickupAddress()).isEqualTo("서울 강남구");
+        assertThat(first.coordinates()).containsExactly(37.4979, 127.0276, 37.4837, 127.0324);
+        assertThat(first.requestedAt()).isEqualTo(LocalDateTime.of(2025, 9, 30, 10, 15));
+        assertThat(first.memo()).isEqualTo("first");
+
+        Row second = rows.get(1);
+        assertThat(second.memo()).isEqualTo("두 줄\n메모");
+        assertThat(second.pickupAddress()).isEqualTo("서울, 강남구");
+        assertThat(second.deliveryAddress()).isEqualTo("\"본사\" 3층");
+        assertThat(Arrays.stream(second.coordinates()).allMatch(Double::isNaN)).isTrue();
+        assertThat(second.requestedAt()).isEqualTo(UPLOADED_AT);
+
+        assertThat(rows.get(2).coordinates()).containsExactly(-35.1, 129.0, 35.2, 129.1);
+        assertThat(rows.get(2).requestedAt()).isEqualTo(LocalDateTime.of(2025, 9, 30, 11, 0));
+        assertThat(rows.get(2).memo()).isNull();
+        assertThat(rows.get(3).coordinates()[0]).isEqualTo(10.0);
+        assertThat(rows.get(3).requestedAt()).isEqualTo(LocalDateTime.of(2025, 9, 30, 0, 0));
+    }
+
+    /**
+     * 형식 오류 행과 writer 가 거부한 행은 사유와 함께 보고서에 남고 나머지 행은 적재된다
+     */
+    @Test
+    void run_shouldReportRejectedRows() throws Exception {
+        Path source = write("order_number,pickup_address,delivery_address,pickup_lat,requested_at,memo\n"
+                + "ORD-1,a,b,37.5,,\n"
+                + "ORD-2,a,b,north,,\n"
+                + "ORD-3,a,b,,2025-13-01,\n"
+                + "ORD-4,a,b\n"
+                + "ORD-5,a,b,,,\"" + "x".repeat(501) + "\"\n"
+                + "=ORD-6,a,b,,,\n"
+                + "ORD-7,\"a\"x,b,,,\n");
+        Path reportPath = dir.resolve("rejections.csv");
+
+        DeliveryImportProgress progress;
+        try (DeliveryCsvImport csv = DeliveryCsvImport.open(source, 1024);
+             RejectionReport report = RejectionReport.open(reportPath)) {
+            ImportCheckpoint checkpoint = ImportCheckpoint.create(dir.resolve("checkpoint"), Map.of());
+            progress = csv.run(checkpoint, report, (chunk, batch) -> {
+                for (int i = 0; i < batch.getSize(); i++) {
+                    if (!batch.isRejected(i) && batch.getOrderNumbers()[i].startsWith("=")) {
+                        batch.reject(i, "이미 존재하는 주문번호입니다.");
+                    }
+                }
+            }, 1, UPLOADED_AT);
+        }
+
+        assertThat(progress.inserted()).isEqualTo(1);
+        assertThat(progress.rejected()).isEqualTo(6);
+        assertThat(Files.readAllLines(reportPath, StandardCharsets.UTF_8)).containsExactly(
+                "\uFEFFrow_number,order_number,reason",
+                "2,ORD-2,픽업 위도 형식이 올바르지 않습니다.",
+                "3,ORD-3,요청 시각 형식이 올바르지 않습니다. (yyyy-MM-dd HH:mm:ss)",
+                "4,ORD-4,열 개수가 헤더와 다릅니다.",
+                "5,ORD-5,메모는 500자 이하여야 합니다.",
+                "6,\"'=ORD-6\",이미 존재하는 주문번호입니다.",
+                "7,ORD-7,CSV 형식이 올바르지 않습니다.");
+    }
+
+    /**
+     * 적재가 실패하면 멈추고, 같은 체크포인트로 다시 실행하면 완료되지 않은 구간만 적재한다
+     */
+    @Test
+    void run_shouldResumeFromCheckpointAfterFailure() throws Exception {
+        StringBuilder content = new StringBuilder("order_number,pickup_address,delivery_address\n");
+        for (int i = 1; i <= 100; i++) {
+            content.append("ORD-").append(i).append(",픽업지,도착지\n");
+        }
+        Path source = write(content.toString());
+        Path checkpointPath = dir.resolve("checkpoint");
+        ImportCheckpoint.create(checkpointPath, Map.of("memberId", "7"));
+        Set<String> written = ConcurrentHashMap.newKeySet();
+
+        try (DeliveryCsvImport csv = DeliveryCsvImport.open(source, 200);
+             RejectionReport report = RejectionReport.open(dir.resolve("rejections.csv"))) {
+            ImportCheckpoint checkpoint = ImportCheckpoint.load(checkpointPath);
+            assertThatThrownBy(() -> csv.run(checkpoint, report, (chunk, batch) -> {
+                if (contains(batch, "ORD-50")) {
+                    throw new IllegalStateException("database is down");
+                }
+                collectOrderNumbers(batch, written);
+            }, 2, UPLOADED_AT)).hasMessage("database is down");
+            assertThat(checkpoint.isFinished()).isFalse();
+        }
+
+        // 다시 읽은 체크포인트로 재개
+        ImportCheckpoint reloaded = ImportCheckpoint.load(checkpointPath);
+        assertThat(reloaded.attribute("memberId")).isEqualTo("7");
+        int before = written.size();
+        assertThat(reloaded.progress().inserted()).isEqualTo(before);
+
+        List<String> resumed = new ArrayList<>();
+        try (DeliveryCsvImport csv = DeliveryCsvImport.open(source, 200);
+             RejectionReport report = RejectionReport.open(dir.resolve("rejections.csv"))) {
+            DeliveryImportProgress progress = csv.run(reloaded, report, (chunk, batch) -> {
+                synchronized (resumed) {
+                    collectOrderNumbers(batch, resumed);
+                }
+            }, 2, UPLOADED_AT);
+            assertThat(progress.inserted()).isEqualTo(100);
+            assertThat(progress.completedChunks()).isEqualTo(progress.totalChunks());
+        }
+        assertThat(resumed).hasSize(100 - before).doesNotContainAnyElementsOf(written);
+        assertThat(ImportCheckpoint.load(checkpointPath).isFinished()).isTrue();
+    }
+
+    /**
+     * 적재는 커밋됐지만 체크포인트에 남기 전에 멈춘 구간은, 재개 시 writer 의 커밋 기록으로 완료 처리하고 다시 적재하지 않는다
+     */
+    @Test
+    void run_shouldSkipChunksCommittedBeforeCheckpoint() throws Exception {
+        StringBuilder content = new StringBuilder("order_number,pickup_address,delivery_address\n");
+        for (int i = 1; i <= 100; i++) {
+            content.append("ORD-").append(i).append(",픽업지,도착지\n");
+        }
+        Path source = write(content.toString());
+        Path checkpointPath = dir.resolve("checkpoint");
+        ImportCheckpoint.create(checkpointPath, Map.of());
+        // 구간 적재와 같은 트랜잭션에 남는 커밋 기록
+        Map<Integer, DeliveryImportWriter.CommittedChunk> committed = new ConcurrentHashMap<>();
+        Set<String> written = ConcurrentHashMap.newKeySet();
+
+        try (DeliveryCsvImport csv = DeliveryCsvImport.open(source, 200);
+             RejectionReport report = RejectionReport.open(dir.resolve("rejections.csv"))) {
+            ImportCheckpoint checkpoint = ImportCheckpoint.load(checkpointPath);
+            assertThatThrownBy(() -> csv.run(checkpoint, report, (chunk, batch) -> {
+                collectOrderNumbers(batch, written);
+                committed.put(chunk, new DeliveryImportWriter.CommittedChunk(chunk, batch.getSize(), 0));
+                if (contains(batch, "ORD-50")) {
+                    // 커밋 직후 체크포인트를 기록하기 전에 멈춘 경우
+                    throw new IllegalStateException("stopped after commit");
+                }
+            }, 1, UPLOADED_AT)).hasMessage("stopped after commit");
+        }
+        assertThat(ImportCheckpoint.load(checkpointPath).progress().inserted()).isLessThan(written.size());
+
+        List<String> resumed = new ArrayList<>();
+        try (DeliveryCsvImport csv = DeliveryCsvImport.open(source, 200);
+             RejectionReport report = RejectionReport.open(dir.resolve("rejections.csv"))) {
+            DeliveryImportProgress progress = csv.run(ImportCheckpoint.load(checkpointPath), report, new DeliveryImportWriter() {
+                @Override
+                public void write(int chunk, DeliveryInsertBatch batch) {
+                    synchronized (resumed) {
+                        collectOrderNumbers(batch, resumed);
+                    }
+                }
+
+                @Override
+                public List<CommittedChunk> committed() {
+                    return List.copyOf(committed.values());
+                }
+            }, 2, UPLOADED_AT);
+            assertThat(progress.inserted()).isEqualTo(100);
+            assertThat(progress.completedChunks()).isEqualTo(progress.totalChunks());
+        }
+        assertThat(resumed).hasSize(100 - written.size()).doesNotContainAnyElementsOf(written);
+    }
+
+    @Test
+    void open_shouldRejectFileWithoutRequiredColumns() throws IOException {
+        Path missing = write("order_number,pickup_address\nORD-1,a\n");
+        Path unclosed = write("order_number,pickup_address,delivery_address\nORD-1,\"a,b\n");
+
+        assertThatThrownBy(() -> DeliveryCsvImport.open(missing, 1024))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("헤더에 필수 열이 없습니다: delivery_address");
+        assertThatThrownBy(() -> DeliveryCsvImport.open(unclosed, 1024))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("닫히지 않은 따옴표가 있어 행을 나눌 수 없습니다.");
+    }
+
+    @Test
+    void decimal_shouldMatchDoubleParsing() {
+        String[] values = {"37.4979", "-127.0276", "+0.5", "90", "0.1", "123456789.123456789", "1.5E-3", " 12.25 "};
+        CsvRecordParser parser = new CsvRecordParser(values.length);
+        parser.reset(ByteBuffer.wrap(String.join(",", values).getBytes(StandardCharsets.US_ASCII)));
+        assertThat(parser.next()).isTrue();
+
+        for (int i = 0; i < values.length; i++) {
+            assertThat(parser.decimal(i)).isEqualTo(Double.parseDouble(values[i].trim()));
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path path = Files.createTempFile(dir, "deliveries", ".csv");
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        return path;
+    }
+
+    private static boolean contains(DeliveryInsertBatch batch, String orderNumber) {
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (orderNumber.equals(batch.getOrderNumbers()[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collectOrderNumbers(DeliveryInsertBatch batch, Collection<String> target) {
+        for (int i = 0; i < batch.getSize(); i++) {
+            target.add(batch.getOrderNumbers()[i]);
+        }
+    }
+
+    private static synchronized void collect(DeliveryInsertBatch batch, List<Row> rows) {
+        for (int i = 0; i < batch.getSize(); i++) {
+            rows.add(new Row(batch.getRowNumbers()[i], batch.getOrderNumbers()[i], batch.getPickupAddresses()[i],
+                    batch.getDeliveryAddresses()[i],
+                    new double[]{batch.getPickupLats()[i], batch.getPickupLngs()[i], batch.getDeliveryLats()[i], batch.getDeliveryLngs()[i]},
+                    batch.getRequestedAts()[i], batch.getMemos()[i]));
+        }
+    }
+
+    private record Row(long rowNumber, String orderNumber, String pickupAddress, String deliveryAddress,
+                       double[] coordinates, LocalDateTime requestedAt, String memo) {
+    }
+}
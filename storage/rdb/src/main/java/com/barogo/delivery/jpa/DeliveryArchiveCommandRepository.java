@@ -0,0 +1,36 @@
+package com.barogo.delivery.jpa;
+
+import java.time.LocalDateTime;
+
+public interface DeliveryArchiveCommandRepository {
+
+    /**
+     * id 가 afterId 보다 큰 배달을 id 순으로 limit 건 훑어, 종료 상태이면서 requested_at 이 cutoff 보다 이른 id 를 고른다 (PK keyset)
+     * - 조건을 SQL 에 넣지 않고 PK 범위만 읽으므로 보관 대상 선별용 인덱스가 필요 없다
+     */
+    ArchiveScan scanArchiveCandidates(long afterId, int limit, LocalDateTime cutoff);
+
+    /**
+     * 종료 상태인 배달을 delivery_archive 로 INSERT ... SELECT 한 뒤 delivery 에서 삭제한다
+     * - 두 문장이 같은 행을 처리하지 않으면 예외를 던져 트랜잭션을 되돌린다
+     *
+     * @return 옮긴 행 수
+     */
+    int moveToArchive(long[] ids, int count, LocalDateTime archivedAt);
+
+    /**
+     * @param scanned                 읽은 행 수 (0 이면 끝)
+     * @param lastId                  마지막으로 읽은 id (다음 keyset 위치)
+     * @param candidateIds            보관 대상 id (앞에서부터 candidateCount 개)
+     * @param candidateCount          보관 대상 수
+     * @param minRemainingRequestedAt 보관 대상이 아닌 행 중 가장 이른 requested_at (없으면 null)
+     */
+    record ArchiveScan(
+            int scanned,
+            long lastId,
+            long[] candidateIds,
+            int candidateCount,
+            LocalDateTime minRemainingRequestedAt
+    ) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.barogo.delivery.jpa;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class DeliveryArchiveCommandRepositoryImpl implements DeliveryArchiveCommandRepository {
+
+    // 종료 상태(전이가 없는 상태) 리터럴, status 는 EnumType.STRING 컬럼
+    private static final String TERMINAL_LITERALS = Arrays.stream(DeliveryStatus.values())
+            .filter(DeliveryStatus::isTerminal)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", "));
+
+    private static final String COLUMNS = """
+            id, member_id, order_number, tracking_number,
+            pickup_address, pickup_lat, pickup_lng, delivery_address, delivery_lat, delivery_lng,
+            requested_at, assigned_at, picked_up_at, delivered_at, canceled_at,
+            status, cost_amount, distance_meters, rider_id, memo, version,
+            created_at, updated_at, created_by, updated_by""";
+
+    private static final String SCAN_SQL = """
+            SELECT id, status, requested_at FROM delivery
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String INSERT_ARCHIVE_SQL = "INSERT INTO delivery_archive (" + COLUMNS + ", archived_at)\n"
+            + "SELECT " + COLUMNS + ", ? FROM delivery\n"
+            + "WHERE id IN (%s) AND status IN (" + TERMINAL_LITERALS + ")";
+
+    private static final String DELETE_SQL = "DELETE FROM delivery WHERE id IN (%s) AND status IN (" + TERMINAL_LITERALS + ")";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public ArchiveScan scanArchiveCandidates(long afterId, int limit, LocalDateTime cutoff) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            long[] candidates = new long[limit];
+            int candidateCount = 0;
+            int scanned = 0;
+            long lastId = afterId;
+            LocalDateTime minRemaining = null;
+            try (PreparedStatement ps = connection.prepareStatement(SCAN_SQL)) {
+                ps.setLong(1, afterId);
+                ps.setInt(2, limit);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        long id = rs.getLong(1);
+                        DeliveryStatus status = DeliveryStatus.valueOf(rs.getString(2));
+                        LocalDateTime requestedAt = rs.getTimestamp(3).toLocalDateTime();
+                        scanned++;
+                        lastId = id;
+                        if (status.isTerminal() && requestedAt.isBefore(cutoff)) {
+                            candidates[candidateCount++] = id;
+                        } else if (minRemaining == null || requestedAt.isBefore(minRemaining)) {
+                            minRemaining = requestedAt;
+                        }
+                    }
+                }
+            }
+            return new ArchiveScan(scanned, lastId, candidates, candidateCount, minRemaining);
+        });
+    }
+
+    @Override
+    public int moveToArchive(long[] ids, int count, LocalDateTime archivedAt) {
+        if (count == 0) {
+            return 0;
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            String placeholders = String.join(", ", Collections.nCopies(count, "?"));
+            int inserted;
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_ARCHIVE_SQL.formatted(placeholders))) {
+                ps.setTimestamp(1, Timestamp.valueOf(archivedAt));
+                for (int i = 0; i < count; i++) {
+                    ps.setLong(i + 2, ids[i]);
+                }
+                inserted = ps.executeUpdate();
+            }
+            int deleted;
+            try (PreparedStatement ps = connection.prepareStatement(DELETE_SQL.formatted(placeholders))) {
+                for (int i = 0; i < count; i++) {
+                    ps.setLong(i + 1, ids[i]);
+                }
+                deleted = ps.executeUpdate();
+            }
+            if (inserted != deleted) {
+                // 종료 상태 행은 더 이상 바뀌지 않으므로 정상적으로는 발생하지 않는다
+                throw new IllegalStateException("archived " + inserted + " rows but deleted " + deleted);
+            }
+            return deleted;
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.barogo.delivery.jpa;
+
+import com.barogo.delivery.domain.DeliveryArchive;
+import com.barogo.delivery.jpa.projection.DeliveryListVersionView;
+import com.barogo.delivery.jpa.projection.DeliverySummaryView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관된 배달 조회
+ * - DeliveryRepository 의 요약/집계 조회와 같은 프로젝션을 돌려주므로 호출 측에서 두 결과를 합칠 수 있다
+ */
+public interface DeliveryArchiveRepository extends JpaRepository<DeliveryArchive, Long> {
+
+    @Query("""
+            select d.id as id, d.orderNumber as orderNumber, d.status as status,
+                   d.requestedAt as requestedAt, d.deliveredAt as deliveredAt,
+                   d.pickupAddress as pickupAddress, d.deliveryAddress as deliveryAddress
+            from DeliveryArchive d
+            where d.id = :id
+              and d.memberId = :memberId
+            """)
+    Optional<DeliverySummaryView> findSummaryByIdAndMemberId(@Param("id") Long id,
+                                                             @Param("memberId") Long memberId);
+
+    @Query("""
+            select d.version from DeliveryArchive d
+            where d.id = :id
+              and d.memberId = :memberId
+            """)
+    Optional<Long> findVersionByIdAndMemberId(@Param("id") Long id,
+                                              @Param("memberId") Long memberId);
+
+    @Query("""
+            select count(d) as count, sum(d.version) as versionSum,
+                   max(d.updatedAt) as lastUpdatedAt, max(d.id) as maxId
+            from DeliveryArchive d
+            where d.memberId = :memberId
+              and d.requestedAt between :from and :to
+            """)
+    DeliveryListVersionView findListVersionByMemberIdAndPeriod(@Param("memberId") Long memberId,
+                                                               @Param("from") LocalDateTime from,
+                                                               @Param("to") LocalDateTime to);
+
+    @Query(value = """
+            select d.id as id, d.orderNumber as orderNumber, d.status as status,
+                   d.requestedAt as requestedAt, d.deliveredAt as deliveredAt,
+                   d.pickupAddress as pickupAddress, d.deliveryAddress as deliveryAddress
+            from DeliveryArchive d
+            where d.memberId = :memberId
+              and d.requestedAt between :from and :to
+            """,
+            countQuery = """
+            select count(d) from DeliveryArchive d
+            where d.memberId = :memberId
+              and d.requestedAt between :from and :to
+            """)
+    Page<DeliverySummaryView> findSummaryPageByMemberIdAndPeriod(@Param("memberId") Long memberId,
+                                                                 @Param("from") LocalDateTime from,
+                                                                 @Param("to") LocalDateTime to,
+                                                                 Pageable pageable);
+
+    @Query("""
+            select d.id as id, d.orderNumber as orderNumber, d.status as status,
+                   d.requestedAt as requestedAt, d.deliveredAt as deliveredAt,
+                   d.pickupAddress as pickupAddress, d.deliveryAddress as deliveryAddress
+            from DeliveryArchive d
+            where d.memberId = :memberId
+              and d.requestedAt between :from and :to
+            order by d.requestedAt desc, d.id desc
+            """)
+    List<DeliverySummaryView> findSliceByMemberIdAndPeriod(@Param("memberId") Long memberId,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to,
+                                                           Limit limit);
+
+    @Query("""
+            select d.id as id, d.orderNumber as orderNumber, d.status as status,
+                   d.requestedAt as requestedAt, d.deliveredAt as deliveredAt,
+                   d.pickupAddress as pickupAddress, d.deliveryAddress as deliveryAddress
+            from DeliveryArchive d
+            where d.memberId = :memberId
+              and d.requestedAt between :from and :to
+              and d.requestedAt <= :cursorRequestedAt
+              and (d.requestedAt < :cursorRequestedAt or d.id < :cursorId)
+            order by d.requestedAt desc, d.id desc
+            """)
+    List<DeliverySummaryView> findSliceByMemberIdAndPeriodAfter(@Param("memberId") Long memberId,
+                                                                @Param("from") LocalDateTime from,
+                                                                @Param("to") LocalDateTime to,
+                                                                @Param("cursorRequestedAt") LocalDateTime cursorRequestedAt,
+                                                                @Param("cursorId") Long cursorId,
+                                                                Limit limit);
+}
@@ -0,0 +1,32 @@
+package com.barogo.delivery.jpa;
+
+import com.barogo.delivery.domain.DeliveryArchiveWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface DeliveryArchiveWatermarkRepository extends JpaRepository<DeliveryArchiveWatermark, Long> {
+
+    /**
+     * 과거 요청 시각의 배달을 delivery 에 직접 적재할 때 보관 경계를 갱신한다 (일괄 적재용 UPDATE)
+     * - requestedAt 이 hotFloor 보다 이르면 hotFloor 를 내린다
+     * - 내리지 않더라도 version 을 올려, 진행 중인 보관 작업이 이 행을 보기 전에 계산한 hotFloor 를 기록하지 않게 한다
+     * - 읽고 쓰는 엔티티 갱신(@Version 비교)이 아니므로 동시에 적재하는 트랜잭션끼리는 행 락만 기다리고 충돌하지 않는다
+     *
+     * @return 갱신한 행 수 (보관 작업이 한 번도 돌지 않아 경계 행이 없으면 0)
+     */
+    @Modifying
+    @Query("""
+            update DeliveryArchiveWatermark w
+            set w.hotFloor = case when w.hotFloor > :requestedAt then :requestedAt else w.hotFloor end,
+                w.updatedAt = :now,
+                w.version = w.version + 1
+            where w.id = :id
+            """)
+    int touchHotFloor(@Param("id") Long id,
+                      @Param("requestedAt") LocalDateTime requestedAt,
+                      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,21 @@
+package com.barogo.delivery.jpa;
+
+public interface DeliveryCostBatchRepository {
+
+    /**
+     * id 가 afterId 보다 큰, 픽업지/도착지 좌표가 모두 있는 배달을 id 순으로 chunk 크기만큼 읽는다 (PK keyset)
+     * - 종료(DELIVERED/CANCELED)된 배달은 확정된 요금이므로 읽지 않는다
+     *
+     * @return 읽은 행 수 (chunk.getSize())
+     */
+    int loadCostChunk(long afterId, DeliveryCostChunk chunk);
+
+    /**
+     * 계산 결과가 기존 값과 다른 행만 UPDATE ... WHERE id = ? AND version = ? JDBC batch 로 쓴다
+     * - 읽은 뒤 다른 요청이 변경한 행(version 증가)은 건너뛴다. 그 변경은 자체적으로 거리/요금을 다시 계산한다
+     * - 요금 재계산은 사용자 변경이 아니므로 version 을 올리지 않는다 (ETag 가 바뀌지 않는다)
+     *
+     * @return 실제로 갱신된 행 수 (드라이버가 행별 건수를 돌려주지 않으면(SUCCESS_NO_INFO) 보낸 행으로 센다)
+     */
+    int updateChangedCosts(DeliveryCostChunk chunk);
+}
@@ -0,0 +1,101 @@
+package com.barogo.delivery.jpa;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class DeliveryCostBatchRepositoryImpl implements DeliveryCostBatchRepository {
+
+    // 종료 상태(전이가 없는 상태) 리터럴, status 는 EnumType.STRING 컬럼
+    private static final String TERMINAL_LITERALS = Arrays.stream(DeliveryStatus.values())
+            .filter(DeliveryStatus::isTerminal)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", "));
+
+    private static final String SELECT_CHUNK_SQL = """
+            SELECT id, version, pickup_lat, pickup_lng, delivery_lat, delivery_lng, distance_meters, cost_amount
+            FROM delivery
+            WHERE id > ?
+              AND status NOT IN (%s)
+              AND pickup_lat IS NOT NULL AND pickup_lng IS NOT NULL
+              AND delivery_lat IS NOT NULL AND delivery_lng IS NOT NULL
+            ORDER BY id
+            LIMIT ?
+            """.formatted(TERMINAL_LITERALS);
+
+    private static final String UPDATE_COST_SQL = """
+            UPDATE delivery
+            SET distance_meters = ?, cost_amount = ?
+            WHERE id = ?
+              AND version = ?
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int loadCostChunk(long afterId, DeliveryCostChunk chunk) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            int n = 0;
+            try (PreparedStatement ps = connection.prepareStatement(SELECT_CHUNK_SQL)) {
+                ps.setLong(1, afterId);
+                ps.setInt(2, chunk.capacity());
+                // MySQL 은 fetch size 가 없으면 결과 전체를 한 번에 받는다 (chunk 크기로 제한되므로 문제없다)
+                ps.setFetchSize(chunk.capacity());
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        chunk.getIds()[n] = rs.getLong(1);
+                        chunk.getVersions()[n] = rs.getLong(2);
+                        chunk.getPickupLats()[n] = rs.getDouble(3);
+                        chunk.getPickupLngs()[n] = rs.getDouble(4);
+                        chunk.getDeliveryLats()[n] = rs.getDouble(5);
+                        chunk.getDeliveryLngs()[n] = rs.getDouble(6);
+                        int distance = rs.getInt(7);
+                        chunk.getCurrentDistances()[n] = rs.wasNull() ? DeliveryCostChunk.NONE : distance;
+                        long cost = rs.getLong(8);
+                        chunk.getCurrentCosts()[n] = rs.wasNull() ? DeliveryCostChunk.NONE : cost;
+                        n++;
+                    }
+                }
+            }
+            chunk.size(n);
+            return n;
+        });
+    }
+
+    @Override
+    public int updateChangedCosts(DeliveryCostChunk chunk) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            int pending = 0;
+            int updated = 0;
+            try (PreparedStatement ps = connection.prepareStatement(UPDATE_COST_SQL)) {
+                for (int i = 0; i < chunk.getSize(); i++) {
+                    if (chunk.getDistances()[i] == chunk.getCurrentDistances()[i]
+                            && chunk.getCosts()[i] == chunk.getCurrentCosts()[i]) {
+                        continue;
+                    }
+                    ps.setInt(1, chunk.getDistances()[i]);
+                    ps.setLong(2, chunk.getCosts()[i]);
+                    ps.setLong(3, chunk.getIds()[i]);
+                    ps.setLong(4, chunk.getVersions()[i]);
+                    ps.addBatch();
+                    pending++;
+                }
+                if (pending > 0) {
+                    for (int count : ps.executeBatch()) {
+                        // version 이 바뀐 행은 0, 드라이버가 batch 를 재작성하면 행별 건수 대신 SUCCESS_NO_INFO
+                        updated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+                    }
+                }
+            }
+            return updated;
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.barogo.delivery.jpa;
+
+import lombok.Getter;
+
+/**
+ * 거리/요금 일괄 재계산용 행 묶음
+ * - 행을 엔티티나 박싱된 값으로 만들지 않고 열별 원시 배열로 담아 재사용한다
+ * - 읽기(DeliveryCostBatchRepository.loadCostChunk) -> 계산(distances/costs 채움) -> 변경분 쓰기 순으로 사용한다
+ * - 요금은 원 단위 정수로 다룬다 (cost_amount 의 소수부는 사용하지 않는다)
+ */
+@Getter
+public final class DeliveryCostChunk {
+
+    // 기존 값이 없을 때
+    public static final int NONE = -1;
+
+    private final long[] ids;
+    private final long[] versions;
+    private final double[] pickupLats;
+    private final double[] pickupLngs;
+    private final double[] deliveryLats;
+    private final double[] deliveryLngs;
+    private final int[] currentDistances;
+    private final long[] currentCosts;
+    // 계산 결과
+    private final int[] distances;
+    private final long[] costs;
+    private int size;
+
+    public DeliveryCostChunk(int capacity) {
+        this.ids = new long[capacity];
+        this.versions = new long[capacity];
+        this.pickupLats = new double[capacity];
+        this.pickupLngs = new double[capacity];
+        this.deliveryLats = new double[capacity];
+        this.deliveryLngs = new double[capacity];
+        this.currentDistances = new int[capacity];
+        this.currentCosts = new long[capacity];
+        this.distances = new int[capacity];
+        this.costs = new long[capacity];
+    }
+
+    public int capacity() {
+        return ids.length;
+    }
+
+    public long lastId() {
+        return ids[size - 1];
+    }
+
+    void size(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,7 @@
+package com.barogo.delivery.jpa;
+
+import com.barogo.delivery.domain.DeliveryEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DeliveryEventRepository extends JpaRepository<DeliveryEvent, Long> {
+}
@@ -0,0 +1,14 @@
+package com.barogo.delivery.jpa;
+
+import com.barogo.delivery.domain.DeliveryImportChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface DeliveryImportChunkRepository extends JpaRepository<DeliveryImportChunk, Long> {
+
+    /**
+     * 가져오기에서 적재가 커밋된 구간 (uk_delivery_import_chunk 의 앞 열로 조회)
+     */
+    List<DeliveryImportChunk> findByImportId(Long importId);
+}
@@ -0,0 +1,15 @@
+package com.barogo.delivery.jpa;
+
+import java.time.LocalDateTime;
+
+public interface DeliveryImportRepository {
+
+    /**
+     * 거부되지 않은 행을 REQUESTED 상태로 INSERT JDBC batch 적재한다 (jdbcBatchSize 건마다 executeBatch)
+     * - 식별자/거리/요금은 호출 측에서 채운다
+     * - 주문번호 유니크 제약 위반 시 예외가 나며, 호출 측 트랜잭션을 롤백해 묶음 전체를 다시 판정한다
+     *
+     * @return 적재한 행 수
+     */
+    int insertAccepted(DeliveryInsertBatch batch, long memberId, String createdBy, LocalDateTime now, int jdbcBatchSize);
+}
@@ -0,0 +1,84 @@
+package com.barogo.delivery.jpa;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class DeliveryImportRepositoryImpl implements DeliveryImportRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO delivery (
+                id, member_id, order_number,
+                pickup_address, pickup_lat, pickup_lng, delivery_address, delivery_lat, delivery_lng,
+                requested_at, status, cost_amount, distance_meters, memo, version,
+                created_at, updated_at, created_by, updated_by
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?)
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int insertAccepted(DeliveryInsertBatch batch, long memberId, String createdBy, LocalDateTime now, int jdbcBatchSize) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Timestamp auditedAt = Timestamp.valueOf(now);
+            int inserted = 0;
+            int pending = 0;
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+                for (int i = 0; i < batch.getSize(); i++) {
+                    if (batch.isRejected(i)) {
+                        continue;
+                    }
+                    ps.setLong(1, batch.getIds()[i]);
+                    ps.setLong(2, memberId);
+                    ps.setString(3, batch.getOrderNumbers()[i]);
+                    ps.setString(4, batch.getPickupAddresses()[i]);
+                    setCoordinate(ps, 5, batch.getPickupLats()[i]);
+                    setCoordinate(ps, 6, batch.getPickupLngs()[i]);
+                    ps.setString(7, batch.getDeliveryAddresses()[i]);
+                    setCoordinate(ps, 8, batch.getDeliveryLats()[i]);
+                    setCoordinate(ps, 9, batch.getDeliveryLngs()[i]);
+                    ps.setTimestamp(10, Timestamp.valueOf(batch.getRequestedAts()[i]));
+                    ps.setString(11, DeliveryStatus.REQUESTED.name());
+                    if (batch.getCosts()[i] == DeliveryInsertBatch.NONE) {
+                        ps.setNull(12, Types.DECIMAL);
+                        ps.setNull(13, Types.INTEGER);
+                    } else {
+                        ps.setLong(12, batch.getCosts()[i]);
+                        ps.setInt(13, batch.getDistances()[i]);
+                    }
+                    ps.setString(14, batch.getMemos()[i]);
+                    ps.setTimestamp(15, auditedAt);
+                    ps.setTimestamp(16, auditedAt);
+                    ps.setString(17, createdBy);
+                    ps.setString(18, createdBy);
+                    ps.addBatch();
+                    inserted++;
+                    if (++pending == jdbcBatchSize) {
+                        ps.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    ps.executeBatch();
+                }
+            }
+            return inserted;
+        });
+    }
+
+    private static void setCoordinate(PreparedStatement ps, int index, double value) throws SQLException {
+        if (Double.isNaN(value)) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.barogo.delivery.jpa;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 배달 일괄 적재(파일 가져오기)용 행 묶음
+ * - 행을 엔티티로 만들지 않고 열별 배열로 담아 재사용한다 (DeliveryCostChunk 와 같은 방식)
+ * - 좌표가 없으면 NaN, 거리/요금이 없으면 NONE
+ * - rejections[i] 가 null 이 아닌 행은 적재하지 않는다 (사유는 거부 보고서에 남긴다)
+ */
+@Getter
+public final class DeliveryInsertBatch {
+
+    // 거리/요금이 없을 때
+    public static final int NONE = -1;
+
+    // 원본 파일 내 행 번호 (헤더 제외, 1부터)
+    private final long[] rowNumbers;
+    private final long[] ids;
+    private final String[] orderNumbers;
+    private final String[] pickupAddresses;
+    private final double[] pickupLats;
+    private final double[] pickupLngs;
+    private final String[] deliveryAddresses;
+    private final double[] deliveryLats;
+    private final double[] deliveryLngs;
+    private final LocalDateTime[] requestedAts;
+    private final String[] memos;
+    private final int[] distances;
+    private final long[] costs;
+    private final String[] rejections;
+    private int size;
+
+    public DeliveryInsertBatch(int capacity) {
+        this.rowNumbers = new long[capacity];
+        this.ids = new long[capacity];
+        this.orderNumbers = new String[capacity];
+        this.pickupAddresses = new String[capacity];
+        this.pickupLats = new double[capacity];
+        this.pickupLngs = new double[capacity];
+        this.deliveryAddresses = new String[capacity];
+        this.deliveryLats = new double[capacity];
+        this.deliveryLngs = new double[capacity];
+        this.requestedAts = new LocalDateTime[capacity];
+        this.memos = new String[capacity];
+        this.distances = new int[capacity];
+        this.costs = new long[capacity];
+        this.rejections = new String[capacity];
+    }
+
+    public int capacity() {
+        return ids.length;
+    }
+
+    /**
+     * 다음 행 자리를 비워 추가하고 위치를 돌려준다
+     */
+    public int add(long rowNumber) {
+        int i = size++;
+        rowNumbers[i] = rowNumber;
+        ids[i] = 0;
+        orderNumbers[i] = null;
+        pickupAddresses[i] = null;
+        pickupLats[i] = Double.NaN;
+        pickupLngs[i] = Double.NaN;
+        deliveryAddresses[i] = null;
+        deliveryLats[i] = Double.NaN;
+        deliveryLngs[i] = Double.NaN;
+        requestedAts[i] = null;
+        memos[i] = null;
+        distances[i] = NONE;
+        costs[i] = NONE;
+        rejections[i] = null;
+        return i;
+    }
+
+    public void reject(int i, String reason) {
+        if (rejections[i] == null) {
+            rejections[i] = reason;
+        }
+    }
+
+    public boolean isRejected(int i) {
+        return rejections[i] != null;
+    }
+
+    public int acceptedCount() {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (rejections[i] == null) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    public int rejectedCount() {
+        return size - acceptedCount();
+    }
+
+    /**
+     * 재사용 전 비우기 (이전 행의 문자열 참조도 놓는다)
+     */
+    public void clear() {
+        Arrays.fill(orderNumbers, 0, size, null);
+        Arrays.fill(pickupAddresses, 0, size, null);
+        Arrays.fill(deliveryAddresses, 0, size, null);
+        Arrays.fill(requestedAts, 0, size, null);
+        Arrays.fill(memos, 0, size, null);
+        Arrays.fill(rejections, 0, size, null);
+        size = 0;
+    }
+}
@@ -1,17 +1,167 @@
 package com.barogo.delivery.jpa;
 
 import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.projection.DeliveryListVersionView;
+import com.barogo.delivery.jpa.projection.DeliveryLocationView;
+import com.barogo.delivery.jpa.projection.DeliverySummaryView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
-public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
+public interface DeliveryRepository extends JpaRepository<Delivery, Long>,
+        DeliveryStatusCommandRepository, DeliveryCostBatchRepository, DeliveryArchiveCommandRepository,
+        DeliveryImportRepository {
 
-    Page<Delivery> findByMemberIdAndRequestedAtBetween(Long memberId,
-                                                       LocalDateTime from,
-                                                       LocalDateTime to,
-                                                       Pageable pageable);
+    /**
+     * 배달 단건 요약 조회
+     * - 소유자 검증을 where 절(id = ? and member_id = ?)에서 함께 수행한다
+     */
+    @Query("""
+            select d.id as id, d.orderNumber as orderNumber, d.status as status,
+                   d.requestedAt as requestedAt, d.deliveredAt as deliveredAt,
+                   d.pickupAddress as pickupAddress, d.deliveryAddress as deliveryAddress
+            from Delivery d
+            where d.id = :id
+              and d.member.id = :memberId
+            """)
+    Optional<DeliverySummaryView> findSummaryByIdAndMemberId(@Param("id") Long id,
+                                                             @Param("memberId") Long memberId);
 
+    /**
+     * 배달 단건 버전 조회 (조건부 GET 의 ETag 비교용)
+     * - 엔티티/요약을 만들지 않고 version 컬럼 하나만 읽는다
+     */
+    @Query("""
+            select d.version from Delivery d
+            where d.id = :id
+              and d.member.id = :memberId
+            """)
+    Optional<Long> findVersionByIdAndMemberId(@Param("id") Long id,
+                                              @Param("memberId") Long memberId);
+
+    /**
+     * 기간 내 회원의 배달 목록 집계 (조건부 GET 의 ETag 비교용)
+     */
+    @Query("""
+            select count(d) as count, sum(d.version) as versionSum,
+                   max(d.updatedAt) as lastUpdatedAt, max(d.id) as maxId
+            from Delivery d
+            where d.member.id = :memberId
+              and d.requestedAt between :from and :to
+            """)
+    DeliveryListVersionView findListVersionByMemberIdAndPeriod(@Param("memberId") Long memberId,
+                                                               @Param("from") LocalDateTime from,
+                                                               @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 내 회원의 배달 요약 목록 (offset 페이징)
+     */
+    @Query(value = """
+            select d.id as id, d.orderNumber as orderNumber, d.status as status,
+                   d.requestedAt as requestedAt, d.deliveredAt as deliveredAt,
+                   d.pickupAddress as pickupAddress, d.deliveryAddress as deliveryAddress
+            from Delivery d
+            where d.member.id = :memberId
+              and d.requestedAt between :from and :to
+            """,
+            countQuery = """
+            select count(d) from Delivery d
+            where d.member.id = :memberId
+              and d.requestedAt between :from and :to
+            """)
+    Page<DeliverySummaryView> findSummaryPageByMemberIdAndPeriod(@Param("memberId") Long memberId,
+                                                                 @Param("from") LocalDateTime from,
+                                                                 @Param("to") LocalDateTime to,
+                                                                 Pageable pageable);
+
+    /**
+     * 커서 페이징 첫 페이지
+     * - idx_deliveries_member_requested (member_id, requested_at) 를 역순으로 탐색하며 count 쿼리는 실행하지 않는다
+     */
+    @Query("""
+            select d.id as id, d.orderNumber as orderNumber, d.status as status,
+                   d.requestedAt as requestedAt, d.deliveredAt as deliveredAt,
+                   d.pickupAddress as pickupAddress, d.deliveryAddress as deliveryAddress
+            from Delivery d
+            where d.member.id = :memberId
+              and d.requestedAt between :from and :to
+            order by d.requestedAt desc, d.id desc
+            """)
+    List<DeliverySummaryView> findSliceByMemberIdAndPeriod(@Param("memberId") Long memberId,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to,
+                                                           Limit limit);
+
+    /**
+     * 커서 페이징 다음 페이지
+     * - (requestedAt, id) < (cursorRequestedAt, cursorId) 를 인덱스 범위 조건(requested_at <= cursor)과 함께 표현한다
+     */
+    @Query("""
+            select d.id as id, d.orderNumber as orderNumber, d.status as status,
+                   d.requestedAt as requestedAt, d.deliveredAt as deliveredAt,
+                   d.pickupAddress as pickupAddress, d.deliveryAddress as deliveryAddress
+            from Delivery d
+            where d.member.id = :memberId
+              and d.requestedAt between :from and :to
+              and d.requestedAt <= :cursorRequestedAt
+              and (d.requestedAt < :cursorRequestedAt or d.id < :cursorId)
+            order by d.requestedAt desc, d.id desc
+            """)
+    List<DeliverySummaryView> findSliceByMemberIdAndPeriodAfter(@Param("memberId") Long memberId,
+                                                                @Param("from") LocalDateTime from,
+                                                                @Param("to") LocalDateTime to,
+                                                                @Param("cursorRequestedAt") LocalDateTime cursorRequestedAt,
+                                                                @Param("cursorId") Long cursorId,
+                                                                Limit limit);
+
+    /**
+     * 이미 등록된 주문번호 (보관된 배달 포함)
+     * - order_number 유니크 제약은 delivery 테이블에만 있으므로, 보관된 주문번호의 재등록은 이 조회로 막는다
+     * - 보관 작업이 같은 주문번호를 옮기는 트랜잭션과 겹친 등록은 걸러지지 않는다
+     *   (보관 대상은 archive-after 가 지난 종료 배달이라, 같은 주문번호 재등록과 겹치는 경우는 드물다)
+     */
+    @Query("""
+            select d.orderNumber from Delivery d where d.orderNumber in :orderNumbers
+            union
+            select a.orderNumber from DeliveryArchive a where a.orderNumber in :orderNumbers
+            """)
+    List<String> findExistingOrderNumbers(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    /**
+     * 주어진 상태의 배달 좌표를 id 순으로 조회 (공간 인덱스 적재용 keyset 페이징)
+     * - PK 범위 탐색이므로 페이지가 뒤로 가도 offset 스캔 비용이 늘지 않는다
+     */
+    @Query("""
+            select d.id as id, d.status as status,
+                   d.pickupLat as pickupLat, d.pickupLng as pickupLng,
+                   d.deliveryLat as deliveryLat, d.deliveryLng as deliveryLng
+            from Delivery d
+            where d.id > :afterId
+              and d.status in :statuses
+            order by d.id
+            """)
+    List<DeliveryLocationView> findLocationsByStatusAfter(@Param("statuses") Collection<DeliveryStatus> statuses,
+                                                          @Param("afterId") Long afterId,
+                                                          Limit limit);
+
+    /**
+     * 배달 좌표와 현재 상태 (공간 인덱스를 DB 상태로 다시 맞출 때)
+     */
+    @Query("""
+            select d.id as id, d.status as status,
+                   d.pickupLat as pickupLat, d.pickupLng as pickupLng,
+                   d.deliveryLat as deliveryLat, d.deliveryLng as deliveryLng
+            from Delivery d
+            where d.id in :ids
+            """)
+    List<DeliveryLocationView> findLocationsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,41 @@
+package com.barogo.delivery.jpa;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DeliveryStatusCommandRepository {
+
+    /**
+     * 배달 상태 compare-and-set
+     * - UPDATE ... WHERE id = ? AND member_id = ? AND status IN (이전 허용 상태) 한 번으로 검증과 변경을 수행한다
+     *
+     * @return 변경된 행 수 (1: 성공, 0: 미존재/타인 소유/허용되지 않은 전이 또는 동시 변경)
+     */
+    int compareAndSetStatus(Long deliveryId,
+                            Long memberId,
+                            DeliveryStatus target,
+                            LocalDateTime changedAt,
+                            String changedBy);
+
+    /**
+     * 배차 일괄 적용
+     * - 행마다 UPDATE ... SET status = ASSIGNED, rider_id = ? WHERE id = ? AND status IN (배차 가능 상태) 를
+     *   JDBC batch 한 번으로 보낸 뒤, 실제로 배차된 행과 소유 회원을 한 번 더 조회해 돌려준다
+     * - 그 사이 취소되었거나 다른 경로로 배차된 행은 조건에 걸려 결과에서 빠진다
+     *
+     * @param count deliveryIds/riderIds 중 앞에서부터 사용할 개수
+     */
+    List<RiderAssignment> assignRiders(long[] deliveryIds,
+                                       long[] riderIds,
+                                       int count,
+                                       LocalDateTime assignedAt,
+                                       String changedBy);
+
+    /**
+     * 배차된 배달
+     */
+    record RiderAssignment(long deliveryId, long memberId, long riderId) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.barogo.delivery.jpa;
+
+import com.barogo.delivery.domain.Delivery;
+import com.barogo.delivery.enums.DeliveryStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class DeliveryStatusCommandRepositoryImpl implements DeliveryStatusCommandRepository {
+
+    // 목표 상태별 조건부 UPDATE JPQL
+    // - 전이 시각 필드와 status IN (...) 조건을 전이 테이블(DeliveryStatus, Delivery)에서 만들어 리터럴로 박아 둔다
+    private static final Map<DeliveryStatus, String> UPDATE_QUERIES = new EnumMap<>(DeliveryStatus.class);
+
+    static {
+        for (DeliveryStatus target : DeliveryStatus.values()) {
+            String timestamp = Delivery.timestampAttributeOf(target);
+            if (timestamp == null || target.predecessorMask() == 0) continue;
+            UPDATE_QUERIES.put(target, """
+                    update Delivery d
+                    set d.status = :target,
+                        d.%s = :changedAt,
+                        d.version = d.version + 1,
+                        d.updatedAt = :changedAt,
+                        d.updatedBy = :changedBy
+                    where d.id = :id
+                      and d.member.id = :memberId
+                      and d.status in (%s)
+                    """.formatted(timestamp, statusLiterals(target.predecessors())));
+        }
+    }
+
+    // 배차 조건부 UPDATE (status 는 EnumType.STRING 컬럼)
+    private static final String ASSIGN_SQL = """
+            UPDATE delivery
+            SET status = '%s', rider_id = ?, assigned_at = ?, version = version + 1, updated_at = ?, updated_by = ?
+            WHERE id = ?
+              AND status IN (%s)
+            """.formatted(DeliveryStatus.ASSIGNED.name(), DeliveryStatus.ASSIGNED.predecessors().stream()
+                    .map(status -> "'" + status.name() + "'")
+                    .collect(Collectors.joining(", ")));
+
+    private static final String SELECT_ASSIGNED_SQL = """
+            SELECT id, member_id, rider_id FROM delivery
+            WHERE id IN (%s)
+              AND status = '""" + DeliveryStatus.ASSIGNED.name() + "'";
+
+    // IN 절 한 번에 넣을 최대 id 수
+    private static final int IN_CHUNK = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int compareAndSetStatus(Long deliveryId,
+                                   Long memberId,
+                                   DeliveryStatus target,
+                                   LocalDateTime changedAt,
+                                   String changedBy) {
+        String jpql = UPDATE_QUERIES.get(target);
+        if (jpql == null) {
+            // 진입 가능한 이전 상태가 없는 전이(예: REQUESTED 로의 회귀)는 DB 를 거치지 않고 실패 처리
+            return 0;
+        }
+        return entityManager.createQuery(jpql)
+                .setParameter("target", target)
+                .setParameter("changedAt", changedAt)
+                .setParameter("changedBy", changedBy)
+                .setParameter("id", deliveryId)
+                .setParameter("memberId", memberId)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<RiderAssignment> assignRiders(long[] deliveryIds,
+                                              long[] riderIds,
+                                              int count,
+                                              LocalDateTime assignedAt,
+                                              String changedBy) {
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        // 영속성 컨텍스트를 거치지 않는 JDBC batch (같은 트랜잭션의 커넥션 사용)
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Timestamp at = Timestamp.valueOf(assignedAt);
+            try (PreparedStatement ps = connection.prepareStatement(ASSIGN_SQL)) {
+                for (int i = 0; i < count; i++) {
+                    ps.setLong(1, riderIds[i]);
+                    ps.setTimestamp(2, at);
+                    ps.setTimestamp(3, at);
+                    ps.setString(4, changedBy);
+                    ps.setLong(5, deliveryIds[i]);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            // 드라이버가 batch 를 재작성하면 행별 갱신 건수를 돌려주지 않으므로(SUCCESS_NO_INFO) 결과를 조회로 확인한다
+            return selectAssigned(connection, deliveryIds, riderIds, count);
+        });
+    }
+
+    private static List<RiderAssignment> selectAssigned(Connection connection,
+                                                        long[] deliveryIds,
+                                                        long[] riderIds,
+                                                        int count) throws SQLException {
+        Map<Long, Long> requested = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            requested.put(deliveryIds[i], riderIds[i]);
+        }
+
+        List<RiderAssignment> assigned = new ArrayList<>(count);
+        for (int from = 0; from < count; from += IN_CHUNK) {
+            int size = Math.min(IN_CHUNK, count - from);
+            String sql = SELECT_ASSIGNED_SQL.formatted(String.join(", ", Collections.nCopies(size, "?")));
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                for (int i = 0; i < size; i++) {
+                    ps.setLong(i + 1, deliveryIds[from + i]);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        long id = rs.getLong(1);
+                        long riderId = rs.getLong(3);
+                        // 요청한 라이더로 배차된 행만 (조건에 걸려 갱신되지 않은 행은 이전 배차의 라이더를 가진다)
+                        if (requested.get(id) == riderId) {
+                            assigned.add(new RiderAssignment(id, rs.getLong(2), riderId));
+                        }
+                    }
+                }
+            }
+        }
+        return assigned;
+    }
+
+    private static String statusLiterals(Set<DeliveryStatus> statuses) {
+        return statuses.stream()
+                .map(status -> DeliveryStatus.class.getName() + "." + status.name())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,89 @@
+package com.barogo.delivery.jpa.config;
+
+import com.barogo.delivery.jpa.routing.ReadYourWritesTracker;
+import com.barogo.delivery.jpa.routing.ReplicaHealthMonitor;
+import com.barogo.delivery.jpa.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * primary(spring.datasource) + replica(delivery.datasource.replica) 풀과 읽기 라우팅 DataSource 구성
+ * - 애플리케이션이 주입받는 DataSource 는 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource) 이다
+ * - 각 풀은 별도 bean 이므로 Hikari 풀 지표가 primary/replica 로 나뉘어 노출된다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "delivery.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("delivery.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(ReplicaRoutingProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    ReplicaHealthMonitor replicaHealthMonitor(HikariDataSource replicaDataSource, ReplicaRoutingProperties properties) {
+        return new ReplicaHealthMonitor(replicaDataSource, new ReplicaHealthMonitor.Settings(
+                properties.getCheckInterval(),
+                properties.getValidTimeout(),
+                properties.getMaxLag(),
+                properties.getLagQuery()
+        ));
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                      HikariDataSource replicaDataSource,
+                                                      ReplicaHealthMonitor replicaHealthMonitor,
+                                                      ReplicaRoutingProperties properties) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(properties.getStickyWindow(), Clock.systemUTC());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaHealthMonitor, tracker,
+                ReplicaRoutingConfig::currentUser);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // 인증된 사용자 이름 (AuditorAware 와 같은 기준, 익명은 제외)
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
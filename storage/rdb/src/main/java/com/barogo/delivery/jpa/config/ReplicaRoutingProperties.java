@@ -0,0 +1,30 @@
+package com.barogo.delivery.jpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.datasource.replica")
+public class ReplicaRoutingProperties {
+    // 읽기 전용 트랜잭션 replica 라우팅 여부 (false 면 spring.datasource 단일 풀)
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    // 쓰기 커밋 후 같은 사용자의 읽기를 primary 로 보내는 시간
+    private Duration stickyWindow = Duration.ofSeconds(5);
+    // 상태 확인 주기 / 유효성 확인 제한 시간
+    private Duration checkInterval = Duration.ofSeconds(1);
+    private Duration validTimeout = Duration.ofSeconds(1);
+    // 허용 복제 지연, 넘으면 읽기를 primary 로 보낸다
+    private Duration maxLag = Duration.ofSeconds(2);
+    // 복제 지연(ms) 한 값을 돌려주는 쿼리 (예: pt-heartbeat 테이블), 비어 있으면 연결 상태만 확인
+    private String lagQuery;
+}
@@ -0,0 +1,17 @@
+package com.barogo.delivery.jpa.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기간 내 배달 목록의 변경 여부 판별용 집계 (목록 ETag)
+ * - 건수(추가), 버전 합(상태/주소 변경 시 @Version 증가), 마지막 수정 시각/최대 ID 를 함께 본다
+ */
+public interface DeliveryListVersionView {
+    long getCount();
+
+    Long getVersionSum();
+
+    LocalDateTime getLastUpdatedAt();
+
+    Long getMaxId();
+}
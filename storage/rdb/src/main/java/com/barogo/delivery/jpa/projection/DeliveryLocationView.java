@@ -0,0 +1,20 @@
+package com.barogo.delivery.jpa.projection;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+
+/**
+ * 진행 중 배달의 좌표 (공간 인덱스 적재용)
+ */
+public interface DeliveryLocationView {
+    Long getId();
+
+    DeliveryStatus getStatus();
+
+    Double getPickupLat();
+
+    Double getPickupLng();
+
+    Double getDeliveryLat();
+
+    Double getDeliveryLng();
+}
@@ -0,0 +1,25 @@
+package com.barogo.delivery.jpa.projection;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 요약 조회용 인터페이스 프로젝션
+ * - 필요한 컬럼만 select 하며 엔티티/연관관계를 영속성 컨텍스트에 적재하지 않는다
+ */
+public interface DeliverySummaryView {
+    Long getId();
+
+    String getOrderNumber();
+
+    DeliveryStatus getStatus();
+
+    LocalDateTime getRequestedAt();
+
+    LocalDateTime getDeliveredAt();
+
+    String getPickupAddress();
+
+    String getDeliveryAddress();
+}
@@ -0,0 +1,9 @@
+package com.barogo.delivery.jpa.routing;
+
+/**
+ * ReplicaRoutingDataSource 의 조회 키
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,56 @@
+package com.barogo.delivery.jpa.routing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 트랜잭션을 커밋한 사용자를 window 동안 기억해, 그 사이의 읽기를 primary 로 보낸다
+ * - replica 복제 지연 때문에 방금 쓴 값이 안 보이는 문제(read-your-writes)를 막는다
+ * - 노드 메모리에만 기록하므로 다른 노드로 간 요청에는 적용되지 않는다 (지연 상한은 ReplicaHealthMonitor 가 보장)
+ */
+public class ReadYourWritesTracker {
+
+    // 이 크기를 넘으면 기록 시 만료 항목을 정리한다
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Clock clock;
+    // 사용자 -> primary 고정 만료 시각(epoch ms)
+    private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    public void written(String key) {
+        if (key == null || windowMillis <= 0) {
+            return;
+        }
+        long now = clock.millis();
+        stickyUntil.put(key, now + windowMillis);
+        if (stickyUntil.size() > PURGE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until <= now);
+        }
+    }
+
+    public boolean isSticky(String key) {
+        if (key == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until > clock.millis()) {
+            return true;
+        }
+        stickyUntil.remove(key, until);
+        return false;
+    }
+
+    public int size() {
+        return stickyUntil.size();
+    }
+}
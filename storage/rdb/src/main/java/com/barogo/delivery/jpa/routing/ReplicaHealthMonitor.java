@@ -0,0 +1,150 @@
+package com.barogo.delivery.jpa.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * replica 상태를 주기적으로 확인해 읽기 라우팅 가능 여부를 결정
+ * - 커넥션 유효성 확인 후, lagQuery 가 있으면 복제 지연(ms)을 조회해 maxLag 를 넘으면 사용하지 않는다
+ * - 요청 경로에서는 마지막 확인 결과(volatile)만 읽는다
+ * - 커넥션 획득 실패(markDown)는 다음 확인까지 즉시 반영한다
+ */
+@Slf4j
+public class ReplicaHealthMonitor implements SmartLifecycle {
+
+    private final DataSource replica;
+    private final Settings settings;
+
+    private volatile boolean available;
+    private volatile long lagMillis;
+
+    private volatile Thread worker;
+    private volatile boolean running;
+
+    /**
+     * @param checkInterval 상태 확인 주기
+     * @param validTimeout  커넥션 유효성 확인 제한 시간
+     * @param maxLag        허용 복제 지연
+     * @param lagQuery      지연(ms) 한 값을 돌려주는 쿼리, 비어 있으면 지연을 측정하지 않는다
+     */
+    public record Settings(
+            Duration checkInterval,
+            Duration validTimeout,
+            Duration maxLag,
+            String lagQuery
+    ) {
+    }
+
+    public ReplicaHealthMonitor(DataSource replica, Settings settings) {
+        this.replica = replica;
+        this.settings = settings;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * replica 상태 1회 확인
+     *
+     * @return 사용 가능 여부
+     */
+    public boolean checkOnce() {
+        boolean wasAvailable = available;
+        try (Connection connection = replica.getConnection()) {
+            int timeoutSeconds = (int) Math.max(1, settings.validTimeout().toSeconds());
+            if (!connection.isValid(timeoutSeconds)) {
+                return changed(wasAvailable, false, "connection is not valid");
+            }
+            if (settings.lagQuery() == null || settings.lagQuery().isBlank()) {
+                return changed(wasAvailable, true, null);
+            }
+            long lag = queryLag(connection);
+            this.lagMillis = lag;
+            if (lag < 0 || lag > settings.maxLag().toMillis()) {
+                return changed(wasAvailable, false, "lag " + lag + "ms");
+            }
+            return changed(wasAvailable, true, null);
+        } catch (SQLException | RuntimeException e) {
+            return changed(wasAvailable, false, e.toString());
+        }
+    }
+
+    /**
+     * 커넥션 획득 실패 등 요청 경로에서 발견한 장애 반영 (다음 확인에서 복구)
+     */
+    public void markDown(Throwable cause) {
+        changed(available, false, cause.toString());
+    }
+
+    @Override
+    public void start() {
+        checkOnce();
+        running = true;
+        worker = Thread.ofPlatform().name("replica-health").daemon().start(this::runLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(settings.checkInterval().toMillis() + 1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                Thread.sleep(settings.checkInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            checkOnce();
+        }
+    }
+
+    private long queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(settings.lagQuery())) {
+            if (!rs.next()) {
+                return -1;
+            }
+            long lag = rs.getLong(1);
+            return rs.wasNull() ? -1 : lag;
+        }
+    }
+
+    private boolean changed(boolean wasAvailable, boolean nowAvailable, String reason) {
+        this.available = nowAvailable;
+        if (wasAvailable && !nowAvailable) {
+            log.warn("replica unavailable, routing reads to primary: {}", reason);
+        } else if (!wasAvailable && nowAvailable) {
+            log.info("replica available, routing read-only transactions to replica");
+        }
+        return nowAvailable;
+    }
+}
@@ -0,0 +1,119 @@
+package com.barogo.delivery.jpa.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * @Transactional(readOnly = true) 트랜잭션의 커넥션을 replica 로 보내는 DataSource
+ * - 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 동기화되지 않으므로 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 판정한다
+ * - 다음 경우는 primary 로 보낸다: 쓰기 트랜잭션/트랜잭션 밖, 직전에 쓴 사용자(ReadYourWritesTracker), replica 지연/장애
+ * - replica 커넥션 획득에 실패하면 replica 를 내리고 같은 요청을 primary 로 처리한다
+ * - 쓰기 트랜잭션이 커밋되면 현재 사용자를 read-your-writes 대상으로 기록한다
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealthMonitor healthMonitor;
+    private final ReadYourWritesTracker writesTracker;
+    // 현재 사용자 식별자 (없으면 null)
+    private final Supplier<String> currentUser;
+
+    private final LongAdder replicaCount = new LongAdder();
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder stickyCount = new LongAdder();
+    private final LongAdder unavailableCount = new LongAdder();
+    private final LongAdder failoverCount = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    ReplicaHealthMonitor healthMonitor,
+                                    ReadYourWritesTracker writesTracker,
+                                    Supplier<String> currentUser) {
+        this.primary = primary;
+        this.replica = replica;
+        this.healthMonitor = healthMonitor;
+        this.writesTracker = writesTracker;
+        this.currentUser = currentUser;
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        RoutingDecision decision = decide();
+        count(decision);
+        if (decision.route() == DataSourceRoute.REPLICA) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                healthMonitor.markDown(e);
+                failoverCount.increment();
+                return primary.getConnection();
+            }
+        }
+        if (decision == RoutingDecision.WRITE) {
+            recordWriteOnCommit();
+        }
+        return primary.getConnection();
+    }
+
+    public ReplicaRoutingStats stats() {
+        return new ReplicaRoutingStats(replicaCount.sum(), writeCount.sum(), stickyCount.sum(),
+                unavailableCount.sum(), failoverCount.sum(), healthMonitor.lagMillis(), healthMonitor.isAvailable());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return decide().route();
+    }
+
+    private RoutingDecision decide() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return RoutingDecision.WRITE;
+        }
+        if (writesTracker.isSticky(currentUser.get())) {
+            return RoutingDecision.STICKY;
+        }
+        if (!healthMonitor.isAvailable()) {
+            return RoutingDecision.REPLICA_UNAVAILABLE;
+        }
+        return RoutingDecision.REPLICA;
+    }
+
+    private void count(RoutingDecision decision) {
+        switch (decision) {
+            case REPLICA -> replicaCount.increment();
+            case WRITE -> writeCount.increment();
+            case STICKY -> stickyCount.increment();
+            case REPLICA_UNAVAILABLE -> unavailableCount.increment();
+        }
+    }
+
+    // 트랜잭션당 커넥션은 한 번 획득되므로 동기화도 한 번 등록된다
+    private void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String user = currentUser.get();
+        if (user == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writesTracker.written(user);
+            }
+        });
+    }
+}
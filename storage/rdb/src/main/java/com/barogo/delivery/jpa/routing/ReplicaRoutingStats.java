@@ -0,0 +1,23 @@
+package com.barogo.delivery.jpa.routing;
+
+/**
+ * replica 라우팅 지표 스냅샷
+ *
+ * @param replica     replica 로 보낸 커넥션 수
+ * @param write       쓰기 트랜잭션/트랜잭션 밖이라 primary 로 보낸 수
+ * @param sticky      직전 쓰기 사용자라 primary 로 보낸 읽기 수
+ * @param unavailable replica 지연/장애로 primary 로 보낸 읽기 수
+ * @param failover    replica 커넥션 획득에 실패해 primary 로 전환한 수
+ * @param lagMillis   마지막으로 측정한 replica 지연(ms), 측정하지 않으면 0
+ * @param available   replica 사용 가능 여부
+ */
+public record ReplicaRoutingStats(
+        long replica,
+        long write,
+        long sticky,
+        long unavailable,
+        long failover,
+        long lagMillis,
+        boolean available
+) {
+}
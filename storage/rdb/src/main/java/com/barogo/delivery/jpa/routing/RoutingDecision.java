@@ -0,0 +1,25 @@
+package com.barogo.delivery.jpa.routing;
+
+/**
+ * 커넥션 요청별 라우팅 판정 사유
+ */
+public enum RoutingDecision {
+    // 읽기 전용 트랜잭션 -> replica
+    REPLICA(DataSourceRoute.REPLICA),
+    // 쓰기 트랜잭션 또는 트랜잭션 밖
+    WRITE(DataSourceRoute.PRIMARY),
+    // 읽기 전용이지만 같은 사용자가 직전에 쓴 경우 (read-your-writes)
+    STICKY(DataSourceRoute.PRIMARY),
+    // 읽기 전용이지만 replica 지연/장애
+    REPLICA_UNAVAILABLE(DataSourceRoute.PRIMARY);
+
+    private final DataSourceRoute route;
+
+    RoutingDecision(DataSourceRoute route) {
+        this.route = route;
+    }
+
+    public DataSourceRoute route() {
+        return route;
+    }
+}
@@ -0,0 +1,46 @@
+package com.barogo.delivery.jpa.plan;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import javax.sql.DataSource;
+
+/**
+ * 실행 계획 테스트용 최소 구성 (storage:rdb 만으로 JPA 저장소를 띄운다)
+ * - 로컬 프로필과 같은 H2 MySQL 모드를 쓰고, 실행된 PreparedStatement 를 기록하도록 DataSource 를 감싼다
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@ComponentScan(basePackages = "com.barogo.delivery.jpa.config")
+@EntityScan(basePackages = "com.barogo.delivery.domain")
+@EnableJpaRepositories(basePackages = "com.barogo.delivery.jpa")
+public class QueryPlanTestApplication {
+
+    @Bean
+    JdbcDataSource h2DataSource() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:query-plan;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    @Bean
+    StatementRecorder statementRecorder() {
+        return new StatementRecorder();
+    }
+
+    @Bean
+    DataSource dataSource(JdbcDataSource h2DataSource, StatementRecorder statementRecorder) {
+        return statementRecorder.wrap(h2DataSource);
+    }
+
+    @Bean
+    QueryPlans queryPlans(JdbcDataSource h2DataSource) {
+        return new QueryPlans(h2DataSource);
+    }
+}
@@ -0,0 +1,138 @@
+package com.barogo.delivery.jpa.plan;
+
+import com.barogo.delivery.jpa.plan.StatementRecorder.Binding;
+import com.barogo.delivery.jpa.plan.StatementRecorder.RecordedStatement;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기록된 SQL 을 같은 바인딩으로 H2 EXPLAIN 하고, 테이블별 접근 방식(사용 인덱스 또는 전체 스캔)을 뽑는다
+ * - H2 실행 계획은 테이블 뒤에 접근 경로를 주석으로 남긴다: PUBLIC.idx_x: member_id = ?1 또는 PUBLIC.delivery.tableScan
+ */
+final class QueryPlans {
+
+    private static final Pattern ACCESS = Pattern.compile("/\\*\\s*\"?PUBLIC\"?\\.\"?([\\w$]+)\"?(\\.tableScan)?");
+
+    private static final String INDEX_SQL = """
+            SELECT i.INDEX_NAME, i.TABLE_NAME, i.INDEX_TYPE_NAME, c.COLUMN_NAME
+            FROM INFORMATION_SCHEMA.INDEXES i
+            JOIN INFORMATION_SCHEMA.INDEX_COLUMNS c
+              ON c.INDEX_SCHEMA = i.INDEX_SCHEMA AND c.INDEX_NAME = i.INDEX_NAME
+            WHERE i.TABLE_SCHEMA = 'PUBLIC'
+            ORDER BY i.INDEX_NAME, c.ORDINAL_POSITION
+            """;
+
+    /**
+     * @param table   접근한 테이블
+     * @param index   사용한 인덱스 (전체 스캔이면 null)
+     * @param type    PRIMARY KEY / UNIQUE INDEX / INDEX
+     * @param columns 인덱스 컬럼 (순서대로)
+     */
+    record Access(String table, String index, String type, List<String> columns) {
+
+        boolean isScan() {
+            return index == null;
+        }
+
+        boolean isPrimaryKey() {
+            return "PRIMARY KEY".equals(type);
+        }
+
+        boolean isUnique() {
+            return "UNIQUE INDEX".equals(type) || isPrimaryKey();
+        }
+
+        @Override
+        public String toString() {
+            return isScan() ? table + " (table scan)" : table + " via " + index + " " + columns;
+        }
+    }
+
+    record Plan(String sql, String text, List<Access> accesses) {
+    }
+
+    private record IndexInfo(String table, String type, List<String> columns) {
+    }
+
+    private final DataSource dataSource;
+    private Map<String, IndexInfo> indexes;
+
+    QueryPlans(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    Plan explain(String sql) throws SQLException {
+        return explain(new RecordedStatement(sql, List.of()));
+    }
+
+    Plan explain(RecordedStatement statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                try {
+                    binding.method().invoke(ps, binding.args());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException("cannot replay " + binding.method().getName(), e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    text.append(rs.getString(1)).append('\n');
+                }
+            }
+            return new Plan(statement.sql(), text.toString(), accesses(connection, text.toString()));
+        }
+    }
+
+    private List<Access> accesses(Connection connection, String plan) throws SQLException {
+        Map<String, IndexInfo> known = indexes(connection);
+        List<Access> accesses = new ArrayList<>();
+        Matcher matcher = ACCESS.matcher(plan);
+        while (matcher.find()) {
+            String name = matcher.group(1).toLowerCase(Locale.ROOT);
+            if (matcher.group(2) != null) {
+                accesses.add(new Access(name, null, null, List.of()));
+                continue;
+            }
+            IndexInfo index = known.get(name);
+            if (index == null) {
+                throw new IllegalStateException("unknown index " + name + " in plan:\n" + plan);
+            }
+            accesses.add(new Access(index.table(), name, index.type(), index.columns()));
+        }
+        return accesses;
+    }
+
+    // 스키마는 테스트 동안 바뀌지 않으므로 한 번만 읽는다
+    private synchronized Map<String, IndexInfo> indexes(Connection connection) throws SQLException {
+        if (indexes != null) {
+            return indexes;
+        }
+        Map<String, IndexInfo> loaded = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(INDEX_SQL);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                String name = rs.getString(1).toLowerCase(Locale.ROOT);
+                String table = rs.getString(2).toLowerCase(Locale.ROOT);
+                String type = rs.getString(3);
+                loaded.computeIfAbsent(name, n -> new IndexInfo(table, type, new ArrayList<>()))
+                        .columns().add(rs.getString(4).toLowerCase(Locale.ROOT));
+            }
+        }
+        indexes = loaded;
+        return loaded;
+    }
+}
@@ -0,0 +1,296 @@
+package com.barogo.delivery.jpa.plan;
+
+import com.barogo.delivery.enums.DeliveryStatus;
+import com.barogo.delivery.jpa.DeliveryArchiveRepository;
+import com.barogo.delivery.jpa.DeliveryCostChunk;
+import com.barogo.delivery.jpa.DeliveryRepository;
+import com.barogo.delivery.jpa.MemberRepository;
+import com.barogo.delivery.jpa.plan.QueryPlans.Access;
+import com.barogo.delivery.jpa.plan.QueryPlans.Plan;
+import com.barogo.delivery.jpa.plan.StatementRecorder.RecordedStatement;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 저장소 쿼리 실행 계획 회귀 테스트
+ * - 운영 규모에 가까운 행을 넣고 ANALYZE 한 H2(MySQL 모드)에서, 저장소 메서드가 실제로 보낸 SQL 을 같은 바인딩으로 EXPLAIN 한다
+ * - 메서드별로 기대한 인덱스를 쓰는지 확인하고, 전체 스캔으로 바뀌면 실패한다
+ * - 기존 인덱스로 좁히지 못하는 조건(status, rider_id)은 보고(TestReporter)로 남긴다
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(classes = QueryPlanTestApplication.class, properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class RepositoryQueryPlanTest {
+
+    private static final int MEMBERS = 1_000;
+    private static final int DELIVERIES = 50_000;
+    private static final int ARCHIVED = 20_000;
+
+    private static final long MEMBER_ID = 7L;
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(3);
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private DeliveryArchiveRepository deliveryArchiveRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private QueryPlans queryPlans;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcDataSource h2DataSource;
+
+    private TestReporter reporter;
+
+    @BeforeAll
+    void seed() {
+        JdbcTemplate jdbc = new JdbcTemplate(h2DataSource);
+        jdbc.update("""
+                INSERT INTO member (id, login_id, password, name, created_at, updated_at, created_by, updated_by)
+                SELECT X, CONCAT('member-', X), 'password', CONCAT('회원', X),
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'seed', 'seed'
+                FROM SYSTEM_RANGE(1, ?)
+                """, MEMBERS);
+        jdbc.update("""
+                INSERT INTO delivery (id, member_id, order_number, pickup_address, pickup_lat, pickup_lng,
+                                      delivery_address, delivery_lat, delivery_lng, requested_at, status, rider_id,
+                                      version, created_at, updated_at, created_by, updated_by)
+                SELECT X, MOD(X, ?) + 1, CONCAT('ORDER-', X), '픽업지', 37.50, 127.00, '도착지', 37.51, 127.01,
+                       DATEADD('MINUTE', X, TIMESTAMP '2025-01-01 00:00:00'),
+                       CASE MOD(X, 5) WHEN 0 THEN 'REQUESTED' WHEN 1 THEN 'ASSIGNED' WHEN 2 THEN 'PICKED_UP'
+                                      WHEN 3 THEN 'DELIVERED' ELSE 'CANCELED' END,
+                       CASE WHEN MOD(X, 5) IN (1, 2, 3) THEN MOD(X, 200) + 1 END,
+                       0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'seed', 'seed'
+                FROM SYSTEM_RANGE(1, ?)
+                """, MEMBERS, DELIVERIES);
+        jdbc.update("""
+                INSERT INTO delivery_archive (id, member_id, order_number, pickup_address, delivery_address,
+                                              requested_at, delivered_at, status, version,
+                                              created_at, updated_at, created_by, updated_by, archived_at)
+                SELECT X, MOD(X, ?) + 1, CONCAT('ARCHIVED-', X), '픽업지', '도착지',
+                       DATEADD('MINUTE', X, TIMESTAMP '2024-10-01 00:00:00'),
+                       DATEADD('MINUTE', X + 30, TIMESTAMP '2024-10-01 00:00:00'),
+                       'DELIVERED', 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'seed', 'seed', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(?, ?)
+                """, MEMBERS, DELIVERIES + 1, DELIVERIES + ARCHIVED);
+        // 옵티마이저가 행 수/선택도를 반영하도록 통계 갱신
+        jdbc.execute("ANALYZE");
+    }
+
+    @BeforeEach
+    void setUp(TestReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Test
+    void memberPeriodQueries_shouldUseMemberRequestedIndex() throws SQLException {
+        Expect index = Expect.index("idx_deliveries_member_requested");
+
+        assertPlans("findSummaryPageByMemberIdAndPeriod", index,
+                () -> deliveryRepository.findSummaryPageByMemberIdAndPeriod(MEMBER_ID, FROM, TO, PageRequest.of(1, 2)));
+        assertPlans("findSliceByMemberIdAndPeriod", index,
+                () -> deliveryRepository.findSliceByMemberIdAndPeriod(MEMBER_ID, FROM, TO, Limit.of(20)));
+        assertPlans("findSliceByMemberIdAndPeriodAfter", index,
+                () -> deliveryRepository.findSliceByMemberIdAndPeriodAfter(MEMBER_ID, FROM, TO,
+                        FROM.plusDays(2), 2_006L, Limit.of(20)));
+        assertPlans("findListVersionByMemberIdAndPeriod", index,
+                () -> deliveryRepository.findListVersionByMemberIdAndPeriod(MEMBER_ID, FROM, TO));
+    }
+
+    @Test
+    void archivePeriodQueries_shouldUseArchiveMemberRequestedIndex() throws SQLException {
+        Expect index = Expect.index("idx_delivery_archive_member_requested");
+        LocalDateTime from = LocalDateTime.of(2024, 11, 1, 0, 0);
+
+        assertPlans("archive.findSummaryPageByMemberIdAndPeriod", index,
+                () -> deliveryArchiveRepository.findSummaryPageByMemberIdAndPeriod(MEMBER_ID, from, from.plusDays(3),
+                        PageRequest.of(0, 20)));
+        assertPlans("archive.findSliceByMemberIdAndPeriod", index,
+                () -> deliveryArchiveRepository.findSliceByMemberIdAndPeriod(MEMBER_ID, from, from.plusDays(3), Limit.of(20)));
+        assertPlans("archive.findSliceByMemberIdAndPeriodAfter", index,
+                () -> deliveryArchiveRepository.findSliceByMemberIdAndPeriodAfter(MEMBER_ID, from, from.plusDays(3),
+                        from.plusDays(1), 70_000L, Limit.of(20)));
+        assertPlans("archive.findListVersionByMemberIdAndPeriod", index,
+                () -> deliveryArchiveRepository.findListVersionByMemberIdAndPeriod(MEMBER_ID, from, from.plusDays(3)));
+        assertPlans("archive.findSummaryByIdAndMemberId", Expect.primaryKey("delivery_archive"),
+                () -> deliveryArchiveRepository.findSummaryByIdAndMemberId(60_007L, MEMBER_ID));
+    }
+
+    @Test
+    void uniqueKeyLookups_shouldUseUniqueIndexes() throws SQLException {
+        // 보관 테이블은 유니크 제약 없이 order_number 인덱스로 찾는다
+        assertPlans("findExistingOrderNumbers", Expect.uniqueOn("delivery", "order_number")
+                        .or(Expect.index("idx_delivery_archive_order_number")),
+                () -> deliveryRepository.findExistingOrderNumbers(List.of("ORDER-10", "ARCHIVED-60010", "ORDER-NEW")));
+        assertPlans("findByLoginId", Expect.uniqueOn("member", "login_id"),
+                () -> memberRepository.findByLoginId("member-7"));
+        assertPlans("existsByLoginId", Expect.uniqueOn("member", "login_id"),
+                () -> memberRepository.existsByLoginId("member-7"));
+    }
+
+    @Test
+    void idLookupsAndUpdates_shouldUsePrimaryKey() throws SQLException {
+        Expect primaryKey = Expect.primaryKey("delivery");
+
+        assertPlans("findById", primaryKey, () -> deliveryRepository.findById(1_007L));
+        assertPlans("existsById", primaryKey, () -> deliveryRepository.existsById(1_007L));
+        assertPlans("findSummaryByIdAndMemberId", primaryKey,
+                () -> deliveryRepository.findSummaryByIdAndMemberId(1_006L, MEMBER_ID));
+        assertPlans("findVersionByIdAndMemberId", primaryKey,
+                () -> deliveryRepository.findVersionByIdAndMemberId(1_006L, MEMBER_ID));
+        assertPlans("findLocationsByIdIn", primaryKey,
+                () -> deliveryRepository.findLocationsByIdIn(List.of(1_006L, 1_007L)));
+        assertPlans("compareAndSetStatus", primaryKey,
+                () -> deliveryRepository.compareAndSetStatus(1_000L, 1L, DeliveryStatus.CANCELED,
+                        LocalDateTime.now(), "plan"));
+        assertPlans("assignRiders", primaryKey,
+                () -> deliveryRepository.assignRiders(new long[]{5L, 10L}, new long[]{1L, 2L}, 2,
+                        LocalDateTime.now(), "plan"));
+        assertPlans("moveToArchive", primaryKey,
+                () -> deliveryRepository.moveToArchive(new long[]{3L, 8L}, 2, LocalDateTime.now()));
+        assertPlans("findById (member)", Expect.primaryKey("member"), () -> memberRepository.findById(MEMBER_ID));
+    }
+
+    @Test
+    void keysetWalks_shouldStayOnPrimaryKeyRange() throws SQLException {
+        Expect primaryKey = Expect.primaryKey("delivery");
+
+        assertPlans("scanArchiveCandidates", primaryKey,
+                () -> deliveryRepository.scanArchiveCandidates(25_000L, 1_000, FROM));
+        assertPlans("loadCostChunk / updateChangedCosts", primaryKey, () -> {
+            DeliveryCostChunk chunk = new DeliveryCostChunk(10);
+            deliveryRepository.loadCostChunk(25_000L, chunk);
+            for (int i = 0; i < chunk.getSize(); i++) {
+                chunk.getDistances()[i] = 1_000 + i;
+                chunk.getCosts()[i] = 3_000;
+            }
+            deliveryRepository.updateChangedCosts(chunk);
+        });
+        // status 에는 인덱스가 없어 PK 순으로 훑으며 거른다 (활성 배달 비율이 낮을수록 읽는 행이 늘어난다)
+        assertPlans("findLocationsByStatusAfter",
+                primaryKey.uncovered("status 는 인덱스가 없어 id 범위를 훑으며 거른다"),
+                () -> deliveryRepository.findLocationsByStatusAfter(
+                        Set.of(DeliveryStatus.REQUESTED, DeliveryStatus.ASSIGNED), 0L, Limit.of(500)));
+    }
+
+    /**
+     * 저장소에 아직 없는 rider_id / status 단독 조회는 어떤 인덱스로도 좁혀지지 않는다
+     * - 이 조회를 저장소에 추가하면 인덱스를 함께 추가하고 위의 검사로 옮긴다
+     */
+    @Test
+    void riderAndStatusLookups_areNotCoveredByIndexes() throws SQLException {
+        Map<String, String> lookups = new LinkedHashMap<>();
+        lookups.put("rider_id", "SELECT id FROM delivery WHERE rider_id = 17 AND status IN ('ASSIGNED', 'PICKED_UP')");
+        lookups.put("status", "SELECT id FROM delivery WHERE status = 'REQUESTED' AND requested_at < TIMESTAMP '2025-01-02 00:00:00'");
+
+        for (Map.Entry<String, String> lookup : lookups.entrySet()) {
+            Plan plan = queryPlans.explain(lookup.getValue());
+            assertThat(plan.accesses())
+                    .as("%s lookup is now served by an index, move it to the covered checks:%n%s", lookup.getKey(), plan.text())
+                    .anyMatch(Access::isScan);
+            reporter.publishEntry("uncovered " + lookup.getKey(), plan.text());
+        }
+    }
+
+    private void assertPlans(String name, Expect expect, Runnable call) throws SQLException {
+        statementRecorder.clear();
+        // 쓰기 쿼리도 실행 계획만 본다
+        transactionTemplate.executeWithoutResult(status -> {
+            call.run();
+            status.setRollbackOnly();
+        });
+
+        List<Plan> plans = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (RecordedStatement statement : statementRecorder.statements()) {
+            if (isPlainInsert(statement.sql()) || !seen.add(statement.sql())) {
+                continue;
+            }
+            plans.add(queryPlans.explain(statement));
+        }
+        assertThat(plans).as("%s executed no query", name).isNotEmpty();
+
+        for (Plan plan : plans) {
+            for (Access access : plan.accesses()) {
+                if (access.isScan()) {
+                    fail("%s scans %s, expected %s:%n%s%n%s", name, access.table(), expect.description(), plan.sql(), plan.text());
+                }
+                if (!expect.matches().test(access)) {
+                    fail("%s reads %s, expected %s:%n%s", name, access, expect.description(), plan.text());
+                }
+            }
+            assertThat(plan.accesses()).as("%s plan has no table access:%n%s", name, plan.text()).isNotEmpty();
+            if (expect.uncoveredReason() != null) {
+                reporter.publishEntry("uncovered " + name, expect.uncoveredReason() + "\n" + plan.text());
+            }
+        }
+    }
+
+    private static boolean isPlainInsert(String sql) {
+        String normalized = sql.strip().toLowerCase(Locale.ROOT);
+        return normalized.startsWith("insert") && !normalized.contains("select");
+    }
+
+    /**
+     * @param uncoveredReason 인덱스로 좁히지 못하는 조건이 있으면 그 이유 (통과하되 보고한다)
+     */
+    private record Expect(String description, Predicate<Access> matches, String uncoveredReason) {
+
+        static Expect index(String name) {
+            return new Expect("index " + name, access -> access.index().equalsIgnoreCase(name), null);
+        }
+
+        static Expect primaryKey(String table) {
+            return new Expect("primary key of " + table,
+                    access -> access.table().equals(table) && access.isPrimaryKey(), null);
+        }
+
+        static Expect uniqueOn(String table, String column) {
+            return new Expect("unique index on " + table + "(" + column + ")",
+                    access -> access.table().equals(table) && access.isUnique() && access.columns().equals(List.of(column)),
+                    null);
+        }
+
+        Expect or(Expect other) {
+            return new Expect(description + " or " + other.description, matches.or(other.matches), uncoveredReason);
+        }
+
+        Expect uncovered(String reason) {
+            return new Expect(description, matches, reason);
+        }
+    }
+}
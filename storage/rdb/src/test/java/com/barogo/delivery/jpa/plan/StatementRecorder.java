@@ -0,0 +1,101 @@
+package com.barogo.delivery.jpa.plan;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실행된 PreparedStatement 의 SQL 과 바인딩(setXxx 호출)을 기록
+ * - 바인딩은 같은 메서드/인자로 EXPLAIN 문에 다시 적용할 수 있도록 호출 그대로 남긴다
+ * - JDBC batch 는 addBatch 마다 한 건으로 기록한다
+ */
+final class StatementRecorder {
+
+    /**
+     * @param method 바인딩 메서드 (PreparedStatement.setXxx(int, ...))
+     * @param args   호출 인자 (첫 번째가 파라미터 위치)
+     */
+    record Binding(Method method, Object[] args) {
+    }
+
+    record RecordedStatement(String sql, List<Binding> bindings) {
+    }
+
+    private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+    DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, args) -> {
+            Object result = invoke(target, method, args);
+            return method.getName().equals("getConnection") ? wrapConnection((Connection) result) : result;
+        });
+    }
+
+    void clear() {
+        statements.clear();
+    }
+
+    List<RecordedStatement> statements() {
+        return List.copyOf(statements);
+    }
+
+    private Connection wrapConnection(Connection target) {
+        return proxy(Connection.class, target, (method, args) -> {
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("prepareStatement") && args != null && args[0] instanceof String sql) {
+                return wrapStatement((PreparedStatement) result, sql);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrapStatement(PreparedStatement target, String sql) {
+        // 파라미터 위치별 마지막 바인딩
+        Map<Integer, Binding> bindings = new TreeMap<>();
+        return proxy(PreparedStatement.class, target, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindings.put(index, new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if ((args == null || args.length == 0)
+                    && (name.equals("addBatch") || name.equals("execute") || name.equals("executeQuery")
+                    || name.equals("executeUpdate") || name.equals("executeLargeUpdate"))) {
+                statements.add(new RecordedStatement(sql, new ArrayList<>(bindings.values())));
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            // 프록시 자신과만 같다 (커넥션 비교 등)
+            case "equals" -> method.getParameterCount() == 1 ? proxy == args[0] : handler.handle(method, args);
+            case "hashCode" -> method.getParameterCount() == 0 ? System.identityHashCode(proxy) : handler.handle(method, args);
+            default -> handler.handle(method, args);
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
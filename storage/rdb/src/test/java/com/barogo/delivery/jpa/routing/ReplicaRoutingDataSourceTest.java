@@ -0,0 +1,199 @@
+package com.barogo.delivery.jpa.routing;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 두 H2 인스턴스를 primary/replica 로 두고, 각 DB 의 node 테이블 값으로 라우팅 결과를 확인한다
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag_ms FROM replica_lag";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-10-01T00:00:00Z"));
+    private JdbcDataSource replica;
+    private ReplicaHealthMonitor healthMonitor;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (lag_ms BIGINT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+
+        healthMonitor = new ReplicaHealthMonitor(replica, new ReplicaHealthMonitor.Settings(
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(2), LAG_QUERY));
+        healthMonitor.checkOnce();
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock);
+        routing = new ReplicaRoutingDataSource(primary, replica, healthMonitor, tracker, () -> {
+            var authentication = SecurityContextHolder.getContext().getAuthentication();
+            return authentication == null ? null : authentication.getName();
+        });
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplicaAndOthersToPrimary() {
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> node())).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+
+        ReplicaRoutingStats stats = routing.stats();
+        assertThat(stats.replica()).isEqualTo(1);
+        assertThat(stats.write()).isGreaterThanOrEqualTo(2);
+        assertThat(stats.available()).isTrue();
+    }
+
+    @Test
+    void shouldKeepReadsOnPrimaryForWriterUntilStickyWindowPasses() {
+        login("writer");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET touched = touched + 1"));
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+
+        // 다른 사용자는 영향 없음
+        login("other");
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+
+        login("writer");
+        clock.advance(Duration.ofSeconds(6));
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        assertThat(routing.stats().sticky()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotStickAfterRolledBackWrite() {
+        login("writer");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET touched = touched + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaLagExceedsLimit() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag_ms = 5000");
+        assertThat(healthMonitor.checkOnce()).isFalse();
+        assertThat(healthMonitor.lagMillis()).isEqualTo(5_000);
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        assertThat(routing.stats().unavailable()).isEqualTo(1);
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag_ms = 100");
+        assertThat(healthMonitor.checkOnce()).isTrue();
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldFailOverToPrimaryWhenReplicaConnectionFails() {
+        JdbcDataSource primary = h2("primary");
+        DataSource broken = new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLException("replica down");
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                throw new SQLException("replica down");
+            }
+        };
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replica, new ReplicaHealthMonitor.Settings(
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(2), null));
+        monitor.checkOnce();
+        ReplicaRoutingDataSource failing = new ReplicaRoutingDataSource(primary, broken, monitor,
+                new ReadYourWritesTracker(Duration.ofSeconds(5), clock), () -> null);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(failing);
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(true);
+
+        String node = template.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+
+        assertThat(node).isEqualTo("primary");
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(failing.stats().failover()).isEqualTo(1);
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void login(String name) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(name, null, "ROLE_USER"));
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20), touched INT)");
+        jdbc.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.barogo.delivery.alarm.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 의 구독자에게 전달하는 sink (로컬/테스트용)
+ * - 구독자 예외는 발행 실패로 간주되어 relay 가 재시도한다
+ */
+public class InProcessOutboxSink implements OutboxSink {
+
+    private final List<Consumer<OutboxMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final LongAdder delivered = new LongAdder();
+
+    public void subscribe(Consumer<OutboxMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Consumer<OutboxMessage> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            for (Consumer<OutboxMessage> subscriber : subscribers) {
+                subscriber.accept(message);
+            }
+        }
+        delivered.add(messages.size());
+    }
+
+    public long deliveredCount() {
+        return delivered.sum();
+    }
+}
@@ -0,0 +1,8 @@
+package com.barogo.delivery.alarm.outbox;
+
+// outbox 저장소 오류 (발행 실패는 예외가 아닌 backoff 로 처리)
+public class OutboxException extends RuntimeException {
+    public OutboxException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,26 @@
+package com.barogo.delivery.alarm.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 에서 꺼낸 발행 대상 이벤트
+ * - 전달은 at-least-once 이므로 소비자는 id 로 중복을 제거해야 한다
+ *
+ * @param id          이벤트 ID (시간 순 TSID)
+ * @param eventType   이벤트 종류 (STATUS_CHANGED, DESTINATION_CHANGED)
+ * @param deliveryId  배달 ID (같은 배달의 이벤트 순서 보장 키)
+ * @param memberId    배달 소유 회원 ID (구독 대상 구분)
+ * @param payload     이벤트 본문(JSON)
+ * @param occurredAt  발생 시각
+ * @param attempts    이전 발행 시도 횟수
+ */
+public record OutboxMessage(
+        long id,
+        String eventType,
+        long deliveryId,
+        long memberId,
+        String payload,
+        LocalDateTime occurredAt,
+        int attempts
+) {
+}
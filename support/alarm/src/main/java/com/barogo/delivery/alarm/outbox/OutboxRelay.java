@@ -0,0 +1,422 @@
+package com.barogo.delivery.alarm.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * delivery_outbox 테이블을 배치 단위로 읽어 OutboxSink 로 발행
+ * - 점유(claim): 후보 id 를 고른 뒤 "미발행 + 미점유(또는 점유 만료)" 조건부 UPDATE 로 claim_token 을 기록한다.
+ *   다른 인스턴스가 먼저 가져간 행은 조건에 걸려 건너뛰므로 SELECT ... FOR UPDATE SKIP LOCKED 와 같은 효과를 낸다
+ * - 발행 성공 시 published_at 을 기록하고, 실패 시 함께 실패한 배치 전체를 같은 지수 backoff(+jitter) 후 재시도한다
+ * - 순서 보장: 같은 배달의 이벤트는 id(발생) 순으로 발행한다. 배달마다 가장 오래된 미발행 이벤트만 후보로 고르므로,
+ *   앞선 이벤트가 backoff 중이거나 다른 relay 가 점유 중이면 뒤 이벤트는 앞 이벤트가 발행될 때까지 기다린다
+ *   (다른 배달의 이벤트끼리는 순서를 보장하지 않는다)
+ * - relay 가 발행 후 완료 기록 전에 죽으면 점유 만료 뒤 다시 발행된다 (at-least-once, 이때 늦게 도착한 중복이 뒤 이벤트보다 늦을 수 있다)
+ * - 업무 트랜잭션과 분리하기 위해 Spring 트랜잭션에 참여하지 않는 짧은 auto-commit 커넥션을 사용한다
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final String TABLE = "delivery_outbox";
+
+    // 운영에서는 JPA 엔티티(DeliveryEvent) 기준 마이그레이션으로 생성하고, 테스트에서만 호출한다
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS delivery_outbox (
+                id              BIGINT        NOT NULL,
+                event_type      VARCHAR(40)   NOT NULL,
+                delivery_id     BIGINT        NOT NULL,
+                member_id       BIGINT        NOT NULL,
+                payload         VARCHAR(2000) NOT NULL,
+                occurred_at     DATETIME(3)   NOT NULL,
+                attempts        INT           NOT NULL,
+                next_attempt_at DATETIME(3)   NOT NULL,
+                claim_token     VARCHAR(64),
+                claimed_until   DATETIME(3),
+                published_at    DATETIME(3),
+                last_error      VARCHAR(500),
+                PRIMARY KEY (id)
+            )
+            """;
+
+    // 같은 배달에 앞선 미발행 이벤트가 있으면 건너뛴다 (idx_delivery_outbox_delivery)
+    private static final String SELECT_CANDIDATES_SQL = """
+            SELECT o.id FROM delivery_outbox o
+            WHERE o.published_at IS NULL
+              AND o.next_attempt_at <= ?
+              AND (o.claimed_until IS NULL OR o.claimed_until < ?)
+              AND NOT EXISTS (
+                  SELECT 1 FROM delivery_outbox e
+                  WHERE e.delivery_id = o.delivery_id
+                    AND e.published_at IS NULL
+                    AND e.id < o.id
+              )
+            ORDER BY o.id
+            LIMIT ?
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE delivery_outbox
+            SET claim_token = ?, claimed_until = ?
+            WHERE id IN (%s)
+              AND published_at IS NULL
+              AND (claimed_until IS NULL OR claimed_until < ?)
+            """;
+
+    private static final String SELECT_CLAIMED_SQL = """
+            SELECT id, event_type, delivery_id, member_id, payload, occurred_at, attempts
+            FROM delivery_outbox
+            WHERE claim_token = ?
+            ORDER BY id
+            """;
+
+    private static final String MARK_PUBLISHED_SQL = """
+            UPDATE delivery_outbox
+            SET published_at = ?, claim_token = NULL, claimed_until = NULL, last_error = NULL
+            WHERE claim_token = ?
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE delivery_outbox
+            SET attempts = ?, next_attempt_at = ?, claim_token = NULL, claimed_until = NULL, last_error = ?
+            WHERE id = ? AND claim_token = ?
+            """;
+
+    private static final String SELECT_PURGEABLE_SQL = """
+            SELECT id FROM delivery_outbox
+            WHERE published_at < ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM delivery_outbox WHERE id IN (%s)";
+
+    private final DataSource dataSource;
+    private final OutboxSink sink;
+    private final Clock clock;
+    private final Settings settings;
+    private final String nodeId;
+    private final AtomicLong claimSequence = new AtomicLong();
+
+    private final LongAdder claimed = new LongAdder();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+
+    private volatile Thread worker;
+    private volatile boolean running;
+    private LocalDateTime lastPurgeAt;
+
+    /**
+     * @param batchSize      한 번에 점유/발행할 최대 이벤트 수
+     * @param pollInterval   대기 중인 이벤트가 없을 때 다음 조회까지 쉬는 시간
+     * @param claimTimeout   점유 유지 시간 (이 시간 안에 완료 기록이 없으면 다른 relay 가 다시 가져간다)
+     * @param initialBackoff 첫 실패 후 재시도 간격
+     * @param maxBackoff     재시도 간격 상한
+     * @param retention      발행 완료 이벤트 보관 기간
+     * @param purgeInterval  보관 기간이 지난 이벤트 삭제 주기
+     */
+    public record Settings(
+            int batchSize,
+            Duration pollInterval,
+            Duration claimTimeout,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            Duration retention,
+            Duration purgeInterval
+    ) {
+    }
+
+    public OutboxRelay(DataSource dataSource, OutboxSink sink, Clock clock, Settings settings) {
+        this.dataSource = dataSource;
+        this.sink = sink;
+        this.clock = clock;
+        this.settings = settings;
+        this.nodeId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public void initializeSchema() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE_SQL);
+        } catch (SQLException e) {
+            throw new OutboxException(TABLE + " 테이블 생성에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("outbox-relay").daemon().start(this::runLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(settings.pollInterval().toMillis() + 1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public OutboxRelayStats stats() {
+        return new OutboxRelayStats(claimed.sum(), published.sum(), failed.sum(), purged.sum());
+    }
+
+    /**
+     * 한 배치를 점유해 발행한다
+     *
+     * @return 점유한 이벤트 수 (0 이면 대기 중인 이벤트가 없음)
+     */
+    public int relayOnce() {
+        String claimToken = nodeId + ":" + claimSequence.incrementAndGet();
+        List<OutboxMessage> batch = claim(claimToken);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        claimed.add(batch.size());
+
+        try {
+            sink.publish(batch);
+        } catch (Exception e) {
+            log.warn("outbox publish failed, batch of {} will be retried: {}", batch.size(), e.toString());
+            markFailed(claimToken, batch, e);
+            failed.add(batch.size());
+            return batch.size();
+        }
+
+        markPublished(claimToken);
+        published.add(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 배치 크기 단위로 삭제한다
+     *
+     * @return 삭제한 이벤트 수
+     */
+    public int purgeOnce() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(settings.retention());
+        try (Connection connection = dataSource.getConnection()) {
+            List<Long> ids = selectIds(connection, SELECT_PURGEABLE_SQL, before, settings.batchSize());
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            try (PreparedStatement ps = connection.prepareStatement(DELETE_SQL.formatted(placeholders(ids.size())))) {
+                for (int i = 0; i < ids.size(); i++) {
+                    ps.setLong(i + 1, ids.get(i));
+                }
+                int deleted = ps.executeUpdate();
+                purged.add(deleted);
+                return deleted;
+            }
+        } catch (SQLException e) {
+            throw new OutboxException(TABLE + " 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void runLoop() {
+        Duration errorBackoff = settings.pollInterval();
+        while (running) {
+            try {
+                int count = relayOnce();
+                if (count < settings.batchSize()) {
+                    purgeIfDue();
+                    sleep(settings.pollInterval());
+                }
+                errorBackoff = settings.pollInterval();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // DB 장애 등: 조회 간격을 늘려 장애 중인 DB 에 부하를 더하지 않는다
+                log.error("outbox relay error, retrying in {}ms", errorBackoff.toMillis(), e);
+                try {
+                    sleep(errorBackoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                errorBackoff = min(errorBackoff.multipliedBy(2), settings.maxBackoff());
+            }
+        }
+    }
+
+    private void purgeIfDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (lastPurgeAt != null && now.isBefore(lastPurgeAt.plus(settings.purgeInterval()))) {
+            return;
+        }
+        lastPurgeAt = now;
+        while (purgeOnce() == settings.batchSize() && running) {
+            // 대량 삭제로 잠금을 오래 잡지 않도록 배치 단위로 나눠 지운다
+        }
+    }
+
+    private List<OutboxMessage> claim(String claimToken) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        try (Connection connection = dataSource.getConnection()) {
+            List<Long> candidates = selectIds(connection, SELECT_CANDIDATES_SQL, now, now, settings.batchSize());
+            if (candidates.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            int updated;
+            try (PreparedStatement ps = connection.prepareStatement(CLAIM_SQL.formatted(placeholders(candidates.size())))) {
+                int index = 1;
+                ps.setString(index++, claimToken);
+                ps.setObject(index++, now.plus(settings.claimTimeout()));
+                for (Long id : candidates) {
+                    ps.setLong(index++, id);
+                }
+                ps.setObject(index, now);
+                updated = ps.executeUpdate();
+            }
+            if (updated == 0) {
+                // 후보 전부를 다른 relay 가 먼저 가져간 경우
+                return Collections.emptyList();
+            }
+            return selectClaimed(connection, claimToken);
+        } catch (SQLException e) {
+            throw new OutboxException(TABLE + " 점유 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private List<OutboxMessage> selectClaimed(Connection connection, String claimToken) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(SELECT_CLAIMED_SQL)) {
+            ps.setString(1, claimToken);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<OutboxMessage> messages = new ArrayList<>();
+                while (rs.next()) {
+                    messages.add(new OutboxMessage(
+                            rs.getLong("id"),
+                            rs.getString("event_type"),
+                            rs.getLong("delivery_id"),
+                            rs.getLong("member_id"),
+                            rs.getString("payload"),
+                            rs.getObject("occurred_at", LocalDateTime.class),
+                            rs.getInt("attempts")
+                    ));
+                }
+                return messages;
+            }
+        }
+    }
+
+    private void markPublished(String claimToken) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(MARK_PUBLISHED_SQL)) {
+            ps.setObject(1, LocalDateTime.now(clock));
+            ps.setString(2, claimToken);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            // 완료 기록에 실패해도 점유 만료 후 다시 발행된다 (중복 전달)
+            throw new OutboxException(TABLE + " 발행 완료 기록 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void markFailed(String claimToken, List<OutboxMessage> batch, Exception cause) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        String error = truncate(cause.toString(), 500);
+        // 함께 실패한 행은 같은 시각에 다시 시도한다 (행마다 jitter 를 주면 재시도 순서가 id 순서와 어긋난다)
+        int maxAttempts = 0;
+        for (OutboxMessage message : batch) {
+            maxAttempts = Math.max(maxAttempts, message.attempts() + 1);
+        }
+        LocalDateTime nextAttemptAt = now.plus(backoff(maxAttempts));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(MARK_FAILED_SQL)) {
+            for (OutboxMessage message : batch) {
+                ps.setInt(1, message.attempts() + 1);
+                ps.setObject(2, nextAttemptAt);
+                ps.setString(3, error);
+                ps.setLong(4, message.id());
+                ps.setString(5, claimToken);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        } catch (SQLException e) {
+            // 기록에 실패하면 점유 만료 후 backoff 없이 재시도된다
+            throw new OutboxException(TABLE + " 발행 실패 기록 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // initialBackoff * 2^(attempts-1), 상한 maxBackoff, 여러 배치가 같은 시각에 몰리지 않도록 jitter 를 더한다
+    Duration backoff(int attempts) {
+        long base = settings.initialBackoff().toMillis();
+        long max = settings.maxBackoff().toMillis();
+        int shift = Math.min(attempts - 1, 30);
+        long delay = Math.min(max, base << shift);
+        long jitter = ThreadLocalRandom.current().nextLong(Math.max(1, delay / 4));
+        return Duration.ofMillis(Math.min(max, delay + jitter));
+    }
+
+    private static List<Long> selectIds(Connection connection, String sql, Object... params) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Long> ids = new ArrayList<>();
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+                return ids;
+            }
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() <= max ? value : value.substring(0, max);
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static void sleep(Duration duration) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.barogo.delivery.alarm.outbox;
+
+/**
+ * outbox relay 지표 스냅샷
+ *
+ * @param claimed    점유한 이벤트 수 (재시도 포함)
+ * @param published  발행 완료된 이벤트 수
+ * @param failed     발행 실패로 backoff 된 이벤트 수
+ * @param purged     보관 기간이 지나 삭제된 발행 완료 이벤트 수
+ */
+public record OutboxRelayStats(
+        long claimed,
+        long published,
+        long failed,
+        long purged
+) {
+}
@@ -0,0 +1,13 @@
+package com.barogo.delivery.alarm.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 발행 대상 (메시지 브로커, 웹훅 등)
+ * - 배치 전체가 전달되었을 때만 정상 반환하고, 실패 시 예외를 던진다
+ * - 예외가 발생하면 배치 전체를 backoff 후 다시 발행하므로 일부 메시지는 중복 전달될 수 있다
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
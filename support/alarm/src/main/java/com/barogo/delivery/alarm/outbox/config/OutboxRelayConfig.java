@@ -0,0 +1,39 @@
+package com.barogo.delivery.alarm.outbox.config;
+
+import com.barogo.delivery.alarm.outbox.InProcessOutboxSink;
+import com.barogo.delivery.alarm.outbox.OutboxRelay;
+import com.barogo.delivery.alarm.outbox.OutboxSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(prefix = "delivery.outbox.relay", name = "enabled", havingValue = "true")
+public class OutboxRelayConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.outbox.relay", name = "sink", havingValue = "in-process", matchIfMissing = true)
+    InProcessOutboxSink inProcessOutboxSink() {
+        return new InProcessOutboxSink();
+    }
+
+    @Bean
+    OutboxRelay outboxRelay(DataSource dataSource, OutboxSink sink, OutboxRelayProperties properties) {
+        OutboxRelay relay = new OutboxRelay(dataSource, sink, Clock.systemDefaultZone(), new OutboxRelay.Settings(
+                properties.getBatchSize(),
+                properties.getPollInterval(),
+                properties.getClaimTimeout(),
+                properties.getInitialBackoff(),
+                properties.getMaxBackoff(),
+                properties.getRetention(),
+                properties.getPurgeInterval()
+        ));
+        if (properties.isInitializeSchema()) {
+            relay.initializeSchema();
+        }
+        return relay;
+    }
+}
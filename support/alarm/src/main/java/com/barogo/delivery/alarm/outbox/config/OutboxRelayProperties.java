@@ -0,0 +1,33 @@
+package com.barogo.delivery.alarm.outbox.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.outbox.relay")
+public class OutboxRelayProperties {
+    // relay 기동 여부 (outbox 적재는 항상 수행)
+    private boolean enabled = false;
+    // in-process: 같은 JVM 구독자에게 전달 (로컬/테스트용)
+    private Sink sink = Sink.IN_PROCESS;
+    private int batchSize = 100;
+    private Duration pollInterval = Duration.ofMillis(500);
+    private Duration claimTimeout = Duration.ofSeconds(30);
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+    // 발행 완료 이벤트 보관 기간 및 정리 주기
+    private Duration retention = Duration.ofDays(7);
+    private Duration purgeInterval = Duration.ofMinutes(10);
+    // delivery_outbox 테이블 자동 생성 여부 (JPA ddl-auto 를 쓰지 않는 테스트용)
+    private boolean initializeSchema = false;
+
+    public enum Sink {
+        IN_PROCESS
+    }
+}
@@ -0,0 +1,226 @@
+package com.barogo.delivery.alarm.outbox;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRelayTest {
+
+    private static final OutboxRelay.Settings SETTINGS = new OutboxRelay.Settings(
+            2,
+            Duration.ofMillis(10),
+            Duration.ofSeconds(30),
+            Duration.ofSeconds(1),
+            Duration.ofMinutes(1),
+            Duration.ofDays(1),
+            Duration.ofMinutes(10)
+    );
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-10-01T00:00:00Z"));
+    private final InProcessOutboxSink sink = new InProcessOutboxSink();
+    private final List<OutboxMessage> received = new ArrayList<>();
+    private JdbcDataSource dataSource;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        relay = new OutboxRelay(dataSource, sink, clock, SETTINGS);
+        relay.initializeSchema();
+        sink.subscribe(received::add);
+    }
+
+    @Test
+    void relayOnce_shouldPublishInBatchesInIdOrder() throws SQLException {
+        insert(3L, now());
+        insert(1L, now());
+        insert(2L, now());
+
+        assertThat(relay.relayOnce()).isEqualTo(2);
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(relay.relayOnce()).isZero();
+
+        assertThat(received).extracting(OutboxMessage::id).containsExactly(1L, 2L, 3L);
+        assertThat(countWhere("published_at IS NOT NULL AND claim_token IS NULL")).isEqualTo(3);
+        assertThat(relay.stats().published()).isEqualTo(3);
+    }
+
+    @Test
+    void relayOnce_shouldBackOffAndRetryFailedBatch() throws SQLException {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        sink.subscribe(message -> {
+            if (failing.get()) throw new IllegalStateException("broker down");
+        });
+        insert(1L, now());
+
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(relay.stats().failed()).isEqualTo(1);
+        assertThat(countWhere("attempts = 1 AND published_at IS NULL AND last_error IS NOT NULL")).isEqualTo(1);
+
+        // backoff 동안에는 다시 가져가지 않는다
+        assertThat(relay.relayOnce()).isZero();
+
+        failing.set(false);
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(countWhere("published_at IS NOT NULL")).isEqualTo(1);
+        // 실패한 시도에서 이미 전달된 구독자도 있으므로 재시도 시 중복 전달된다 (at-least-once)
+        assertThat(received).extracting(OutboxMessage::id).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void relayOnce_shouldHoldLaterEventsOfDeliveryUntilEarlierOneIsPublished() throws SQLException {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        sink.subscribe(message -> {
+            if (failing.get()) throw new IllegalStateException("broker down");
+        });
+        insert(1L, 500L, now());
+        assertThat(relay.relayOnce()).isEqualTo(1);
+
+        // 앞선 이벤트가 backoff 중이면 같은 배달의 뒤 이벤트는 건너뛰고, 다른 배달은 발행한다
+        failing.set(false);
+        insert(2L, 500L, now());
+        insert(3L, 600L, now());
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(relay.relayOnce()).isZero();
+
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(received).extracting(OutboxMessage::id).containsExactly(1L, 3L, 1L, 2L);
+    }
+
+    @Test
+    void relayOnce_shouldRetryFailedBatchAtSameTime() throws SQLException {
+        sink.subscribe(message -> {
+            throw new IllegalStateException("broker down");
+        });
+        insert(1L, now());
+        insert(2L, now());
+
+        assertThat(relay.relayOnce()).isEqualTo(2);
+        assertThat(countWhere("next_attempt_at = (SELECT MIN(next_attempt_at) FROM delivery_outbox)")).isEqualTo(2);
+    }
+
+    @Test
+    void relayOnce_shouldSkipRowsClaimedByOtherRelayUntilClaimExpires() throws SQLException {
+        insert(1L, now());
+        insert(2L, now());
+        claimByOther(1L, now().plusSeconds(30));
+
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(received).extracting(OutboxMessage::id).containsExactly(2L);
+
+        // 다른 relay 가 완료 기록 없이 죽은 경우 점유 만료 후 다시 발행한다
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(relay.relayOnce()).isEqualTo(1);
+        assertThat(received).extracting(OutboxMessage::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void purgeOnce_shouldDeletePublishedRowsOlderThanRetention() throws SQLException {
+        insert(1L, now());
+        insert(2L, now());
+        relay.relayOnce();
+
+        assertThat(relay.purgeOnce()).isZero();
+
+        clock.advance(Duration.ofDays(2));
+        insert(3L, now());
+        assertThat(relay.purgeOnce()).isEqualTo(2);
+        assertThat(countWhere("1 = 1")).isEqualTo(1);
+    }
+
+    @Test
+    void backoff_shouldGrowExponentiallyUpToMax() {
+        assertThat(relay.backoff(1)).isBetween(Duration.ofSeconds(1), Duration.ofMillis(1_250));
+        assertThat(relay.backoff(3)).isBetween(Duration.ofSeconds(4), Duration.ofSeconds(5));
+        assertThat(relay.backoff(20)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private void insert(long id, LocalDateTime occurredAt) throws SQLException {
+        insert(id, 100 + id, occurredAt);
+    }
+
+    private void insert(long id, long deliveryId, LocalDateTime occurredAt) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("""
+                     INSERT INTO delivery_outbox (id, event_type, delivery_id, member_id, payload, occurred_at, attempts, next_attempt_at)
+                     VALUES (?, 'STATUS_CHANGED', ?, 1, '{}', ?, 0, ?)
+                     """)) {
+            ps.setLong(1, id);
+            ps.setLong(2, deliveryId);
+            ps.setObject(3, occurredAt);
+            ps.setObject(4, occurredAt);
+            ps.executeUpdate();
+        }
+    }
+
+    private void claimByOther(long id, LocalDateTime claimedUntil) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                     "UPDATE delivery_outbox SET claim_token = 'other', claimed_until = ? WHERE id = ?")) {
+            ps.setObject(1, claimedUntil);
+            ps.setLong(2, id);
+            ps.executeUpdate();
+        }
+    }
+
+    private int countWhere(String condition) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SELECT COUNT(*) FROM delivery_outbox WHERE " + condition);
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.barogo.delivery.auth.config.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -21,13 +22,14 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
     private final JwtProperties properties;
     private Key key;
+    // 스레드 안전한 불변 파서, 요청마다 새로 만들지 않는다
+    private JwtParser parser;
 
     @PostConstruct
     void init() {
@@ -58,6 +60,7 @@ public class JwtTokenProvider {
         }
 
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // HEX 문자열(예: "a1b2c3...")을 바이트 배열로 디코딩합니다.
@@ -94,7 +97,21 @@ public class JwtTokenProvider {
     }
 
     public Jws<Claims> parse(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return parser.parseClaimsJws(token);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/검증하고 인증에 필요한 값을 모두 꺼낸다
+     * - 인증 필터는 validate/getSubject/getAuthorities/getMemberId 를 각각 호출하지 말고 이 메서드를 사용한다
+     *
+     * @throws JwtException             서명/형식/만료 검증 실패
+     * @throws IllegalArgumentException 토큰이 비어 있거나 memberId 클레임이 없는 경우
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = parse(token).getBody();
+        var principal = new MemberPrincipal(extractMemberId(claims), claims.getSubject(), extractAuthorities(claims));
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(principal, expiration != null ? expiration.toInstant() : null);
     }
 
     public boolean validate(String token) {
@@ -105,19 +122,27 @@ public class JwtTokenProvider {
     public String getSubject(String token) { return parse(token).getBody().getSubject(); }
 
     public Collection<GrantedAuthority> getAuthorities(String token) {
-        Object rolesObj = parse(token).getBody().get("roles");
+        return extractAuthorities(parse(token).getBody());
+    }
+
+    public Long getMemberId(String token) {
+        return extractMemberId(parse(token).getBody());
+    }
+
+    private static List<GrantedAuthority> extractAuthorities(Claims claims) {
+        Object rolesObj = claims.get("roles");
         if (rolesObj instanceof Collection<?> c && !c.isEmpty()) {
             // 요소를 안전하게 문자열로 변환. 엄격히 String만 허용하려면 filter(String.class::isInstance) 사용.
             return c.stream()
                     .map(String::valueOf)
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList());
+                    .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                    .toList();
         }
         return List.of();
     }
 
-    public Long getMemberId(String token) {
-        Object midObj = parse(token).getBody().get("mid");
+    private static Long extractMemberId(Claims claims) {
+        Object midObj = claims.get("mid");
         if (midObj instanceof Number number) {
             return number.longValue();
         }
@@ -0,0 +1,13 @@
+package com.barogo.delivery.auth;
+
+import java.time.Instant;
+
+/**
+ * 서명/만료 검증을 마친 액세스 토큰
+ * - 한 번의 파싱 결과로 만든 불변 값이며 인증 주체(MemberPrincipal)를 바로 제공한다
+ */
+public record VerifiedToken(
+        MemberPrincipal principal,
+        Instant expiresAt
+) {
+}
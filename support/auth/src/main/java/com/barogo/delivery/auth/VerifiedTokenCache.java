@@ -0,0 +1,115 @@
+package com.barogo.delivery.auth;
+
+import com.barogo.delivery.auth.config.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 검증이 끝난 액세스 토큰 캐시
+ * - 같은 토큰이 유효기간 동안 반복 전송되므로, 두 번째 요청부터는 서명 검증과 클레임 디코딩을 생략한다
+ * - 토큰 원문 대신 SHA-256 다이제스트를 키로 보관한다
+ * - 크기 초과 시 제거되며, 각 항목은 토큰 만료 시각에 맞춰 만료된다 (조회 시에도 만료 여부를 다시 확인)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Clock clock;
+    private final Cache<TokenDigest, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(JwtProperties properties) {
+        this(properties.getTokenCache().isEnabled(), properties.getTokenCache().getMaximumSize(), Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(boolean enabled, long maximumSize, Clock clock) {
+        this.enabled = enabled;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(clock))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 유효한 검증 결과가 있으면 그대로 반환하고, 없으면 verifier 로 검증한 뒤 저장한다
+     * - verifier 가 던지는 예외는 그대로 전파되며 실패 결과는 캐시하지 않는다
+     */
+    public VerifiedToken verify(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (clock.instant().isBefore(cached.expiresAt())) {
+                return cached;
+            }
+            // 만료된 토큰은 절대 캐시에서 응답하지 않는다 (verifier 가 만료 예외를 던진다)
+            cache.invalidate(key);
+        }
+
+        VerifiedToken verified = verifier.apply(token);
+        if (verified.expiresAt() != null) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    public TokenCacheStats stats() {
+        var stats = cache.stats();
+        return new TokenCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+
+    public record TokenCacheStats(
+            long hitCount,
+            long missCount,
+            long evictionCount,
+            long size
+    ) {
+    }
+
+    // SHA-256 256비트를 long 4개로 보관 (byte[] 키보다 equals/hashCode 가 가볍다)
+    private record TokenDigest(long a, long b, long c, long d) {
+        static TokenDigest of(String token) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(hash);
+                return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+
+    private record TokenExpiry(Clock clock) implements Expiry<TokenDigest, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+            long remaining = Duration.between(clock.instant(), value.expiresAt()).toNanos();
+            return Math.max(0, remaining);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -14,4 +14,13 @@ public class JwtProperties {
     private String secret;
     private long accessTokenValiditySec;
     private long refreshTokenValiditySec;
+    private TokenCache tokenCache = new TokenCache();
+
+    // 검증된 토큰 캐시 (jwt.token-cache.*)
+    @Getter
+    @Setter
+    public static class TokenCache {
+        private boolean enabled = false;
+        private long maximumSize = 100_000;
+    }
 }
@@ -2,6 +2,8 @@ package com.barogo.delivery.auth.filter;
 
 import com.barogo.delivery.auth.JwtTokenProvider;
 import com.barogo.delivery.auth.MemberPrincipal;
+import com.barogo.delivery.auth.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +22,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache tokenCache;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
     @Override
     protected void doFilterInternal(
@@ -29,22 +33,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         var token = extractToken(request);
-        if (token != null && tokenProvider.validate(token)) {
+        if (token != null) {
             try {
-                // JWT에서 사용자 정보 추출
-                String subject = tokenProvider.getSubject(token);
-                var authorities = tokenProvider.getAuthorities(token);
-
-                // JWT claims에서 memberId 추출
-                Long memberId = tokenProvider.getMemberId(token);
-                var principal = new MemberPrincipal(memberId, subject, authorities);
-                var authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                // 서명 검증과 클레임(subject, roles, mid) 추출을 한 번의 파싱으로 처리, 캐시 적중 시 파싱 생략
+                MemberPrincipal principal = tokenCache.verify(token, tokenProvider::verify).principal();
+                var authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                authentication.setDetails(detailsSource.buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            } catch (Exception e) {
-                // JWT 파싱 오류 시 인증 실패 처리
+            } catch (JwtException | IllegalArgumentException e) {
+                // JWT 검증/파싱 오류 시 인증 실패 처리
                 SecurityContextHolder.clearContext();
             }
         }
@@ -0,0 +1,63 @@
+package com.barogo.delivery.auth;
+
+import com.barogo.delivery.auth.config.JwtProperties;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtTokenProviderTest {
+
+    private static final Map<String, Object> CLAIMS = Map.of(
+            "roles", List.of("ROLE_USER"),
+            "mid", 7L,
+            "name", "tester"
+    );
+
+    @Test
+    void verify_shouldReturnPrincipalAndExpiryFromSingleParse() {
+        JwtTokenProvider tokenProvider = tokenProvider(3600);
+        String token = tokenProvider.createAccessToken("tester", CLAIMS);
+
+        VerifiedToken verified = tokenProvider.verify(token);
+
+        assertThat(verified.principal().id()).isEqualTo(7L);
+        assertThat(verified.principal().username()).isEqualTo("tester");
+        assertThat(verified.principal().getAuthorities()).containsExactly(new SimpleGrantedAuthority("ROLE_USER"));
+        assertThat(verified.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void verify_shouldRejectTamperedToken() {
+        JwtTokenProvider tokenProvider = tokenProvider(3600);
+        String token = tokenProvider.createAccessToken("tester", CLAIMS);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> tokenProvider.verify(tampered));
+    }
+
+    @Test
+    void verify_shouldRejectExpiredToken() {
+        JwtTokenProvider tokenProvider = tokenProvider(-60);
+        String token = tokenProvider.createAccessToken("tester", CLAIMS);
+
+        assertThrows(ExpiredJwtException.class, () -> tokenProvider.verify(token));
+    }
+
+    private static JwtTokenProvider tokenProvider(long validitySec) {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("barogo-delivery");
+        properties.setSecret("barogo-deliverybarogo-deliverybarogo-delivery");
+        properties.setAccessTokenValiditySec(validitySec);
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(properties);
+        tokenProvider.init();
+        return tokenProvider;
+    }
+}
@@ -0,0 +1,104 @@
+package com.barogo.delivery.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void verify_shouldSkipVerifierOnRepeatToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, new MutableClock(NOW));
+        CountingVerifier verifier = new CountingVerifier(NOW.plusSeconds(3600));
+
+        VerifiedToken first = cache.verify("token-a", verifier);
+        VerifiedToken second = cache.verify("token-a", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifier.calls.get()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_shouldNotServeExpiredEntry() {
+        MutableClock clock = new MutableClock(NOW);
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, clock);
+        CountingVerifier verifier = new CountingVerifier(NOW.plusSeconds(60));
+
+        cache.verify("token-a", verifier);
+        clock.now = NOW.plusSeconds(60);
+        cache.verify("token-a", verifier);
+
+        assertThat(verifier.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_shouldNotCacheTokenWithoutExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, new MutableClock(NOW));
+        CountingVerifier verifier = new CountingVerifier(null);
+
+        cache.verify("token-a", verifier);
+        cache.verify("token-a", verifier);
+
+        assertThat(verifier.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_shouldAlwaysDelegateWhenDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100, new MutableClock(NOW));
+        CountingVerifier verifier = new CountingVerifier(NOW.plusSeconds(3600));
+
+        cache.verify("token-a", verifier);
+        cache.verify("token-a", verifier);
+
+        assertThat(verifier.calls.get()).isEqualTo(2);
+    }
+
+    private static final class CountingVerifier implements Function<String, VerifiedToken> {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Instant expiresAt;
+
+        private CountingVerifier(Instant expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public VerifiedToken apply(String token) {
+            calls.incrementAndGet();
+            return new VerifiedToken(new MemberPrincipal(1L, "tester", List.of()), expiresAt);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
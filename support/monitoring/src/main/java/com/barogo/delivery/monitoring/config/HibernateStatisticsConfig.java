@@ -0,0 +1,23 @@
+package com.barogo.delivery.monitoring.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 통계 수집
+ * - actuator 가 hibernate-micrometer 로 hibernate.statements, hibernate.entities.loads 등을 노출한다
+ * - JPA 를 쓰지 않는 모듈에서는 등록되지 않는다
+ */
+@Configuration
+@ConditionalOnClass(name = "org.hibernate.SessionFactory")
+@ConditionalOnProperty(prefix = "delivery.monitoring.hibernate", name = "statistics", havingValue = "true", matchIfMissing = true)
+public class HibernateStatisticsConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateStatisticsCustomizer() {
+        return properties -> properties.put("hibernate.generate_statistics", true);
+    }
+}
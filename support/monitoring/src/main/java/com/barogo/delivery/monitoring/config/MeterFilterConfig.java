@@ -0,0 +1,62 @@
+package com.barogo.delivery.monitoring.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class MeterFilterConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    private static final String HIKARI_ACQUIRE = "hikaricp.connections.acquire";
+
+    /**
+     * 엔드포인트별 지연 히스토그램
+     * - 지정한 uri 의 http.server.requests 에 SLO 버킷(le)을 추가해 Prometheus 에서 달성률/분위수를 계산할 수 있게 한다
+     * - 커넥션 획득 대기(hikaricp.connections.acquire)도 히스토그램으로 노출
+     */
+    @Bean
+    MeterFilter latencyHistogramFilter(MonitoringProperties properties) {
+        List<String> uriPrefixes = List.copyOf(properties.getHttp().getUriPrefixes());
+        double[] slo = properties.getHttp().getSlo().stream()
+                .mapToDouble(Duration::toNanos)
+                .sorted()
+                .toArray();
+
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (HTTP_SERVER_REQUESTS.equals(id.getName()) && matches(id.getTag("uri"), uriPrefixes)) {
+                    return DistributionStatisticConfig.builder()
+                            .serviceLevelObjectives(slo)
+                            .build()
+                            .merge(config);
+                }
+                if (HIKARI_ACQUIRE.equals(id.getName())) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    private static boolean matches(String uri, List<String> prefixes) {
+        if (uri == null) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (uri.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
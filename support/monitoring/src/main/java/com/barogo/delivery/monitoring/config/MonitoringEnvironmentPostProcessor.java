@@ -0,0 +1,30 @@
+package com.barogo.delivery.monitoring.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * support:monitoring 의존만으로 Prometheus 스크레이프가 가능하도록 기본 설정을 추가
+ * - 가장 낮은 우선순위로 등록하므로 애플리케이션 설정(yml/환경변수)이 항상 우선한다
+ */
+public class MonitoringEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE_NAME = "deliveryMonitoringDefaults";
+
+    private static final Map<String, Object> DEFAULTS = Map.of(
+            "management.endpoints.web.exposure.include", "health,info,metrics,prometheus",
+            "management.endpoint.health.probes.enabled", "true",
+            "management.metrics.tags.application", "${spring.application.name:delivery}"
+    );
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getPropertySources().contains(PROPERTY_SOURCE_NAME)) {
+            environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, DEFAULTS));
+        }
+    }
+}
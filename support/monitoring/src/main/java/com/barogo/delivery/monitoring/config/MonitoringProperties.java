@@ -0,0 +1,42 @@
+package com.barogo.delivery.monitoring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.monitoring")
+public class MonitoringProperties {
+    private Http http = new Http();
+    private Hibernate hibernate = new Hibernate();
+
+    @Getter
+    @Setter
+    public static class Http {
+        // SLO 버킷을 적용할 uri 접두사 (http.server.requests 의 uri 태그 기준)
+        private List<String> uriPrefixes = new ArrayList<>(List.of("/api/deliveries", "/api/auth"));
+        private List<Duration> slo = new ArrayList<>(List.of(
+                Duration.ofMillis(25),
+                Duration.ofMillis(50),
+                Duration.ofMillis(100),
+                Duration.ofMillis(250),
+                Duration.ofMillis(500),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(2)
+        ));
+    }
+
+    @Getter
+    @Setter
+    public static class Hibernate {
+        // hibernate.generate_statistics (SQL 실행 수, 엔티티 로드 수 등)
+        private boolean statistics = true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.barogo.delivery.monitoring.pinning;
+
+import java.util.Map;
+
+/**
+ * @param events          임계값 이상 고정(pinned)된 횟수
+ * @param totalPinnedNanos 고정된 시간 합계
+ * @param hotspots        고정을 일으킨 최상위 애플리케이션 프레임별 횟수
+ */
+public record PinningStats(
+        long events,
+        long totalPinnedNanos,
+        Map<String, Long> hotspots
+) {
+}
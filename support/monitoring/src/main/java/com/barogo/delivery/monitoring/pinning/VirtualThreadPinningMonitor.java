@@ -0,0 +1,102 @@
+package com.barogo.delivery.monitoring.pinning;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감지
+ * - JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 구독한다
+ * - synchronized 블록 안에서의 블로킹(JDBC 드라이버 내부 등)으로 캐리어 스레드가 고정되면 발생
+ * - 발생 지점(스택의 첫 애플리케이션/드라이버 프레임)별로 집계하고 경고 로그를 남긴다
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    // 고정 원인 파악에 의미 없는 JDK 내부 프레임
+    private static final List<String> SKIPPED_PACKAGES = List.of("java.", "jdk.", "sun.");
+
+    private final Duration threshold;
+    private final int stackDepth;
+    private final LongAdder events = new LongAdder();
+    private final LongAdder totalPinnedNanos = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> hotspots = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, int stackDepth) {
+        this.threshold = threshold;
+        this.stackDepth = stackDepth;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT_NAME, this::record);
+        recording.startAsync();
+        this.stream = recording;
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = this.stream;
+        if (recording != null) {
+            recording.close();
+            this.stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public PinningStats stats() {
+        Map<String, Long> snapshot = hotspots.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().sum()));
+        return new PinningStats(events.sum(), totalPinnedNanos.sum(), snapshot);
+    }
+
+    void record(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        String hotspot = hotspot(event.getStackTrace());
+
+        events.increment();
+        totalPinnedNanos.add(duration.toNanos());
+        hotspots.computeIfAbsent(hotspot, k -> new LongAdder()).increment();
+
+        log.warn("virtual thread pinned for {}ms at {}", duration.toMillis(), hotspot);
+    }
+
+    private String hotspot(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        int depth = Math.min(stackDepth, frames.size());
+        for (int i = 0; i < depth; i++) {
+            RecordedFrame frame = frames.get(i);
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (SKIPPED_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return frames.isEmpty() ? "unknown" : frames.getFirst().getMethod().getType().getName();
+    }
+}
@@ -0,0 +1,39 @@
+package com.barogo.delivery.monitoring.pinning.config;
+
+import com.barogo.delivery.monitoring.pinning.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+// 가상 스레드 모드에서만 JFR 스트림을 연다
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class PinningMonitorConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.monitoring.pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(PinningMonitorProperties properties) {
+        return new VirtualThreadPinningMonitor(properties.getThreshold(), properties.getStackDepth());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.monitoring.pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+    MeterBinder virtualThreadPinningMetrics(VirtualThreadPinningMonitor monitor) {
+        return registry -> {
+            FunctionCounter.builder("jvm.threads.virtual.pinned", monitor, m -> m.stats().events())
+                    .description("virtual thread pinned events over threshold")
+                    .register(registry);
+            FunctionCounter.builder("jvm.threads.virtual.pinned.time", monitor,
+                            m -> TimeUnit.NANOSECONDS.toMillis(m.stats().totalPinnedNanos()))
+                    .baseUnit("milliseconds")
+                    .description("total time carrier threads were pinned")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.barogo.delivery.monitoring.pinning.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.monitoring.pinning")
+public class PinningMonitorProperties {
+    private boolean enabled = true;
+    // 이 시간 이상 고정된 경우만 기록 (JFR 기본값 20ms)
+    private Duration threshold = Duration.ofMillis(20);
+    // 고정 지점 탐색 시 확인할 스택 프레임 수
+    private int stackDepth = 16;
+}
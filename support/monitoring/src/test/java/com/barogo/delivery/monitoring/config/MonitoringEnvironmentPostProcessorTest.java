@@ -0,0 +1,33 @@
+package com.barogo.delivery.monitoring.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonitoringEnvironmentPostProcessorTest {
+
+    @Test
+    void postProcess_shouldExposePrometheusByDefault() {
+        StandardEnvironment environment = new StandardEnvironment();
+
+        new MonitoringEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("management.endpoints.web.exposure.include")).contains("prometheus");
+    }
+
+    @Test
+    void postProcess_shouldNotOverrideApplicationSettings() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("application",
+                Map.of("management.endpoints.web.exposure.include", "health")));
+
+        new MonitoringEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("management.endpoints.web.exposure.include")).isEqualTo("health");
+    }
+}